@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.time.CalendricalException;
+
+/**
+ * A calendar of business days, defined by weekend days and holidays over a range of dates.
+ * <p>
+ * Settlement systems frequently need to add a number of business days to a date,
+ * or count the business days between two dates.
+ * This class precomputes the answers over a fixed range of dates, such that both
+ * {@link #plusBusinessDays(LocalDate, int)} and {@link #businessDaysBetween(LocalDate, LocalDate)}
+ * are simple array lookups.
+ * <p>
+ * The non-business days are stored as a bitset indexed by the epoch-day relative
+ * to the start of the range. A cumulative count of business days and the position
+ * of each business day are derived from the bitset when the calendar is created.
+ * <p>
+ * Adjusters and matchers backed by the calendar are available for use with
+ * {@link LocalDate#with(DateAdjuster)} and {@link LocalDate#matches(CalendricalMatcher)}.
+ * <p>
+ * BusinessCalendar is immutable and thread-safe, and may be shared freely.
+ */
+public final class BusinessCalendar implements Serializable {
+
+    /**
+     * The maximum number of days in a calendar.
+     */
+    public static final int MAX_DAYS = 1000000;
+    /**
+     * A serialization identifier for this class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The epoch-day of the first date in the calendar.
+     */
+    private final long startEpochDay;
+    /**
+     * The number of days in the calendar.
+     */
+    private final int length;
+    /**
+     * The bitset of non-business days, where bit {@code i} is day {@code startEpochDay + i}.
+     */
+    private final long[] nonBusinessDays;
+    /**
+     * The number of business days before each day, with a final element for the whole range.
+     */
+    private final transient int[] cumulativeCounts;
+    /**
+     * The day index of each business day, in order.
+     */
+    private final transient int[] businessDays;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a business calendar with Saturday and Sunday as the weekend.
+     * <p>
+     * Holidays outside the range of the calendar are ignored.
+     *
+     * @param startDate  the first date of the calendar, not null
+     * @param endDate  the last date of the calendar, inclusive, not null
+     * @param holidays  the holidays, not null
+     * @return the business calendar, never null
+     * @throws IllegalArgumentException if the end date is before the start date,
+     *  or the range exceeds {@link #MAX_DAYS}
+     */
+    public static BusinessCalendar of(LocalDate startDate, LocalDate endDate, Collection<LocalDate> holidays) {
+        return of(startDate, endDate, Arrays.asList(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+    }
+
+    /**
+     * Obtains a business calendar.
+     * <p>
+     * Some territories have weekends that do not consist of Saturday and Sunday,
+     * and the days of the weekend may be specified here.
+     * Holidays outside the range of the calendar are ignored.
+     *
+     * @param startDate  the first date of the calendar, not null
+     * @param endDate  the last date of the calendar, inclusive, not null
+     * @param weekendDays  the days of the week that are never business days, not null
+     * @param holidays  the holidays, not null
+     * @return the business calendar, never null
+     * @throws IllegalArgumentException if the end date is before the start date,
+     *  or the range exceeds {@link #MAX_DAYS}
+     */
+    public static BusinessCalendar of(
+            LocalDate startDate, LocalDate endDate, Collection<DayOfWeek> weekendDays, Collection<LocalDate> holidays) {
+        ISOChronology.checkNotNull(startDate, "Start date must not be null");
+        ISOChronology.checkNotNull(endDate, "End date must not be null");
+        ISOChronology.checkNotNull(weekendDays, "Weekend days must not be null");
+        ISOChronology.checkNotNull(holidays, "Holidays must not be null");
+        long startEpochDay = startDate.toEpochDay();
+        long days = endDate.toEpochDay() - startEpochDay + 1;
+        if (days <= 0) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (days > MAX_DAYS) {
+            throw new IllegalArgumentException("Business calendar must not exceed " + MAX_DAYS + " days");
+        }
+        int length = (int) days;
+        long[] bits = new long[(length + 63) >>> 6];
+        boolean[] weekend = new boolean[7];
+        for (DayOfWeek dow : weekendDays) {
+            ISOChronology.checkNotNull(dow, "Weekend day must not be null");
+            weekend[dow.ordinal()] = true;
+        }
+        int startDow = startDate.getDayOfWeek().ordinal();
+        for (int i = 0; i < length; i++) {
+            if (weekend[(startDow + i) % 7]) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            ISOChronology.checkNotNull(holiday, "Holiday must not be null");
+            long index = holiday.toEpochDay() - startEpochDay;
+            if (index >= 0 && index < length) {
+                bits[(int) (index >>> 6)] |= 1L << index;
+            }
+        }
+        return new BusinessCalendar(startEpochDay, length, bits);
+    }
+
+    /**
+     * Constructor, deriving the business day counts from the bitset.
+     *
+     * @param startEpochDay  the epoch-day of the first date
+     * @param length  the number of days, validated
+     * @param nonBusinessDays  the bitset of non-business days, not null, not altered later
+     */
+    private BusinessCalendar(long startEpochDay, int length, long[] nonBusinessDays) {
+        this.startEpochDay = startEpochDay;
+        this.length = length;
+        this.nonBusinessDays = nonBusinessDays;
+        int[] counts = new int[length + 1];
+        int[] positions = new int[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            counts[i] = count;
+            if ((nonBusinessDays[i >>> 6] & (1L << i)) == 0) {
+                positions[count++] = i;
+            }
+        }
+        counts[length] = count;
+        this.cumulativeCounts = counts;
+        this.businessDays = new int[count];
+        System.arraycopy(positions, 0, this.businessDays, 0, count);
+    }
+
+    /**
+     * Rebuilds the derived arrays after deserialization.
+     *
+     * @return the resolved calendar, never null
+     */
+    private Object readResolve() {
+        return new BusinessCalendar(startEpochDay, length, nonBusinessDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the first date of the calendar.
+     *
+     * @return the start date, never null
+     */
+    public LocalDate getStartDate() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Gets the last date of the calendar, inclusive.
+     *
+     * @return the end date, never null
+     */
+    public LocalDate getEndDate() {
+        return LocalDate.ofEpochDay(startEpochDay + length - 1);
+    }
+
+    /**
+     * Gets the number of business days in the calendar.
+     *
+     * @return the number of business days, zero or greater
+     */
+    public int getBusinessDayCount() {
+        return businessDays.length;
+    }
+
+    /**
+     * Checks if the date is within the range of the calendar.
+     *
+     * @param date  the date to check, not null
+     * @return true if the date is between the start and end date inclusive
+     */
+    public boolean isInRange(LocalDate date) {
+        ISOChronology.checkNotNull(date, "LocalDate must not be null");
+        long index = date.toEpochDay() - startEpochDay;
+        return index >= 0 && index < length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the date is a business day.
+     *
+     * @param date  the date to check, not null
+     * @return true if the date is neither a weekend day nor a holiday
+     * @throws CalendricalException if the date is outside the range of the calendar
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        int index = toIndex(date);
+        return (nonBusinessDays[index >>> 6] & (1L << index)) == 0;
+    }
+
+    /**
+     * Adds a number of business days to a date.
+     * <p>
+     * If the date is a business day, the result is the business day the specified
+     * number of business days away. Adding one to a Friday, with Saturday and Sunday
+     * as the weekend, returns the following Monday.
+     * <p>
+     * If the date is not a business day, adding one returns the next business day,
+     * and subtracting one returns the previous business day.
+     * Adding zero always returns the input date.
+     *
+     * @param date  the date to add to, not null
+     * @param businessDays  the business days to add, may be negative
+     * @return the resulting date, never null
+     * @throws CalendricalException if the date or the result is outside the range of the calendar
+     */
+    public LocalDate plusBusinessDays(LocalDate date, int businessDays) {
+        int index = toIndex(date);
+        if (businessDays == 0) {
+            return date;
+        }
+        long rank = cumulativeCounts[index] + (long) businessDays;
+        if (businessDays > 0 && (nonBusinessDays[index >>> 6] & (1L << index)) != 0) {
+            rank--;
+        }
+        if (rank < 0 || rank >= this.businessDays.length) {
+            throw new CalendricalException("Unable to add " + businessDays + " business days to " + date +
+                    " as the result is outside the range of " + this);
+        }
+        return LocalDate.ofEpochDay(startEpochDay + this.businessDays[(int) rank]);
+    }
+
+    /**
+     * Calculates the number of business days between two dates.
+     * <p>
+     * The start date is included and the end date is excluded.
+     * If the end date is before the start date, the result is negative.
+     * As the end date is exclusive, either date may be the day after the end
+     * date of the calendar, allowing the whole range to be counted.
+     *
+     * @param startDate  the start date, inclusive, not null
+     * @param endDate  the end date, exclusive, not null
+     * @return the number of business days from the start date to the end date
+     * @throws CalendricalException if either date is outside the range of the calendar
+     */
+    public int businessDaysBetween(LocalDate startDate, LocalDate endDate) {
+        int startIndex = toIndex(startDate, length);
+        int endIndex = toIndex(endDate, length);
+        return cumulativeCounts[endIndex] - cumulativeCounts[startIndex];
+    }
+
+    /**
+     * Converts a date to an index into the arrays.
+     *
+     * @param date  the date, not null
+     * @return the index, from 0 to length - 1
+     * @throws CalendricalException if the date is outside the range of the calendar
+     */
+    private int toIndex(LocalDate date) {
+        return toIndex(date, length - 1);
+    }
+
+    /**
+     * Converts a date to an index into the arrays, allowing a maximum index.
+     *
+     * @param date  the date, not null
+     * @param maxIndex  the maximum index, inclusive
+     * @return the index, from 0 to maxIndex
+     * @throws CalendricalException if the date is outside the range of the calendar
+     */
+    private int toIndex(LocalDate date, int maxIndex) {
+        ISOChronology.checkNotNull(date, "LocalDate must not be null");
+        long index = date.toEpochDay() - startEpochDay;
+        if (index < 0 || index > maxIndex) {
+            throw new CalendricalException("Date " + date + " is outside the range of " + this);
+        }
+        return (int) index;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a business calendar that combines this calendar with another.
+     * <p>
+     * A day is a business day in the result only if it is a business day in both calendars.
+     * This is useful when a transaction must settle in several markets.
+     * The range of the result is the overlap of the two ranges.
+     *
+     * @param other  the other calendar, not null
+     * @return the combined calendar, never null
+     * @throws IllegalArgumentException if the ranges do not overlap
+     */
+    public BusinessCalendar combinedWith(BusinessCalendar other) {
+        ISOChronology.checkNotNull(other, "BusinessCalendar must not be null");
+        long start = Math.max(startEpochDay, other.startEpochDay);
+        long end = Math.min(startEpochDay + length, other.startEpochDay + other.length);
+        if (start >= end) {
+            throw new IllegalArgumentException("Business calendar ranges do not overlap");
+        }
+        int combinedLength = (int) (end - start);
+        long[] bits = new long[(combinedLength + 63) >>> 6];
+        for (int i = 0; i < combinedLength; i++) {
+            int thisIndex = (int) (start - startEpochDay) + i;
+            int otherIndex = (int) (start - other.startEpochDay) + i;
+            if ((nonBusinessDays[thisIndex >>> 6] & (1L << thisIndex)) != 0 ||
+                    (other.nonBusinessDays[otherIndex >>> 6] & (1L << otherIndex)) != 0) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        return new BusinessCalendar(start, combinedLength, bits);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns an adjuster that moves a date to the next business day.
+     * <p>
+     * The result is always after the input date.
+     *
+     * @return the next business day adjuster, never null
+     */
+    public DateAdjuster nextBusinessDay() {
+        return plusBusinessDaysAdjuster(1);
+    }
+
+    /**
+     * Returns an adjuster that moves a date to the previous business day.
+     * <p>
+     * The result is always before the input date.
+     *
+     * @return the previous business day adjuster, never null
+     */
+    public DateAdjuster previousBusinessDay() {
+        return plusBusinessDaysAdjuster(-1);
+    }
+
+    /**
+     * Returns an adjuster that adds a number of business days, as per
+     * {@link #plusBusinessDays(LocalDate, int)}.
+     *
+     * @param businessDays  the business days to add, may be negative
+     * @return the adjuster, never null
+     */
+    public DateAdjuster plusBusinessDaysAdjuster(int businessDays) {
+        return new Adjuster(this, businessDays);
+    }
+
+    /**
+     * Returns a matcher that checks if a date is a business day.
+     * <p>
+     * A calendrical without a date does not match.
+     *
+     * @return the business day matcher, never null
+     */
+    public CalendricalMatcher businessDay() {
+        return new Matcher(this, true);
+    }
+
+    /**
+     * Returns a matcher that checks if a date is a weekend day or holiday.
+     * <p>
+     * A calendrical without a date does not match.
+     *
+     * @return the non-business day matcher, never null
+     */
+    public CalendricalMatcher nonBusinessDay() {
+        return new Matcher(this, false);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this calendar is equal to another calendar.
+     * <p>
+     * The comparison is based on the range and the non-business days.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other calendar
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof BusinessCalendar) {
+            BusinessCalendar other = (BusinessCalendar) obj;
+            return startEpochDay == other.startEpochDay && length == other.length &&
+                    Arrays.equals(nonBusinessDays, other.nonBusinessDays);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this calendar.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return ((int) (startEpochDay ^ (startEpochDay >>> 32))) ^ (length * 31) ^ Arrays.hashCode(nonBusinessDays);
+    }
+
+    /**
+     * Outputs this calendar as a {@code String}, such as {@code BusinessCalendar[2010-01-01,2020-12-31]}.
+     *
+     * @return a string representation of this calendar, never null
+     */
+    @Override
+    public String toString() {
+        return "BusinessCalendar[" + getStartDate() + "," + getEndDate() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adjuster adding business days.
+     */
+    private static final class Adjuster implements DateAdjuster, Serializable {
+        /** A serialization identifier for this class. */
+        private static final long serialVersionUID = 1L;
+        /** The calendar. */
+        private final BusinessCalendar calendar;
+        /** The business days to add. */
+        private final int businessDays;
+        /**
+         * Constructor.
+         * @param calendar  the calendar, not null
+         * @param businessDays  the business days to add
+         */
+        Adjuster(BusinessCalendar calendar, int businessDays) {
+            this.calendar = calendar;
+            this.businessDays = businessDays;
+        }
+        /** {@inheritDoc} */
+        public LocalDate adjustDate(LocalDate date) {
+            return calendar.plusBusinessDays(date, businessDays);
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Adjuster) {
+                Adjuster other = (Adjuster) obj;
+                return businessDays == other.businessDays && calendar.equals(other.calendar);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return calendar.hashCode() + businessDays;
+        }
+    }
+
+    /**
+     * Matcher for business days.
+     */
+    private static final class Matcher implements CalendricalMatcher, Serializable {
+        /** A serialization identifier for this class. */
+        private static final long serialVersionUID = 1L;
+        /** The calendar. */
+        private final BusinessCalendar calendar;
+        /** Whether to match business days, or non-business days. */
+        private final boolean businessDay;
+        /**
+         * Constructor.
+         * @param calendar  the calendar, not null
+         * @param businessDay  true to match business days
+         */
+        Matcher(BusinessCalendar calendar, boolean businessDay) {
+            this.calendar = calendar;
+            this.businessDay = businessDay;
+        }
+        /** {@inheritDoc} */
+        public boolean matchesCalendrical(Calendrical calendrical) {
+            LocalDate date = calendrical.get(LocalDate.rule());
+            return date != null && calendar.isBusinessDay(date) == businessDay;
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Matcher) {
+                Matcher other = (Matcher) obj;
+                return businessDay == other.businessDay && calendar.equals(other.calendar);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return calendar.hashCode() + (businessDay ? 1 : 0);
+        }
+    }
+
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.time.MathUtils;
+
+/**
+ * A recurring schedule of dates, such as the 'second Tuesday of each month'.
+ * <p>
+ * A recurrence divides the time-line into periods of a fixed number of months or days.
+ * Month-based periods are aligned to the calendar, such that quarterly periods start
+ * in January, April, July and October. Day-based periods are aligned to the start
+ * of the range being generated.
+ * <p>
+ * For each period, a single candidate date is calculated by taking the first day
+ * of the period, or the last day if {@link #fromPeriodEnd()} is used, and applying
+ * the adjusters in order. The candidate is then included only if every matcher matches.
+ * Thus a schedule such as 'last business Friday of each quarter' is expressed as:
+ * <pre>
+ *  DateRecurrence.quarterly().fromPeriodEnd()
+ *      .with(DateAdjusters.previousOrCurrent(DayOfWeek.FRIDAY))
+ *      .matching(businessCalendar.businessDay());
+ * </pre>
+ * The start of each period is calculated arithmetically from the period number,
+ * so generating a schedule only costs one set of adjustments per period,
+ * rather than a test of every day in the range.
+ * <p>
+ * Adjusters are expected to move the date by no more than one period.
+ * Dates are generated in increasing order without duplicates.
+ * <p>
+ * DateRecurrence is immutable and thread-safe if the adjusters and matchers are.
+ */
+public final class DateRecurrence implements Serializable {
+
+    /**
+     * A serialization identifier for this class.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * Empty adjuster array.
+     */
+    private static final DateAdjuster[] NO_ADJUSTERS = new DateAdjuster[0];
+    /**
+     * Empty matcher array.
+     */
+    private static final CalendricalMatcher[] NO_MATCHERS = new CalendricalMatcher[0];
+
+    /**
+     * The length of each period in months, zero if the period is in days.
+     */
+    private final int months;
+    /**
+     * The length of each period in days, zero if the period is in months.
+     */
+    private final int days;
+    /**
+     * Whether the candidate is based on the last day of the period.
+     */
+    private final boolean fromEnd;
+    /**
+     * The adjusters to apply to each candidate, not null.
+     */
+    private final DateAdjuster[] adjusters;
+    /**
+     * The matchers that each candidate must match, not null.
+     */
+    private final CalendricalMatcher[] matchers;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a recurrence with a period of one day.
+     *
+     * @return the recurrence, never null
+     */
+    public static DateRecurrence daily() {
+        return ofDays(1);
+    }
+
+    /**
+     * Obtains a recurrence with a period of seven days.
+     *
+     * @return the recurrence, never null
+     */
+    public static DateRecurrence weekly() {
+        return ofDays(7);
+    }
+
+    /**
+     * Obtains a recurrence with a period of one month.
+     *
+     * @return the recurrence, never null
+     */
+    public static DateRecurrence monthly() {
+        return ofMonths(1);
+    }
+
+    /**
+     * Obtains a recurrence with a period of three months, aligned to calendar quarters.
+     *
+     * @return the recurrence, never null
+     */
+    public static DateRecurrence quarterly() {
+        return ofMonths(3);
+    }
+
+    /**
+     * Obtains a recurrence with a period of one year, aligned to calendar years.
+     *
+     * @return the recurrence, never null
+     */
+    public static DateRecurrence yearly() {
+        return ofMonths(12);
+    }
+
+    /**
+     * Obtains a recurrence with a period of a number of days.
+     * <p>
+     * The periods are aligned to the start of the range being generated.
+     *
+     * @param days  the number of days in each period, positive
+     * @return the recurrence, never null
+     * @throws IllegalArgumentException if the number of days is not positive
+     */
+    public static DateRecurrence ofDays(int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Days must be positive");
+        }
+        return new DateRecurrence(0, days, false, NO_ADJUSTERS, NO_MATCHERS);
+    }
+
+    /**
+     * Obtains a recurrence with a period of a number of months.
+     * <p>
+     * The periods are aligned such that a period starts in January of year zero.
+     * When the number of months divides twelve, this aligns them to the calendar year.
+     *
+     * @param months  the number of months in each period, positive
+     * @return the recurrence, never null
+     * @throws IllegalArgumentException if the number of months is not positive
+     */
+    public static DateRecurrence ofMonths(int months) {
+        if (months <= 0) {
+            throw new IllegalArgumentException("Months must be positive");
+        }
+        return new DateRecurrence(months, 0, false, NO_ADJUSTERS, NO_MATCHERS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param months  the months in each period, zero if day-based
+     * @param days  the days in each period, zero if month-based
+     * @param fromEnd  whether the candidate is based on the last day of the period
+     * @param adjusters  the adjusters, not null, not altered later
+     * @param matchers  the matchers, not null, not altered later
+     */
+    private DateRecurrence(int months, int days, boolean fromEnd, DateAdjuster[] adjusters, CalendricalMatcher[] matchers) {
+        this.months = months;
+        this.days = days;
+        this.fromEnd = fromEnd;
+        this.adjusters = adjusters;
+        this.matchers = matchers;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this recurrence that bases each candidate on the last day of the period.
+     *
+     * @return the recurrence, never null
+     */
+    public DateRecurrence fromPeriodEnd() {
+        return new DateRecurrence(months, days, true, adjusters, matchers);
+    }
+
+    /**
+     * Returns a copy of this recurrence with an additional adjuster.
+     * <p>
+     * The adjuster is applied to each candidate after any existing adjusters.
+     *
+     * @param adjuster  the adjuster to add, not null
+     * @return the recurrence, never null
+     */
+    public DateRecurrence with(DateAdjuster adjuster) {
+        ISOChronology.checkNotNull(adjuster, "DateAdjuster must not be null");
+        DateAdjuster[] array = new DateAdjuster[adjusters.length + 1];
+        System.arraycopy(adjusters, 0, array, 0, adjusters.length);
+        array[adjusters.length] = adjuster;
+        return new DateRecurrence(months, days, fromEnd, array, matchers);
+    }
+
+    /**
+     * Returns a copy of this recurrence with an additional matcher.
+     * <p>
+     * A candidate that does not match is excluded from the schedule,
+     * rather than being replaced by another date in the period.
+     *
+     * @param matcher  the matcher to add, not null
+     * @return the recurrence, never null
+     */
+    public DateRecurrence matching(CalendricalMatcher matcher) {
+        ISOChronology.checkNotNull(matcher, "CalendricalMatcher must not be null");
+        CalendricalMatcher[] array = new CalendricalMatcher[matchers.length + 1];
+        System.arraycopy(matchers, 0, array, 0, matchers.length);
+        array[matchers.length] = matcher;
+        return new DateRecurrence(months, days, fromEnd, adjusters, array);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the dates of this recurrence within a range.
+     * <p>
+     * The dates are calculated lazily as the iterator is used.
+     *
+     * @param startDate  the start date, inclusive, not null
+     * @param endDate  the end date, exclusive, not null
+     * @return the iterable dates, in increasing order, never null
+     */
+    public Iterable<LocalDate> dates(final LocalDate startDate, final LocalDate endDate) {
+        ISOChronology.checkNotNull(startDate, "Start date must not be null");
+        ISOChronology.checkNotNull(endDate, "End date must not be null");
+        return new Iterable<LocalDate>() {
+            public Iterator<LocalDate> iterator() {
+                final Generator generator = new Generator(startDate.toEpochDay(), endDate.toEpochDay());
+                return new Iterator<LocalDate>() {
+                    private long next = generator.next();
+                    public boolean hasNext() {
+                        return next != Long.MAX_VALUE;
+                    }
+                    public LocalDate next() {
+                        if (next == Long.MAX_VALUE) {
+                            throw new NoSuchElementException();
+                        }
+                        LocalDate date = LocalDate.ofEpochDay(next);
+                        next = generator.next();
+                        return date;
+                    }
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Gets the dates of this recurrence within a range as epoch-days.
+     *
+     * @param startDate  the start date, inclusive, not null
+     * @param endDate  the end date, exclusive, not null
+     * @return the epoch-days, in increasing order, never null
+     */
+    public int[] toEpochDays(LocalDate startDate, LocalDate endDate) {
+        ISOChronology.checkNotNull(startDate, "Start date must not be null");
+        ISOChronology.checkNotNull(endDate, "End date must not be null");
+        Generator generator = new Generator(startDate.toEpochDay(), endDate.toEpochDay());
+        long span = endDate.toEpochDay() - startDate.toEpochDay();
+        long periodDays = (days > 0 ? days : months * 28L);
+        int[] result = new int[(int) Math.max(Math.min(span / periodDays + 2, 1024), 4)];
+        int count = 0;
+        for (long epochDay = generator.next(); epochDay != Long.MAX_VALUE; epochDay = generator.next()) {
+            if (count == result.length) {
+                int[] grown = new int[count * 2];
+                System.arraycopy(result, 0, grown, 0, count);
+                result = grown;
+            }
+            result[count++] = MathUtils.safeToInt(epochDay);
+        }
+        if (count == result.length) {
+            return result;
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Stores the dates of this recurrence within a range as epoch-days in an array.
+     * <p>
+     * Generation stops when the array is full, allowing a long schedule
+     * to be produced in several calls.
+     *
+     * @param startDate  the start date, inclusive, not null
+     * @param endDate  the end date, exclusive, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @param offset  the index to store the first epoch-day at
+     * @return the number of epoch-days stored
+     * @throws IndexOutOfBoundsException if the offset is invalid
+     */
+    public int toEpochDays(LocalDate startDate, LocalDate endDate, int[] epochDays, int offset) {
+        ISOChronology.checkNotNull(startDate, "Start date must not be null");
+        ISOChronology.checkNotNull(endDate, "End date must not be null");
+        ISOChronology.checkNotNull(epochDays, "Epoch-day array must not be null");
+        if (offset < 0 || offset > epochDays.length) {
+            throw new IndexOutOfBoundsException("Invalid offset: " + offset);
+        }
+        Generator generator = new Generator(startDate.toEpochDay(), endDate.toEpochDay());
+        int index = offset;
+        while (index < epochDays.length) {
+            long epochDay = generator.next();
+            if (epochDay == Long.MAX_VALUE) {
+                break;
+            }
+            epochDays[index++] = MathUtils.safeToInt(epochDay);
+        }
+        return index - offset;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the epoch-day of the first day of a month.
+     *
+     * @param zeroEpochMonth  the month, counted from January of year zero
+     * @return the epoch-day
+     */
+    private static long monthStartEpochDay(long zeroEpochMonth) {
+        return ISOChronology.getMonthStartEpochDay(MathUtils.floorDiv(zeroEpochMonth, 12), MathUtils.floorMod(zeroEpochMonth, 12) + 1);
+    }
+
+    /**
+     * Generator of the epoch-days in a range.
+     * <p>
+     * Candidates are calculated from one period before the range to one period after it,
+     * allowing for adjusters that move a candidate into a neighbouring period.
+     */
+    private final class Generator {
+        /** The start epoch-day, inclusive. */
+        private final long startEpochDay;
+        /** The end epoch-day, exclusive. */
+        private final long endEpochDay;
+        /** The next period to calculate. */
+        private long period;
+        /** The last epoch-day returned. */
+        private long last = Long.MIN_VALUE;
+
+        /**
+         * Constructor.
+         *
+         * @param startEpochDay  the start epoch-day, inclusive
+         * @param endEpochDay  the end epoch-day, exclusive
+         */
+        Generator(long startEpochDay, long endEpochDay) {
+            this.startEpochDay = startEpochDay;
+            this.endEpochDay = endEpochDay;
+            if (months > 0) {
+                LocalDate start = LocalDate.ofEpochDay(startEpochDay);
+                long zeroEpochMonth = start.getYear() * 12L + start.getMonthOfYear().ordinal();
+                this.period = MathUtils.floorDiv(zeroEpochMonth, months) - 1;
+            } else {
+                this.period = -1;
+            }
+        }
+
+        /**
+         * Calculates the first day of a period.
+         *
+         * @param period  the period
+         * @return the epoch-day of the first day of the period
+         */
+        private long periodStart(long period) {
+            if (months > 0) {
+                return monthStartEpochDay(period * months);
+            }
+            return startEpochDay + period * days;
+        }
+
+        /**
+         * Calculates the next epoch-day.
+         *
+         * @return the next epoch-day, {@code Long.MAX_VALUE} if there are no more
+         */
+        long next() {
+            while (true) {
+                long periodStart = periodStart(period);
+                if (endEpochDay <= startEpochDay || periodStart(period - 1) >= endEpochDay) {
+                    return Long.MAX_VALUE;
+                }
+                long candidate = (fromEnd ? periodStart(period + 1) - 1 : periodStart);
+                period++;
+                if (adjusters.length > 0 || matchers.length > 0) {
+                    candidate = adjust(candidate);
+                }
+                if (candidate > last && candidate >= startEpochDay && candidate < endEpochDay) {
+                    last = candidate;
+                    return candidate;
+                }
+            }
+        }
+
+        /**
+         * Applies the adjusters and matchers to a candidate.
+         *
+         * @param candidate  the candidate epoch-day
+         * @return the adjusted epoch-day, {@code Long.MIN_VALUE} if not matched
+         */
+        private long adjust(long candidate) {
+            LocalDate date = LocalDate.ofEpochDay(candidate);
+            for (DateAdjuster adjuster : adjusters) {
+                date = adjuster.adjustDate(date);
+            }
+            for (CalendricalMatcher matcher : matchers) {
+                if (matcher.matchesCalendrical(date) == false) {
+                    return Long.MIN_VALUE;
+                }
+            }
+            return date.toEpochDay();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this recurrence is equal to another recurrence.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other recurrence
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof DateRecurrence) {
+            DateRecurrence other = (DateRecurrence) obj;
+            return months == other.months && days == other.days && fromEnd == other.fromEnd &&
+                    Arrays.equals(adjusters, other.adjusters) && Arrays.equals(matchers, other.matchers);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this recurrence.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return months * 31 + days * 17 + (fromEnd ? 1 : 0) + Arrays.hashCode(adjusters) ^ Arrays.hashCode(matchers);
+    }
+
+    /**
+     * Outputs this recurrence as a {@code String}, such as {@code DateRecurrence[P3M]}.
+     *
+     * @return a string representation of this recurrence, never null
+     */
+    @Override
+    public String toString() {
+        return "DateRecurrence[" + (months > 0 ? "P" + months + "M" : "P" + days + "D") + (fromEnd ? ",end" : "") + "]";
+    }
+
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javax.time.CalendricalException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test BusinessCalendar.
+ */
+@Test
+public class TestBusinessCalendar {
+
+    private static final LocalDate START = LocalDate.of(2010, 1, 1);
+    private static final LocalDate END = LocalDate.of(2012, 12, 31);
+    private static final List<LocalDate> HOLIDAYS = Arrays.asList(
+            LocalDate.of(2010, 12, 24), LocalDate.of(2010, 12, 27), LocalDate.of(2010, 12, 28), LocalDate.of(2011, 1, 3));
+
+    //-----------------------------------------------------------------------
+    // of()
+    //-----------------------------------------------------------------------
+    public void test_factory_of() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertEquals(test.getStartDate(), START);
+        assertEquals(test.getEndDate(), END);
+        assertEquals(test.toString(), "BusinessCalendar[2010-01-01,2012-12-31]");
+    }
+
+    public void test_factory_of_oneDay() {
+        BusinessCalendar test = BusinessCalendar.of(START, START, HOLIDAYS);
+        assertEquals(test.getBusinessDayCount(), 1);
+        assertTrue(test.isBusinessDay(START));
+    }
+
+    public void test_factory_of_holidaysOutsideRangeIgnored() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, Arrays.asList(LocalDate.of(2009, 12, 31), LocalDate.of(2013, 1, 1)));
+        assertEquals(test, BusinessCalendar.of(START, END, Collections.<LocalDate>emptyList()));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_factory_of_endBeforeStart() {
+        BusinessCalendar.of(END, START, HOLIDAYS);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_factory_of_tooLong() {
+        BusinessCalendar.of(START, START.plusDays(BusinessCalendar.MAX_DAYS), HOLIDAYS);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_factory_of_nullStart() {
+        BusinessCalendar.of(null, END, HOLIDAYS);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_factory_of_nullHolidays() {
+        BusinessCalendar.of(START, END, null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_factory_of_nullHoliday() {
+        BusinessCalendar.of(START, END, Arrays.asList(START, null));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_factory_of_nullWeekend() {
+        BusinessCalendar.of(START, END, null, HOLIDAYS);
+    }
+
+    //-----------------------------------------------------------------------
+    // isBusinessDay()
+    //-----------------------------------------------------------------------
+    public void test_isBusinessDay() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertTrue(test.isBusinessDay(LocalDate.of(2010, 12, 23)));
+        assertFalse(test.isBusinessDay(LocalDate.of(2010, 12, 24)));
+        assertFalse(test.isBusinessDay(LocalDate.of(2010, 12, 25)));
+        assertFalse(test.isBusinessDay(LocalDate.of(2010, 12, 26)));
+        assertFalse(test.isBusinessDay(LocalDate.of(2010, 12, 27)));
+        assertFalse(test.isBusinessDay(LocalDate.of(2010, 12, 28)));
+        assertTrue(test.isBusinessDay(LocalDate.of(2010, 12, 29)));
+    }
+
+    public void test_isBusinessDay_customWeekend() {
+        BusinessCalendar test = BusinessCalendar.of(START, END,
+                Arrays.asList(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), Collections.<LocalDate>emptyList());
+        assertTrue(test.isBusinessDay(LocalDate.of(2011, 3, 6)));  // Sunday
+        assertTrue(test.isBusinessDay(LocalDate.of(2011, 3, 10)));  // Thursday
+        assertFalse(test.isBusinessDay(LocalDate.of(2011, 3, 11)));  // Friday
+        assertFalse(test.isBusinessDay(LocalDate.of(2011, 3, 12)));  // Saturday
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_isBusinessDay_beforeRange() {
+        BusinessCalendar.of(START, END, HOLIDAYS).isBusinessDay(START.minusDays(1));
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_isBusinessDay_afterRange() {
+        BusinessCalendar.of(START, END, HOLIDAYS).isBusinessDay(END.plusDays(1));
+    }
+
+    public void test_isInRange() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertFalse(test.isInRange(START.minusDays(1)));
+        assertTrue(test.isInRange(START));
+        assertTrue(test.isInRange(END));
+        assertFalse(test.isInRange(END.plusDays(1)));
+    }
+
+    //-----------------------------------------------------------------------
+    // plusBusinessDays()
+    //-----------------------------------------------------------------------
+    public void test_plusBusinessDays() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertEquals(test.plusBusinessDays(LocalDate.of(2010, 12, 23), 1), LocalDate.of(2010, 12, 29));
+        assertEquals(test.plusBusinessDays(LocalDate.of(2010, 12, 23), 3), LocalDate.of(2010, 12, 31));
+        assertEquals(test.plusBusinessDays(LocalDate.of(2010, 12, 29), -1), LocalDate.of(2010, 12, 23));
+        assertEquals(test.plusBusinessDays(LocalDate.of(2010, 12, 25), 0), LocalDate.of(2010, 12, 25));
+        assertEquals(test.plusBusinessDays(LocalDate.of(2010, 12, 25), 1), LocalDate.of(2010, 12, 29));
+        assertEquals(test.plusBusinessDays(LocalDate.of(2010, 12, 25), -1), LocalDate.of(2010, 12, 23));
+    }
+
+    public void test_plusBusinessDays_matchesStepping() {
+        Random random = new Random(1);
+        List<LocalDate> holidays = new ArrayList<LocalDate>();
+        for (int i = 0; i < 60; i++) {
+            holidays.add(START.plusDays(random.nextInt(1000)));
+        }
+        BusinessCalendar test = BusinessCalendar.of(START, END, holidays);
+        for (LocalDate date = START.plusDays(20); date.isBefore(END.minusDays(20)); date = date.plusDays(1)) {
+            for (int days = -10; days <= 10; days++) {
+                assertEquals(test.plusBusinessDays(date, days), step(test, date, days));
+            }
+        }
+    }
+
+    private LocalDate step(BusinessCalendar calendar, LocalDate date, int days) {
+        int step = days < 0 ? -1 : 1;
+        for (int i = 0; i != days; i += step) {
+            do {
+                date = date.plusDays(step);
+            } while (calendar.isBusinessDay(date) == false);
+        }
+        return date;
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_plusBusinessDays_resultAfterRange() {
+        BusinessCalendar.of(START, END, HOLIDAYS).plusBusinessDays(END.minusDays(5), 10);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_plusBusinessDays_resultBeforeRange() {
+        BusinessCalendar.of(START, END, HOLIDAYS).plusBusinessDays(START.plusDays(5), -10);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_plusBusinessDays_outsideRange() {
+        BusinessCalendar.of(START, END, HOLIDAYS).plusBusinessDays(END.plusDays(1), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    // businessDaysBetween()
+    //-----------------------------------------------------------------------
+    public void test_businessDaysBetween() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertEquals(test.businessDaysBetween(LocalDate.of(2010, 12, 20), LocalDate.of(2011, 1, 10)), 11);
+        assertEquals(test.businessDaysBetween(LocalDate.of(2011, 1, 10), LocalDate.of(2010, 12, 20)), -11);
+        assertEquals(test.businessDaysBetween(LocalDate.of(2010, 12, 24), LocalDate.of(2010, 12, 24)), 0);
+        assertEquals(test.businessDaysBetween(START, END), test.getBusinessDayCount() - 1);
+    }
+
+    public void test_businessDaysBetween_fullRange() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertEquals(test.businessDaysBetween(START, END.plusDays(1)), test.getBusinessDayCount());
+        assertEquals(test.businessDaysBetween(END.plusDays(1), START), -test.getBusinessDayCount());
+        assertEquals(test.businessDaysBetween(END.plusDays(1), END.plusDays(1)), 0);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_businessDaysBetween_afterEnd() {
+        BusinessCalendar.of(START, END, HOLIDAYS).businessDaysBetween(START, END.plusDays(2));
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_businessDaysBetween_beforeStart() {
+        BusinessCalendar.of(START, END, HOLIDAYS).businessDaysBetween(START.minusDays(1), END);
+    }
+
+    public void test_businessDaysBetween_consistentWithPlus() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        for (LocalDate date = LocalDate.of(2010, 12, 1); date.isBefore(LocalDate.of(2011, 2, 1)); date = date.plusDays(1)) {
+            if (test.isBusinessDay(date)) {
+                for (int days = -15; days <= 15; days++) {
+                    assertEquals(test.businessDaysBetween(date, test.plusBusinessDays(date, days)), days);
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // adjusters and matchers
+    //-----------------------------------------------------------------------
+    public void test_nextBusinessDay() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertEquals(LocalDate.of(2010, 12, 23).with(test.nextBusinessDay()), LocalDate.of(2010, 12, 29));
+        assertEquals(LocalDate.of(2010, 12, 26).with(test.nextBusinessDay()), LocalDate.of(2010, 12, 29));
+    }
+
+    public void test_previousBusinessDay() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertEquals(LocalDate.of(2011, 1, 4).with(test.previousBusinessDay()), LocalDate.of(2010, 12, 31));
+        assertEquals(LocalDate.of(2011, 1, 3).with(test.previousBusinessDay()), LocalDate.of(2010, 12, 31));
+    }
+
+    public void test_plusBusinessDaysAdjuster() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertEquals(LocalDate.of(2010, 12, 22).with(test.plusBusinessDaysAdjuster(2)), LocalDate.of(2010, 12, 29));
+        assertEquals(test.plusBusinessDaysAdjuster(2), test.plusBusinessDaysAdjuster(2));
+    }
+
+    public void test_businessDay_matcher() {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        assertTrue(LocalDate.of(2010, 12, 23).matches(test.businessDay()));
+        assertFalse(LocalDate.of(2010, 12, 24).matches(test.businessDay()));
+        assertFalse(LocalDate.of(2010, 12, 23).matches(test.nonBusinessDay()));
+        assertTrue(LocalDate.of(2010, 12, 24).matches(test.nonBusinessDay()));
+        assertFalse(test.businessDay().matchesCalendrical(LocalTime.MIDNIGHT));
+        assertFalse(test.nonBusinessDay().matchesCalendrical(LocalTime.MIDNIGHT));
+    }
+
+    //-----------------------------------------------------------------------
+    // combinedWith()
+    //-----------------------------------------------------------------------
+    public void test_combinedWith() {
+        BusinessCalendar base = BusinessCalendar.of(START, END, HOLIDAYS);
+        BusinessCalendar other = BusinessCalendar.of(LocalDate.of(2010, 6, 1), LocalDate.of(2013, 6, 30),
+                Arrays.asList(LocalDate.of(2010, 12, 23)));
+        BusinessCalendar test = base.combinedWith(other);
+        assertEquals(test.getStartDate(), LocalDate.of(2010, 6, 1));
+        assertEquals(test.getEndDate(), END);
+        assertFalse(test.isBusinessDay(LocalDate.of(2010, 12, 23)));
+        assertFalse(test.isBusinessDay(LocalDate.of(2010, 12, 24)));
+        assertEquals(test.plusBusinessDays(LocalDate.of(2010, 12, 22), 1), LocalDate.of(2010, 12, 29));
+        assertEquals(test, other.combinedWith(base));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_combinedWith_noOverlap() {
+        BusinessCalendar base = BusinessCalendar.of(START, END, HOLIDAYS);
+        base.combinedWith(BusinessCalendar.of(END.plusDays(1), END.plusDays(10), HOLIDAYS));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_serialization() throws Exception {
+        BusinessCalendar test = BusinessCalendar.of(START, END, HOLIDAYS);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        BusinessCalendar result = (BusinessCalendar) ois.readObject();
+        assertEquals(result, test);
+        assertEquals(result.plusBusinessDays(LocalDate.of(2010, 12, 23), 1), LocalDate.of(2010, 12, 29));
+    }
+
+    public void test_equals() {
+        BusinessCalendar a = BusinessCalendar.of(START, END, HOLIDAYS);
+        BusinessCalendar b = BusinessCalendar.of(START, END, HOLIDAYS);
+        BusinessCalendar c = BusinessCalendar.of(START, END, Collections.<LocalDate>emptyList());
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.equals(c), false);
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals(""), false);
+    }
+
+}
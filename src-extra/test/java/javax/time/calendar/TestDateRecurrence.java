@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test DateRecurrence.
+ */
+@Test
+public class TestDateRecurrence {
+
+    private static final LocalDate START = LocalDate.of(2008, 1, 1);
+    private static final LocalDate END = LocalDate.of(2015, 1, 1);
+
+    //-----------------------------------------------------------------------
+    // factories
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofDays_zero() {
+        DateRecurrence.ofDays(0);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofMonths_negative() {
+        DateRecurrence.ofMonths(-1);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_with_null() {
+        DateRecurrence.monthly().with(null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_matching_null() {
+        DateRecurrence.monthly().matching(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // dates()
+    //-----------------------------------------------------------------------
+    public void test_monthly() {
+        List<LocalDate> test = list(DateRecurrence.monthly(), LocalDate.of(2010, 1, 15), LocalDate.of(2010, 5, 1));
+        assertEquals(test, Arrays.asList(LocalDate.of(2010, 2, 1), LocalDate.of(2010, 3, 1), LocalDate.of(2010, 4, 1)));
+    }
+
+    public void test_monthly_secondTuesday() {
+        DateRecurrence recurrence = DateRecurrence.monthly().with(DateAdjusters.dayOfWeekInMonth(2, DayOfWeek.TUESDAY));
+        assertEquals(list(recurrence, START, END), scan(CalendricalMatchers.dayOfWeekInMonth(2, DayOfWeek.TUESDAY)));
+    }
+
+    public void test_monthly_lastDayOfMonth() {
+        DateRecurrence recurrence = DateRecurrence.monthly().fromPeriodEnd();
+        assertEquals(list(recurrence, START, END), scan(CalendricalMatchers.lastDayOfMonth()));
+    }
+
+    public void test_quarterly() {
+        List<LocalDate> test = list(DateRecurrence.quarterly(), LocalDate.of(2010, 2, 1), LocalDate.of(2011, 1, 2));
+        assertEquals(test, Arrays.asList(
+                LocalDate.of(2010, 4, 1), LocalDate.of(2010, 7, 1), LocalDate.of(2010, 10, 1), LocalDate.of(2011, 1, 1)));
+    }
+
+    public void test_quarterly_lastBusinessFriday() {
+        BusinessCalendar calendar = BusinessCalendar.of(START, END, Arrays.asList(LocalDate.of(2010, 3, 26)));
+        DateRecurrence recurrence = DateRecurrence.quarterly().fromPeriodEnd()
+                .with(DateAdjusters.previousOrCurrent(DayOfWeek.FRIDAY))
+                .matching(calendar.businessDay());
+        List<LocalDate> test = list(recurrence, LocalDate.of(2010, 1, 1), LocalDate.of(2011, 1, 1));
+        assertEquals(test, Arrays.asList(LocalDate.of(2010, 6, 25), LocalDate.of(2010, 9, 24), LocalDate.of(2010, 12, 31)));
+    }
+
+    public void test_yearly_fromPeriodEnd() {
+        List<LocalDate> test = list(DateRecurrence.yearly().fromPeriodEnd(), LocalDate.of(2010, 1, 1), LocalDate.of(2012, 12, 31));
+        assertEquals(test, Arrays.asList(LocalDate.of(2010, 12, 31), LocalDate.of(2011, 12, 31)));
+    }
+
+    public void test_weekly() {
+        DateRecurrence recurrence = DateRecurrence.weekly().with(DateAdjusters.nextOrCurrent(DayOfWeek.WEDNESDAY));
+        assertEquals(list(recurrence, START, END), scan(CalendricalMatchers.dayOfWeekInMonth(1, DayOfWeek.WEDNESDAY),
+                CalendricalMatchers.dayOfWeekInMonth(2, DayOfWeek.WEDNESDAY),
+                CalendricalMatchers.dayOfWeekInMonth(3, DayOfWeek.WEDNESDAY),
+                CalendricalMatchers.dayOfWeekInMonth(4, DayOfWeek.WEDNESDAY),
+                CalendricalMatchers.dayOfWeekInMonth(5, DayOfWeek.WEDNESDAY)));
+    }
+
+    public void test_ofDays() {
+        List<LocalDate> test = list(DateRecurrence.ofDays(10), LocalDate.of(2010, 1, 5), LocalDate.of(2010, 2, 5));
+        assertEquals(test, Arrays.asList(LocalDate.of(2010, 1, 5), LocalDate.of(2010, 1, 15), LocalDate.of(2010, 1, 25), LocalDate.of(2010, 2, 4)));
+    }
+
+    public void test_daily_matching() {
+        DateRecurrence recurrence = DateRecurrence.daily().matching(CalendricalMatchers.leapDay());
+        assertEquals(list(recurrence, START, END), Arrays.asList(LocalDate.of(2008, 2, 29), LocalDate.of(2012, 2, 29)));
+    }
+
+    public void test_adjusterIntoNextPeriod_noDuplicates() {
+        DateRecurrence recurrence = DateRecurrence.monthly().with(DateAdjusters.dayOfWeekInMonth(5, DayOfWeek.MONDAY));
+        List<LocalDate> test = list(recurrence, START, END);
+        for (int i = 1; i < test.size(); i++) {
+            assertTrue(test.get(i).isAfter(test.get(i - 1)));
+        }
+    }
+
+    public void test_emptyRange() {
+        assertEquals(list(DateRecurrence.daily(), START, START), Collections.<LocalDate>emptyList());
+        assertEquals(list(DateRecurrence.daily(), END, START), Collections.<LocalDate>emptyList());
+    }
+
+    public void test_iterator() {
+        Iterator<LocalDate> it = DateRecurrence.yearly().dates(LocalDate.of(2010, 1, 1), LocalDate.of(2011, 1, 1)).iterator();
+        assertTrue(it.hasNext());
+        assertEquals(it.next(), LocalDate.of(2010, 1, 1));
+        assertFalse(it.hasNext());
+        try {
+            it.next();
+            assertTrue(false);
+        } catch (NoSuchElementException ex) {
+            // expected
+        }
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_iterator_remove() {
+        Iterator<LocalDate> it = DateRecurrence.yearly().dates(LocalDate.of(2010, 1, 1), LocalDate.of(2011, 1, 1)).iterator();
+        it.next();
+        it.remove();
+    }
+
+    //-----------------------------------------------------------------------
+    // toEpochDays()
+    //-----------------------------------------------------------------------
+    public void test_toEpochDays() {
+        DateRecurrence recurrence = DateRecurrence.monthly().with(DateAdjusters.dayOfWeekInMonth(2, DayOfWeek.TUESDAY));
+        List<LocalDate> expected = list(recurrence, START, END);
+        int[] test = recurrence.toEpochDays(START, END);
+        assertEquals(test.length, expected.size());
+        for (int i = 0; i < test.length; i++) {
+            assertEquals(test[i], expected.get(i).toEpochDay());
+        }
+    }
+
+    public void test_toEpochDays_large() {
+        int[] test = DateRecurrence.daily().toEpochDays(START, END);
+        assertEquals(test.length, END.toEpochDay() - START.toEpochDay());
+        assertEquals(test[0], START.toEpochDay());
+        assertEquals(test[test.length - 1], END.toEpochDay() - 1);
+    }
+
+    public void test_toEpochDays_array() {
+        int[] array = new int[5];
+        int count = DateRecurrence.monthly().toEpochDays(LocalDate.of(2010, 1, 1), LocalDate.of(2010, 4, 1), array, 1);
+        assertEquals(count, 3);
+        assertEquals(array[0], 0);
+        assertEquals(array[1], LocalDate.of(2010, 1, 1).toEpochDay());
+        assertEquals(array[2], LocalDate.of(2010, 2, 1).toEpochDay());
+        assertEquals(array[3], LocalDate.of(2010, 3, 1).toEpochDay());
+        assertEquals(array[4], 0);
+    }
+
+    public void test_toEpochDays_arrayFull() {
+        int[] array = new int[2];
+        int count = DateRecurrence.monthly().toEpochDays(START, END, array, 0);
+        assertEquals(count, 2);
+        assertEquals(array[1], LocalDate.of(2008, 2, 1).toEpochDay());
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_toEpochDays_badOffset() {
+        DateRecurrence.monthly().toEpochDays(START, END, new int[2], 3);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        DateRecurrence a = DateRecurrence.monthly().with(DateAdjusters.lastDayOfMonth());
+        DateRecurrence b = DateRecurrence.ofMonths(1).with(DateAdjusters.lastDayOfMonth());
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.equals(DateRecurrence.monthly()), false);
+        assertEquals(a.equals(DateRecurrence.monthly().fromPeriodEnd()), false);
+        assertEquals(a.equals(null), false);
+    }
+
+    public void test_toString() {
+        assertEquals(DateRecurrence.quarterly().toString(), "DateRecurrence[P3M]");
+        assertEquals(DateRecurrence.weekly().fromPeriodEnd().toString(), "DateRecurrence[P7D,end]");
+    }
+
+    //-----------------------------------------------------------------------
+    private List<LocalDate> list(DateRecurrence recurrence, LocalDate start, LocalDate end) {
+        List<LocalDate> list = new ArrayList<LocalDate>();
+        for (LocalDate date : recurrence.dates(start, end)) {
+            list.add(date);
+        }
+        return list;
+    }
+
+    private List<LocalDate> scan(CalendricalMatcher... matchers) {
+        List<LocalDate> list = new ArrayList<LocalDate>();
+        for (LocalDate date = START; date.isBefore(END); date = date.plusDays(1)) {
+            for (CalendricalMatcher matcher : matchers) {
+                if (date.matches(matcher)) {
+                    list.add(date);
+                    break;
+                }
+            }
+        }
+        return list;
+    }
+
+}
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.Locale;
 
 import javax.time.Duration;
+import javax.time.MathUtils;
 import javax.time.calendar.Calendrical;
 import javax.time.calendar.CalendricalEngine;
 import javax.time.calendar.Chronology;
@@ -15,6 +16,7 @@ import javax.time.calendar.DateTimeField;
 import javax.time.calendar.DateTimeRule;
 import javax.time.calendar.DateTimeRuleRange;
 import javax.time.calendar.ISOPeriodUnit;
+import javax.time.calendar.LocalDate;
 import javax.time.calendar.PeriodField;
 import javax.time.calendar.PeriodUnit;
 import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
@@ -191,6 +193,28 @@ public final class HijrahChronology extends Chronology implements Serializable {
         return "Hijrah";
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    protected void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            HijrahDate date = HijrahDate.of(LocalDate.ofEpochDay(epochDays[i]));
+            eras[i] = date.getEra().getValue();
+            yearsOfEra[i] = date.getYearOfEra();
+            monthsOfYear[i] = date.getMonthOfYear();
+            daysOfMonth[i] = date.getDayOfMonth();
+        }
+    }
+
+    @Override
+    protected void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            HijrahDate date = HijrahDate.of(HijrahEra.of(eras[i]), yearsOfEra[i], monthsOfYear[i], daysOfMonth[i]);
+            epochDays[i] = MathUtils.safeToInt(date.toLocalDate().toEpochDay());
+        }
+    }
+
     //-----------------------------------------------------------------------
 //    /**
 //     * Gets the rule for the year field in the Hijrah chronology.
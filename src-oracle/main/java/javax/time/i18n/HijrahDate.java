@@ -11,7 +11,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.text.ParseException;
-import java.util.Hashtable;
 import java.util.StringTokenizer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -225,110 +224,63 @@ public final class HijrahDate
      */
     private static final String DEFAULT_CONFIG_PATH = "javax" + FILE_SEP + "time" + FILE_SEP + "i18n";
     /**
-     * Holding the adjusted month days in year. The key is a year (Integer) and
-     * the value is the all the month days in year (Integer[]).
+     * Number of 30-year cycles to hold the deviation data.
      */
-    private static final Hashtable<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new Hashtable<Integer, Integer[]>();
+    private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
     /**
-     * Holding the adjusted month length in year. The key is a year (Integer)
-     * and the value is the all the month length in year (Integer[]).
+     * Number of years in a cycle.
      */
-    private static final Hashtable<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new Hashtable<Integer, Integer[]>();
+    private static final int YEARS_PER_CYCLE = 30;
     /**
-     * Holding the adjusted days in the 30 year cycle. The key is a cycle number
-     * (Integer) and the value is the all the starting days of the year in the
-     * cycle (Integer[]).
+     * Number of days in a cycle without deviations.
      */
-    private static final Hashtable<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new Hashtable<Integer, Integer[]>();
+    private static final int DAYS_PER_CYCLE = 10631;
     /**
-     * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
-     * number (Integer) and the value is the starting days in the cycle in the
-     * term.
+     * Number of months in a year, which is the size of each block in the month tables.
      */
-    private static final Long[] ADJUSTED_CYCLES;
+    private static final int MONTHS_PER_YEAR = 12;
     /**
-     * Holding the adjusted min values.
+     * The starting day of each 30 year cycle, counted from the Hijrah epoch,
+     * including deviations.
      */
-    private static final Integer[] ADJUSTED_MIN_VALUES;
+    private static final int[] CYCLE_START_DAYS;
     /**
-     * Holding the adjusted max least max values.
+     * The zero-based starting day of each year within its cycle, including deviations.
+     * There is one block of 30 entries per cycle, followed by a block holding
+     * the non-adjusted values for cycles outside the table.
      */
-    private static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
+    private static final int[] CYCLE_YEAR_START_DAYS;
     /**
-     * Holding adjusted max values.
+     * True for each cycle containing a year whose start has been adjusted by a deviation.
      */
-    private static final Integer[] ADJUSTED_MAX_VALUES;
+    private static final boolean[] ADJUSTED_CYCLES;
     /**
-     * Holding the non-adjusted month days in year for non leap year.
+     * The month table of each year-of-era, indexed by year.
+     * Table 0 is the non-adjusted normal year, table 1 the non-adjusted leap year
+     * and higher tables are years adjusted by a deviation.
      */
-    private static final Integer[] DEFAULT_MONTH_DAYS;
+    private static final int[] MONTH_TABLE_INDEX;
     /**
-     * Holding the non-adjusted month days in year for leap year.
+     * The zero-based day-of-year starting each month, one block of 12 entries per month table.
      */
-    private static final Integer[] DEFAULT_LEAP_MONTH_DAYS;
+    private static final int[] MONTH_START_DAYS;
     /**
-     * Holding the non-adjusted month length for non leap year.
+     * The length of each month, one block of 12 entries per month table.
      */
-    private static final Integer[] DEFAULT_MONTH_LENGTHS;
+    private static final int[] MONTH_LENGTHS;
     /**
-     * Holding the non-adjusted month length for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted 30 year cycle starting day.
+     * Holding the adjusted max least max values.
      */
-    private static final Integer[] DEFAULT_CYCLE_YEARS;
+    private static final int[] ADJUSTED_LEAST_MAX_VALUES;
     /**
-     * number of 30-year cycles to hold the deviation data.
+     * Holding adjusted max values.
      */
-    private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
-
-    static { // Initialize the static integer array;
-
-        DEFAULT_MONTH_DAYS = new Integer[NUM_DAYS.length];
-        for (int i = 0; i < NUM_DAYS.length; i++) {
-            DEFAULT_MONTH_DAYS[i] = new Integer(NUM_DAYS[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_DAYS = new Integer[LEAP_NUM_DAYS.length];
-        for (int i = 0; i < LEAP_NUM_DAYS.length; i++) {
-            DEFAULT_LEAP_MONTH_DAYS[i] = new Integer(LEAP_NUM_DAYS[i]);
-        }
-
-        DEFAULT_MONTH_LENGTHS = new Integer[MONTH_LENGTH.length];
-        for (int i = 0; i < MONTH_LENGTH.length; i++) {
-            DEFAULT_MONTH_LENGTHS[i] = new Integer(MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_LENGTHS = new Integer[LEAP_MONTH_LENGTH.length];
-        for (int i = 0; i < LEAP_MONTH_LENGTH.length; i++) {
-            DEFAULT_LEAP_MONTH_LENGTHS[i] = new Integer(LEAP_MONTH_LENGTH[i]);
-        }
+    private static final int[] ADJUSTED_MAX_VALUES;
 
-        DEFAULT_CYCLE_YEARS = new Integer[CYCLEYEAR_START_DATE.length];
-        for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
-            DEFAULT_CYCLE_YEARS[i] = new Integer(CYCLEYEAR_START_DATE[i]);
-        }
-
-        ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
-        for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
-            ADJUSTED_CYCLES[i] = new Long(10631 * i);
-        }
-        // Initialize min values, least max values and max values.
-        ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
-        for (int i = 0; i < MIN_VALUES.length; i++) {
-            ADJUSTED_MIN_VALUES[i] = new Integer(MIN_VALUES[i]);
-        }
-        ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
-        for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
-            ADJUSTED_LEAST_MAX_VALUES[i] = new Integer(LEAST_MAX_VALUES[i]);
-        }
-        ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
-        for (int i = 0; i < MAX_VALUES.length; i++) {
-            ADJUSTED_MAX_VALUES[i] = new Integer(MAX_VALUES[i]);
-        }
+    static { // Initialize the tables, applying the deviation config once
+        TableBuilder builder = new TableBuilder();
         try {
-            readDeviationConfig();
+            readDeviationConfig(builder);
         } catch (IOException e) {
             // do nothing. Ignore deviation config.
             // e.printStackTrace();
@@ -336,6 +288,14 @@ public final class HijrahDate
             // do nothing. Ignore deviation config.
             // e.printStackTrace();
         }
+        CYCLE_START_DAYS = builder.cycleStartDays;
+        CYCLE_YEAR_START_DAYS = builder.cycleYearStartDays;
+        ADJUSTED_CYCLES = builder.adjustedCycles;
+        MONTH_TABLE_INDEX = builder.monthTableIndex;
+        MONTH_START_DAYS = builder.trim(builder.monthStartDays);
+        MONTH_LENGTHS = builder.trim(builder.monthLengths);
+        ADJUSTED_LEAST_MAX_VALUES = builder.leastMaxValues;
+        ADJUSTED_MAX_VALUES = builder.maxValues;
     }
     /**
      * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
@@ -457,21 +417,49 @@ public final class HijrahDate
      * @param gregorianDay  the number of days from 0001/01/01 (Gregorian), caller calculated
      */
     private HijrahDate(long gregorianDay) {
-        int[] dateInfo = getHijrahDateInfo(gregorianDay);
+        long epochDay = gregorianDay - HIJRAH_JAN_1_1_GREGORIAN_DAY;
+        int era, year, dayOfYear;  // 0-based day-of-year
+        if (epochDay >= 0) {
+            int cycleNumber = getCycleNumber(epochDay);
+            int dayOfCycle = (int) (epochDay - getCycleStartDay(cycleNumber));
+            int yearInCycle = getYearInCycle(cycleNumber, dayOfCycle);
+            dayOfYear = dayOfCycle - CYCLE_YEAR_START_DAYS[getCycleYearIndex(cycleNumber) + yearInCycle];
+            year = cycleNumber * YEARS_PER_CYCLE + yearInCycle + 1;
+            era = HijrahEra.HIJRAH.getValue();
+        } else {
+            int cycleNumber = (int) epochDay / DAYS_PER_CYCLE;  // 0 or negative number
+            int dayOfCycle = (int) epochDay % DAYS_PER_CYCLE;  // -10630 - 0
+            if (dayOfCycle == 0) {
+                dayOfCycle = -DAYS_PER_CYCLE;
+                cycleNumber++;
+            }
+            int yearInCycle = getYearInCycle(cycleNumber, dayOfCycle);
+            dayOfYear = CYCLE_YEAR_START_DAYS[getCycleYearIndex(cycleNumber) + yearInCycle] + dayOfCycle;
+            year = 1 - (cycleNumber * YEARS_PER_CYCLE - yearInCycle);
+            dayOfYear += (isLeapYear(year) ? 355 : 354);
+            era = HijrahEra.BEFORE_HIJRAH.getValue();
+        }
+        int monthTable = getMonthTable(year);
+        int dayOfYearInMonths = (dayOfYear >= 0 ? dayOfYear : dayOfYear + (isLeapYear(year) ? 355 : 354));
+        int month = getMonthOfYear(dayOfYearInMonths, monthTable);  // 0-based
+        int date = (month > 0 ? dayOfYearInMonths - MONTH_START_DAYS[monthTable + month] : dayOfYearInMonths);
+        // Hijrah day zero is a Friday
+        int dayOfWeek = (int) ((epochDay + 5) % 7);
+        dayOfWeek += (dayOfWeek <= 0) ? 7 : 0;
         
-        HijrahChronology.eraRule().checkValidValue(dateInfo[0]);
-        HijrahChronology.yearOfEraRule().checkValidValue(dateInfo[1]);
-        HijrahChronology.monthOfYearRule().checkValidValue(dateInfo[2]);
-        HijrahChronology.dayOfMonthRule().checkValidValue(dateInfo[3]);
-        HijrahChronology.dayOfYearRule().checkValidValue(dateInfo[4]);
-        HijrahChronology.dayOfWeekRule().checkValidValue(dateInfo[5]);
+        HijrahChronology.eraRule().checkValidValue(era);
+        HijrahChronology.yearOfEraRule().checkValidValue(year);
+        HijrahChronology.monthOfYearRule().checkValidValue(month + 1);
+        HijrahChronology.dayOfMonthRule().checkValidValue(date + 1);
+        HijrahChronology.dayOfYearRule().checkValidValue(dayOfYear + 1);
+        HijrahChronology.dayOfWeekRule().checkValidValue(dayOfWeek);
         
-        this.era = HijrahEra.of(dateInfo[0]);
-        this.yearOfEra = dateInfo[1];
-        this.monthOfYear = dateInfo[2];
-        this.dayOfMonth = dateInfo[3];
-        this.dayOfYear = dateInfo[4];
-        this.dayOfWeek = DayOfWeek.of(dateInfo[5]);
+        this.era = HijrahEra.of(era);
+        this.yearOfEra = year;
+        this.monthOfYear = month + 1;
+        this.dayOfMonth = date + 1;
+        this.dayOfYear = dayOfYear + 1;
+        this.dayOfWeek = DayOfWeek.of(dayOfWeek);
         this.gregorianEpochDay = gregorianDay;
         this.isLeapYear = isLeapYear(this.yearOfEra);
     }
@@ -930,68 +918,6 @@ public final class HijrahDate
     }
 
     //-----------------------------------------------------------------------
-    /**
-     * Returns the int array containing the following field from the julian day.
-     *
-     * int[0] = ERA
-     * int[1] = YEAR
-     * int[2] = MONTH
-     * int[3] = DATE
-     * int[4] = DAY_OF_YEAR
-     * int[5] = DAY_OF_WEEK
-     *
-     * @param julianDay  a julian day.
-     */
-    private static int[] getHijrahDateInfo(long gregorianDays) {
-        int era, year, month, date, dayOfWeek, dayOfYear;
-
-        int cycleNumber, yearInCycle, dayOfCycle;
-
-        long epochDay = gregorianDays - HIJRAH_JAN_1_1_GREGORIAN_DAY;
-
-        if (epochDay >= 0) {
-            cycleNumber = getCycleNumber(epochDay); // 0 - 99.
-            dayOfCycle = getDayOfCycle(epochDay, cycleNumber); // 0 - 10631.
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            // 0 - 354/355
-            year = cycleNumber * 30 + yearInCycle + 1; // 1-based year.
-            month = getMonthOfYear(dayOfYear, year); // 0-based month-of-year
-            date = getDayOfMonth(dayOfYear, month, year); // 0-based date
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.HIJRAH.getValue();
-        } else {
-            cycleNumber = (int) epochDay / 10631; // 0 or negative number.
-            dayOfCycle = (int) epochDay % 10631; // -10630 - 0.
-            if (dayOfCycle == 0) {
-                dayOfCycle = -10631;
-                cycleNumber++;
-            }
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            year = cycleNumber * 30 - yearInCycle; // negative number.
-            year = 1 - year;
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            month = getMonthOfYear(dayOfYear, year);
-            date = getDayOfMonth(dayOfYear, month, year);
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.BEFORE_HIJRAH.getValue();
-        }
-        // Hijrah day zero is a Friday
-        dayOfWeek = (int) ((epochDay + 5) % 7);
-        dayOfWeek += (dayOfWeek <= 0) ? 7 : 0;
-
-        int dateInfo[] = new int[6];
-        dateInfo[0] = era;
-        dateInfo[1] = year;
-        dateInfo[2] = month + 1; // change to 1-based.
-        dateInfo[3] = date;
-        dateInfo[4] = dayOfYear + 1; // change to 1-based.
-        dateInfo[5] = dayOfWeek;
-        return dateInfo;
-    }
-
     /**
      * Return Gregorian epoch day from Hijrah year, month, and day.
      *
@@ -1003,7 +929,7 @@ public final class HijrahDate
      */
     private static long getGregorianEpochDay(int era, int year, int monthOfYear, int dayOfMonth) {
         long day = yearToGregorianEpochDay(era, year);
-        day += getMonthDays(monthOfYear - 1, year);
+        day += MONTH_START_DAYS[getMonthTable(year) + monthOfYear - 1];
         day += dayOfMonth;
         return day;
     }
@@ -1016,251 +942,118 @@ public final class HijrahDate
      * @return a julian day
      */
     private static long yearToGregorianEpochDay(int era, int year) {
-
         if (era == HijrahEra.BEFORE_HIJRAH.getValue()) {
             year = 1 - year;
         }
-
-        int cycleNumber = (year - 1) / 30; // 0-based.
-        int yearInCycle = (year - 1) % 30; // 0-based.
-
-        int dayInCycle = getAdjustedCycle(cycleNumber)[Math.abs(yearInCycle)]
-                .intValue();
-
+        int cycleNumber = (year - 1) / YEARS_PER_CYCLE;  // 0-based.
+        int yearInCycle = (year - 1) % YEARS_PER_CYCLE;  // 0-based.
+        int dayInCycle = CYCLE_YEAR_START_DAYS[getCycleYearIndex(cycleNumber) + Math.abs(yearInCycle)];
         if (yearInCycle < 0) {
             dayInCycle = -dayInCycle;
         }
-
-        Long cycleDays;
-
-        try {
-            cycleDays = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleDays = null;
-        }
-
-        if (cycleDays == null) {
-            cycleDays = new Long(cycleNumber * 10631);
-        }
-
-        return (cycleDays.longValue() + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
+        return ((long) getCycleStartDay(cycleNumber)) + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1;
     }
 
     /**
-     * Returns the 30 year cycle number from the epoch day.
+     * Returns the 30 year cycle number from a non-negative epoch day.
      *
-     * @param epochDay  an epoch day
+     * @param epochDay  an epoch day, zero or greater
      * @return a cycle number
      */
     private static int getCycleNumber(long epochDay) {
-        Long[] days = ADJUSTED_CYCLES;
-        int cycleNumber;
-        try {
-            for (int i = 0; i < days.length; i++) {
-                if (epochDay < days[i].longValue()) {
-                    return i - 1;
-                }
+        int[] days = CYCLE_START_DAYS;
+        int low = 0;
+        int high = days.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
-            cycleNumber = (int) epochDay / 10631;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleNumber = (int) epochDay / 10631;
         }
-        return cycleNumber;
+        return (low < days.length ? low - 1 : (int) epochDay / DAYS_PER_CYCLE);
     }
 
     /**
-     * Returns day of cycle from the epoch dan and cycle number.
+     * Returns the starting epoch day of a cycle.
      *
-     * @param epochDay  an epoch day
      * @param cycleNumber  a cycle number
-     * @return a day of cycle
+     * @return the epoch day that the cycle starts on
      */
-    private static int getDayOfCycle(long epochDay, int cycleNumber) {
-        Long day;
-
-        try {
-            day = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            day = null;
-        }
-        if (day == null) {
-            day = new Long(cycleNumber * 10631);
+    private static int getCycleStartDay(int cycleNumber) {
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE) {
+            return CYCLE_START_DAYS[cycleNumber];
         }
-        return (int) (epochDay - day.longValue());
+        return cycleNumber * DAYS_PER_CYCLE;
     }
 
     /**
-     * Returns the year in cycle from the cycle number and day of cycle.
+     * Returns the index of the block of year starting days for a cycle.
      *
      * @param cycleNumber  a cycle number
-     * @param dayOfCycle  day of cycle
-     * @return a year in cycle
+     * @return the index into {@code CYCLE_YEAR_START_DAYS}
      */
-    private static int getYearInCycle(int cycleNumber, long dayOfCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
-        if (dayOfCycle == 0) {
-            return 0;
-        }
-
-        if (dayOfCycle > 0) {
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle < cycles[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 29;
-        } else {
-            dayOfCycle = -dayOfCycle;
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle <= cycles[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 29;
+    private static int getCycleYearIndex(int cycleNumber) {
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE) {
+            return cycleNumber * YEARS_PER_CYCLE;
         }
+        return MAX_ADJUSTED_CYCLE * YEARS_PER_CYCLE;
     }
 
     /**
-     * Returns adjusted 30 year cycle startind day as Integer array from the
-     * cycle number specified.
+     * Returns the year in cycle from the cycle number and day of cycle.
+     * <p>
+     * A negative day of cycle counts backwards from the end of a cycle before the epoch.
      *
      * @param cycleNumber  a cycle number
-     * @return an Integer array
-     */
-    private static Integer[] getAdjustedCycle(int cycleNumber) {
-        Integer[] cycles;
-        try {
-            cycles = ADJUSTED_CYCLE_YEARS.get(new Integer(cycleNumber));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycles = null;
-        }
-        if (cycles == null) {
-            cycles = DEFAULT_CYCLE_YEARS;
-        }
-        return cycles;
-    }
-
-    /**
-     * Returns adjusted month days as Integer array form the year specified.
-     *
-     * @param year  a year
-     * @return an Integer array
-     */
-    private static Integer[] getAdjustedMonthDays(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_DAYS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_DAYS;
-            } else {
-                newMonths = DEFAULT_MONTH_DAYS;
-            }
-        }
-        return newMonths;
-    }
-
-    /**
-     * Returns adjusted month length as Integer array form the year specified.
-     *
-     * @param year  a year
-     * @return an Integer array
+     * @param dayOfCycle  day of cycle
+     * @return a year in cycle
      */
-    private static Integer[] getAdjustedMonthLength(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_LENGTHS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_LENGTHS;
+    private static int getYearInCycle(int cycleNumber, int dayOfCycle) {
+        int[] days = CYCLE_YEAR_START_DAYS;
+        int key = (dayOfCycle >= 0 ? dayOfCycle : -dayOfCycle - 1);
+        int low = getCycleYearIndex(cycleNumber);
+        int base = low;
+        int high = low + YEARS_PER_CYCLE;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] <= key) {
+                low = mid + 1;
             } else {
-                newMonths = DEFAULT_MONTH_LENGTHS;
+                high = mid;
             }
         }
-        return newMonths;
+        return low - base - 1;
     }
 
     /**
-     * Returns day-of-year.
+     * Returns the index of the block of month data for a year.
      *
-     * @param cycleNumber  a cycle number
-     * @param dayOfCycle  day of cycle
-     * @param yearInCycle  year in cycle
-     * @return day-of-year
+     * @param year  a year, which may be proleptic
+     * @return the index into {@code MONTH_START_DAYS} and {@code MONTH_LENGTHS}
      */
-    private static int getDayOfYear(int cycleNumber, int dayOfCycle, int yearInCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
-
-        if (dayOfCycle > 0) {
-            return dayOfCycle - cycles[yearInCycle].intValue();
-        } else {
-            return cycles[yearInCycle].intValue() + dayOfCycle;
+    private static int getMonthTable(int year) {
+        if (year >= MIN_YEAR_OF_ERA && year <= MAX_YEAR_OF_ERA) {
+            return MONTH_TABLE_INDEX[year] * MONTHS_PER_YEAR;
         }
+        return isLeapYear(year) ? MONTHS_PER_YEAR : 0;
     }
 
     /**
      * Returns month-of-year. 0-based.
      *
-     * @param dayOfYear  day-of-year
-     * @param year  a year
+     * @param dayOfYear  day-of-year, zero or greater
+     * @param monthTable  the index of the month table of the year
      * @return month-of-year
      */
-    private static int getMonthOfYear(int dayOfYear, int year) {
-
-        Integer[] newMonths = getAdjustedMonthDays(year);
-
-        if (dayOfYear >= 0) {
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 11;
-        } else {
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 11;
-        }
-    }
-
-    /**
-     * Returns day-of-month.
-     *
-     * @param dayOfYear  day of  year
-     * @param month  month
-     * @param year  year
-     * @return day-of-month
-     */
-    private static int getDayOfMonth(int dayOfYear, int month, int year) {
-
-        Integer[] newMonths = getAdjustedMonthDays(year);
-
-        if (dayOfYear >= 0) {
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
-        } else {
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
+    private static int getMonthOfYear(int dayOfYear, int monthTable) {
+        for (int i = 0; i < MONTHS_PER_YEAR; i++) {
+            if (dayOfYear < MONTH_START_DAYS[monthTable + i]) {
+                return i - 1;
             }
         }
+        return 11;
     }
 
     /**
@@ -1273,18 +1066,6 @@ public final class HijrahDate
         return (14 + 11 * (year > 0 ? year : -year)) % 30 < 11;
     }
 
-    /**
-     * Returns month days from the beginning of year.
-     *
-     * @param month  month (0-based)
-     * @parma year  year
-     * @return month days from the beginning of year
-     */
-    private static int getMonthDays(int month, int year) {
-        Integer[] newMonths = getAdjustedMonthDays(year);
-        return newMonths[month].intValue();
-    }
-    
     /**
      * Returns month length.
      *
@@ -1293,10 +1074,9 @@ public final class HijrahDate
      * @return month length
      */
     static int getMonthLength(int month, int year) {
-      Integer[] newMonths = getAdjustedMonthLength(year);
-      return newMonths[month].intValue();
+        return MONTH_LENGTHS[getMonthTable(year) + month];
     }
-    
+
     /**
      * Returns year length.
      *
@@ -1304,26 +1084,18 @@ public final class HijrahDate
      * @return year length
      */
     static int getYearLength(int year) {
-
-        int cycleNumber = (year - 1) / 30;
-        Integer[] cycleYears;
-        try {
-            cycleYears = ADJUSTED_CYCLE_YEARS.get(cycleNumber);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleYears = null;
-        }
-        if (cycleYears != null) {
-            int yearInCycle = (year - 1) % 30;
+        int cycleNumber = (year - 1) / YEARS_PER_CYCLE;
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE && ADJUSTED_CYCLES[cycleNumber]) {
+            int yearInCycle = (year - 1) % YEARS_PER_CYCLE;
+            int index = cycleNumber * YEARS_PER_CYCLE + yearInCycle;
             if (yearInCycle == 29) {
-                return ADJUSTED_CYCLES[cycleNumber + 1].intValue()
-                        - ADJUSTED_CYCLES[cycleNumber].intValue()
-                        - cycleYears[yearInCycle].intValue();
+                return getCycleStartDay(cycleNumber + 1)
+                        - CYCLE_START_DAYS[cycleNumber]
+                        - CYCLE_YEAR_START_DAYS[index];
             }
-            return cycleYears[yearInCycle + 1].intValue()
-                    - cycleYears[yearInCycle].intValue();
-        } else {
-            return isLeapYear(year) ? 355 : 354;
+            return CYCLE_YEAR_START_DAYS[index + 1] - CYCLE_YEAR_START_DAYS[index];
         }
+        return isLeapYear(year) ? 355 : 354;
     }
 
     /**
@@ -1365,296 +1137,188 @@ public final class HijrahDate
     // ----- Deviation handling -----//
 
     /**
-     * Adds deviation definition. The year and month sepcifed should be the
-     * caluculated Hijrah year and month. The month is 0 based. e.g. 8 for
-     * Ramadan (9th month) Addition of anything minus deviation days is
-     * calculated negatively in the case the user wants to subtract days from
-     * the calendar. For example, adding -1 days will subtract one day from the
-     * current date. Please note that this behavior is different from the
-     * addDeviaiton method.
-     *
-     * @param startYear  start year
-     * @param startMonth  start month
-     * @param endYear  end year
-     * @param endMonth  end month
-     * @param offset  offset
-     */
-    private static void addDeviationAsHijrah(int startYear,
-            int startMonth, int endYear, int endMonth, int offset) {
-
-        if (startYear < 1) {
-            throw new IllegalArgumentException("startYear < 1");
-        }
-        if (endYear < 1) {
-            throw new IllegalArgumentException("endYear < 1");
-        }
-        if (startMonth < 0 || startMonth > 11) {
-            throw new IllegalArgumentException(
-                    "startMonth < 0 || startMonth > 11");
-        }
-        if (endMonth < 0 || endMonth > 11) {
-            throw new IllegalArgumentException("endMonth < 0 || endMonth > 11");
-        }
-        if (endYear > 9999) {
-            throw new IllegalArgumentException("endYear > 9999");
-        }
-        if (endYear < startYear) {
-            throw new IllegalArgumentException("startYear > endYear");
-        }
-        if (endYear == startYear && endMonth < startMonth) {
-            throw new IllegalArgumentException(
-                    "startYear == endYear && endMonth < startMonth");
-        }
-
-        // Adjusting start year.
-        boolean isStartYLeap = isLeapYear(startYear);
-
-        // Adjusting the number of month.
-        Integer[] orgStartMonthNums = ADJUSTED_MONTH_DAYS.get(new Integer(
-                startYear));
-        if (orgStartMonthNums == null) {
-            if (isStartYLeap) {
-                orgStartMonthNums = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgStartMonthNums = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(NUM_DAYS[l]);
-                }
+     * Builder for the calendar tables, used only while the class is initialized.
+     * <p>
+     * The builder starts from the non-adjusted tables and the deviation config
+     * is applied to it before the tables are published.
+     */
+    private static final class TableBuilder {
+        /** The starting day of each cycle. */
+        final int[] cycleStartDays = new int[MAX_ADJUSTED_CYCLE];
+        /** The starting day of each year in each cycle. */
+        final int[] cycleYearStartDays = new int[(MAX_ADJUSTED_CYCLE + 1) * YEARS_PER_CYCLE];
+        /** The adjusted cycles. */
+        final boolean[] adjustedCycles = new boolean[MAX_ADJUSTED_CYCLE];
+        /** The month table of each year. */
+        final int[] monthTableIndex = new int[MAX_YEAR_OF_ERA + 1];
+        /** The least max values. */
+        final int[] leastMaxValues = LEAST_MAX_VALUES.clone();
+        /** The max values. */
+        final int[] maxValues = MAX_VALUES.clone();
+        /** The starting day of each month, by month table. */
+        int[] monthStartDays = new int[MONTHS_PER_YEAR * 8];
+        /** The length of each month, by month table. */
+        int[] monthLengths = new int[MONTHS_PER_YEAR * 8];
+        /** The number of month tables. */
+        int monthTableCount = 2;
+
+        /** Constructor. */
+        TableBuilder() {
+            for (int i = 0; i < MAX_ADJUSTED_CYCLE; i++) {
+                cycleStartDays[i] = DAYS_PER_CYCLE * i;
             }
-        }
-
-        Integer[] newStartMonthNums = new Integer[orgStartMonthNums.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > startMonth) {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue()
-                        - offset);
-            } else {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue());
+            for (int i = 0; i <= MAX_ADJUSTED_CYCLE; i++) {
+                System.arraycopy(CYCLEYEAR_START_DATE, 0, cycleYearStartDays, i * YEARS_PER_CYCLE, YEARS_PER_CYCLE);
             }
-        }
-
-        ADJUSTED_MONTH_DAYS.put(new Integer(startYear), newStartMonthNums);
-
-        // Adjusting the days of month.
-
-        Integer[] orgStartMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        if (orgStartMonthLengths == null) {
-            if (isStartYLeap) {
-                orgStartMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
-                }
-            } else {
-                orgStartMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
+            for (int year = MIN_YEAR_OF_ERA; year <= MAX_YEAR_OF_ERA; year++) {
+                monthTableIndex[year] = (isLeapYear(year) ? 1 : 0);
+            }
+            System.arraycopy(NUM_DAYS, 0, monthStartDays, 0, MONTHS_PER_YEAR);
+            System.arraycopy(LEAP_NUM_DAYS, 0, monthStartDays, MONTHS_PER_YEAR, MONTHS_PER_YEAR);
+            System.arraycopy(MONTH_LENGTH, 0, monthLengths, 0, MONTHS_PER_YEAR);
+            System.arraycopy(LEAP_MONTH_LENGTH, 0, monthLengths, MONTHS_PER_YEAR, MONTHS_PER_YEAR);
+        }
+
+        /**
+         * Returns the index of a month table of the year that may be adjusted,
+         * copying the non-adjusted table if necessary.
+         *
+         * @param year  the year, from 1 to 9999
+         * @return the index of the adjustable month table
+         */
+        int adjustableMonthTable(int year) {
+            int table = monthTableIndex[year];
+            if (table < 2) {
+                if (monthTableCount * MONTHS_PER_YEAR == monthStartDays.length) {
+                    monthStartDays = grow(monthStartDays);
+                    monthLengths = grow(monthLengths);
                 }
+                System.arraycopy(monthStartDays, table * MONTHS_PER_YEAR, monthStartDays, monthTableCount * MONTHS_PER_YEAR, MONTHS_PER_YEAR);
+                System.arraycopy(monthLengths, table * MONTHS_PER_YEAR, monthLengths, monthTableCount * MONTHS_PER_YEAR, MONTHS_PER_YEAR);
+                table = monthTableCount++;
+                monthTableIndex[year] = table;
             }
-        }
-
-        Integer[] newStartMonthLengths = new Integer[orgStartMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == startMonth) {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue() - offset);
-            } else {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue());
+            return table * MONTHS_PER_YEAR;
+        }
+
+        /**
+         * Doubles the size of a month array.
+         *
+         * @param array  the array to grow
+         * @return the new array
+         */
+        private static int[] grow(int[] array) {
+            int[] newArray = new int[array.length * 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            return newArray;
+        }
+
+        /**
+         * Trims a month array to the number of month tables.
+         *
+         * @param array  the array to trim
+         * @return the trimmed array
+         */
+        int[] trim(int[] array) {
+            int[] newArray = new int[monthTableCount * MONTHS_PER_YEAR];
+            System.arraycopy(array, 0, newArray, 0, newArray.length);
+            return newArray;
+        }
+
+        /**
+         * Adds deviation definition. The year and month sepcifed should be the
+         * caluculated Hijrah year and month. The month is 0 based. e.g. 8 for
+         * Ramadan (9th month) Addition of anything minus deviation days is
+         * calculated negatively in the case the user wants to subtract days from
+         * the calendar. For example, adding -1 days will subtract one day from the
+         * current date. Please note that this behavior is different from the
+         * addDeviaiton method.
+         *
+         * @param startYear  start year
+         * @param startMonth  start month
+         * @param endYear  end year
+         * @param endMonth  end month
+         * @param offset  offset
+         */
+        void addDeviationAsHijrah(int startYear,
+                int startMonth, int endYear, int endMonth, int offset) {
+            
+            if (startYear < 1) {
+                throw new IllegalArgumentException("startYear < 1");
             }
-        }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(startYear), newStartMonthLengths);
-
-        if (startYear != endYear) {
-            // System.out.println("over year");
-            // Adjusting starting 30 year cycle.
-            int sCycleNumber = (startYear - 1) / 30;
-            int sYearInCycle = (startYear - 1) % 30; // 0-based.
-            Integer[] startCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    sCycleNumber));
-            if (startCycles == null) {
-                startCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < startCycles.length; j++) {
-                    startCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
+            if (endYear < 1) {
+                throw new IllegalArgumentException("endYear < 1");
             }
-
-            for (int j = sYearInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                startCycles[j] = new Integer(startCycles[j].intValue() - offset);
+            if (startMonth < 0 || startMonth > 11) {
+                throw new IllegalArgumentException(
+                        "startMonth < 0 || startMonth > 11");
             }
-
-            // System.out.println(sCycleNumber + ":" + sYearInCycle);
-            ADJUSTED_CYCLE_YEARS.put(new Integer(sCycleNumber), startCycles);
-
-            int sYearInMaxY = (startYear - 1) / 30;
-            int sEndInMaxY = (endYear - 1) / 30;
-
-            if (sYearInMaxY != sEndInMaxY) {
-                // System.out.println("over 30");
-                // Adjusting starting 30 * MAX_ADJUSTED_CYCLE year cycle.
-                // System.out.println(sYearInMaxY);
-
-                for (int j = sYearInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            - offset);
-                }
-
-                // Adjusting ending 30 * MAX_ADJUSTED_CYCLE year cycles.
-                for (int j = sEndInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            + offset);
-                }
+            if (endMonth < 0 || endMonth > 11) {
+                throw new IllegalArgumentException("endMonth < 0 || endMonth > 11");
             }
-
-            // Adjusting ending 30 year cycle.
-            int eCycleNumber = (endYear - 1) / 30;
-            int sEndInCycle = (endYear - 1) % 30; // 0-based.
-            Integer[] endCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    eCycleNumber));
-            if (endCycles == null) {
-                endCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < endCycles.length; j++) {
-                    endCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
+            if (endYear > 9999) {
+                throw new IllegalArgumentException("endYear > 9999");
             }
-            for (int j = sEndInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                endCycles[j] = new Integer(endCycles[j].intValue() + offset);
+            if (endYear < startYear) {
+                throw new IllegalArgumentException("startYear > endYear");
             }
-            ADJUSTED_CYCLE_YEARS.put(new Integer(eCycleNumber), endCycles);
-        }
-
-        // Adjusting ending year.
-        boolean isEndYLeap = isLeapYear(endYear);
-
-        Integer[] orgEndMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        if (orgEndMonthDays == null) {
-            if (isEndYLeap) {
-                orgEndMonthDays = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgEndMonthDays = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(NUM_DAYS[l]);
-                }
+            if (endYear == startYear && endMonth < startMonth) {
+                throw new IllegalArgumentException(
+                        "startYear == endYear && endMonth < startMonth");
             }
-        }
-
-        Integer[] newEndMonthDays = new Integer[orgEndMonthDays.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > endMonth) {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue()
-                        + offset);
-            } else {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue());
+            
+            // Adjusting start year.
+            int startTable = adjustableMonthTable(startYear);
+            for (int month = startMonth + 1; month < MONTHS_PER_YEAR; month++) {
+                monthStartDays[startTable + month] -= offset;
             }
-        }
-
-        ADJUSTED_MONTH_DAYS.put(new Integer(endYear), newEndMonthDays);
-
-        // Adjusting the days of month.
-        Integer[] orgEndMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-
-        if (orgEndMonthLengths == null) {
-            if (isEndYLeap) {
-                orgEndMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
+            monthLengths[startTable + startMonth] -= offset;
+            
+            if (startYear != endYear) {
+                // Adjusting starting 30 year cycle.
+                int sCycleNumber = (startYear - 1) / YEARS_PER_CYCLE;
+                int sYearInCycle = (startYear - 1) % YEARS_PER_CYCLE;  // 0-based.
+                for (int j = sYearInCycle + 1; j < YEARS_PER_CYCLE; j++) {
+                    cycleYearStartDays[sCycleNumber * YEARS_PER_CYCLE + j] -= offset;
                 }
-            } else {
-                orgEndMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
+                adjustedCycles[sCycleNumber] = true;
+                
+                int eCycleNumber = (endYear - 1) / YEARS_PER_CYCLE;
+                if (sCycleNumber != eCycleNumber) {
+                    // Adjusting starting and ending 30 * MAX_ADJUSTED_CYCLE year cycles.
+                    for (int j = sCycleNumber + 1; j < MAX_ADJUSTED_CYCLE; j++) {
+                        cycleStartDays[j] -= offset;
+                    }
+                    for (int j = eCycleNumber + 1; j < MAX_ADJUSTED_CYCLE; j++) {
+                        cycleStartDays[j] += offset;
+                    }
+                }
+                
+                // Adjusting ending 30 year cycle.
+                int eYearInCycle = (endYear - 1) % YEARS_PER_CYCLE;  // 0-based.
+                for (int j = eYearInCycle + 1; j < YEARS_PER_CYCLE; j++) {
+                    cycleYearStartDays[eCycleNumber * YEARS_PER_CYCLE + j] += offset;
                 }
+                adjustedCycles[eCycleNumber] = true;
             }
-        }
-
-        Integer[] newEndMonthLengths = new Integer[orgEndMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == endMonth) {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue() + offset);
-            } else {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue());
+            
+            // Adjusting ending year.
+            int endTable = adjustableMonthTable(endYear);
+            for (int month = endMonth + 1; month < MONTHS_PER_YEAR; month++) {
+                monthStartDays[endTable + month] += offset;
             }
+            monthLengths[endTable + endMonth] += offset;
+            
+            int startMonthLength = monthLengths[startTable + startMonth];
+            int endMonthLength = monthLengths[endTable + endMonth];
+            int startMonthDay = monthStartDays[startTable + 11] + monthLengths[startTable + 11];
+            int endMonthDay = monthStartDays[endTable + 11] + monthLengths[endTable + 11];
+            
+            maxValues[POSITION_DAY_OF_MONTH] = Math.max(maxValues[POSITION_DAY_OF_MONTH], Math.max(startMonthLength, endMonthLength));
+            leastMaxValues[POSITION_DAY_OF_MONTH] = Math.min(leastMaxValues[POSITION_DAY_OF_MONTH], Math.min(startMonthLength, endMonthLength));
+            maxValues[POSITION_DAY_OF_YEAR] = Math.max(maxValues[POSITION_DAY_OF_YEAR], Math.max(startMonthDay, endMonthDay));
+            leastMaxValues[POSITION_DAY_OF_YEAR] = Math.min(leastMaxValues[POSITION_DAY_OF_YEAR], Math.min(startMonthDay, endMonthDay));
         }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(endYear), newEndMonthLengths);
-
-        Integer[] startMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        Integer[] endMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-        Integer[] startMonthDays = ADJUSTED_MONTH_DAYS
-                .get(new Integer(startYear));
-        Integer[] endMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        int startMonthLength = startMonthLengths[startMonth].intValue();
-        int endMonthLength = endMonthLengths[endMonth].intValue();
-        int startMonthDay = startMonthDays[11].intValue()
-                + startMonthLengths[11].intValue();
-        int endMonthDay = endMonthDays[11].intValue()
-                + endMonthLengths[11].intValue();
-
-        int maxMonthLength = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-        int leastMaxMonthLength = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-
-        if (maxMonthLength < startMonthLength) {
-            maxMonthLength = startMonthLength;
-        }
-        if (maxMonthLength < endMonthLength) {
-            maxMonthLength = endMonthLength;
-        }
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(maxMonthLength);
-
-        if (leastMaxMonthLength > startMonthLength) {
-            leastMaxMonthLength = startMonthLength;
-        }
-        if (leastMaxMonthLength > endMonthLength) {
-            leastMaxMonthLength = endMonthLength;
-        }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(
-                leastMaxMonthLength);
-
-        int maxMonthDay = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR].intValue();
-        int leastMaxMonthDay = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR]
-                .intValue();
-
-        if (maxMonthDay < startMonthDay) {
-            maxMonthDay = startMonthDay;
-        }
-        if (maxMonthDay < endMonthDay) {
-            maxMonthDay = endMonthDay;
-        }
-
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(maxMonthDay);
-
-        if (leastMaxMonthDay > startMonthDay) {
-            leastMaxMonthDay = startMonthDay;
-        }
-        if (leastMaxMonthDay > endMonthDay) {
-            leastMaxMonthDay = endMonthDay;
-        }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(
-                leastMaxMonthDay);
     }
 
     /**
@@ -1672,10 +1336,11 @@ public final class HijrahDate
      * 1429/2-1429/7:1;1429/6-1429/11:1
      * 1429/11-9999/11:1
      *
+     * @param builder  the table builder to add the deviations to
      * @throws IOException for zip/jar file handling exception.
      * @throws ParseException if the format of the configuration file is wrong.
      */
-    private static void readDeviationConfig() throws IOException,
+    private static void readDeviationConfig(TableBuilder builder) throws IOException,
             ParseException {
         
         InputStream is = getConfigFileInputStream();
@@ -1692,7 +1357,7 @@ public final class HijrahDate
                 while ((line = br.readLine()) != null) {
                     num++;
                     line = line.trim();
-                    parseLine(line, num);
+                    parseLine(builder, line, num);
                 }
             } finally {
                 try {
@@ -1706,11 +1371,12 @@ public final class HijrahDate
     /**
      * Parse each deviation element.
      *
+     * @param builder  the table builder to add the deviations to
      * @param line  a line to parse
      * @param num  line number
      * @throws ParseException if line has incorrect format.
      */
-    private static void parseLine(String line, int num) throws ParseException {
+    private static void parseLine(TableBuilder builder, String line, int num) throws ParseException {
         StringTokenizer st = new StringTokenizer(line, ";");
         while (st.hasMoreTokens()) {
             String deviationElement = st.nextToken();
@@ -1789,7 +1455,7 @@ public final class HijrahDate
                     }
                     if (startYear != -1 && startMonth != -1 && endYear != -1
                             && endMonth != -1) {
-                        addDeviationAsHijrah(startYear, startMonth, endYear,
+                        builder.addDeviationAsHijrah(startYear, startMonth, endYear,
                                 endMonth, offset);
                     } else {
                         throw new ParseException("Unknown error at line " + num
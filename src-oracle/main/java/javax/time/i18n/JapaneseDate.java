@@ -586,9 +586,7 @@ public final class JapaneseDate
      * @return year of era
      */
     private static int getYearOfEra(LocalDate date) {
-        JapaneseEra era = JapaneseEra.from(date);
-        int yearOffset = era.getYearOffset();
-        return date.getYear() - yearOffset;
+        return JapaneseEra.yearOfEra(date);
     }
 
     //-----------------------------------------------------------------------
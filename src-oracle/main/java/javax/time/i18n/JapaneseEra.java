@@ -3,6 +3,8 @@
  */
 package javax.time.i18n;
 
+import java.util.Arrays;
+
 import javax.time.CalendricalException;
 import javax.time.calendar.Calendrical;
 import javax.time.calendar.CalendricalEngine;
@@ -59,15 +61,31 @@ public enum JapaneseEra implements Calendrical {
     HEISEI;
 
     /**
-     * Arrays containing the end date of era as LocalDate.
+     * Cache of the eras, indexed by ordinal.
+     */
+    private static final JapaneseEra[] VALUES = values();
+    /**
+     * The sorted epoch-days that each known era starts on.
+     * The element at index {@code i} is the start of the era with ordinal {@code i + 1},
+     * with the UNKNOWN era covering all earlier days.
      */
-    private static final LocalDate[] ERA_END_DATES = {
-        LocalDate.of(1865, 4, 6), // End of UNKOWN era
-        LocalDate.of(1868, 9, 7), // End of KEIO era
-        LocalDate.of(1912, 7, 29), // End of MEIJI era
-        LocalDate.of(1926, 12, 24), // End of TAISHO era
-        LocalDate.of(1989, 1, 7) // End of SHOWA era
+    private static final long[] ERA_START_EPOCH_DAYS = {
+        LocalDate.of(1865, 4, 7).toEpochDay(), // Start of KEIO era
+        LocalDate.of(1868, 9, 8).toEpochDay(), // Start of MEIJI era
+        LocalDate.of(1912, 7, 30).toEpochDay(), // Start of TAISHO era
+        LocalDate.of(1926, 12, 25).toEpochDay(), // Start of SHOWA era
+        LocalDate.of(1989, 1, 8).toEpochDay() // Start of HEISEI era
         };
+    /**
+     * The offset from the ISO year to the year-of-era, indexed by ordinal.
+     * The first year of an era is the ISO year that the era starts in.
+     */
+    private static final int[] ERA_YEAR_OFFSETS = new int[ERA_START_EPOCH_DAYS.length + 1];
+    static {
+        for (int i = 0; i < ERA_START_EPOCH_DAYS.length; i++) {
+            ERA_YEAR_OFFSETS[i + 1] = LocalDate.ofEpochDay(ERA_START_EPOCH_DAYS[i]).getYear() - 1;
+        }
+    }
 
     //-----------------------------------------------------------------------
     /**
@@ -121,13 +139,32 @@ public enum JapaneseEra implements Calendrical {
      * @return the JapaneseEra singleton, never null
      */
     static JapaneseEra from(LocalDate date) {
-        for (int i = ERA_END_DATES.length; i > 0; i--) {
-            LocalDate eraEndingDate = ERA_END_DATES[i - 1];
-            if (date.isAfter(eraEndingDate)) {
-                return of(i - 3);
-            }
-        }
-        return UNKNOWN;
+        return from(date.toEpochDay());
+    }
+
+    /**
+     * Obtains an instance of {@code JapaneseEra} from an epoch-day.
+     * <p>
+     * This performs a binary search of the era start days.
+     *
+     * @param epochDay  the epoch-day, as per {@link LocalDate#toEpochDay()}
+     * @return the JapaneseEra singleton, never null
+     */
+    static JapaneseEra from(long epochDay) {
+        int index = Arrays.binarySearch(ERA_START_EPOCH_DAYS, epochDay);
+        return VALUES[index >= 0 ? index + 1 : -index - 1];
+    }
+
+    /**
+     * Calculates the year-of-era of a date.
+     * <p>
+     * The result is not validated against the range of the year-of-era rule.
+     *
+     * @param date  the date, not null
+     * @return the year-of-era, which may be zero or negative for the UNKNOWN era
+     */
+    static int yearOfEra(LocalDate date) {
+        return date.getYear() - ERA_YEAR_OFFSETS[from(date.toEpochDay()).ordinal()];
     }
 
     /**
@@ -184,11 +221,7 @@ public enum JapaneseEra implements Calendrical {
      */
     public int getYearOffset() {
         // TODO: Better javadoc and method name
-        if (this == UNKNOWN) {
-            return 0;
-        }
-        LocalDate date = ERA_END_DATES[getValue() + 2];
-        return date.getYear() - 1;
+        return ERA_YEAR_OFFSETS[ordinal()];
     }
 
 }
@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 
+import javax.time.MathUtils;
 import javax.time.calendar.Calendrical;
 import javax.time.calendar.CalendricalEngine;
 import javax.time.calendar.Chronology;
@@ -15,6 +16,7 @@ import javax.time.calendar.DateTimeRule;
 import javax.time.calendar.DateTimeRuleRange;
 import javax.time.calendar.ISOChronology;
 import javax.time.calendar.ISOPeriodUnit;
+import javax.time.calendar.LocalDate;
 import javax.time.calendar.MonthOfYear;
 import javax.time.calendar.PeriodUnit;
 import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
@@ -112,6 +114,28 @@ public final class MinguoChronology extends Chronology implements Serializable {
         return "Minguo";
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    protected void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            MinguoDate date = MinguoDate.of(LocalDate.ofEpochDay(epochDays[i]));
+            eras[i] = date.getEra().getValue();
+            yearsOfEra[i] = date.getYearOfEra();
+            monthsOfYear[i] = date.getMonthOfYear().getValue();
+            daysOfMonth[i] = date.getDayOfMonth();
+        }
+    }
+
+    @Override
+    protected void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            MinguoDate date = MinguoDate.of(MinguoEra.of(eras[i]), yearsOfEra[i], MonthOfYear.of(monthsOfYear[i]), daysOfMonth[i]);
+            epochDays[i] = MathUtils.safeToInt(date.toLocalDate().toEpochDay());
+        }
+    }
+
     //-----------------------------------------------------------------------
 //    /**
 //     * Gets the rule for the year field in the Minguo chronology.
@@ -129,7 +129,7 @@ public final class MinguoDate
     static MinguoDate of(LocalDate date) {
         I18NUtil.checkNotNull(date, "LocalDate must not be null");
         int yearOfEra = date.getYear() - MinguoChronology.YEAR_OFFSET;
-        if (yearOfEra < 0) {
+        if (yearOfEra < 1) {
             yearOfEra = 1 - yearOfEra;
         }
         MinguoChronology.yearOfEraRule().checkValidValue(yearOfEra);
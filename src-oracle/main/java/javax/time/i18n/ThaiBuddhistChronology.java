@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 
+import javax.time.MathUtils;
 import javax.time.calendar.Calendrical;
 import javax.time.calendar.CalendricalEngine;
 import javax.time.calendar.Chronology;
@@ -15,6 +16,7 @@ import javax.time.calendar.DateTimeRule;
 import javax.time.calendar.DateTimeRuleRange;
 import javax.time.calendar.ISOChronology;
 import javax.time.calendar.ISOPeriodUnit;
+import javax.time.calendar.LocalDate;
 import javax.time.calendar.MonthOfYear;
 import javax.time.calendar.PeriodUnit;
 import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
@@ -116,6 +118,28 @@ public final class ThaiBuddhistChronology extends Chronology implements Serializ
         return "ThaiBuddhist";
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    protected void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            ThaiBuddhistDate date = ThaiBuddhistDate.of(LocalDate.ofEpochDay(epochDays[i]));
+            eras[i] = date.getEra().getValue();
+            yearsOfEra[i] = date.getYearOfEra();
+            monthsOfYear[i] = date.getMonthOfYear().getValue();
+            daysOfMonth[i] = date.getDayOfMonth();
+        }
+    }
+
+    @Override
+    protected void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            ThaiBuddhistDate date = ThaiBuddhistDate.of(ThaiBuddhistEra.of(eras[i]), yearsOfEra[i], MonthOfYear.of(monthsOfYear[i]), daysOfMonth[i]);
+            epochDays[i] = MathUtils.safeToInt(date.toLocalDate().toEpochDay());
+        }
+    }
+
     //-----------------------------------------------------------------------
 //    /**
 //     * Gets the rule for the year field in the Thai Buddhist chronology.
@@ -129,7 +129,7 @@ public final class ThaiBuddhistDate
     static ThaiBuddhistDate of(LocalDate date) {
         I18NUtil.checkNotNull(date, "LocalDate must not be null");
         int yearOfEra = date.getYear() - ThaiBuddhistChronology.YEAR_OFFSET;
-        if (yearOfEra < 0) {
+        if (yearOfEra < 1) {
             yearOfEra = 1 - yearOfEra;
         }
         ThaiBuddhistChronology.yearOfEraRule().checkValidValue(yearOfEra);
@@ -17,6 +17,7 @@ import java.lang.reflect.Modifier;
 import javax.time.calendar.DateTimeField;
 import javax.time.calendar.DateTimeRule;
 import javax.time.calendar.DateTimeRuleRange;
+import javax.time.calendar.LocalDate;
 
 import org.testng.annotations.Test;
 
@@ -131,6 +132,34 @@ public class TestHijrahChronology {
         assertEquals(HijrahChronology.INSTANCE.toString(), "Hijrah");
     }
 
+    @Test
+    public void test_convertEpochDays() throws Exception {
+        int start = (int) LocalDate.of(1900, 1, 1).toEpochDay();
+        int length = (int) (LocalDate.of(2100, 1, 1).toEpochDay() - start) / 7;
+        int[] epochDays = new int[length];
+        for (int i = 0; i < length; i++) {
+            epochDays[i] = start + i * 7;
+        }
+        int[] eras = new int[length];
+        int[] years = new int[length];
+        int[] months = new int[length];
+        int[] days = new int[length];
+        HijrahChronology.INSTANCE.convertFromEpochDays(epochDays, eras, years, months, days);
+        for (int i = 0; i < length; i++) {
+            HijrahDate expected = HijrahDate.of(LocalDate.ofEpochDay(epochDays[i]));
+            assertEquals(eras[i], expected.getEra().getValue());
+            assertEquals(years[i], expected.getYearOfEra());
+            assertEquals(months[i], expected.getMonthOfYear());
+            assertEquals(days[i], expected.getDayOfMonth());
+        }
+        
+        int[] result = new int[length];
+        HijrahChronology.INSTANCE.convertToEpochDays(eras, years, months, days, result);
+        for (int i = 0; i < length; i++) {
+            assertEquals(result[i], epochDays[i]);
+        }
+    }
+
     private void serialize(DateTimeRule rule) throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         ObjectOutputStream oos = new ObjectOutputStream(baos);
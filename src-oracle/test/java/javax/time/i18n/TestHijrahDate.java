@@ -211,6 +211,32 @@ public class TestHijrahDate {
         assertEquals(testDate.isLeapYear(), testLeapYear);
     }
 
+    //-----------------------------------------------------------------------
+    // conversion
+    //-----------------------------------------------------------------------
+    @Test
+    public void testConversionRoundTripAcrossCycles() {
+        long start = HijrahDate.of(HijrahEra.BEFORE_HIJRAH, 31, 1, 1).toLocalDate().toEpochDay();
+        long end = HijrahDate.of(HijrahEra.HIJRAH, 61, 12, 1).toLocalDate().toEpochDay();
+        HijrahDate previous = null;
+        for (long epochDay = start; epochDay <= end; epochDay++) {
+            HijrahDate date = HijrahDate.of(LocalDate.ofEpochDay(epochDay));
+            HijrahDate test = HijrahDate.of(date.getEra(), date.getYearOfEra(), date.getMonthOfYear(), date.getDayOfMonth());
+            assertEquals(test.toLocalDate().toEpochDay(), epochDay);
+            assertEquals(test.getDayOfYear(), date.getDayOfYear());
+            assertEquals(date.getDayOfWeek(), date.toLocalDate().getDayOfWeek());
+            if (previous != null && previous.getEra() == HijrahEra.HIJRAH) {
+                if (previous.getYearOfEra() == date.getYearOfEra()) {
+                    assertEquals(date.getDayOfYear(), previous.getDayOfYear() + 1);
+                } else {
+                    assertEquals(date.getDayOfYear(), 1);
+                    assertEquals(previous.getDayOfYear(), HijrahDate.getYearLength(previous.getYearOfEra()));
+                }
+            }
+            previous = date;
+        }
+    }
+
     //-----------------------------------------------------------------------
     // withYear()
     //-----------------------------------------------------------------------
@@ -12,6 +12,8 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.text.ParsePosition;
+import java.util.Locale;
 
 import javax.time.CalendricalException;
 import javax.time.calendar.Calendrical;
@@ -21,6 +23,10 @@ import javax.time.calendar.IllegalCalendarFieldValueException;
 import javax.time.calendar.LocalDate;
 import javax.time.calendar.LocalTime;
 import javax.time.calendar.MonthOfYear;
+import javax.time.calendar.format.DateTimeFormatter;
+import javax.time.calendar.format.DateTimeParseContext;
+import javax.time.calendar.format.DateTimeFormatterBuilder;
+import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
 
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
@@ -164,6 +170,28 @@ public class TestJapaneseDate {
         assertEquals(testDate.getYearOfEra(), testYear);
     }
 
+    @Test
+    public void testGetEraBoundaries() {
+        assertEraYear(LocalDate.of(1865, 4, 6), JapaneseEra.UNKNOWN, 1865);
+        assertEraYear(LocalDate.of(1865, 4, 7), JapaneseEra.KEIO, 1);
+        assertEraYear(LocalDate.of(1868, 9, 7), JapaneseEra.KEIO, 4);
+        assertEraYear(LocalDate.of(1868, 9, 8), JapaneseEra.MEIJI, 1);
+        assertEraYear(LocalDate.of(1912, 7, 29), JapaneseEra.MEIJI, 45);
+        assertEraYear(LocalDate.of(1912, 7, 30), JapaneseEra.TAISHO, 1);
+        assertEraYear(LocalDate.of(1926, 12, 24), JapaneseEra.TAISHO, 15);
+        assertEraYear(LocalDate.of(1926, 12, 25), JapaneseEra.SHOWA, 1);
+        assertEraYear(LocalDate.of(1989, 1, 7), JapaneseEra.SHOWA, 64);
+        assertEraYear(LocalDate.of(1989, 1, 8), JapaneseEra.HEISEI, 1);
+        assertEraYear(LocalDate.of(2011, 12, 31), JapaneseEra.HEISEI, 23);
+    }
+
+    private void assertEraYear(LocalDate date, JapaneseEra era, int yearOfEra) {
+        JapaneseDate test = JapaneseDate.of(date);
+        assertEquals(test.getEra(), era);
+        assertEquals(test.getYearOfEra(), yearOfEra);
+        assertEquals(test.toLocalDate(), date);
+    }
+
     @Test
     public void testGetMonthOfYear() {
         assertEquals(testDate.getMonthOfYear(), testMonthOfYear);
@@ -686,4 +714,39 @@ public class TestJapaneseDate {
     private static final int PISITION_YEAR = 0;
     private static final int TOTAL_ERA_SIZE = ERA_DATA.length / ERA_ARRAY_SIZE;
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_print_eraText() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendText(JapaneseChronology.eraRule())
+            .appendLiteral(' ')
+            .appendValue(JapaneseChronology.yearOfEraRule())
+            .toFormatter(Locale.ENGLISH);
+        assertEquals(f.print(JapaneseDate.of(JapaneseEra.SHOWA, 64, MonthOfYear.JANUARY, 7)), "Showa 64");
+        assertEquals(f.print(JapaneseDate.of(JapaneseEra.HEISEI, 1, MonthOfYear.JANUARY, 8)), "Heisei 1");
+    }
+
+    @Test
+    public void test_print_eraText_japanese() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendText(JapaneseChronology.eraRule(), TextStyle.SHORT)
+            .appendValue(JapaneseChronology.yearOfEraRule())
+            .toFormatter(Locale.JAPANESE);
+        assertEquals(f.print(JapaneseDate.of(JapaneseEra.HEISEI, 23, MonthOfYear.MARCH, 3)), "\u5e7323");
+    }
+
+    @Test
+    public void test_parse_eraText() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendText(JapaneseChronology.eraRule())
+            .appendLiteral(' ')
+            .appendValue(JapaneseChronology.yearOfEraRule())
+            .toFormatter(Locale.ENGLISH);
+        DateTimeParseContext context = f.parse("Showa 64", new ParsePosition(0));
+        assertEquals(context.getParsed(JapaneseChronology.eraRule()), JapaneseChronology.eraRule().field(1));
+        assertEquals(context.getParsed(JapaneseChronology.yearOfEraRule()), JapaneseChronology.yearOfEraRule().field(64));
+        context = f.parse("Heisei 23", new ParsePosition(0));
+        assertEquals(context.getParsed(JapaneseChronology.eraRule()), JapaneseChronology.eraRule().field(2));
+    }
+
 }
@@ -37,7 +37,10 @@ import java.math.BigInteger;
 import java.util.concurrent.TimeUnit;
 
 import javax.time.calendar.Clock;
+import javax.time.calendar.ISOPeriodUnit;
 import javax.time.calendar.OffsetDateTime;
+import javax.time.calendar.PeriodField;
+import javax.time.calendar.PeriodUnit;
 import javax.time.calendar.ZoneOffset;
 import javax.time.calendar.format.CalendricalParseException;
 
@@ -116,6 +119,14 @@ public final class Instant
      * Constant for nanos per second.
      */
     private static final int NANOS_PER_SECOND = 1000000000;
+    /**
+     * Constant for seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+    /**
+     * Constant for nanos per day.
+     */
+    private static final long NANOS_PER_DAY = SECONDS_PER_DAY * (long) NANOS_PER_SECOND;
     /**
      * BigInteger constant for a billion.
      */
@@ -586,6 +597,90 @@ public final class Instant
         return plusNanos(-nanosToSubtract);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this instant truncated to the specified unit.
+     * <p>
+     * Truncation moves the instant earlier on the time-line to the start of the unit
+     * that contains it, as seen in the UTC offset.
+     * For example, truncating with {@link ISOPeriodUnit#MINUTES minutes} will
+     * set the second-of-minute and nano-of-second to zero in UTC.
+     * <p>
+     * The unit must be convertible to nanoseconds and divide into the length of a
+     * standard day without remainder. This includes all the ISO time units.
+     * Truncating with {@link ISOPeriodUnit#DAYS days} returns midnight UTC.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return an {@code Instant} based on this instant with the time truncated, not null
+     * @throws CalendricalException if the unit cannot be used for truncation
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public Instant truncatedTo(PeriodUnit unit) {
+        checkNotNull(unit, "PeriodUnit must not be null");
+        long unitNanos = NANOS_PER_DAY;
+        if (unit.equals(ISOPeriodUnit.DAYS) == false) {
+            PeriodField equivalent = unit.getEquivalentPeriod(ISOPeriodUnit.NANOS);
+            if (equivalent == null || equivalent.getAmount() > NANOS_PER_DAY || NANOS_PER_DAY % equivalent.getAmount() != 0) {
+                throw new CalendricalException("Unable to truncate to unit " + unit.getName() +
+                        " as it does not divide into a standard day without remainder");
+            }
+            unitNanos = equivalent.getAmount();
+        }
+        long nanoOfDay = MathUtils.floorMod(seconds, SECONDS_PER_DAY) * (long) NANOS_PER_SECOND + nanos;
+        return withNanoOfDay(nanoOfDay, nanoOfDay - nanoOfDay % unitNanos);
+    }
+
+    /**
+     * Returns a copy of this instant rounded to the nearest multiple of the specified duration.
+     * <p>
+     * Rounding is measured from midnight UTC, thus rounding to 15 minutes will return
+     * an instant on the hour, or at quarter past, half past or quarter to the hour in UTC.
+     * An instant exactly half way between two multiples is rounded up.
+     * <p>
+     * The duration must be positive and divide into the length of a standard day
+     * without remainder.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to round to, not null
+     * @return an {@code Instant} based on this instant with the time rounded, not null
+     * @throws IllegalArgumentException if the duration cannot be used for rounding
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public Instant roundedTo(Duration duration) {
+        checkNotNull(duration, "Duration must not be null");
+        long durationNanos = 0;
+        if (duration.isPositive() && duration.getSeconds() <= SECONDS_PER_DAY) {
+            durationNanos = duration.getSeconds() * NANOS_PER_SECOND + duration.getNanoOfSecond();
+        }
+        if (durationNanos == 0 || NANOS_PER_DAY % durationNanos != 0) {
+            throw new IllegalArgumentException("Unable to round to " + duration +
+                    " as it does not divide into a standard day without remainder");
+        }
+        long nanoOfDay = MathUtils.floorMod(seconds, SECONDS_PER_DAY) * (long) NANOS_PER_SECOND + nanos;
+        long remainder = nanoOfDay % durationNanos;
+        long rounded = nanoOfDay - remainder;
+        return withNanoOfDay(nanoOfDay, remainder * 2 >= durationNanos ? rounded + durationNanos : rounded);
+    }
+
+    /**
+     * Returns a copy of this instant with the nano-of-day in UTC altered.
+     *
+     * @param nanoOfDay  the current nano-of-day of this instant
+     * @param newNanoOfDay  the new nano-of-day, may be one day
+     * @return an {@code Instant} based on this instant with the nano-of-day altered, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    private Instant withNanoOfDay(long nanoOfDay, long newNanoOfDay) {
+        if (newNanoOfDay == nanoOfDay) {
+            return this;
+        }
+        long secsToAdd = newNanoOfDay / NANOS_PER_SECOND - nanoOfDay / NANOS_PER_SECOND;
+        return create(MathUtils.safeAdd(seconds, secsToAdd), (int) (newNanoOfDay % NANOS_PER_SECOND));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Converts this instant to the number of seconds from the epoch
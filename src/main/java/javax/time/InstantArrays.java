@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides bulk operations on instants held as parallel primitive arrays.
+ * <p>
+ * Large columns of instants, such as those found in time-series data, are most
+ * efficiently held as a {@code long[]} of seconds from the epoch of 1970-01-01T00:00:00Z
+ * and an {@code int[]} of nanosecond-of-second, from 0 to 999,999,999.
+ * The methods on this class apply the arithmetic of {@link Instant} and {@link Duration}
+ * to each element of such arrays without creating any objects.
+ * <p>
+ * Each method is written as a simple counted loop with no branches on overflow,
+ * allowing the loop to be compiled to vector instructions where supported.
+ * Overflow is accumulated during the loop and reported once at the end, thus if an
+ * {@code ArithmeticException} is thrown the contents of the result arrays are undefined.
+ * <p>
+ * The result arrays may be the same as the input arrays, in which case the
+ * calculation is performed in place.
+ * <p>
+ * Lists of instants can be sorted using a radix sort on the primitive seconds and
+ * nano-of-second, avoiding the pointer-chasing of {@link Instant#compareTo(Instant)}.
+ * Once held in sorted arrays, {@link #binarySearch} and {@link #ceilingIndex} can be
+ * used to locate an instant or a half-open range of instants.
+ * <p>
+ * This is a thread-safe utility class.
+ * The arrays themselves are not protected from concurrent modification.
+ */
+public final class InstantArrays {
+
+    /**
+     * Constant for nanos per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000000000;
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private InstantArrays() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds the specified duration to each instant in the input arrays.
+     * <p>
+     * The result for each element is the same as {@link Instant#plus(Duration)}.
+     *
+     * @param seconds  the epoch seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, same length as seconds, not null
+     * @param duration  the duration to add, positive or negative, not null
+     * @param resultSeconds  the array to store the result epoch seconds in, at least as long as seconds, not null
+     * @param resultNanos  the array to store the result nano-of-second in, at least as long as seconds, not null
+     * @throws IllegalArgumentException if the arrays are of incompatible lengths or a nano-of-second is invalid
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static void plus(long[] seconds, int[] nanos, Duration duration, long[] resultSeconds, int[] resultNanos) {
+        Instant.checkNotNull(duration, "Duration must not be null");
+        int length = checkInput(seconds, nanos);
+        checkResult(resultSeconds, resultNanos, length);
+        long secsToAdd = duration.getSeconds();
+        int nanosToAdd = duration.getNanoOfSecond();
+        long overflow = 0;
+        for (int i = 0; i < length; i++) {
+            long secs = seconds[i];
+            int nos = nanos[i] + nanosToAdd;  // safe, less than two billion
+            int carry = (NANOS_PER_SECOND - 1 - nos) >>> 31;
+            long sum = secs + secsToAdd;
+            long result = sum + carry;
+            // sign change when the inputs have the same sign, or MAX_VALUE plus the carry
+            overflow |= ((secs ^ sum) & (secsToAdd ^ sum)) | (~sum & result);
+            resultSeconds[i] = result;
+            resultNanos[i] = nos - carry * NANOS_PER_SECOND;
+        }
+        if (overflow < 0) {
+            throw new ArithmeticException("Addition overflows a long");
+        }
+    }
+
+    /**
+     * Subtracts the specified duration from each instant in the input arrays.
+     * <p>
+     * The result for each element is the same as {@link Instant#minus(Duration)}.
+     *
+     * @param seconds  the epoch seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, same length as seconds, not null
+     * @param duration  the duration to subtract, positive or negative, not null
+     * @param resultSeconds  the array to store the result epoch seconds in, at least as long as seconds, not null
+     * @param resultNanos  the array to store the result nano-of-second in, at least as long as seconds, not null
+     * @throws IllegalArgumentException if the arrays are of incompatible lengths or a nano-of-second is invalid
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static void minus(long[] seconds, int[] nanos, Duration duration, long[] resultSeconds, int[] resultNanos) {
+        Instant.checkNotNull(duration, "Duration must not be null");
+        int length = checkInput(seconds, nanos);
+        checkResult(resultSeconds, resultNanos, length);
+        long secsToSubtract = duration.getSeconds();
+        int nanosToSubtract = duration.getNanoOfSecond();
+        long overflow = 0;
+        for (int i = 0; i < length; i++) {
+            long secs = seconds[i];
+            int nos = nanos[i] - nanosToSubtract;  // safe, greater than minus one billion
+            int borrow = nos >>> 31;
+            long diff = secs - secsToSubtract;
+            long result = diff - borrow;
+            // sign change when the inputs have different signs, or MIN_VALUE minus the borrow
+            overflow |= ((secs ^ secsToSubtract) & (secs ^ diff)) | (diff & ~result);
+            resultSeconds[i] = result;
+            resultNanos[i] = nos + borrow * NANOS_PER_SECOND;
+        }
+        if (overflow < 0) {
+            throw new ArithmeticException("Subtraction overflows a long");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the duration between each pair of instants in the input arrays.
+     * <p>
+     * The result for each element is the same as {@link Duration#between}, with
+     * the result stored as the seconds and nano-of-second of the duration.
+     * The result will be negative where the end is before the start.
+     *
+     * @param startSeconds  the epoch seconds of the start instants, inclusive, not null
+     * @param startNanos  the nano-of-second of the start instants, same length as startSeconds, not null
+     * @param endSeconds  the epoch seconds of the end instants, exclusive, same length as startSeconds, not null
+     * @param endNanos  the nano-of-second of the end instants, same length as startSeconds, not null
+     * @param resultSeconds  the array to store the duration seconds in, at least as long as startSeconds, not null
+     * @param resultNanos  the array to store the duration nano-of-second in, at least as long as startSeconds, not null
+     * @throws IllegalArgumentException if the arrays are of incompatible lengths or a nano-of-second is invalid
+     * @throws ArithmeticException if the calculation exceeds the capacity of {@code Duration}
+     */
+    public static void between(
+            long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos,
+            long[] resultSeconds, int[] resultNanos) {
+        int length = checkInput(startSeconds, startNanos);
+        if (checkInput(endSeconds, endNanos) != length) {
+            throw new IllegalArgumentException("Start and end arrays must be the same length");
+        }
+        checkResult(resultSeconds, resultNanos, length);
+        long overflow = 0;
+        for (int i = 0; i < length; i++) {
+            long start = startSeconds[i];
+            long end = endSeconds[i];
+            int nos = endNanos[i] - startNanos[i];  // safe, greater than minus one billion
+            int borrow = nos >>> 31;
+            long diff = end - start;
+            long result = diff - borrow;
+            overflow |= ((end ^ start) & (end ^ diff)) | (diff & ~result);
+            resultSeconds[i] = result;
+            resultNanos[i] = nos + borrow * NANOS_PER_SECOND;
+        }
+        if (overflow < 0) {
+            throw new ArithmeticException("Subtraction overflows a long");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Truncates each instant in the input arrays to the specified unit.
+     * <p>
+     * Truncation moves each instant earlier on the time-line to the start of the unit
+     * that contains it, measured from the epoch of 1970-01-01T00:00:00Z.
+     * For example, truncating to {@code MINUTES} will set the second-of-minute and
+     * nano-of-second to zero as seen in the UTC offset.
+     * {@code DAYS} are treated as exactly 86400 seconds, matching the time-scale of {@code Instant}.
+     *
+     * @param seconds  the epoch seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, same length as seconds, not null
+     * @param unit  the unit to truncate to, not null
+     * @param resultSeconds  the array to store the result epoch seconds in, at least as long as seconds, not null
+     * @param resultNanos  the array to store the result nano-of-second in, at least as long as seconds, not null
+     * @throws IllegalArgumentException if the arrays are of incompatible lengths or a nano-of-second is invalid
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static void truncatedTo(long[] seconds, int[] nanos, TimeUnit unit, long[] resultSeconds, int[] resultNanos) {
+        Instant.checkNotNull(unit, "TimeUnit must not be null");
+        int length = checkInput(seconds, nanos);
+        checkResult(resultSeconds, resultNanos, length);
+        long unitNanos = unit.toNanos(1);
+        if (unitNanos < NANOS_PER_SECOND) {
+            int divisor = (int) unitNanos;
+            for (int i = 0; i < length; i++) {
+                int nos = nanos[i];
+                resultSeconds[i] = seconds[i];
+                resultNanos[i] = nos - nos % divisor;
+            }
+        } else {
+            long divisor = unit.toSeconds(1);
+            long overflow = 0;
+            for (int i = 0; i < length; i++) {
+                long secs = seconds[i];
+                long mod = ((secs % divisor) + divisor) % divisor;
+                long result = secs - mod;
+                overflow |= (secs ^ mod) & (secs ^ result);
+                resultSeconds[i] = result;
+                resultNanos[i] = 0;
+            }
+            if (overflow < 0) {
+                throw new ArithmeticException("Subtraction overflows a long");
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares each pair of instants in the input arrays.
+     * <p>
+     * The result for each element is the same as {@link Instant#compareTo(Instant)},
+     * being -1 if the first instant is before the second, 0 if equal and 1 if after.
+     *
+     * @param seconds1  the epoch seconds of the first instants, not null
+     * @param nanos1  the nano-of-second of the first instants, same length as seconds1, not null
+     * @param seconds2  the epoch seconds of the second instants, same length as seconds1, not null
+     * @param nanos2  the nano-of-second of the second instants, same length as seconds1, not null
+     * @param result  the array to store the comparator values in, at least as long as seconds1, not null
+     * @throws IllegalArgumentException if the arrays are of incompatible lengths or a nano-of-second is invalid
+     */
+    public static void compare(long[] seconds1, int[] nanos1, long[] seconds2, int[] nanos2, int[] result) {
+        int length = checkInput(seconds1, nanos1);
+        if (checkInput(seconds2, nanos2) != length) {
+            throw new IllegalArgumentException("Arrays to compare must be the same length");
+        }
+        Instant.checkNotNull(result, "Result array must not be null");
+        if (result.length < length) {
+            throw new IllegalArgumentException("Result array must be at least as long as the input arrays");
+        }
+        for (int i = 0; i < length; i++) {
+            long secs1 = seconds1[i];
+            long secs2 = seconds2[i];
+            int nos1 = nanos1[i];
+            int nos2 = nanos2[i];
+            int secsCmp = (secs1 > secs2 ? 1 : 0) - (secs1 < secs2 ? 1 : 0);
+            int nanosCmp = (nos1 > nos2 ? 1 : 0) - (nos1 < nos2 ? 1 : 0);
+            result[i] = Integer.signum((secsCmp << 1) + nanosCmp);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the epoch seconds and nano-of-second of each instant in the list.
+     *
+     * @param list  the list of instants, no null elements, not null
+     * @param resultSeconds  the array to store the epoch seconds in, at least as long as the list, not null
+     * @param resultNanos  the array to store the nano-of-second in, at least as long as the list, not null
+     * @throws IllegalArgumentException if the result arrays are too short
+     */
+    public static void toArrays(List<Instant> list, long[] resultSeconds, int[] resultNanos) {
+        Instant.checkNotNull(list, "List must not be null");
+        checkResult(resultSeconds, resultNanos, list.size());
+        int i = 0;
+        for (Instant instant : list) {
+            resultSeconds[i] = instant.getEpochSecond();
+            resultNanos[i] = instant.getNanoOfSecond();
+            i++;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the list of instants into ascending order.
+     * <p>
+     * The result is the same as {@link java.util.Collections#sort(List)}.
+     * The seconds and nano-of-second are extracted once into primitive arrays and
+     * sorted using a radix sort, with the list then permuted to match.
+     *
+     * @param list  the list of instants to sort, no null elements, not null
+     * @throws UnsupportedOperationException if the list does not support the set operation
+     */
+    public static void sort(List<Instant> list) {
+        Instant.checkNotNull(list, "List must not be null");
+        int size = list.size();
+        if (size < 2) {
+            return;
+        }
+        long[] seconds = new long[size];
+        int[] nanos = new int[size];
+        toArrays(list, seconds, nanos);
+        permute(list, sortOrder(seconds, nanos));
+    }
+
+    /**
+     * Sorts the instants held in the arrays into ascending order in place.
+     *
+     * @param seconds  the epoch seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, same length as seconds, not null
+     * @throws IllegalArgumentException if the arrays are of incompatible lengths or a nano-of-second is invalid
+     */
+    public static void sort(long[] seconds, int[] nanos) {
+        int[] order = sortOrder(seconds, nanos);
+        long[] secondsCopy = seconds.clone();
+        int[] nanosCopy = nanos.clone();
+        for (int i = 0; i < order.length; i++) {
+            seconds[i] = secondsCopy[order[i]];
+            nanos[i] = nanosCopy[order[i]];
+        }
+    }
+
+    /**
+     * Calculates the order that would sort the instants held in the arrays.
+     * <p>
+     * The result is an array of indices into the input arrays such that the element
+     * at index {@code result[0]} is the earliest instant and the element at index
+     * {@code result[length - 1]} is the latest. The sort is stable, thus equal
+     * instants retain their relative order.
+     * The input arrays are not altered.
+     * <p>
+     * This is a least significant digit radix sort operating on eight bits at a time.
+     * Passes where every element has the same digit are skipped, thus the cost is
+     * proportional to the range of the values rather than the width of the types.
+     *
+     * @param seconds  the epoch seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, same length as seconds, not null
+     * @return the indices of the instants in ascending order, not null
+     * @throws IllegalArgumentException if the arrays are of incompatible lengths or a nano-of-second is invalid
+     */
+    public static int[] sortOrder(long[] seconds, int[] nanos) {
+        int length = checkInput(seconds, nanos);
+        int[] order = initialOrder(length);
+        int[] buffer = new int[length];
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < length; i++) {
+                counts[((nanos[i] >>> shift) & 0xFF) + 1]++;
+            }
+            if (isPassNeeded(counts, length)) {
+                for (int i = 0; i < length; i++) {
+                    int index = order[i];
+                    buffer[counts[(nanos[index] >>> shift) & 0xFF]++] = index;
+                }
+                int[] swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+        }
+        return sortLongKeys(seconds, order, buffer, counts);
+    }
+
+    /**
+     * Calculates the order that would sort the {@code long} keys held in the array.
+     * <p>
+     * This is the same radix sort as {@link #sortOrder(long[], int[])} applied to a
+     * single array of keys, such as epoch-days or epoch-seconds without a nano-of-second.
+     * The sort is stable, thus equal keys retain their relative order.
+     * The input array is not altered.
+     *
+     * @param keys  the keys to sort, not null
+     * @return the indices of the keys in ascending order, not null
+     */
+    public static int[] sortOrder(long[] keys) {
+        Instant.checkNotNull(keys, "Keys array must not be null");
+        int length = keys.length;
+        return sortLongKeys(keys, initialOrder(length), new int[length], new int[257]);
+    }
+
+    /**
+     * Creates the initial order, being the identity permutation.
+     *
+     * @param length  the number of elements
+     * @return the indices from zero to length minus one, not null
+     */
+    private static int[] initialOrder(int length) {
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Performs the radix sort passes on the {@code long} keys.
+     *
+     * @param keys  the keys to sort by, not null
+     * @param order  the order from any previous less significant passes, not null
+     * @param buffer  the working buffer, same length as order, not null
+     * @param counts  the working digit counts, length 257, not null
+     * @return the indices of the keys in ascending order, not null
+     */
+    private static int[] sortLongKeys(long[] keys, int[] order, int[] buffer, int[] counts) {
+        int length = order.length;
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < length; i++) {
+                counts[(int) (((keys[i] ^ Long.MIN_VALUE) >>> shift) & 0xFF) + 1]++;
+            }
+            if (isPassNeeded(counts, length)) {
+                for (int i = 0; i < length; i++) {
+                    int index = order[i];
+                    buffer[counts[(int) (((keys[index] ^ Long.MIN_VALUE) >>> shift) & 0xFF)]++] = index;
+                }
+                int[] swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Checks whether a radix pass is needed, converting the counts to start positions if so.
+     *
+     * @param counts  the digit counts, offset by one, not null
+     * @param length  the number of elements being sorted
+     * @return true if the pass is needed, false if all elements have the same digit
+     */
+    private static boolean isPassNeeded(int[] counts, int length) {
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] == length) {
+                return false;
+            }
+            counts[i] += counts[i - 1];
+        }
+        return true;
+    }
+
+    /**
+     * Permutes the list to match the specified order.
+     * <p>
+     * This is used with the result of one of the {@code sortOrder} methods to sort
+     * a list by keys extracted from its elements.
+     * The element at index {@code order[i]} is moved to index {@code i}.
+     *
+     * @param list  the list to permute, not null
+     * @param order  the indices of the elements in their new order, same length as the list, not null
+     * @throws IllegalArgumentException if the order is not the same length as the list
+     * @throws UnsupportedOperationException if the list does not support the set operation
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void permute(List<T> list, int[] order) {
+        Instant.checkNotNull(list, "List must not be null");
+        Instant.checkNotNull(order, "Order array must not be null");
+        if (order.length != list.size()) {
+            throw new IllegalArgumentException("Order array must be the same length as the list");
+        }
+        Object[] array = list.toArray();
+        ListIterator<T> it = list.listIterator();
+        for (int i = 0; i < order.length; i++) {
+            it.next();
+            it.set((T) array[order[i]]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Searches the sorted arrays for the specified instant.
+     * <p>
+     * The arrays must be sorted into ascending order, such as by {@link #sort(long[], int[])}.
+     * If the arrays contain the instant more than once, the index of the first is returned.
+     *
+     * @param seconds  the sorted epoch seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, same length as seconds, not null
+     * @param instant  the instant to search for, not null
+     * @return the index of the instant if found, otherwise {@code (-(insertion point) - 1)}
+     *  as per {@link Arrays#binarySearch(long[], long)}
+     * @throws IllegalArgumentException if the arrays are of different lengths
+     */
+    public static int binarySearch(long[] seconds, int[] nanos, Instant instant) {
+        int index = ceilingIndex(seconds, nanos, instant);
+        if (index < seconds.length && seconds[index] == instant.getEpochSecond() &&
+                nanos[index] == instant.getNanoOfSecond()) {
+            return index;
+        }
+        return -(index + 1);
+    }
+
+    /**
+     * Finds the index of the first instant in the sorted arrays that is equal to
+     * or after the specified instant.
+     * <p>
+     * The arrays must be sorted into ascending order, such as by {@link #sort(long[], int[])}.
+     * The half-open range of instants from {@code start} inclusive to {@code end} exclusive
+     * is held between the index {@code ceilingIndex(seconds, nanos, start)} inclusive and
+     * {@code ceilingIndex(seconds, nanos, end)} exclusive.
+     *
+     * @param seconds  the sorted epoch seconds of the instants, not null
+     * @param nanos  the nano-of-second of the instants, same length as seconds, not null
+     * @param instant  the instant to search for, not null
+     * @return the index of the first instant equal to or after the specified instant,
+     *  or the length of the arrays if there is none
+     * @throws IllegalArgumentException if the arrays are of different lengths
+     */
+    public static int ceilingIndex(long[] seconds, int[] nanos, Instant instant) {
+        Instant.checkNotNull(seconds, "Seconds array must not be null");
+        Instant.checkNotNull(nanos, "Nanos array must not be null");
+        Instant.checkNotNull(instant, "Instant must not be null");
+        if (nanos.length != seconds.length) {
+            throw new IllegalArgumentException("Seconds and nanos arrays must be the same length");
+        }
+        long secs = instant.getEpochSecond();
+        int nos = instant.getNanoOfSecond();
+        int low = 0;
+        int high = seconds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long midSecs = seconds[mid];
+            if (midSecs < secs || (midSecs == secs && nanos[mid] < nos)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Validates a pair of input arrays, returning the length.
+     *
+     * @param seconds  the seconds array to check, not null
+     * @param nanos  the nano-of-second array to check, not null
+     * @return the length of the arrays
+     * @throws IllegalArgumentException if the arrays are of different lengths or a nano-of-second is invalid
+     */
+    private static int checkInput(long[] seconds, int[] nanos) {
+        Instant.checkNotNull(seconds, "Seconds array must not be null");
+        Instant.checkNotNull(nanos, "Nanos array must not be null");
+        int length = seconds.length;
+        if (nanos.length != length) {
+            throw new IllegalArgumentException("Seconds and nanos arrays must be the same length");
+        }
+        int invalid = 0;
+        for (int i = 0; i < length; i++) {
+            int nos = nanos[i];
+            invalid |= nos | (NANOS_PER_SECOND - 1 - nos);
+        }
+        if (invalid < 0) {
+            throw new IllegalArgumentException("NanoOfSecond must be from 0 to 999,999,999");
+        }
+        return length;
+    }
+
+    /**
+     * Validates a pair of result arrays.
+     *
+     * @param seconds  the seconds array to check, not null
+     * @param nanos  the nano-of-second array to check, not null
+     * @param length  the minimum length
+     * @throws IllegalArgumentException if either array is too short
+     */
+    private static void checkResult(long[] seconds, int[] nanos, int length) {
+        Instant.checkNotNull(seconds, "Result seconds array must not be null");
+        Instant.checkNotNull(nanos, "Result nanos array must not be null");
+        if (seconds.length < length || nanos.length < length) {
+            throw new IllegalArgumentException("Result arrays must be at least as long as the input arrays");
+        }
+    }
+
+}
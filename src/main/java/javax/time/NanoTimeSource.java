@@ -0,0 +1,575 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A time-source providing nanosecond instants by calibrating
+ * {@link System#nanoTime()} against the system millisecond clock.
+ * <p>
+ * The system time-source has at best millisecond resolution.
+ * This time-source reads the monotonic nanosecond counter instead, and converts it
+ * to an instant using a calibration against {@link System#currentTimeMillis()}.
+ * The calibration is taken when the time-source is created and again whenever
+ * the recalibration interval has elapsed, on the thread that calls {@link #instant()}.
+ * Between calibrations an instant costs a call to {@code System.nanoTime()},
+ * a volatile read and some arithmetic.
+ * 
+ * <h4>Drift correction</h4>
+ * The nanosecond counter and the wall clock drift apart over time.
+ * At each calibration the estimate of this time-source is compared to the millisecond
+ * reading of the wall clock, allowing for the resolution of the reading:
+ * <ul>
+ * <li>If the estimate lies within the millisecond read, no correction is made.</li>
+ * <li>If the difference is no more than the step threshold, it is removed by slewing.
+ *  The rate of the time-source is adjusted by at most the maximum slew rate, expressed
+ *  in parts per million, until the difference has been absorbed.
+ *  The time-source remains monotonic while slewing.</li>
+ * <li>If the difference exceeds the step threshold, for example when the system clock
+ *  has been reset, the time-source steps to the wall clock.
+ *  A step may move the time-source backwards.</li>
+ * </ul>
+ * The corrections applied so far are available from the metrics methods
+ * such as {@link #getTotalSlew()} and {@link #getStepCount()}.
+ * <p>
+ * Each instance keeps its own calibration, thus an application should share
+ * a single instance rather than creating one per use.
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is final and thread-safe.
+ * The calibration is held in an immutable object which is replaced atomically.
+ * The configuration is serialized, and a deserialized instance calibrates afresh
+ * without waiting for the system millisecond clock to tick.
+ */
+public final class NanoTimeSource extends TimeSource implements Serializable {
+
+    /**
+     * A serialization identifier for this class.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * Nanos per second.
+     */
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    /**
+     * Nanos per millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1000000L;
+    /**
+     * Parts per million.
+     */
+    private static final long PARTS_PER_MILLION = 1000000L;
+    /**
+     * The largest permitted slew rate, ten percent.
+     */
+    private static final int MAX_SLEW_PPM = 100000;
+    /**
+     * The number of readings taken per calibration, the closest pair being used.
+     */
+    private static final int CALIBRATION_READINGS = 3;
+    /**
+     * The maximum time to busy-wait for the millisecond clock to tick when first calibrating.
+     */
+    private static final long EDGE_WAIT_NANOS = 2 * NANOS_PER_MILLI;
+    /**
+     * The ticker reading {@code System.nanoTime()}.
+     */
+    static final Ticker SYSTEM_TICKER = new Ticker() {
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    /**
+     * The interval between calibrations.
+     */
+    private final Duration recalibrationInterval;
+    /**
+     * The maximum slew rate in parts per million.
+     */
+    private final int maxSlewPpm;
+    /**
+     * The difference above which the time-source steps rather than slews.
+     */
+    private final Duration stepThreshold;
+    /**
+     * The wall clock to calibrate against.
+     */
+    private final transient TimeSource wallSource;
+    /**
+     * The nanosecond counter.
+     */
+    private final transient Ticker ticker;
+    /**
+     * The interval between calibrations in nanoseconds.
+     */
+    private final transient long intervalNanos;
+    /**
+     * The step threshold in nanoseconds.
+     */
+    private final transient long stepNanos;
+    /**
+     * The current calibration.
+     */
+    private final transient AtomicReference<Calibration> calibration;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a nanosecond time-source using the default calibration policy.
+     * <p>
+     * The time-source recalibrates every second, slews at up to 500 parts per million
+     * and steps if the difference from the wall clock exceeds 128 milliseconds.
+     * <p>
+     * Creating the time-source busy-waits for up to two milliseconds
+     * for the system millisecond clock to tick, to align the first calibration.
+     * If the clock does not tick within that time, as on systems with a coarse
+     * millisecond clock, the first calibration is taken without alignment.
+     *
+     * @return a new nanosecond time-source, not null
+     */
+    public static NanoTimeSource ofSystem() {
+        return ofSystem(Duration.ofSeconds(1), 500, Duration.ofMillis(128));
+    }
+
+    /**
+     * Obtains a nanosecond time-source using the specified calibration policy.
+     * <p>
+     * Creating the time-source busy-waits for up to two milliseconds
+     * for the system millisecond clock to tick, to align the first calibration.
+     *
+     * @param recalibrationInterval  the interval between calibrations, positive, not null
+     * @param maxSlewPpm  the maximum slew rate in parts per million, from 1 to 100,000
+     * @param stepThreshold  the difference above which the time-source steps rather
+     *  than slews, positive, not null
+     * @return a new nanosecond time-source, not null
+     * @throws IllegalArgumentException if the interval or threshold is not positive
+     *  or the slew rate is out of range
+     */
+    public static NanoTimeSource ofSystem(Duration recalibrationInterval, int maxSlewPpm, Duration stepThreshold) {
+        Instant.checkNotNull(recalibrationInterval, "Recalibration interval must not be null");
+        Instant.checkNotNull(stepThreshold, "Step threshold must not be null");
+        if (recalibrationInterval.isPositive() == false) {
+            throw new IllegalArgumentException("Recalibration interval must be positive");
+        }
+        if (maxSlewPpm < 1 || maxSlewPpm > MAX_SLEW_PPM) {
+            throw new IllegalArgumentException("Maximum slew rate must be from 1 to " + MAX_SLEW_PPM + " ppm");
+        }
+        if (stepThreshold.isPositive() == false) {
+            throw new IllegalArgumentException("Step threshold must be positive");
+        }
+        return new NanoTimeSource(TimeSource.system(), SYSTEM_TICKER, true, recalibrationInterval, maxSlewPpm, stepThreshold);
+    }
+
+    /**
+     * Constructor, calibrating the time-source.
+     *
+     * @param wallSource  the wall clock to calibrate against, not null
+     * @param ticker  the nanosecond counter, not null
+     * @param alignToEdge  whether to wait for the wall clock to tick before the first calibration
+     * @param recalibrationInterval  the interval between calibrations, validated, not null
+     * @param maxSlewPpm  the maximum slew rate, validated
+     * @param stepThreshold  the step threshold, validated, not null
+     */
+    NanoTimeSource(TimeSource wallSource, Ticker ticker, boolean alignToEdge,
+            Duration recalibrationInterval, int maxSlewPpm, Duration stepThreshold) {
+        this.wallSource = wallSource;
+        this.ticker = ticker;
+        this.recalibrationInterval = recalibrationInterval;
+        this.maxSlewPpm = maxSlewPpm;
+        this.stepThreshold = stepThreshold;
+        this.intervalNanos = recalibrationInterval.toNanosLong();
+        this.stepNanos = stepThreshold.toNanosLong();
+        this.calibration = new AtomicReference<Calibration>(initialCalibration(alignToEdge));
+    }
+
+    /**
+     * Handles deserialization by calibrating a new instance against the system clock.
+     * <p>
+     * The calibration is not aligned to the clock tick, to avoid busy-waiting
+     * during deserialization. The next recalibration corrects any difference.
+     *
+     * @return the resolved time-source, not null
+     */
+    private Object readResolve() {
+        return new NanoTimeSource(TimeSource.system(), SYSTEM_TICKER, false, recalibrationInterval, maxSlewPpm, stepThreshold);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Takes the first calibration.
+     *
+     * @param alignToEdge  whether to wait for the wall clock to tick
+     * @return the calibration, not null
+     */
+    private Calibration initialCalibration(boolean alignToEdge) {
+        if (alignToEdge) {
+            long startMillis = wallSource.millis();
+            long startNanos = ticker.nanoTime();
+            long nanos = startNanos;
+            long millis = startMillis;
+            while (millis == startMillis && nanos - startNanos < EDGE_WAIT_NANOS) {
+                nanos = ticker.nanoTime();
+                millis = wallSource.millis();
+            }
+            if (millis != startMillis) {
+                return new Calibration(nanos, MathUtils.floorDiv(millis, 1000), MathUtils.floorMod(millis, 1000) * NANOS_PER_MILLI);
+            }
+        }
+        long[] reading = read();
+        long nanos = reading[0] + (reading[1] - reading[0]) / 2;
+        long millis = reading[2];
+        return new Calibration(nanos, MathUtils.floorDiv(millis, 1000), MathUtils.floorMod(millis, 1000) * NANOS_PER_MILLI + NANOS_PER_MILLI / 2);
+    }
+
+    /**
+     * Reads the wall clock bracketed by the nanosecond counter.
+     * <p>
+     * Several readings are taken and the one with the narrowest bracket is returned,
+     * reducing the effect of the thread being descheduled between reads.
+     *
+     * @return the counter before, the counter after and the wall clock millis, not null
+     */
+    private long[] read() {
+        long[] best = null;
+        for (int i = 0; i < CALIBRATION_READINGS; i++) {
+            long before = ticker.nanoTime();
+            long millis = wallSource.millis();
+            long after = ticker.nanoTime();
+            if (best == null || after - before < best[1] - best[0]) {
+                best = new long[] {before, after, millis};
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Recalibrates the time-source against the wall clock.
+     *
+     * @param previous  the calibration being replaced, not null
+     * @return the calibration now in use, not null
+     */
+    private Calibration recalibrate(Calibration previous) {
+        long[] reading = read();
+        long before = reading[0];
+        long after = reading[1];
+        long millis = reading[2];
+        long wallSecond = MathUtils.floorDiv(millis, 1000);
+        long wallNanoOfSecond = MathUtils.floorMod(millis, 1000) * NANOS_PER_MILLI;
+        // the wall clock was read between before and after, and lies within the millisecond read
+        long earliestError = previous.differenceTo(wallSecond, wallNanoOfSecond + NANOS_PER_MILLI, before);
+        long latestError = previous.differenceTo(wallSecond, wallNanoOfSecond, after);
+        long error = 0;
+        if (latestError > 0) {
+            error = latestError;
+        } else if (earliestError <= 0) {
+            error = earliestError - 1;
+        }
+        Calibration updated = previous.next(after, error, stepNanos, intervalNanos, maxSlewPpm);
+        if (calibration.compareAndSet(previous, updated)) {
+            return updated;
+        }
+        return calibration.get();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the recalibration interval.
+     *
+     * @return the interval between calibrations, not null
+     */
+    public Duration getRecalibrationInterval() {
+        return recalibrationInterval;
+    }
+
+    /**
+     * Gets the maximum slew rate.
+     *
+     * @return the maximum slew rate in parts per million
+     */
+    public int getMaxSlewPpm() {
+        return maxSlewPpm;
+    }
+
+    /**
+     * Gets the step threshold.
+     *
+     * @return the difference above which the time-source steps, not null
+     */
+    public Duration getStepThreshold() {
+        return stepThreshold;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of calibrations taken, including the first.
+     *
+     * @return the number of calibrations, one or more
+     */
+    public long getCalibrationCount() {
+        return calibration.get().calibrationCount;
+    }
+
+    /**
+     * Gets the number of times the time-source has stepped to the wall clock.
+     *
+     * @return the number of steps, zero or more
+     */
+    public long getStepCount() {
+        return calibration.get().stepCount;
+    }
+
+    /**
+     * Gets the total correction applied by stepping.
+     * <p>
+     * This is the sum of the size of each step, regardless of direction.
+     *
+     * @return the total stepped, not negative, not null
+     */
+    public Duration getTotalStep() {
+        return Duration.ofNanos(calibration.get().totalStepNanos);
+    }
+
+    /**
+     * Gets the total correction applied by slewing.
+     * <p>
+     * This is the sum of the size of each slew applied so far, regardless of direction,
+     * including the part of the current slew applied up to now.
+     *
+     * @return the total slewed, not negative, not null
+     */
+    public Duration getTotalSlew() {
+        Calibration cal = calibration.get();
+        long current = Math.abs(cal.correction(ticker.nanoTime() - cal.nanoBase));
+        return Duration.ofNanos(cal.totalSlewNanos + current);
+    }
+
+    /**
+     * Gets the difference from the wall clock found by the last calibration.
+     * <p>
+     * This is the wall clock minus the estimate of this time-source, allowing
+     * for the resolution of the wall clock reading.
+     * A positive value means that the time-source was running slow.
+     *
+     * @return the last measured difference, zero if within the resolution of the wall clock, not null
+     */
+    public Duration getLastOffset() {
+        return Duration.ofNanos(calibration.get().lastOffsetNanos);
+    }
+
+    /**
+     * Gets the slew rate being applied.
+     * <p>
+     * A positive value means the time-source is running faster than the
+     * nanosecond counter, a negative value slower.
+     * Zero is returned once the slew has been completed.
+     *
+     * @return the current slew rate in parts per million
+     */
+    public int getSlewPpm() {
+        Calibration cal = calibration.get();
+        long elapsed = ticker.nanoTime() - cal.nanoBase;
+        if (cal.correction(elapsed) == cal.pendingNanos) {
+            return 0;
+        }
+        return (int) (cal.pendingNanos < 0 ? -cal.slewPpm : cal.slewPpm);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current {@code Instant} to nanosecond resolution.
+     * <p>
+     * If the recalibration interval has elapsed this method recalibrates first.
+     *
+     * @return the current {@code Instant} from this time-source, not null
+     */
+    @Override
+    public Instant instant() {
+        long now = ticker.nanoTime();
+        Calibration cal = calibration.get();
+        if (now - cal.nanoBase >= intervalNanos) {
+            cal = recalibrate(cal);
+            now = ticker.nanoTime();
+        }
+        return cal.instant(now);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this time-source is equal to another.
+     * <p>
+     * The comparison is based on the calibration policy.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other time-source
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof NanoTimeSource) {
+            NanoTimeSource other = (NanoTimeSource) obj;
+            return recalibrationInterval.equals(other.recalibrationInterval) &&
+                    maxSlewPpm == other.maxSlewPpm &&
+                    stepThreshold.equals(other.stepThreshold);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this time-source.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return recalibrationInterval.hashCode() ^ (maxSlewPpm * 31) ^ stepThreshold.hashCode();
+    }
+
+    /**
+     * Outputs this time-source as a {@code String}.
+     *
+     * @return a string representation of this time-source, not null
+     */
+    @Override
+    public String toString() {
+        return "NanoTimeSource[" + recalibrationInterval + ", " + maxSlewPpm + "ppm, " + stepThreshold + ']';
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A source of nanosecond counter values, abstracted for testing.
+     */
+    interface Ticker {
+        /**
+         * Gets the counter value.
+         *
+         * @return the counter in nanoseconds, from an arbitrary origin
+         */
+        long nanoTime();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable calibration mapping the nanosecond counter to an instant.
+     * <p>
+     * The instant at counter {@code nanoBase} is the epoch second plus the nano-of-second.
+     * Thereafter the instant advances with the counter, plus a slew that is
+     * limited to the pending correction.
+     */
+    static final class Calibration {
+        /** The counter value at the base. */
+        final long nanoBase;
+        /** The epoch second at the base. */
+        final long epochSecond;
+        /** The nano adjustment at the base, may exceed one second. */
+        final long nanoOfSecond;
+        /** The correction to apply by slewing, signed. */
+        final long pendingNanos;
+        /** The slew rate in parts per million, positive. */
+        final long slewPpm;
+        /** The number of calibrations. */
+        final long calibrationCount;
+        /** The number of steps. */
+        final long stepCount;
+        /** The total stepped. */
+        final long totalStepNanos;
+        /** The total slewed by previous calibrations. */
+        final long totalSlewNanos;
+        /** The difference found by the last calibration. */
+        final long lastOffsetNanos;
+
+        /** Constructor for the first calibration. */
+        Calibration(long nanoBase, long epochSecond, long nanoOfSecond) {
+            this(nanoBase, epochSecond, nanoOfSecond, 0, 0, 1, 0, 0, 0, 0);
+        }
+        /** Constructor. */
+        private Calibration(long nanoBase, long epochSecond, long nanoOfSecond, long pendingNanos, long slewPpm,
+                long calibrationCount, long stepCount, long totalStepNanos, long totalSlewNanos, long lastOffsetNanos) {
+            this.nanoBase = nanoBase;
+            this.epochSecond = epochSecond + MathUtils.floorDiv(nanoOfSecond, NANOS_PER_SECOND);
+            this.nanoOfSecond = MathUtils.floorMod(nanoOfSecond, NANOS_PER_SECOND);
+            this.pendingNanos = pendingNanos;
+            this.slewPpm = slewPpm;
+            this.calibrationCount = calibrationCount;
+            this.stepCount = stepCount;
+            this.totalStepNanos = totalStepNanos;
+            this.totalSlewNanos = totalSlewNanos;
+            this.lastOffsetNanos = lastOffsetNanos;
+        }
+        /** Gets the slew applied after the elapsed nanos. */
+        long correction(long elapsed) {
+            if (pendingNanos == 0 || elapsed <= 0) {
+                return 0;
+            }
+            long pending = Math.abs(pendingNanos);
+            long slewed = (elapsed > Long.MAX_VALUE / slewPpm ? pending : Math.min(pending, elapsed * slewPpm / PARTS_PER_MILLION));
+            return pendingNanos < 0 ? -slewed : slewed;
+        }
+        /** Gets the nanos from the base to the estimate at the counter value. */
+        long estimate(long nanos) {
+            long elapsed = nanos - nanoBase;
+            return nanoOfSecond + elapsed + correction(elapsed);
+        }
+        /** Gets the instant at the counter value. */
+        Instant instant(long nanos) {
+            return Instant.ofEpochSecond(epochSecond, estimate(nanos));
+        }
+        /** Gets the difference from the estimate at the counter value to the specified instant. */
+        long differenceTo(long wallSecond, long wallNanoOfSecond, long nanos) {
+            long seconds = wallSecond - epochSecond;
+            if (Math.abs(seconds) > Long.MAX_VALUE / NANOS_PER_SECOND - 1) {
+                return seconds < 0 ? Long.MIN_VALUE / 2 : Long.MAX_VALUE / 2;
+            }
+            return seconds * NANOS_PER_SECOND + wallNanoOfSecond - estimate(nanos);
+        }
+        /** Creates the next calibration based at the counter value correcting the specified error. */
+        Calibration next(long nanos, long error, long stepNanos, long intervalNanos, int maxSlewPpm) {
+            long elapsed = nanos - nanoBase;
+            long slewed = totalSlewNanos + Math.abs(correction(elapsed));
+            long base = nanoOfSecond + elapsed + correction(elapsed);
+            long size = Math.abs(error);
+            if (size > stepNanos) {
+                return new Calibration(nanos, epochSecond, base + error, 0, 0,
+                        calibrationCount + 1, stepCount + 1, totalStepNanos + size, slewed, error);
+            }
+            long rate = 0;
+            if (error != 0) {
+                rate = (size > Long.MAX_VALUE / PARTS_PER_MILLION ? maxSlewPpm :
+                        Math.min(maxSlewPpm, (size * PARTS_PER_MILLION + intervalNanos - 1) / intervalNanos));
+                rate = Math.max(rate, 1);
+            }
+            return new Calibration(nanos, epochSecond, base, error, rate,
+                    calibrationCount + 1, stepCount, totalStepNanos, slewed, error);
+        }
+    }
+
+}
@@ -75,6 +75,9 @@ final class SystemUTCRules extends UTCRules implements Serializable {
             this.dates = dates;
             this.offsets = offsets;
             this.taiSeconds = taiSeconds;
+            this.lastDate = dates[dates.length - 1];
+            this.lastOffset = offsets[offsets.length - 1];
+            this.lastTaiSecond = taiSeconds[taiSeconds.length - 1];
         }
         /** The table of leap second date when the leap second occurs. */
         final long[] dates;
@@ -82,6 +85,12 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         final int[] offsets;
         /** The table of TAI second when the new offset starts. */
         final long[] taiSeconds;
+        /** The date of the last leap second, after which the offset is fixed. */
+        final long lastDate;
+        /** The TAI offset after the last leap second. */
+        final int lastOffset;
+        /** The TAI second after the last leap second. */
+        final long lastTaiSecond;
         
         /**
          * @return The modified Julian Date of the newest leap second 
@@ -153,6 +162,9 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     @Override
     public int getLeapSecondAdjustment(long mjDay) {
         Data data = dataRef.get();
+        if (mjDay > data.lastDate) {
+            return 0;
+        }
         int pos = Arrays.binarySearch(data.dates, mjDay);
         return pos > 0 ? data.offsets[pos] - data.offsets[pos - 1] : 0;
     }
@@ -160,6 +172,9 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     @Override
     public int getTAIOffset(long mjDay) {
         Data data = dataRef.get();
+        if (mjDay > data.lastDate) {
+            return data.lastOffset;
+        }
         int pos = Arrays.binarySearch(data.dates, mjDay);
         pos = (pos < 0 ? ~pos : pos);
         return pos > 0 ? data.offsets[pos - 1] : 10;
@@ -175,6 +190,12 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     @Override
     protected UTCInstant convertToUTC(TAIInstant taiInstant) {
         Data data = dataRef.get();
+        if (taiInstant.getTAISeconds() >= data.lastTaiSecond) {
+            long adjustedTaiSecs = taiInstant.getTAISeconds() - data.lastOffset;
+            long mjd = MathUtils.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            long nod = MathUtils.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + taiInstant.getNanoOfSecond();
+            return UTCInstant.ofModifiedJulianDay(mjd, nod, this);
+        }
         long[] mjds = data.dates;
         long[] tais = data.taiSeconds;
         int pos = Arrays.binarySearch(tais, taiInstant.getTAISeconds());
@@ -191,6 +212,173 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         return UTCInstant.ofModifiedJulianDay(mjd, nod, this);
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    public void convertToTAI(Instant[] instants, TAIInstant[] taiInstants) {
+        Instant.checkNotNull(instants, "Instant array must not be null");
+        Instant.checkNotNull(taiInstants, "TAIInstant array must not be null");
+        checkBulkLength(instants.length, taiInstants.length);
+        Data data = dataRef.get();
+        long lastEpochSecond = (data.lastDate + 1 - OFFSET_MJD_EPOCH) * SECS_PER_DAY;
+        long shift = (OFFSET_MJD_EPOCH - OFFSET_MJD_TAI) * SECS_PER_DAY + data.lastOffset;
+        for (int i = 0; i < instants.length; i++) {
+            Instant instant = instants[i];
+            long epochSecond = instant.getEpochSecond();
+            if (epochSecond >= lastEpochSecond) {
+                taiInstants[i] = TAIInstant.ofTAISeconds(MathUtils.safeAdd(epochSecond, shift), instant.getNanoOfSecond());
+            } else {
+                taiInstants[i] = convertToTAI(convertToUTC(instant));
+            }
+        }
+    }
+
+    @Override
+    public void convertToInstant(TAIInstant[] taiInstants, Instant[] instants) {
+        Instant.checkNotNull(taiInstants, "TAIInstant array must not be null");
+        Instant.checkNotNull(instants, "Instant array must not be null");
+        checkBulkLength(taiInstants.length, instants.length);
+        Data data = dataRef.get();
+        long shift = (OFFSET_MJD_EPOCH - OFFSET_MJD_TAI) * SECS_PER_DAY + data.lastOffset;
+        for (int i = 0; i < taiInstants.length; i++) {
+            TAIInstant taiInstant = taiInstants[i];
+            long taiSecond = taiInstant.getTAISeconds();
+            if (taiSecond >= data.lastTaiSecond) {
+                instants[i] = Instant.ofEpochSecond(taiSecond - shift, taiInstant.getNanoOfSecond());
+            } else {
+                instants[i] = convertToInstant(convertToUTC(taiInstant));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void convertToTAI(long[] mjDays, long[] nanoOfDays, long[] taiSeconds, int[] taiNanos) {
+        checkBulkArrays(mjDays, nanoOfDays, taiSeconds, taiNanos);
+        Data data = dataRef.get();
+        int cursor = 0;
+        for (int i = 0; i < mjDays.length; i++) {
+            long mjd = mjDays[i];
+            long nod = nanoOfDays[i];
+            cursor = findDate(data, mjd, cursor);
+            checkNanoOfDay(mjd, nod, leapAdjustment(data, mjd, cursor));
+            taiSeconds[i] = toTAISeconds(mjd, nod, cursor > 0 ? data.offsets[cursor - 1] : 10);
+            taiNanos[i] = (int) (nod % NANOS_PER_SECOND);
+        }
+    }
+
+    @Override
+    public void convertToUTC(long[] taiSeconds, int[] taiNanos, long[] mjDays, long[] nanoOfDays) {
+        checkBulkArrays(taiSeconds, taiNanos, mjDays, nanoOfDays);
+        Data data = dataRef.get();
+        long[] mjds = data.dates;
+        int cursor = 0;
+        for (int i = 0; i < taiSeconds.length; i++) {
+            int nanos = taiNanos[i];
+            long taiSecs = MathUtils.safeAdd(taiSeconds[i], MathUtils.floorDiv(nanos, 1000000000));
+            int nos = MathUtils.floorMod(nanos, 1000000000);
+            cursor = findTAISecond(data, taiSecs, cursor);
+            int pos = cursor - 1;
+            int taiOffset = (pos >= 0 ? data.offsets[pos] : 10);
+            long adjustedTaiSecs = taiSecs - taiOffset;
+            long mjd = MathUtils.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            long nod = MathUtils.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + nos;
+            long mjdNextRegionStart = (pos + 1 < mjds.length ? mjds[pos + 1] + 1 : Long.MAX_VALUE);
+            if (mjd == mjdNextRegionStart) {  // in leap second
+                mjd--;
+                nod = SECS_PER_DAY * NANOS_PER_SECOND + nod;
+            }
+            mjDays[i] = mjd;
+            nanoOfDays[i] = nod;
+        }
+    }
+
+    @Override
+    public void convertToInstant(long[] mjDays, long[] nanoOfDays, long[] epochSeconds, int[] nanoOfSeconds) {
+        checkBulkArrays(mjDays, nanoOfDays, epochSeconds, nanoOfSeconds);
+        Data data = dataRef.get();
+        int cursor = 0;
+        for (int i = 0; i < mjDays.length; i++) {
+            long mjd = mjDays[i];
+            long nod = nanoOfDays[i];
+            cursor = findDate(data, mjd, cursor);
+            int leapAdj = leapAdjustment(data, mjd, cursor);
+            checkNanoOfDay(mjd, nod, leapAdj);
+            long slsNanos = toSlsNanoOfDay(nod, leapAdj);
+            epochSeconds[i] = toEpochSeconds(mjd, slsNanos);
+            nanoOfSeconds[i] = (int) (slsNanos % NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Finds the number of leap second dates before a date, starting from a cursor.
+     * <p>
+     * Sorted input advances the cursor a few steps at most, otherwise the
+     * table is binary searched.
+     *
+     * @param data  the leap second data, not null
+     * @param mjd  the Modified Julian Day to find
+     * @param cursor  the result for the previous date, zero initially
+     * @return the number of leap second dates before the date
+     */
+    private static int findDate(Data data, long mjd, int cursor) {
+        long[] dates = data.dates;
+        if (mjd > data.lastDate) {
+            return dates.length;
+        }
+        if (cursor > 0 && dates[cursor - 1] >= mjd) {
+            cursor = 0;  // input went backwards
+        }
+        for (int steps = 0; cursor < dates.length && dates[cursor] < mjd; steps++) {
+            if (steps == 4) {
+                int pos = Arrays.binarySearch(dates, cursor, dates.length, mjd);
+                return (pos >= 0 ? pos : ~pos);
+            }
+            cursor++;
+        }
+        return cursor;
+    }
+
+    /**
+     * Finds the number of leap second TAI seconds at or before a TAI second, starting from a cursor.
+     *
+     * @param data  the leap second data, not null
+     * @param taiSecs  the TAI seconds to find
+     * @param cursor  the result for the previous TAI second, zero initially
+     * @return the number of leap second TAI seconds at or before the TAI second
+     */
+    private static int findTAISecond(Data data, long taiSecs, int cursor) {
+        long[] tais = data.taiSeconds;
+        if (taiSecs >= data.lastTaiSecond) {
+            return tais.length;
+        }
+        if (cursor > 0 && tais[cursor - 1] > taiSecs) {
+            cursor = 0;  // input went backwards
+        }
+        for (int steps = 0; cursor < tais.length && tais[cursor] <= taiSecs; steps++) {
+            if (steps == 4) {
+                int pos = Arrays.binarySearch(tais, cursor, tais.length, taiSecs);
+                return (pos >= 0 ? pos + 1 : ~pos);
+            }
+            cursor++;
+        }
+        return cursor;
+    }
+
+    /**
+     * Gets the leap second adjustment of a date given the number of leap second dates before it.
+     *
+     * @param data  the leap second data, not null
+     * @param mjd  the Modified Julian Day
+     * @param index  the number of leap second dates before the date
+     * @return the leap second adjustment
+     */
+    private static int leapAdjustment(Data data, long mjd, int index) {
+        if (index > 0 && index < data.dates.length && data.dates[index] == mjd) {
+            return data.offsets[index] - data.offsets[index - 1];
+        }
+        return 0;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Loads the rules from files in the class loader, often jar files.
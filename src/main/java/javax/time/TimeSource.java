@@ -156,6 +156,43 @@ public abstract class TimeSource {
         return new OffsetSystemTimeSource(offset);
     }
 
+    /**
+     * Gets a time-source that returns instants from the specified time-source
+     * truncated to the specified tick duration.
+     * <p>
+     * This time-source only ticks in whole units of the duration, which must be
+     * a whole number of milliseconds. For example, a tick of one second returns
+     * the same instant for every call within the second. This suits applications
+     * that stamp a high volume of events to a coarse precision.
+     * <p>
+     * The current instant is cached and is only replaced when the tick changes.
+     * Thus, calls within a tick return the same {@code Instant} object, and
+     * cost a call to {@link #millis()} on the base time-source and a volatile read.
+     * <p>
+     * The returned implementation is {@code Serializable} if the base time-source is.
+     *
+     * @param baseSource  the time-source to obtain the current time from, not null
+     * @param tickDuration  the duration of each tick, at least one millisecond, not null
+     * @return a {@code TimeSource} that ticks in units of the duration, not null
+     * @throws IllegalArgumentException if the duration is zero, negative or less than one millisecond
+     * @throws IllegalArgumentException if the duration is not a whole number of milliseconds
+     * @throws IllegalArgumentException if the duration is too large to be held as a {@code long} milliseconds
+     */
+    public static TimeSource tick(TimeSource baseSource, Duration tickDuration) {
+        Instant.checkNotNull(baseSource, "TimeSource must not be null");
+        Instant.checkNotNull(tickDuration, "Duration must not be null");
+        if (tickDuration.isLessThan(Duration.ofMillis(1))) {
+            throw new IllegalArgumentException("Tick duration must be at least one millisecond");
+        }
+        if (tickDuration.getNanoOfSecond() % 1000000 != 0) {
+            throw new IllegalArgumentException("Tick duration must be a whole number of milliseconds");
+        }
+        if (tickDuration.isGreaterThan(Duration.ofMillis(Long.MAX_VALUE))) {
+            throw new IllegalArgumentException("Tick duration is too large");
+        }
+        return new TickTimeSource(baseSource, tickDuration.toMillisLong());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor accessible by subclasses.
@@ -248,7 +285,6 @@ public abstract class TimeSource {
     }
 
     // TODO: implement InstantProvider?
-    // TODO: add caching of instants ("get to second precision")
 
     //-----------------------------------------------------------------------
     /**
@@ -365,4 +401,63 @@ public abstract class TimeSource {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a time-source that returns the time from another
+     * time-source truncated to a tick, caching the current instant.
+     */
+    static final class TickTimeSource extends TimeSource implements Serializable {
+        /** A serialization identifier for this class. */
+        private static final long serialVersionUID = 1L;
+        /** The time-source to obtain the time from. */
+        private final TimeSource baseSource;
+        /** The tick duration in milliseconds. */
+        private final long tickMillis;
+        /** The instant at the start of the current tick, null until first used. */
+        private transient volatile Instant cached;
+
+        /** Restricted constructor. */
+        private TickTimeSource(TimeSource baseSource, long tickMillis) {
+            this.baseSource = baseSource;
+            this.tickMillis = tickMillis;
+        }
+        /** {@inheritDoc} */
+        @Override
+        public Instant instant() {
+            long tickStart = millis();
+            Instant instant = cached;
+            if (instant == null || instant.toEpochMilli() != tickStart) {
+                instant = Instant.ofEpochMilli(tickStart);
+                cached = instant;
+            }
+            return instant;
+        }
+        /** {@inheritDoc} */
+        @Override
+        public long millis() {
+            long millis = baseSource.millis();
+            long remainder = millis % tickMillis;  // avoids overflow in floorMod for large ticks
+            return millis - (remainder < 0 ? remainder + tickMillis : remainder);
+        }
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof TickTimeSource) {
+                TickTimeSource other = (TickTimeSource) obj;
+                return baseSource.equals(other.baseSource) && tickMillis == other.tickMillis;
+            }
+            return false;
+        }
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return baseSource.hashCode() ^ ((int) (tickMillis ^ (tickMillis >>> 32)));
+        }
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "TickTimeSource[" + baseSource + ", " + Duration.ofMillis(tickMillis) + ']';
+        }
+    }
+
 }
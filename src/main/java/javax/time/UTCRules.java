@@ -174,8 +174,7 @@ public abstract class UTCRules {
     protected TAIInstant convertToTAI(UTCInstant utcInstant) {
         long mjd = utcInstant.getModifiedJulianDay();
         long nod = utcInstant.getNanoOfDay();
-        long taiUtcDaySeconds = MathUtils.safeMultiply(mjd - OFFSET_MJD_TAI, SECS_PER_DAY);
-        long taiSecs = MathUtils.safeAdd(taiUtcDaySeconds, nod / NANOS_PER_SECOND + getTAIOffset(mjd));
+        long taiSecs = toTAISeconds(mjd, nod, getTAIOffset(mjd));
         int nos = (int) (nod % NANOS_PER_SECOND);
         return TAIInstant.ofTAISeconds(taiSecs, nos);
     }
@@ -216,15 +215,9 @@ public abstract class UTCRules {
     protected Instant convertToInstant(UTCInstant utcInstant) {
         long mjd = utcInstant.getModifiedJulianDay();
         long utcNanos = utcInstant.getNanoOfDay();
-        long epochDay = MathUtils.safeSubtract(mjd, OFFSET_MJD_EPOCH);
-        long epochSec = MathUtils.safeMultiply(epochDay, SECS_PER_DAY);
         int leapAdj = getLeapSecondAdjustment(mjd);
-        long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
-        long slsNanos = utcNanos;
-        if (leapAdj != 0 && utcNanos >= startSlsNanos) {
-            slsNanos = utcNanos - leapAdj * (utcNanos - startSlsNanos) / 1000;  // apply UTC-SLS mapping
-        }
-        return Instant.ofEpochSecond(epochSec + slsNanos / NANOS_PER_SECOND, slsNanos % NANOS_PER_SECOND);
+        long slsNanos = toSlsNanoOfDay(utcNanos, leapAdj);
+        return Instant.ofEpochSecond(toEpochSeconds(mjd, slsNanos), slsNanos % NANOS_PER_SECOND);
     }
 
     /**
@@ -261,6 +254,269 @@ public abstract class UTCRules {
         return UTCInstant.ofModifiedJulianDay(mjd, utcNanos, this);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts each of an array of {@code Instant}s to a {@code TAIInstant}.
+     * <p>
+     * This is a bulk form of converting each instant to a {@code UTCInstant}
+     * and then to a {@code TAIInstant} using these rules, intended for large
+     * batches of event times. The input may be in any order.
+     * <p>
+     * The default implementation converts each element individually.
+     * The system rules convert instants after the last leap second directly.
+     *
+     * @param instants  the instants to convert, not null, no null elements
+     * @param taiInstants  the array to fill with the converted TAI instants, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToTAI(Instant[] instants, TAIInstant[] taiInstants) {
+        Instant.checkNotNull(instants, "Instant array must not be null");
+        Instant.checkNotNull(taiInstants, "TAIInstant array must not be null");
+        checkBulkLength(instants.length, taiInstants.length);
+        for (int i = 0; i < instants.length; i++) {
+            taiInstants[i] = convertToTAI(convertToUTC(instants[i]));
+        }
+    }
+
+    /**
+     * Converts each of an array of {@code TAIInstant}s to an {@code Instant}.
+     * <p>
+     * This is a bulk form of converting each TAI instant to a {@code UTCInstant}
+     * and then to an {@code Instant} using these rules, intended for large
+     * batches of event times. The input may be in any order.
+     * <p>
+     * The default implementation converts each element individually.
+     * The system rules convert instants after the last leap second directly.
+     *
+     * @param taiInstants  the TAI instants to convert, not null, no null elements
+     * @param instants  the array to fill with the converted instants, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToInstant(TAIInstant[] taiInstants, Instant[] instants) {
+        Instant.checkNotNull(taiInstants, "TAIInstant array must not be null");
+        Instant.checkNotNull(instants, "Instant array must not be null");
+        checkBulkLength(taiInstants.length, instants.length);
+        for (int i = 0; i < taiInstants.length; i++) {
+            instants[i] = convertToInstant(convertToUTC(taiInstants[i]));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts each of an array of UTC instants to the TAI time-scale.
+     * <p>
+     * This is a bulk form of {@link #convertToTAI(UTCInstant)} that creates no objects
+     * per element, intended for re-timestamping large batches of data.
+     * Each UTC instant is specified as a Modified Julian Day and nanosecond-of-day
+     * in parallel arrays, as per {@link UTCInstant#ofModifiedJulianDay(long, long, UTCRules)}.
+     * The matching elements of the output arrays are set to the TAI seconds and nanosecond-of-second.
+     * The Modified Julian Day and TAI seconds may be the same array.
+     * <p>
+     * The input may be in any order, however implementations are expected to
+     * be fastest when the input is sorted in ascending order.
+     * <p>
+     * The default implementation uses {@code getTAIOffset} for each element.
+     *
+     * @param mjDays  the dates as Modified Julian Days, not null
+     * @param nanoOfDays  the nanoseconds within each day, including leap seconds, not null
+     * @param taiSeconds  the array to fill with the TAI seconds, not null
+     * @param taiNanos  the array to fill with the TAI nanosecond-of-second, not null
+     * @throws IllegalArgumentException if an array is shorter than the Modified Julian Day array
+     * @throws IllegalArgumentException if a nanosecond-of-day is out of range
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToTAI(long[] mjDays, long[] nanoOfDays, long[] taiSeconds, int[] taiNanos) {
+        checkBulkArrays(mjDays, nanoOfDays, taiSeconds, taiNanos);
+        for (int i = 0; i < mjDays.length; i++) {
+            long mjd = mjDays[i];
+            long nod = nanoOfDays[i];
+            checkNanoOfDay(mjd, nod, getLeapSecondAdjustment(mjd));
+            taiSeconds[i] = toTAISeconds(mjd, nod, getTAIOffset(mjd));
+            taiNanos[i] = (int) (nod % NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Converts each of an array of TAI instants to the UTC time-scale.
+     * <p>
+     * This is a bulk form of {@link #convertToUTC(TAIInstant)} that creates no objects
+     * per element, intended for re-timestamping large batches of data.
+     * Each TAI instant is specified as TAI seconds and a nanosecond adjustment
+     * in parallel arrays, as per {@link TAIInstant#ofTAISeconds(long, long)}.
+     * The matching elements of the output arrays are set to the Modified Julian Day
+     * and nanosecond-of-day, including leap seconds.
+     * The TAI seconds and Modified Julian Day may be the same array.
+     * <p>
+     * The input may be in any order, however implementations are expected to
+     * be fastest when the input is sorted in ascending order.
+     * <p>
+     * The default implementation calls {@code convertToUTC} for each element.
+     *
+     * @param taiSeconds  the TAI seconds, not null
+     * @param taiNanos  the nanosecond adjustments, not null
+     * @param mjDays  the array to fill with the dates as Modified Julian Days, not null
+     * @param nanoOfDays  the array to fill with the nanoseconds within each day, not null
+     * @throws IllegalArgumentException if an array is shorter than the TAI seconds array
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToUTC(long[] taiSeconds, int[] taiNanos, long[] mjDays, long[] nanoOfDays) {
+        checkBulkArrays(taiSeconds, taiNanos, mjDays, nanoOfDays);
+        for (int i = 0; i < taiSeconds.length; i++) {
+            UTCInstant utc = convertToUTC(TAIInstant.ofTAISeconds(taiSeconds[i], taiNanos[i]));
+            mjDays[i] = utc.getModifiedJulianDay();
+            nanoOfDays[i] = utc.getNanoOfDay();
+        }
+    }
+
+    /**
+     * Converts each of an array of UTC instants to the UTC-SLS time-scale of {@code Instant}.
+     * <p>
+     * This is a bulk form of {@link #convertToInstant(UTCInstant)} that creates no objects
+     * per element, intended for re-timestamping large batches of data.
+     * Each UTC instant is specified as a Modified Julian Day and nanosecond-of-day
+     * in parallel arrays, as per {@link UTCInstant#ofModifiedJulianDay(long, long, UTCRules)}.
+     * The matching elements of the output arrays are set to the epoch seconds and nanosecond-of-second.
+     * The Modified Julian Day and epoch seconds may be the same array.
+     * <p>
+     * The input may be in any order, however implementations are expected to
+     * be fastest when the input is sorted in ascending order.
+     * <p>
+     * The default implementation uses {@code getLeapSecondAdjustment} for each element.
+     *
+     * @param mjDays  the dates as Modified Julian Days, not null
+     * @param nanoOfDays  the nanoseconds within each day, including leap seconds, not null
+     * @param epochSeconds  the array to fill with the epoch seconds, not null
+     * @param nanoOfSeconds  the array to fill with the nanosecond-of-second, not null
+     * @throws IllegalArgumentException if an array is shorter than the Modified Julian Day array
+     * @throws IllegalArgumentException if a nanosecond-of-day is out of range
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToInstant(long[] mjDays, long[] nanoOfDays, long[] epochSeconds, int[] nanoOfSeconds) {
+        checkBulkArrays(mjDays, nanoOfDays, epochSeconds, nanoOfSeconds);
+        for (int i = 0; i < mjDays.length; i++) {
+            long mjd = mjDays[i];
+            long nod = nanoOfDays[i];
+            int leapAdj = getLeapSecondAdjustment(mjd);
+            checkNanoOfDay(mjd, nod, leapAdj);
+            long slsNanos = toSlsNanoOfDay(nod, leapAdj);
+            epochSeconds[i] = toEpochSeconds(mjd, slsNanos);
+            nanoOfSeconds[i] = (int) (slsNanos % NANOS_PER_SECOND);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Applies the UTC-SLS mapping to a UTC nanosecond-of-day.
+     *
+     * @param utcNanos  the UTC nanosecond-of-day
+     * @param leapAdj  the leap second adjustment of the day
+     * @return the UTC-SLS nanosecond-of-day
+     */
+    static long toSlsNanoOfDay(long utcNanos, int leapAdj) {
+        long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
+        if (leapAdj != 0 && utcNanos >= startSlsNanos) {
+            return utcNanos - leapAdj * (utcNanos - startSlsNanos) / 1000;  // apply UTC-SLS mapping
+        }
+        return utcNanos;
+    }
+
+    /**
+     * Calculates the TAI seconds of a UTC instant.
+     *
+     * @param mjd  the Modified Julian Day
+     * @param nod  the UTC nanosecond-of-day
+     * @param taiOffset  the TAI offset of the day
+     * @return the TAI seconds
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    static long toTAISeconds(long mjd, long nod, int taiOffset) {
+        long taiUtcDaySeconds = MathUtils.safeMultiply(mjd - OFFSET_MJD_TAI, SECS_PER_DAY);
+        return MathUtils.safeAdd(taiUtcDaySeconds, nod / NANOS_PER_SECOND + taiOffset);
+    }
+
+    /**
+     * Calculates the epoch seconds of a UTC-SLS nanosecond-of-day.
+     *
+     * @param mjd  the Modified Julian Day
+     * @param slsNanos  the UTC-SLS nanosecond-of-day
+     * @return the epoch seconds
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    static long toEpochSeconds(long mjd, long slsNanos) {
+        long epochDay = MathUtils.safeSubtract(mjd, OFFSET_MJD_EPOCH);
+        return MathUtils.safeMultiply(epochDay, SECS_PER_DAY) + slsNanos / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Validates a UTC nanosecond-of-day.
+     *
+     * @param mjd  the Modified Julian Day
+     * @param nod  the nanosecond-of-day to check
+     * @param leapAdj  the leap second adjustment of the day
+     * @throws IllegalArgumentException if the nanosecond-of-day is out of range
+     */
+    static void checkNanoOfDay(long mjd, long nod, int leapAdj) {
+        long maxNanos = (SECS_PER_DAY + leapAdj) * NANOS_PER_SECOND;
+        if (nod < 0 || nod >= maxNanos) {
+            throw new IllegalArgumentException("Nanosecond-of-day must be between 0 and " + maxNanos + " on date " + mjd);
+        }
+    }
+
+    /**
+     * Validates the arrays of a bulk conversion from UTC.
+     *
+     * @param mjDays  the Modified Julian Day array, defining the length
+     * @param nanoOfDays  the nanosecond-of-day array
+     * @param seconds  the output seconds array
+     * @param nanos  the output nanosecond array
+     * @throws NullPointerException if any array is null
+     * @throws IllegalArgumentException if any array is shorter than the Modified Julian Day array
+     */
+    static void checkBulkArrays(long[] mjDays, long[] nanoOfDays, long[] seconds, int[] nanos) {
+        Instant.checkNotNull(mjDays, "Modified Julian Day array must not be null");
+        Instant.checkNotNull(nanoOfDays, "Nano-of-day array must not be null");
+        Instant.checkNotNull(seconds, "Seconds array must not be null");
+        Instant.checkNotNull(nanos, "Nanos array must not be null");
+        checkBulkLength(mjDays.length, nanoOfDays.length);
+        checkBulkLength(mjDays.length, seconds.length);
+        checkBulkLength(mjDays.length, nanos.length);
+    }
+
+    /**
+     * Validates the arrays of a bulk conversion from TAI.
+     *
+     * @param taiSeconds  the TAI seconds array, defining the length
+     * @param taiNanos  the TAI nanosecond array
+     * @param mjDays  the output Modified Julian Day array
+     * @param nanoOfDays  the output nanosecond-of-day array
+     * @throws NullPointerException if any array is null
+     * @throws IllegalArgumentException if any array is shorter than the TAI seconds array
+     */
+    static void checkBulkArrays(long[] taiSeconds, int[] taiNanos, long[] mjDays, long[] nanoOfDays) {
+        Instant.checkNotNull(taiSeconds, "TAI seconds array must not be null");
+        Instant.checkNotNull(taiNanos, "TAI nanos array must not be null");
+        Instant.checkNotNull(mjDays, "Modified Julian Day array must not be null");
+        Instant.checkNotNull(nanoOfDays, "Nano-of-day array must not be null");
+        checkBulkLength(taiSeconds.length, taiNanos.length);
+        checkBulkLength(taiSeconds.length, mjDays.length);
+        checkBulkLength(taiSeconds.length, nanoOfDays.length);
+    }
+
+    /**
+     * Validates that the output array of a bulk conversion is long enough.
+     *
+     * @param inputLength  the length of the input array
+     * @param outputLength  the length of the output array
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    static void checkBulkLength(int inputLength, int outputLength) {
+        if (outputLength < inputLength) {
+            throw new IllegalArgumentException("Output array must be at least as long as the input array");
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * A string representation of these rules.
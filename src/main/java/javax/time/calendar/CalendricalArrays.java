@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar;
+
+import java.util.List;
+
+import javax.time.InstantArrays;
+
+/**
+ * Provides sorting and searching of lists of dates and date-times using primitive keys.
+ * <p>
+ * Sorting a large list of {@code LocalDate} or {@code ZonedDateTime} using the
+ * natural ordering requires the fields of each object to be visited on every comparison.
+ * The methods on this class instead extract a primitive key from each object once,
+ * sort the keys using the radix sort of {@link InstantArrays#sortOrder(long[])} or
+ * {@link InstantArrays#sortOrder(long[], int[])} and then permute the list to match.
+ * <p>
+ * The keys of a {@code LocalDate} are the epoch-days, as per {@link LocalDate#toEpochDay()}.
+ * The keys of a {@code ZonedDateTime} are the epoch-seconds and nano-of-second, thus
+ * once extracted they can be searched using {@link InstantArrays#binarySearch} and
+ * {@link InstantArrays#ceilingIndex}.
+ * <p>
+ * CalendricalArrays is a thread-safe utility class.
+ * The lists and arrays themselves are not protected from concurrent modification.
+ */
+public final class CalendricalArrays {
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private CalendricalArrays() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the epoch-day of each date in the list.
+     *
+     * @param list  the list of dates, no null elements, not null
+     * @param resultEpochDays  the array to store the epoch-days in, at least as long as the list, not null
+     * @throws IllegalArgumentException if the result array is too short
+     */
+    public static void toEpochDays(List<LocalDate> list, long[] resultEpochDays) {
+        ISOChronology.checkNotNull(list, "List must not be null");
+        ISOChronology.checkNotNull(resultEpochDays, "Result array must not be null");
+        if (resultEpochDays.length < list.size()) {
+            throw new IllegalArgumentException("Result array must be at least as long as the list");
+        }
+        int i = 0;
+        for (LocalDate date : list) {
+            resultEpochDays[i++] = date.toEpochDay();
+        }
+    }
+
+    /**
+     * Sorts the list of dates into ascending order.
+     * <p>
+     * The result is the same as {@link java.util.Collections#sort(List)}.
+     *
+     * @param list  the list of dates to sort, no null elements, not null
+     * @throws UnsupportedOperationException if the list does not support the set operation
+     */
+    public static void sortLocalDates(List<LocalDate> list) {
+        ISOChronology.checkNotNull(list, "List must not be null");
+        int size = list.size();
+        if (size < 2) {
+            return;
+        }
+        long[] epochDays = new long[size];
+        toEpochDays(list, epochDays);
+        InstantArrays.permute(list, InstantArrays.sortOrder(epochDays));
+    }
+
+    /**
+     * Searches the sorted array of epoch-days for the specified date.
+     * <p>
+     * The array must be sorted into ascending order.
+     * If the array contains the date more than once, the index of the first is returned.
+     *
+     * @param epochDays  the sorted epoch-days, not null
+     * @param date  the date to search for, not null
+     * @return the index of the date if found, otherwise {@code (-(insertion point) - 1)}
+     *  as per {@link java.util.Arrays#binarySearch(long[], long)}
+     */
+    public static int binarySearch(long[] epochDays, LocalDate date) {
+        int index = ceilingIndex(epochDays, date);
+        if (index < epochDays.length && epochDays[index] == date.toEpochDay()) {
+            return index;
+        }
+        return -(index + 1);
+    }
+
+    /**
+     * Finds the index of the first date in the sorted array of epoch-days that is
+     * equal to or after the specified date.
+     * <p>
+     * The array must be sorted into ascending order.
+     * The half-open range of dates from {@code start} inclusive to {@code end} exclusive
+     * is held between the index {@code ceilingIndex(epochDays, start)} inclusive and
+     * {@code ceilingIndex(epochDays, end)} exclusive.
+     *
+     * @param epochDays  the sorted epoch-days, not null
+     * @param date  the date to search for, not null
+     * @return the index of the first date equal to or after the specified date,
+     *  or the length of the array if there is none
+     */
+    public static int ceilingIndex(long[] epochDays, LocalDate date) {
+        ISOChronology.checkNotNull(epochDays, "Epoch days array must not be null");
+        ISOChronology.checkNotNull(date, "LocalDate must not be null");
+        long epochDay = date.toEpochDay();
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the epoch-second and nano-of-second of each date-time in the list.
+     * <p>
+     * The values are calculated directly from the date-time without creating an {@code Instant}.
+     *
+     * @param list  the list of date-times, no null elements, not null
+     * @param resultSeconds  the array to store the epoch seconds in, at least as long as the list, not null
+     * @param resultNanos  the array to store the nano-of-second in, at least as long as the list, not null
+     * @throws IllegalArgumentException if the result arrays are too short
+     */
+    public static void toEpochSeconds(List<ZonedDateTime> list, long[] resultSeconds, int[] resultNanos) {
+        ISOChronology.checkNotNull(list, "List must not be null");
+        ISOChronology.checkNotNull(resultSeconds, "Result seconds array must not be null");
+        ISOChronology.checkNotNull(resultNanos, "Result nanos array must not be null");
+        if (resultSeconds.length < list.size() || resultNanos.length < list.size()) {
+            throw new IllegalArgumentException("Result arrays must be at least as long as the list");
+        }
+        int i = 0;
+        for (ZonedDateTime dateTime : list) {
+            resultSeconds[i] = dateTime.toEpochSecond();
+            resultNanos[i] = dateTime.getNanoOfSecond();
+            i++;
+        }
+    }
+
+    /**
+     * Sorts the list of date-times into ascending order of instant.
+     * <p>
+     * The result is the same as {@link java.util.Collections#sort(List, java.util.Comparator)}
+     * using {@link ZonedDateTime#timeLineOrder()}. The sort is stable, thus date-times
+     * representing the same instant retain their relative order.
+     * Note that this differs from the natural ordering of {@code ZonedDateTime},
+     * which also takes into account the local date-time and zone.
+     *
+     * @param list  the list of date-times to sort, no null elements, not null
+     * @throws UnsupportedOperationException if the list does not support the set operation
+     */
+    public static void sortZonedDateTimes(List<ZonedDateTime> list) {
+        ISOChronology.checkNotNull(list, "List must not be null");
+        int size = list.size();
+        if (size < 2) {
+            return;
+        }
+        long[] seconds = new long[size];
+        int[] nanos = new int[size];
+        toEpochSeconds(list, seconds, nanos);
+        InstantArrays.permute(list, InstantArrays.sortOrder(seconds, nanos));
+    }
+
+    /**
+     * Searches the sorted arrays of epoch-seconds and nano-of-second for the
+     * instant of the specified date-time.
+     * <p>
+     * The arrays must be sorted into ascending order, such as by extracting them
+     * with {@link #toEpochSeconds} after {@link #sortZonedDateTimes}.
+     *
+     * @param seconds  the sorted epoch seconds, not null
+     * @param nanos  the nano-of-second, same length as seconds, not null
+     * @param dateTime  the date-time to search for, not null
+     * @return the index of the instant if found, otherwise {@code (-(insertion point) - 1)}
+     * @throws IllegalArgumentException if the arrays are of different lengths
+     */
+    public static int binarySearch(long[] seconds, int[] nanos, ZonedDateTime dateTime) {
+        ISOChronology.checkNotNull(dateTime, "ZonedDateTime must not be null");
+        return InstantArrays.binarySearch(seconds, nanos, dateTime.toInstant());
+    }
+
+    /**
+     * Finds the index of the first instant in the sorted arrays that is equal to
+     * or after the instant of the specified date-time.
+     *
+     * @param seconds  the sorted epoch seconds, not null
+     * @param nanos  the nano-of-second, same length as seconds, not null
+     * @param dateTime  the date-time to search for, not null
+     * @return the index of the first instant equal to or after the date-time,
+     *  or the length of the arrays if there is none
+     * @throws IllegalArgumentException if the arrays are of different lengths
+     */
+    public static int ceilingIndex(long[] seconds, int[] nanos, ZonedDateTime dateTime) {
+        ISOChronology.checkNotNull(dateTime, "ZonedDateTime must not be null");
+        return InstantArrays.ceilingIndex(seconds, nanos, dateTime.toInstant());
+    }
+
+}
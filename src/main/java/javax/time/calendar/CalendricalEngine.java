@@ -61,6 +61,19 @@ import javax.time.MathUtils;
  */
 public final class CalendricalEngine {
 
+    /**
+     * Comparator to sort a group of fields from largest to smallest.
+     */
+    private static final Comparator<DateTimeField> GROUP_ORDER = new Comparator<DateTimeField>() {
+        public int compare(DateTimeField dtf1, DateTimeField dtf2) {
+            int cmp = -dtf1.getRule().comparePeriodRange(dtf2.getRule());
+            if (cmp == 0) {
+                cmp = dtf1.getRule().comparePeriodUnit(dtf2.getRule());
+            }
+            return cmp;
+        }
+    };
+
     /**
      * The original input.
      */
@@ -97,6 +110,14 @@ public final class CalendricalEngine {
      * The errors that occur during normalization.
      */
     private final Set<String> errors = new LinkedHashSet<String>();
+    /**
+     * Whether normalization has started.
+     */
+    private boolean normalized;
+    /**
+     * The cache of derived values, cleared whenever the state changes.
+     */
+    private Map<CalendricalRule<?>, Object> derived;
 
     //-----------------------------------------------------------------------
     /**
@@ -201,8 +222,7 @@ public final class CalendricalEngine {
             }
         }
         CalendricalEngine engine = new CalendricalEngine(ruleOfData, date, time, offset, zoneId, chrono, fields);
-        engine.normalize();
-        return engine.derive(ruleToDerive);
+        return engine.derive(ruleToDerive);  // normalizes lazily
     }
 
     /**
@@ -223,8 +243,7 @@ public final class CalendricalEngine {
         ISOChronology.checkNotNull(ruleToDerive, "CalendricalRule must not be null");
         ISOChronology.checkNotNull(field, "DateTimeField must not be null");
         CalendricalEngine engine = new CalendricalEngine(ruleOfData, null, null, null, null, chrono, Collections.singleton(field));
-        engine.normalize();
-        return engine.derive(ruleToDerive);
+        return engine.derive(ruleToDerive);  // normalizes lazily
     }
 
     //-----------------------------------------------------------------------
@@ -570,6 +589,7 @@ public final class CalendricalEngine {
     }
 
     private <T> T set(T curObj, T newObj, boolean storeErrorIfClash) {
+        derived = null;
         if (storeErrorIfClash) {
             if (curObj != null && curObj.equals(newObj) == false) {
                 addError("Clash: " + curObj + " and " + newObj);
@@ -595,9 +615,16 @@ public final class CalendricalEngine {
     //-----------------------------------------------------------------------
     /**
      * Normalize the fields, converting to LocalDate/LocalTime if possible.
+     * <p>
+     * Normalization only occurs once, thus this method may be called lazily
+     * before deriving a value.
      */
     private void normalize() {
         // do not call from the constructor
+        if (normalized) {
+            return;
+        }
+        normalized = true;
         if (fields != null && fields.size() > 0) {
             normalizeSeparately();
             if (errors.size() == 0) {
@@ -613,6 +640,7 @@ public final class CalendricalEngine {
                 if (fields.size() == 0) {
                     fields = null;
                 }
+                derived = null;
             }
         }
     }
@@ -625,39 +653,53 @@ public final class CalendricalEngine {
                 long newValue = normalizationRule.convertFromPeriod(fieldRule.convertToPeriod(field.getValue()));
                 setField(normalizationRule.field(newValue), true);
                 fields.remove(fieldRule);
+                derived = null;
             }
         }
     }
 
     private void normalizeAuto() {
         // group according to base rule
-        Map<DateTimeRule, List<DateTimeField>> grouped = new HashMap<DateTimeRule, List<DateTimeField>>();
-        for (DateTimeField field : fields.values()) {
-            DateTimeRule baseRule = field.getRule().getBaseRule();
-            List<DateTimeField> groupedList = grouped.get(baseRule);
-            if (groupedList == null) {
-                groupedList = new ArrayList<DateTimeField>();
-                grouped.put(baseRule, groupedList);
-            }
-            groupedList.add(field);
+        // there are only ever a handful of fields, so a linear scan is cheaper than a map
+        DateTimeField[] array = fields.values().toArray(new DateTimeField[fields.size()]);
+        DateTimeRule[] baseRules = new DateTimeRule[array.length];
+        for (int i = 0; i < array.length; i++) {
+            baseRules[i] = array[i].getRule().getBaseRule();
         }
         
         // normalize groups
         // TODO: loop again (group again) if register on group is public
-        fields.clear();
-        for (Map.Entry<DateTimeRule, List<DateTimeField>> entry : grouped.entrySet()) {
-            List<DateTimeField> group = entry.getValue();
-            if (group.size() >= 2) {
-                mergeGroup(entry.getKey(), group);
+        for (int i = 0; i < array.length; i++) {
+            DateTimeRule baseRule = baseRules[i];
+            if (baseRule == null) {
+                continue;  // already grouped
             }
-            for (DateTimeField field : group) {
-                fields.put(field.getRule(), field);  // should be no clashes here
+            List<DateTimeField> group = null;
+            for (int j = i + 1; j < array.length; j++) {
+                if (baseRule.equals(baseRules[j])) {
+                    if (group == null) {
+                        group = new ArrayList<DateTimeField>();
+                        group.add(array[i]);
+                    }
+                    group.add(array[j]);
+                    baseRules[j] = null;
+                }
+            }
+            if (group != null) {
+                for (DateTimeField field : group) {
+                    fields.remove(field.getRule());
+                }
+                mergeGroup(baseRule, group);
+                for (DateTimeField field : group) {
+                    fields.put(field.getRule(), field);  // should be no clashes here
+                }
+                derived = null;
             }
         }
     }
 
     private void mergeGroup(DateTimeRule baseRule, List<DateTimeField> group) {
-        sort(group);
+        Collections.sort(group, GROUP_ORDER);
         DateTimeRuleGroup ruleGroup = DateTimeRuleGroup.of(baseRule);
         for (int i = 0; i < group.size() - 1; i++) {
             final DateTimeField fieldLge = group.get(i);
@@ -714,18 +756,6 @@ public final class CalendricalEngine {
         }
     }
 
-    private void sort(List<DateTimeField> group) {
-        Collections.sort(group, new Comparator<DateTimeField>() {
-            public int compare(DateTimeField dtf1, DateTimeField dtf2) {
-                int cmp = -dtf1.getRule().comparePeriodRange(dtf2.getRule());
-                if (cmp == 0) {
-                    cmp = dtf1.getRule().comparePeriodUnit(dtf2.getRule());
-                }
-                return cmp;
-            }
-        });
-    }
-
     private void normalizeManual() {
         for (DateTimeField field : fields.values()) {
             field.getRule().normalize(this);
@@ -741,6 +771,7 @@ public final class CalendricalEngine {
                     addError("Cross-check clash: " + field + " and " + derived);
                 } else {
                     it.remove();
+                    this.derived = null;
                 }
             }
         }
@@ -748,14 +779,32 @@ public final class CalendricalEngine {
 
     // phase 3
     //-----------------------------------------------------------------------
+    /**
+     * Derives the value of the specified rule.
+     * <p>
+     * The engine is normalized before the first derivation if necessary.
+     * Derived values are cached until the state of the engine changes, thus
+     * repeated requests for the same rule are efficient.
+     *
+     * @param <R>  the type of the rule
+     * @param ruleToDerive  the rule to derive, not null
+     * @return the derived value, null if unable to derive or an error occurred
+     */
     @SuppressWarnings("unchecked")
     public <R> R derive(CalendricalRule<R> ruleToDerive) {
+        normalize();
         if (errors.size() > 0) {
             return null;  // quiet
         }
         if (ruleToDerive == rule()) {
             return (R) this;
         }
+        if (derived != null) {
+            Object cached = derived.get(ruleToDerive);
+            if (cached != null) {
+                return (R) cached;
+            }
+        }
         try {
             R result = ruleToDerive.deriveFrom(this);
             if (result == null && ruleToDerive instanceof DateTimeRule) {
@@ -764,6 +813,12 @@ public final class CalendricalEngine {
             if (errors.size() > 0) {
                 return null;
             }
+            if (result != null) {
+                if (derived == null) {
+                    derived = new HashMap<CalendricalRule<?>, Object>();
+                }
+                derived.put(ruleToDerive, result);
+            }
             return result;
         } catch (RuntimeException ex) {
             addError(ex.getMessage());
@@ -31,6 +31,8 @@
  */
 package javax.time.calendar;
 
+import javax.time.CalendricalException;
+
 /**
  * A calendar system, consisting of rules controlling the passage of human-scale time.
  * <p>
@@ -54,6 +56,11 @@ package javax.time.calendar;
  */
 public abstract class Chronology implements Calendrical {
 
+    /**
+     * The minimum number of dates converted by each thread of a bulk conversion.
+     */
+    private static final int BULK_CHUNK_SIZE = 32768;
+
     /**
      * Restrictive constructor.
      */
@@ -100,6 +107,202 @@ public abstract class Chronology implements Calendrical {
      */
     public abstract String getName();
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of dates, expressed as epoch-days, to the fields of this calendar system.
+     * <p>
+     * The epoch-day is the day count from 1970-01-01 (ISO) as used by {@link LocalDate#toEpochDay()}.
+     * For each input date, the numeric value of the era, year-of-era, month-of-year
+     * and day-of-month in this calendar system is stored at the same index of the output arrays.
+     * <p>
+     * The caller works with primitive arrays rather than a date object for each value.
+     * Whether the chronology creates objects internally depends on the implementation.
+     * A chronology that converts using direct arithmetic creates none, while others
+     * may create a date object for each value.
+     * <p>
+     * The conversion is performed in the calling thread.
+     * If a date cannot be converted, the exception is thrown and the output
+     * arrays may be partially written.
+     * <p>
+     * Bulk conversion is optional, and the default implementation throws
+     * {@code UnsupportedOperationException}.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param eras  the array to store the era values in, not null
+     * @param yearsOfEra  the array to store the year-of-era values in, not null
+     * @param monthsOfYear  the array to store the month-of-year values in, not null
+     * @param daysOfMonth  the array to store the day-of-month values in, not null
+     * @throws IllegalArgumentException if an output array is shorter than the input array
+     * @throws CalendricalException if a date is outside the range of this calendar system
+     * @throws UnsupportedOperationException if bulk conversion is not supported
+     */
+    public void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth) {
+        convertFromEpochDays(epochDays, eras, yearsOfEra, monthsOfYear, daysOfMonth, false);
+    }
+
+    /**
+     * Converts an array of dates, expressed as epoch-days, to the fields of this calendar system,
+     * optionally using several threads.
+     * <p>
+     * This is the same as {@link #convertFromEpochDays(int[], int[], int[], int[], int[])}
+     * except that the conversion may be performed in parallel.
+     * <p>
+     * <b>When parallel, each call starts new threads.</b>
+     * Large arrays are split into chunks, with up to one chunk per available processor.
+     * The calling thread converts the first chunk and a new thread is started for each
+     * of the others. The threads are not pooled and are discarded once the call returns.
+     * Parallel conversion is thus only worthwhile for large arrays, and should not be
+     * used where the application manages its own threads.
+     * If a date cannot be converted, the exception is thrown once all chunks
+     * have completed, and the output arrays may be partially written.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param eras  the array to store the era values in, not null
+     * @param yearsOfEra  the array to store the year-of-era values in, not null
+     * @param monthsOfYear  the array to store the month-of-year values in, not null
+     * @param daysOfMonth  the array to store the day-of-month values in, not null
+     * @param parallel  true to convert large arrays using new threads, false to convert in the calling thread
+     * @throws IllegalArgumentException if an output array is shorter than the input array
+     * @throws CalendricalException if a date is outside the range of this calendar system
+     * @throws UnsupportedOperationException if bulk conversion is not supported
+     */
+    public void convertFromEpochDays(
+            final int[] epochDays, final int[] eras, final int[] yearsOfEra, final int[] monthsOfYear, final int[] daysOfMonth,
+            boolean parallel) {
+        ISOChronology.checkNotNull(epochDays, "Epoch-day array must not be null");
+        checkBulkArrays(epochDays.length, eras, yearsOfEra, monthsOfYear, daysOfMonth);
+        new BulkTask(epochDays.length) {
+            @Override
+            void convert(int fromIndex, int toIndex) {
+                convertFromEpochDays(epochDays, eras, yearsOfEra, monthsOfYear, daysOfMonth, fromIndex, toIndex);
+            }
+        }.invoke(parallel);
+    }
+
+    /**
+     * Converts an array of dates, expressed as fields of this calendar system, to epoch-days.
+     * <p>
+     * This is the reverse of {@link #convertFromEpochDays(int[], int[], int[], int[], int[])}.
+     * The date at each index of the input arrays is converted to the epoch-day
+     * stored at the same index of the output array.
+     * <p>
+     * The conversion is performed in the calling thread.
+     * If a date cannot be converted, the exception is thrown and the output
+     * array may be partially written.
+     * <p>
+     * Bulk conversion is optional, and the default implementation throws
+     * {@code UnsupportedOperationException}.
+     *
+     * @param eras  the era values to convert, not null
+     * @param yearsOfEra  the year-of-era values to convert, same length as the eras, not null
+     * @param monthsOfYear  the month-of-year values to convert, same length as the eras, not null
+     * @param daysOfMonth  the day-of-month values to convert, same length as the eras, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @throws IllegalArgumentException if an array is shorter than the array of eras
+     * @throws CalendricalException if a date is invalid for this calendar system
+     * @throws UnsupportedOperationException if bulk conversion is not supported
+     */
+    public void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays) {
+        convertToEpochDays(eras, yearsOfEra, monthsOfYear, daysOfMonth, epochDays, false);
+    }
+
+    /**
+     * Converts an array of dates, expressed as fields of this calendar system, to epoch-days,
+     * optionally using several threads.
+     * <p>
+     * This is the same as {@link #convertToEpochDays(int[], int[], int[], int[], int[])}
+     * except that the conversion may be performed in parallel.
+     * <p>
+     * <b>When parallel, each call starts new threads.</b>
+     * The threading is as described in
+     * {@link #convertFromEpochDays(int[], int[], int[], int[], int[], boolean)}.
+     *
+     * @param eras  the era values to convert, not null
+     * @param yearsOfEra  the year-of-era values to convert, same length as the eras, not null
+     * @param monthsOfYear  the month-of-year values to convert, same length as the eras, not null
+     * @param daysOfMonth  the day-of-month values to convert, same length as the eras, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @param parallel  true to convert large arrays using new threads, false to convert in the calling thread
+     * @throws IllegalArgumentException if an array is shorter than the array of eras
+     * @throws CalendricalException if a date is invalid for this calendar system
+     * @throws UnsupportedOperationException if bulk conversion is not supported
+     */
+    public void convertToEpochDays(
+            final int[] eras, final int[] yearsOfEra, final int[] monthsOfYear, final int[] daysOfMonth, final int[] epochDays,
+            boolean parallel) {
+        ISOChronology.checkNotNull(eras, "Era array must not be null");
+        checkBulkArrays(eras.length, epochDays, yearsOfEra, monthsOfYear, daysOfMonth);
+        new BulkTask(eras.length) {
+            @Override
+            void convert(int fromIndex, int toIndex) {
+                convertToEpochDays(eras, yearsOfEra, monthsOfYear, daysOfMonth, epochDays, fromIndex, toIndex);
+            }
+        }.invoke(parallel);
+    }
+
+    /**
+     * Converts a range of an array of epoch-days to the fields of this calendar system.
+     * <p>
+     * This is called by {@link #convertFromEpochDays(int[], int[], int[], int[], int[], boolean)}
+     * with validated arrays, from several threads at once for different ranges if parallel.
+     * Implementations must only access the specified range of the arrays.
+     * <p>
+     * The default implementation throws {@code UnsupportedOperationException}.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param eras  the array to store the era values in, not null
+     * @param yearsOfEra  the array to store the year-of-era values in, not null
+     * @param monthsOfYear  the array to store the month-of-year values in, not null
+     * @param daysOfMonth  the array to store the day-of-month values in, not null
+     * @param fromIndex  the first index to convert, inclusive
+     * @param toIndex  the last index to convert, exclusive
+     * @throws CalendricalException if a date is outside the range of this calendar system
+     * @throws UnsupportedOperationException if bulk conversion is not supported
+     */
+    protected void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth,
+            int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("Bulk conversion is not supported by chronology " + getName());
+    }
+
+    /**
+     * Converts a range of an array of dates, expressed as fields of this calendar system, to epoch-days.
+     * <p>
+     * This is called by {@link #convertToEpochDays(int[], int[], int[], int[], int[], boolean)}
+     * with validated arrays, from several threads at once for different ranges if parallel.
+     * Implementations must only access the specified range of the arrays.
+     * <p>
+     * The default implementation throws {@code UnsupportedOperationException}.
+     *
+     * @param eras  the era values to convert, not null
+     * @param yearsOfEra  the year-of-era values to convert, not null
+     * @param monthsOfYear  the month-of-year values to convert, not null
+     * @param daysOfMonth  the day-of-month values to convert, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @param fromIndex  the first index to convert, inclusive
+     * @param toIndex  the last index to convert, exclusive
+     * @throws CalendricalException if a date is invalid for this calendar system
+     * @throws UnsupportedOperationException if bulk conversion is not supported
+     */
+    protected void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays,
+            int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("Bulk conversion is not supported by chronology " + getName());
+    }
+
+    /**
+     * Validates the arrays of a bulk conversion.
+     *
+     * @param length  the length of the input array
+     * @param arrays  the other arrays, which must be at least as long
+     */
+    private static void checkBulkArrays(int length, int[]... arrays) {
+        for (int[] array : arrays) {
+            ISOChronology.checkNotNull(array, "Array must not be null");
+            if (array.length < length) {
+                throw new IllegalArgumentException("Array must be at least as long as the input array");
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a textual description of the chronology.
@@ -111,4 +314,118 @@ public abstract class Chronology implements Calendrical {
         return getName();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A bulk conversion, optionally split into chunks that are converted in parallel.
+     * <p>
+     * When parallel, the caller converts the first chunk while a new thread is started
+     * for each of the others.
+     */
+    private abstract static class BulkTask {
+        /** The number of dates to convert. */
+        private final int length;
+        /** The first failure of a chunk. */
+        private Throwable failure;
+
+        /**
+         * Constructor.
+         *
+         * @param length  the number of dates to convert
+         */
+        BulkTask(int length) {
+            this.length = length;
+        }
+
+        /**
+         * Converts a range of the dates.
+         *
+         * @param fromIndex  the first index to convert, inclusive
+         * @param toIndex  the last index to convert, exclusive
+         */
+        abstract void convert(int fromIndex, int toIndex);
+
+        /**
+         * Performs the conversion, waiting until all chunks have completed.
+         *
+         * @param parallel  whether to convert large arrays using new threads
+         */
+        void invoke(boolean parallel) {
+            int chunks = (parallel ? Math.min(Runtime.getRuntime().availableProcessors(), length / BULK_CHUNK_SIZE) : 1);
+            if (chunks <= 1) {
+                convert(0, length);
+                return;
+            }
+            Thread[] threads = new Thread[chunks - 1];
+            for (int i = 1; i < chunks; i++) {
+                final int fromIndex = (int) (((long) length) * i / chunks);
+                final int toIndex = (int) (((long) length) * (i + 1) / chunks);
+                threads[i - 1] = new Thread(new Runnable() {
+                    public void run() {
+                        convertChunk(fromIndex, toIndex);
+                    }
+                }, "Chronology bulk conversion");
+                threads[i - 1].setDaemon(true);
+                threads[i - 1].start();
+            }
+            convertChunk(0, length / chunks);
+            boolean interrupted = false;
+            for (Thread thread : threads) {
+                while (true) {
+                    try {
+                        thread.join();
+                        break;
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable ex = getFailure();
+            if (ex instanceof RuntimeException) {
+                throw (RuntimeException) ex;
+            }
+            if (ex instanceof Error) {
+                throw (Error) ex;
+            }
+        }
+
+        /**
+         * Converts a chunk, recording the first failure.
+         *
+         * @param fromIndex  the first index to convert, inclusive
+         * @param toIndex  the last index to convert, exclusive
+         */
+        private void convertChunk(int fromIndex, int toIndex) {
+            try {
+                convert(fromIndex, toIndex);
+            } catch (RuntimeException ex) {
+                setFailure(ex);
+            } catch (Error ex) {
+                setFailure(ex);
+            }
+        }
+
+        /**
+         * Records a failure, retaining the first.
+         *
+         * @param ex  the failure, not null
+         */
+        private synchronized void setFailure(Throwable ex) {
+            if (failure == null) {
+                failure = ex;
+            }
+        }
+
+        /**
+         * Gets the first failure.
+         *
+         * @return the failure, null if none
+         */
+        private synchronized Throwable getFailure() {
+            return failure;
+        }
+    }
+
 }
@@ -36,7 +36,10 @@ import java.util.TimeZone;
 
 import javax.time.CalendricalException;
 import javax.time.Instant;
+import javax.time.MathUtils;
 import javax.time.TimeSource;
+import javax.time.calendar.zone.ZoneOffsetTransition;
+import javax.time.calendar.zone.ZoneRules;
 
 /**
  * A clock providing access to the current date and time.
@@ -571,6 +574,8 @@ public abstract class Clock {
         private final TimeSource timeSource;
         /** The time-zone being used. */
         private final ZoneId zone;
+        /** The day window containing the last instant, null until first used. */
+        private transient volatile Snapshot snapshot;
 
         /** Restricted constructor. */
         private TimeSourceClock(TimeSource timeSource, ZoneId zone) {
@@ -578,6 +583,70 @@ public abstract class Clock {
             this.zone = zone;
         }
 
+        /**
+         * Gets the snapshot for the instant, reusing the last one if the instant is
+         * within the same day and offset.
+         * <p>
+         * Most calls fall within the day of the previous call, and cost
+         * a volatile read and two comparisons without querying the zone rules.
+         *
+         * @param instant  the current instant, not null
+         * @return the snapshot, not null
+         */
+        private Snapshot snapshot(Instant instant) {
+            long epochSecond = instant.getEpochSecond();
+            Snapshot snap = snapshot;
+            if (snap == null || epochSecond < snap.start || epochSecond >= snap.end) {
+                snap = Snapshot.of(instant, zone.getRules());
+                snapshot = snap;
+            }
+            return snap;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LocalDate today() {
+            return snapshot(instant()).date;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LocalTime time() {
+            Instant instant = instant();
+            return snapshot(instant).time(instant);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LocalDateTime dateTime() {
+            Instant instant = instant();
+            Snapshot snap = snapshot(instant);
+            return LocalDateTime.of(snap.date, snap.time(instant));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OffsetDate offsetDate() {
+            Snapshot snap = snapshot(instant());
+            return OffsetDate.of(snap.date, snap.offset);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OffsetTime offsetTime() {
+            Instant instant = instant();
+            Snapshot snap = snapshot(instant);
+            return OffsetTime.of(snap.time(instant), snap.offset);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public OffsetDateTime offsetDateTime() {
+            Instant instant = instant();
+            Snapshot snap = snapshot(instant);
+            return OffsetDateTime.of(snap.date, snap.time(instant), snap.offset);
+        }
+
         /** {@inheritDoc} */
         @Override
         public TimeSource getSource() {
@@ -638,4 +707,78 @@ public abstract class Clock {
             return "TimeSourceClock[" + timeSource + ", " + zone + ']';
         }
     }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable snapshot of the local day containing an instant in a clock's zone.
+     * <p>
+     * The window runs from the start of the local day, or the previous offset transition
+     * if later, to the end of the day, or the next transition if earlier.
+     * Within the window the offset and date are fixed and the local time
+     * is found by subtracting the epoch-second of local midnight.
+     * It is published through a volatile field so that the values are always consistent.
+     */
+    private static final class Snapshot {
+        /** The first epoch-second of the window, inclusive. */
+        private final long start;
+        /** The last epoch-second of the window, exclusive. */
+        private final long end;
+        /** The epoch-second of local midnight at the offset. */
+        private final long midnight;
+        /** The offset within the window. */
+        private final ZoneOffset offset;
+        /** The local date within the window. */
+        private final LocalDate date;
+
+        /**
+         * Obtains the snapshot containing the instant.
+         *
+         * @param instant  the instant, not null
+         * @param rules  the rules of the zone, not null
+         * @return the snapshot, not null
+         */
+        private static Snapshot of(Instant instant, ZoneRules rules) {
+            ZoneOffset offset = rules.getOffset(instant);
+            long epochSecond = instant.getEpochSecond();
+            long localSecond = epochSecond + offset.getAmountSeconds();
+            long midnight = epochSecond - MathUtils.floorMod(localSecond, ISOChronology.SECONDS_PER_DAY);
+            long start = midnight;
+            long end = midnight + ISOChronology.SECONDS_PER_DAY;
+            try {
+                ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+                if (previous != null) {
+                    start = Math.max(start, previous.getInstant().getEpochSecond());
+                }
+                ZoneOffsetTransition next = rules.nextTransition(instant);
+                if (next != null) {
+                    end = Math.min(end, next.getInstant().getEpochSecond());
+                }
+            } catch (UnsupportedOperationException ex) {
+                // rules cannot find transitions, so limit the window to the second
+                start = epochSecond;
+                end = epochSecond + 1;
+            }
+            LocalDate date = LocalDate.ofEpochDay(MathUtils.floorDiv(localSecond, ISOChronology.SECONDS_PER_DAY));
+            return new Snapshot(start, end, midnight, offset, date);
+        }
+
+        /** Restricted constructor. */
+        private Snapshot(long start, long end, long midnight, ZoneOffset offset, LocalDate date) {
+            this.start = start;
+            this.end = end;
+            this.midnight = midnight;
+            this.offset = offset;
+            this.date = date;
+        }
+
+        /**
+         * Gets the local time of an instant within the window.
+         *
+         * @param instant  the instant within the window, not null
+         * @return the local time, not null
+         */
+        private LocalTime time(Instant instant) {
+            return LocalTime.ofSecondOfDay(instant.getEpochSecond() - midnight, instant.getNanoOfSecond());
+        }
+    }
 }
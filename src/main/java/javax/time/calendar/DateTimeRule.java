@@ -467,6 +467,22 @@ public abstract class DateTimeRule extends CalendricalRule<DateTimeField>
         return value;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of this rule from the specified calendrical as a {@code long}.
+     * <p>
+     * This is equivalent to {@code getValueChecked(calendrical).getValue()}.
+     * Subclasses may override this method to obtain the value from
+     * well-known calendricals without creating a {@code DateTimeField}.
+     *
+     * @param calendrical  the calendrical to get the value from, not null
+     * @return the value of the rule, may be outside the valid range for the rule
+     * @throws CalendricalException if the value cannot be obtained
+     */
+    public long getLong(Calendrical calendrical) {
+        return getValueChecked(calendrical).getValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a field for this rule.
@@ -251,7 +251,7 @@ public enum DayOfWeek implements Calendrical {
      * @return the resulting day-of-week, not null
      */
     public DayOfWeek roll(int days) {
-        return values()[(ordinal() + (days % 7 + 7)) % 7];
+        return ENUMS[(ordinal() + (days % 7 + 7)) % 7];
     }
 
     //-----------------------------------------------------------------------
@@ -78,6 +78,24 @@ public final class ISOChronology extends Chronology implements Serializable {
      * The number of days from year zero to the Modified Julian Day epoch of 1858-11-17.
      */
     static final long DAYS_0000_TO_MJD_EPOCH = 678941;
+    /**
+     * The first year of the year table, which must be the start of a 400 year cycle.
+     */
+    static final int TABLE_MIN_YEAR = 1600;
+    /**
+     * The last year of the year table, inclusive.
+     */
+    static final int TABLE_MAX_YEAR = 2600;
+    /**
+     * The day-of-year of the first day of each month in a standard year,
+     * with one extra entry for the day after the end of the year.
+     */
+    private static final int[] MONTH_STARTS_STANDARD = {1, 32, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335, 366};
+    /**
+     * The day-of-year of the first day of each month in a leap year,
+     * with one extra entry for the day after the end of the year.
+     */
+    private static final int[] MONTH_STARTS_LEAP = {1, 32, 61, 92, 122, 153, 183, 214, 245, 275, 306, 336, 367};
 
     //-----------------------------------------------------------------------
     /**
@@ -116,6 +134,123 @@ public final class ISOChronology extends Chronology implements Serializable {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the year is within the year table.
+     *
+     * @param year  the year to check
+     * @return true if the year is in the table
+     */
+    static boolean isTableYear(int year) {
+        return year >= TABLE_MIN_YEAR && year <= TABLE_MAX_YEAR;
+    }
+
+    /**
+     * Checks if the epoch-day is within the year table.
+     *
+     * @param epochDay  the epoch-day to check
+     * @return true if the epoch-day is in the table
+     */
+    static boolean isTableEpochDay(long epochDay) {
+        int[] starts = YearTable.START_EPOCH_DAYS;
+        return epochDay >= starts[0] && epochDay < starts[starts.length - 1];
+    }
+
+    /**
+     * Gets the year containing an epoch-day from the year table.
+     *
+     * @param epochDay  the epoch-day, within the table
+     * @return the year
+     */
+    static int getTableYear(long epochDay) {
+        int[] starts = YearTable.START_EPOCH_DAYS;
+        int index = (int) ((epochDay - starts[0]) * 400 / DAYS_PER_CYCLE);
+        if (epochDay < starts[index]) {
+            index--;
+        } else if (epochDay >= starts[index + 1]) {
+            index++;
+        }
+        return index + TABLE_MIN_YEAR;
+    }
+
+    /**
+     * Gets the epoch-day of the first day of a year from the year table.
+     *
+     * @param year  the year, within the table
+     * @return the epoch-day of January 1st
+     */
+    static int getTableYearStart(int year) {
+        return YearTable.START_EPOCH_DAYS[year - TABLE_MIN_YEAR];
+    }
+
+    /**
+     * Checks if a year is a leap year using the year table.
+     *
+     * @param year  the year, within the table
+     * @return true if the year is a leap year
+     */
+    static boolean isTableLeapYear(int year) {
+        return (YearTable.FLAGS[year - TABLE_MIN_YEAR] & YearTable.LEAP) != 0;
+    }
+
+    /**
+     * Gets the day-of-year of the first day of a month.
+     *
+     * @param month  the month-of-year, from 1 to 12
+     * @param leapYear  true if the year is a leap year
+     * @return the day-of-year of the first day of the month, from 1 to 336
+     */
+    static int getMonthStartDayOfYear(int month, boolean leapYear) {
+        return (leapYear ? MONTH_STARTS_LEAP : MONTH_STARTS_STANDARD)[month - 1];
+    }
+
+    /**
+     * Calculates the epoch-day of the first day of a month.
+     * <p>
+     * The year table is used where possible. Years outside the range of
+     * {@code LocalDate} are permitted.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @return the epoch-day of the first day of the month
+     */
+    static long getMonthStartEpochDay(long year, int month) {
+        if (year >= TABLE_MIN_YEAR && year <= TABLE_MAX_YEAR) {
+            int tableYear = (int) year;
+            return getTableYearStart(tableYear) + getMonthStartDayOfYear(month, isTableLeapYear(tableYear)) - 1;
+        }
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += ((367 * month - 362) / 12);
+        if (month > 2) {
+            total--;
+            if (isLeapYear(year) == false) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Gets the month containing a day-of-year.
+     *
+     * @param dayOfYear  the day-of-year, valid for the year
+     * @param leapYear  true if the year is a leap year
+     * @return the month-of-year, from 1 to 12
+     */
+    static int getMonthFromDayOfYear(int dayOfYear, boolean leapYear) {
+        int[] starts = (leapYear ? MONTH_STARTS_LEAP : MONTH_STARTS_STANDARD);
+        int month0 = (dayOfYear - 1) / 31;
+        if (dayOfYear >= starts[month0 + 1]) {
+            month0++;
+        }
+        return month0 + 1;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Calculates the day-of-week from a date.
@@ -124,13 +259,30 @@ public final class ISOChronology extends Chronology implements Serializable {
      * @return the day-of-week
      */
     static DayOfWeek getDayOfWeekFromDate(LocalDate date) {
+        return DayOfWeek.of(getDayOfWeekValueFromDate(date));
+    }
+
+    /**
+     * Calculates the day-of-week value from a date.
+     *
+     * @param date  the date to use, not null
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    static int getDayOfWeekValueFromDate(LocalDate date) {
+        int year = date.getYear();
+        if (isTableYear(year)) {
+            int index = year - TABLE_MIN_YEAR;
+            boolean leap = (YearTable.FLAGS[index] & YearTable.LEAP) != 0;
+            int doy0 = getMonthStartDayOfYear(date.getMonthValue(), leap) + date.getDayOfMonth() - 2;
+            return ((YearTable.FLAGS[index] & YearTable.DOW_MASK) + doy0) % 7 + 1;
+        }
         long mjd = date.toModifiedJulianDay();
         if (mjd < 0) {
             long weeks = mjd / 7;
             mjd += (-weeks + 1) * 7;
         }
         int dow0 = (int) ((mjd + 2) % 7);
-        return DayOfWeek.of(dow0 + 1);
+        return dow0 + 1;
     }
 
     //-----------------------------------------------------------------------
@@ -141,7 +293,9 @@ public final class ISOChronology extends Chronology implements Serializable {
      * @return the day-of-year
      */
     static int getDayOfYearFromDate(LocalDate date) {
-        return date.getMonthOfYear().getMonthStartDayOfYear(date.isLeapYear()) + date.getDayOfMonth() - 1;
+        int year = date.getYear();
+        boolean leap = (isTableYear(year) ? isTableLeapYear(year) : isLeapYear(year));
+        return getMonthStartDayOfYear(date.getMonthValue(), leap) + date.getDayOfMonth() - 1;
     }
 
     /**
@@ -153,17 +307,13 @@ public final class ISOChronology extends Chronology implements Serializable {
      */
     static LocalDate getDateFromDayOfYear(int year, int dayOfYear) {
         DAY_OF_YEAR.checkValidValue(dayOfYear);
-        boolean leap = ISOChronology.isLeapYear(year);
+        boolean leap = (isTableYear(year) ? isTableLeapYear(year) : isLeapYear(year));
         if (dayOfYear == 366 && leap == false) {
             throw new InvalidCalendarFieldException("DayOfYear 366 is invalid for year " + year, DAY_OF_YEAR);
         }
-        MonthOfYear moy = MonthOfYear.of((dayOfYear - 1) / 31 + 1);
-        int monthEnd = moy.getMonthEndDayOfYear(leap);
-        if (dayOfYear > monthEnd) {
-            moy = moy.next();
-        }
-        int dom = dayOfYear - moy.getMonthStartDayOfYear(leap) + 1;
-        return LocalDate.of(year, moy, dom);
+        int month = getMonthFromDayOfYear(dayOfYear, leap);
+        int dom = dayOfYear - getMonthStartDayOfYear(month, leap) + 1;
+        return LocalDate.of(year, MonthOfYear.of(month), dom);
     }
 
     //-----------------------------------------------------------------------
@@ -178,7 +328,7 @@ public final class ISOChronology extends Chronology implements Serializable {
         if (date.getMonthOfYear() == MonthOfYear.JANUARY) {
             int dom = date.getDayOfMonth();
             if (dom < 4) {
-                int dow = date.getDayOfWeek().getValue();
+                int dow = date.getDayOfWeekValue();
                 if (dow > dom + 3) {
                     year--;
                 }
@@ -186,7 +336,7 @@ public final class ISOChronology extends Chronology implements Serializable {
         } else if (date.getMonthOfYear() == MonthOfYear.DECEMBER) {
             int dom = date.getDayOfMonth();
             if (dom > 28) {
-                int dow = date.getDayOfWeek().getValue();
+                int dow = date.getDayOfWeekValue();
                 if (dow <= dom % 7) {
                     year++;
                 }
@@ -205,7 +355,7 @@ public final class ISOChronology extends Chronology implements Serializable {
         int wby = getWeekBasedYearFromDate(date);
         LocalDate yearStart = LocalDate.of(wby, MonthOfYear.JANUARY, 4);
         return MathUtils.safeToInt((date.toModifiedJulianDay() - yearStart.toModifiedJulianDay() +
-                yearStart.getDayOfWeek().getValue() - 1) / 7 + 1);
+                yearStart.getDayOfWeekValue() - 1) / 7 + 1);
     }
 
     //-----------------------------------------------------------------------
@@ -215,6 +365,45 @@ public final class ISOChronology extends Chronology implements Serializable {
     private ISOChronology() {
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Table of metadata for each year from {@link #TABLE_MIN_YEAR} to {@link #TABLE_MAX_YEAR}.
+     * <p>
+     * The table is built by the class loader the first time it is used.
+     * It is built using arithmetic alone, as the date methods that use it
+     * must not be called while it is being built.
+     */
+    private static final class YearTable {
+        /**
+         * The flag in {@link #FLAGS} indicating a leap year.
+         */
+        static final int LEAP = 0x08;
+        /**
+         * The mask in {@link #FLAGS} for the zero-based day-of-week of January 1st.
+         */
+        static final int DOW_MASK = 0x07;
+        /**
+         * The epoch-day of January 1st of each year, with one extra entry
+         * for the day after the end of the table.
+         */
+        static final int[] START_EPOCH_DAYS = new int[TABLE_MAX_YEAR - TABLE_MIN_YEAR + 2];
+        /**
+         * The leap year flag and the zero-based day-of-week of January 1st of each year.
+         */
+        static final byte[] FLAGS = new byte[TABLE_MAX_YEAR - TABLE_MIN_YEAR + 1];
+        static {
+            long epochDay = DAYS_PER_CYCLE * (TABLE_MIN_YEAR / 400L) - DAYS_0000_TO_1970;
+            for (int i = 0; i < FLAGS.length; i++) {
+                boolean leap = isLeapYear(TABLE_MIN_YEAR + i);
+                int dow0 = MathUtils.floorMod(epochDay + 3, 7);  // 1970-01-01 was a Thursday
+                START_EPOCH_DAYS[i] = (int) epochDay;
+                FLAGS[i] = (byte) (dow0 | (leap ? LEAP : 0));
+                epochDay += (leap ? 366 : 365);
+            }
+            START_EPOCH_DAYS[FLAGS.length] = (int) epochDay;
+        }
+    }
+
     /**
      * Resolves singleton.
      *
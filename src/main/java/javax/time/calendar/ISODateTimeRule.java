@@ -46,6 +46,7 @@ import static javax.time.calendar.ISOPeriodUnit._12_HOURS;
 
 import java.io.Serializable;
 
+import javax.time.CalendricalException;
 import javax.time.MathUtils;
 
 /**
@@ -73,6 +74,10 @@ public final class ISODateTimeRule extends DateTimeRule implements Serializable
      * The serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * Marker for a value that could not be derived, outside the range of all the rules.
+     */
+    private static final long NO_VALUE = Long.MIN_VALUE;
     /**
      * Constant for the minimum week-based-year.
      */
@@ -265,56 +270,106 @@ public final class ISODateTimeRule extends DateTimeRule implements Serializable
      * Derive from the major classes.
      */
     DateTimeField deriveFrom(LocalDate date, LocalTime time, ZoneOffset offset) {
+        long value = deriveValue(date, time, offset);
+        return (value != NO_VALUE ? field(value) : null);
+    }
+
+    /**
+     * Derive the value from the major classes without creating a field.
+     *
+     * @return the derived value, {@code NO_VALUE} if unable to derive
+     */
+    private long deriveValue(LocalDate date, LocalTime time, ZoneOffset offset) {
         if (ordinal >= DAY_OF_WEEK_ORDINAL) {
             if (date != null) {
                 switch (ordinal) {
-                    case DAY_OF_WEEK_ORDINAL: return field(ISOChronology.getDayOfWeekFromDate(date).getValue());
-                    case DAY_OF_MONTH_ORDINAL: return field(date.getDayOfMonth());
-                    case DAY_OF_YEAR_ORDINAL: return field(ISOChronology.getDayOfYearFromDate(date));
-                    case EPOCH_DAY_ORDINAL: return field(date.toEpochDay());
-                    case ALIGNED_WEEK_OF_MONTH_ORDINAL: return field((date.getDayOfMonth() - 1) / 7 + 1);
-                    case WEEK_OF_WEEK_BASED_YEAR_ORDINAL: return field(ISOChronology.getWeekOfWeekBasedYearFromDate(date));
-                    case ALIGNED_WEEK_OF_YEAR_ORDINAL: return field((date.getDayOfYear() - 1) / 7 + 1);
-                    case MONTH_OF_QUARTER_ORDINAL: return field(date.getMonthOfYear().getMonthOfQuarter());
-                    case MONTH_OF_YEAR_ORDINAL: return field(date.getMonthOfYear().getValue());
-                    case ZERO_EPOCH_MONTH_ORDINAL: return field(MathUtils.safeAdd(MathUtils.safeMultiply(date.getYear(), 12L), date.getMonthOfYear().ordinal()));
-                    case QUARTER_OF_YEAR_ORDINAL: return field(date.getMonthOfYear().getQuarterOfYear().getValue());
-                    case WEEK_BASED_YEAR_ORDINAL: return field(ISOChronology.getWeekBasedYearFromDate(date));
-                    case YEAR_ORDINAL: return field(date.getYear());
+                    case DAY_OF_WEEK_ORDINAL: return ISOChronology.getDayOfWeekValueFromDate(date);
+                    case DAY_OF_MONTH_ORDINAL: return date.getDayOfMonth();
+                    case DAY_OF_YEAR_ORDINAL: return ISOChronology.getDayOfYearFromDate(date);
+                    case EPOCH_DAY_ORDINAL: return date.toEpochDay();
+                    case ALIGNED_WEEK_OF_MONTH_ORDINAL: return (date.getDayOfMonth() - 1) / 7 + 1;
+                    case WEEK_OF_WEEK_BASED_YEAR_ORDINAL: return ISOChronology.getWeekOfWeekBasedYearFromDate(date);
+                    case ALIGNED_WEEK_OF_YEAR_ORDINAL: return (date.getDayOfYear() - 1) / 7 + 1;
+                    case MONTH_OF_QUARTER_ORDINAL: return date.getMonthOfYear().getMonthOfQuarter();
+                    case MONTH_OF_YEAR_ORDINAL: return date.getMonthValue();
+                    case ZERO_EPOCH_MONTH_ORDINAL: return MathUtils.safeAdd(MathUtils.safeMultiply(date.getYear(), 12L), date.getMonthOfYear().ordinal());
+                    case QUARTER_OF_YEAR_ORDINAL: return date.getMonthOfYear().getQuarterOfYear().getValue();
+                    case WEEK_BASED_YEAR_ORDINAL: return ISOChronology.getWeekBasedYearFromDate(date);
+                    case YEAR_ORDINAL: return date.getYear();
                 }
             }
         } else {
             if (time != null) {
                 switch (ordinal) {
-                    case NANO_OF_MILLI_ORDINAL: return field(time.getNanoOfSecond() % 1000000L);
-                    case NANO_OF_SECOND_ORDINAL: return field(time.getNanoOfSecond());
-                    case NANO_OF_MINUTE_ORDINAL: return field(time.toNanoOfDay() % 60L * 1000000000L);
-                    case NANO_OF_HOUR_ORDINAL: return field(time.toNanoOfDay() % 3600L * 1000000000L);
-                    case NANO_OF_DAY_ORDINAL: return field(time.toNanoOfDay());
-                    case MILLI_OF_SECOND_ORDINAL: return field(time.getNanoOfSecond() / 1000000);
-                    case MILLI_OF_MINUTE_ORDINAL: return field((time.toNanoOfDay() / 1000000L) % 60 * 1000L);
-                    case MILLI_OF_HOUR_ORDINAL: return field((time.toNanoOfDay() / 1000000L) % 3600 * 1000L);
-                    case MILLI_OF_DAY_ORDINAL: return field(time.toNanoOfDay() / 1000000L);
-                    case SECOND_OF_MINUTE_ORDINAL: return field(time.getSecondOfMinute());
-                    case SECOND_OF_HOUR_ORDINAL: return field(time.getMinuteOfHour() * 60 + time.getSecondOfMinute());
-                    case SECOND_OF_DAY_ORDINAL: return field(time.toSecondOfDay());
+                    case NANO_OF_MILLI_ORDINAL: return time.getNanoOfSecond() % 1000000L;
+                    case NANO_OF_SECOND_ORDINAL: return time.getNanoOfSecond();
+                    case NANO_OF_MINUTE_ORDINAL: return time.toNanoOfDay() % 60L * 1000000000L;
+                    case NANO_OF_HOUR_ORDINAL: return time.toNanoOfDay() % 3600L * 1000000000L;
+                    case NANO_OF_DAY_ORDINAL: return time.toNanoOfDay();
+                    case MILLI_OF_SECOND_ORDINAL: return time.getNanoOfSecond() / 1000000;
+                    case MILLI_OF_MINUTE_ORDINAL: return (time.toNanoOfDay() / 1000000L) % 60 * 1000L;
+                    case MILLI_OF_HOUR_ORDINAL: return (time.toNanoOfDay() / 1000000L) % 3600 * 1000L;
+                    case MILLI_OF_DAY_ORDINAL: return time.toNanoOfDay() / 1000000L;
+                    case SECOND_OF_MINUTE_ORDINAL: return time.getSecondOfMinute();
+                    case SECOND_OF_HOUR_ORDINAL: return time.getMinuteOfHour() * 60 + time.getSecondOfMinute();
+                    case SECOND_OF_DAY_ORDINAL: return time.toSecondOfDay();
                     case EPOCH_SECOND_ORDINAL: {
                         if (date != null && offset != null) {
-                            field(OffsetDateTime.of(date, time, offset).toEpochSecond());
+                            return OffsetDateTime.of(date, time, offset).toEpochSecond();
                         }
                         break;
                     }
-                    case MINUTE_OF_HOUR_ORDINAL: return field(time.getMinuteOfHour());
-                    case MINUTE_OF_DAY_ORDINAL: return field(time.toSecondOfDay() / 60);
-                    case CLOCK_HOUR_OF_AMPM_ORDINAL: return field(((time.getHourOfDay() + 11) % 12) + 1);
-                    case HOUR_OF_AMPM_ORDINAL: return field(time.getHourOfDay() % 12);
-                    case CLOCK_HOUR_OF_DAY_ORDINAL: return field(((time.getHourOfDay() + 23) % 24) + 1);
-                    case HOUR_OF_DAY_ORDINAL: return field(time.getHourOfDay());
-                    case AMPM_OF_DAY_ORDINAL: return field(time.getHourOfDay() / 12);
+                    case MINUTE_OF_HOUR_ORDINAL: return time.getMinuteOfHour();
+                    case MINUTE_OF_DAY_ORDINAL: return time.toSecondOfDay() / 60;
+                    case CLOCK_HOUR_OF_AMPM_ORDINAL: return ((time.getHourOfDay() + 11) % 12) + 1;
+                    case HOUR_OF_AMPM_ORDINAL: return time.getHourOfDay() % 12;
+                    case CLOCK_HOUR_OF_DAY_ORDINAL: return ((time.getHourOfDay() + 23) % 24) + 1;
+                    case HOUR_OF_DAY_ORDINAL: return time.getHourOfDay();
+                    case AMPM_OF_DAY_ORDINAL: return time.getHourOfDay() / 12;
                 }
             }
         }
-        return null;
+        return NO_VALUE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of this rule from the specified calendrical as a {@code long}.
+     * <p>
+     * The value is obtained directly from {@code LocalDate}, {@code LocalTime},
+     * {@code LocalDateTime}, {@code OffsetDate}, {@code OffsetTime},
+     * {@code OffsetDateTime} and {@code ZonedDateTime} without creating a field.
+     * Other calendricals are queried using {@link Calendrical#get(CalendricalRule)}.
+     *
+     * @param calendrical  the calendrical to get the value from, not null
+     * @return the value of the rule
+     * @throws CalendricalException if the value cannot be obtained
+     */
+    @Override
+    public long getLong(Calendrical calendrical) {
+        ISOChronology.checkNotNull(calendrical, "Calendrical must not be null");
+        long value = NO_VALUE;
+        if (calendrical instanceof LocalDate) {
+            value = deriveValue((LocalDate) calendrical, null, null);
+        } else if (calendrical instanceof LocalDateTime) {
+            LocalDateTime dt = (LocalDateTime) calendrical;
+            value = deriveValue(dt.toLocalDate(), dt.toLocalTime(), null);
+        } else if (calendrical instanceof ZonedDateTime) {
+            ZonedDateTime zdt = (ZonedDateTime) calendrical;
+            value = deriveValue(zdt.toLocalDate(), zdt.toLocalTime(), zdt.getOffset());
+        } else if (calendrical instanceof OffsetDateTime) {
+            OffsetDateTime odt = (OffsetDateTime) calendrical;
+            value = deriveValue(odt.toLocalDate(), odt.toLocalTime(), odt.getOffset());
+        } else if (calendrical instanceof LocalTime) {
+            value = deriveValue(null, (LocalTime) calendrical, null);
+        } else if (calendrical instanceof OffsetDate) {
+            OffsetDate od = (OffsetDate) calendrical;
+            value = deriveValue(od.toLocalDate(), null, od.getOffset());
+        } else if (calendrical instanceof OffsetTime) {
+            OffsetTime ot = (OffsetTime) calendrical;
+            value = deriveValue(null, ot.toLocalTime(), ot.getOffset());
+        }
+        return (value != NO_VALUE ? value : super.getLong(calendrical));
     }
 
     //-----------------------------------------------------------------------
@@ -227,6 +227,16 @@ public final class LocalDate
      * @throws IllegalCalendarFieldValueException if the epoch days exceeds the supported date range
      */
     static LocalDate ofYearZeroDay(long zeroDay) {
+        long epochDay = zeroDay - ISOChronology.DAYS_0000_TO_1970;
+        if (ISOChronology.isTableEpochDay(epochDay)) {
+            int year = ISOChronology.getTableYear(epochDay);
+            boolean leap = ISOChronology.isTableLeapYear(year);
+            int doy = (int) (epochDay - ISOChronology.getTableYearStart(year)) + 1;
+            int month = ISOChronology.getMonthFromDayOfYear(doy, leap);
+            int dom = doy - ISOChronology.getMonthStartDayOfYear(month, leap) + 1;
+            return new LocalDate(year, MonthOfYear.of(month), dom);
+        }
+        
         // find the march-based year
         zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
         long adjust = 0;
@@ -394,6 +404,19 @@ public final class LocalDate
         return month;
     }
 
+    /**
+     * Gets the month-of-year field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the month-of-year,
+     * equivalent to {@code getMonthOfYear().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the month-of-year, from 1 (January) to 12 (December)
+     */
+    public int getMonthValue() {
+        return month.getValue();
+    }
+
     /**
      * Gets the day-of-month field.
      * <p>
@@ -433,6 +456,19 @@ public final class LocalDate
         return ISOChronology.getDayOfWeekFromDate(this);
     }
 
+    /**
+     * Gets the day-of-week field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the day-of-week,
+     * equivalent to {@code getDayOfWeek().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    public int getDayOfWeekValue() {
+        return ISOChronology.getDayOfWeekValueFromDate(this);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the year is a leap year, according to the ISO proleptic
@@ -1313,6 +1349,10 @@ public final class LocalDate
 //        long y = year + 4800 - a;
 //        long m = month + 12 * a - 3;
 //        return day + (153 * m + 2) / 5 + 365 * y + y / 4 - y / 100 + y / 400 - 2432046;
+        if (ISOChronology.isTableYear(year)) {
+            int doy = ISOChronology.getMonthStartDayOfYear(month.getValue(), ISOChronology.isTableLeapYear(year)) + day - 1;
+            return ISOChronology.getTableYearStart(year) + doy - 1 + ISOChronology.DAYS_0000_TO_1970;
+        }
         long y = year;
         long m = month.getValue();
         long total = 0;
@@ -1333,6 +1373,20 @@ public final class LocalDate
         return total;
     }
 
+    /**
+     * Converts this {@code LocalDate} to a packed comparison key.
+     * <p>
+     * The key packs the year, month and day into a single {@code long} such that
+     * the natural ordering of the keys matches the time-line ordering of the dates.
+     * Unlike {@link #toEpochDay()}, the key is not a contiguous count of days,
+     * but it is cheaper to calculate and is suitable for comparison and hashing.
+     *
+     * @return the packed key of this date
+     */
+    long toPackedKey() {
+        return (((long) year) << 9) | (month.getValue() << 5) | day;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this {@code LocalDate} to another date.
@@ -1343,14 +1397,7 @@ public final class LocalDate
      * @return the comparator value, negative if less, positive if greater
      */
     public int compareTo(LocalDate other) {
-        int cmp = MathUtils.safeCompare(year, other.year);
-        if (cmp == 0) {
-            cmp = month.compareTo(other.month);
-            if (cmp == 0) {
-                cmp = MathUtils.safeCompare(day, other.day);
-            }
-        }
-        return cmp;
+        return MathUtils.safeCompare(toPackedKey(), other.toPackedKey());
     }
 
     /**
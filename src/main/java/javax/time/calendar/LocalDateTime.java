@@ -535,6 +535,19 @@ public final class LocalDateTime
         return date.getMonthOfYear();
     }
 
+    /**
+     * Gets the month-of-year field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the month-of-year,
+     * equivalent to {@code getMonthOfYear().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the month-of-year, from 1 (January) to 12 (December)
+     */
+    public int getMonthValue() {
+        return date.getMonthValue();
+    }
+
     /**
      * Gets the day-of-month field.
      * <p>
@@ -574,6 +587,19 @@ public final class LocalDateTime
         return date.getDayOfWeek();
     }
 
+    /**
+     * Gets the day-of-week field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the day-of-week,
+     * equivalent to {@code getDayOfWeek().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    public int getDayOfWeekValue() {
+        return date.getDayOfWeekValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the hour-of-day field.
@@ -861,7 +887,7 @@ public final class LocalDateTime
      */
     public LocalDateTime withDate(int year, int monthOfYear, int dayOfMonth) {
         if (year == getYear() &&
-                monthOfYear == getMonthOfYear().getValue() &&
+                monthOfYear == getMonthValue() &&
                 dayOfMonth == getDayOfMonth()) {
             return this;
         }
@@ -989,6 +1015,61 @@ public final class LocalDateTime
         return with(date, newTime);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this {@code LocalDateTime} with the time truncated.
+     * <p>
+     * Truncation returns a copy of the original date-time with fields
+     * smaller than the specified unit set to zero.
+     * For example, truncating with {@link ISOPeriodUnit#MINUTES minutes} will
+     * set the second-of-minute and nano-of-second field to zero.
+     * <p>
+     * The unit must be convertible to nanoseconds and divide into the length of a
+     * standard day without remainder. This includes all the ISO time units.
+     * Truncating with {@link ISOPeriodUnit#DAYS days} returns midnight at the start of the date.
+     * The date is never altered.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return a {@code LocalDateTime} based on this date-time with the time truncated, not null
+     * @throws CalendricalException if the unit cannot be used for truncation
+     */
+    public LocalDateTime truncatedTo(PeriodUnit unit) {
+        return with(date, time.truncatedTo(unit));
+    }
+
+    /**
+     * Returns a copy of this {@code LocalDateTime} with the time rounded to
+     * the nearest multiple of the specified duration.
+     * <p>
+     * Rounding is measured from midnight, thus rounding to 15 minutes will return
+     * a time on the hour, or at quarter past, half past or quarter to the hour.
+     * A time exactly half way between two multiples is rounded up.
+     * If the time rounds up to midnight, the date is moved to the next day.
+     * <p>
+     * The duration must be positive and divide into the length of a standard day
+     * without remainder.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to round to, not null
+     * @return a {@code LocalDateTime} based on this date-time with the time rounded, not null
+     * @throws IllegalArgumentException if the duration cannot be used for rounding
+     * @throws CalendricalException if the result exceeds the supported date range
+     */
+    public LocalDateTime roundedTo(Duration duration) {
+        long nofd = time.toNanoOfDay();
+        long newNofd = LocalTime.roundNanoOfDay(nofd, LocalTime.toRoundingNanos(duration));
+        if (newNofd == nofd) {
+            return this;
+        }
+        if (newNofd == LocalTime.NANOS_PER_DAY) {
+            return with(date.plusDays(1), LocalTime.MIDNIGHT);
+        }
+        return with(date, LocalTime.ofNanoOfDay(newNofd));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a copy of this {@code LocalDateTime} with the specified period added.
@@ -1718,9 +1799,9 @@ public final class LocalDateTime
      * @return the comparator value, negative if less, positive if greater
      */
     public int compareTo(LocalDateTime other) {
-        int cmp = date.compareTo(other.date);
+        int cmp = MathUtils.safeCompare(date.toPackedKey(), other.date.toPackedKey());
         if (cmp == 0) {
-            cmp = time.compareTo(other.time);
+            cmp = MathUtils.safeCompare(time.toNanoOfDay(), other.time.toNanoOfDay());
         }
         return cmp;
     }
@@ -120,7 +120,7 @@ public final class LocalTime
     /** Nanos per hour. */
     private static final long NANOS_PER_HOUR = NANOS_PER_MINUTE * MINUTES_PER_HOUR;
     /** Nanos per day. */
-    private static final long NANOS_PER_DAY = NANOS_PER_HOUR * HOURS_PER_DAY;
+    static final long NANOS_PER_DAY = NANOS_PER_HOUR * HOURS_PER_DAY;
 
     /**
      * The hour.
@@ -596,6 +596,108 @@ public final class LocalTime
         return create(hour, minute, second, nanoOfSecond);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this {@code LocalTime} with the time truncated.
+     * <p>
+     * Truncation returns a copy of the original time with fields
+     * smaller than the specified unit set to zero.
+     * For example, truncating with {@link ISOPeriodUnit#MINUTES minutes} will
+     * set the second-of-minute and nano-of-second field to zero.
+     * <p>
+     * The unit must be convertible to nanoseconds and divide into the length of a
+     * standard day without remainder. This includes all the ISO time units.
+     * Truncating with {@link ISOPeriodUnit#DAYS days} returns midnight.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return a {@code LocalTime} based on this time with the time truncated, not null
+     * @throws CalendricalException if the unit cannot be used for truncation
+     */
+    public LocalTime truncatedTo(PeriodUnit unit) {
+        long unitNanos = toTruncationNanos(unit);
+        long nofd = toNanoOfDay();
+        long newNofd = nofd - nofd % unitNanos;
+        return (newNofd == nofd ? this : ofNanoOfDay(newNofd));
+    }
+
+    /**
+     * Returns a copy of this {@code LocalTime} with the time rounded to
+     * the nearest multiple of the specified duration.
+     * <p>
+     * Rounding is measured from midnight, thus rounding to 15 minutes will return
+     * a time on the hour, or at quarter past, half past or quarter to the hour.
+     * A time exactly half way between two multiples is rounded up.
+     * The calculation wraps around midnight, thus 23:59:59 rounded to one minute is midnight.
+     * <p>
+     * The duration must be positive and divide into the length of a standard day
+     * without remainder.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to round to, not null
+     * @return a {@code LocalTime} based on this time with the time rounded, not null
+     * @throws IllegalArgumentException if the duration cannot be used for rounding
+     */
+    public LocalTime roundedTo(Duration duration) {
+        long nofd = toNanoOfDay();
+        long newNofd = roundNanoOfDay(nofd, toRoundingNanos(duration)) % NANOS_PER_DAY;
+        return (newNofd == nofd ? this : ofNanoOfDay(newNofd));
+    }
+
+    /**
+     * Converts a unit to nanoseconds for truncation.
+     *
+     * @param unit  the unit to convert, not null
+     * @return the length of the unit in nanoseconds, from 1 to one day
+     * @throws CalendricalException if the unit cannot be used for truncation
+     */
+    static long toTruncationNanos(PeriodUnit unit) {
+        ISOChronology.checkNotNull(unit, "PeriodUnit must not be null");
+        if (unit.equals(ISOPeriodUnit.DAYS)) {
+            return NANOS_PER_DAY;
+        }
+        PeriodField nanos = unit.getEquivalentPeriod(ISOPeriodUnit.NANOS);
+        if (nanos == null || nanos.getAmount() > NANOS_PER_DAY || NANOS_PER_DAY % nanos.getAmount() != 0) {
+            throw new CalendricalException("Unable to truncate to unit " + unit.getName() +
+                    " as it does not divide into a standard day without remainder");
+        }
+        return nanos.getAmount();
+    }
+
+    /**
+     * Converts a duration to nanoseconds for rounding.
+     *
+     * @param duration  the duration to convert, not null
+     * @return the length of the duration in nanoseconds, from 1 to one day
+     * @throws IllegalArgumentException if the duration cannot be used for rounding
+     */
+    static long toRoundingNanos(Duration duration) {
+        ISOChronology.checkNotNull(duration, "Duration must not be null");
+        if (duration.isPositive() && duration.getSeconds() <= SECONDS_PER_DAY) {
+            long nanos = duration.getSeconds() * NANOS_PER_SECOND + duration.getNanoOfSecond();
+            if (NANOS_PER_DAY % nanos == 0) {
+                return nanos;
+            }
+        }
+        throw new IllegalArgumentException("Unable to round to " + duration +
+                " as it does not divide into a standard day without remainder");
+    }
+
+    /**
+     * Rounds a nano-of-day to the nearest multiple, rounding half up.
+     *
+     * @param nanoOfDay  the nano-of-day to round, from 0 to one day exclusive
+     * @param nanos  the nanoseconds to round to, from 1 to one day
+     * @return the rounded nano-of-day, from 0 to one day inclusive
+     */
+    static long roundNanoOfDay(long nanoOfDay, long nanos) {
+        long remainder = nanoOfDay % nanos;
+        long rounded = nanoOfDay - remainder;
+        return (remainder * 2 >= nanos ? rounded + nanos : rounded);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a copy of this {@code LocalTime} with the specified period added.
@@ -1056,17 +1158,7 @@ public final class LocalTime
      * @throws NullPointerException if {@code other} is null
      */
     public int compareTo(LocalTime other) {
-        int cmp = MathUtils.safeCompare(hour, other.hour);
-        if (cmp == 0) {
-            cmp = MathUtils.safeCompare(minute, other.minute);
-            if (cmp == 0) {
-                cmp = MathUtils.safeCompare(second, other.second);
-                if (cmp == 0) {
-                    cmp = MathUtils.safeCompare(nano, other.nano);
-                }
-            }
-        }
-        return cmp;
+        return MathUtils.safeCompare(toNanoOfDay(), other.toNanoOfDay());
     }
 
     /**
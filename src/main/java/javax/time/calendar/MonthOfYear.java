@@ -280,7 +280,7 @@ public enum MonthOfYear implements Calendrical {
      * @return the resulting month-of-year, not null
      */
     public MonthOfYear roll(int months) {
-        return values()[(ordinal() + (months % 12 + 12)) % 12];
+        return ENUMS[(ordinal() + (months % 12 + 12)) % 12];
     }
 
     //-----------------------------------------------------------------------
@@ -383,6 +383,19 @@ public final class OffsetDate
         return date.getMonthOfYear();
     }
 
+    /**
+     * Gets the month-of-year field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the month-of-year,
+     * equivalent to {@code getMonthOfYear().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the month-of-year, from 1 (January) to 12 (December)
+     */
+    public int getMonthValue() {
+        return date.getMonthValue();
+    }
+
     /**
      * Gets the day-of-month field.
      * <p>
@@ -422,6 +435,19 @@ public final class OffsetDate
         return date.getDayOfWeek();
     }
 
+    /**
+     * Gets the day-of-week field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the day-of-week,
+     * equivalent to {@code getDayOfWeek().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    public int getDayOfWeekValue() {
+        return date.getDayOfWeekValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the year is a leap year, according to the ISO proleptic
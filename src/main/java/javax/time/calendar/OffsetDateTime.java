@@ -32,6 +32,7 @@
 package javax.time.calendar;
 
 import java.io.Serializable;
+import java.util.Comparator;
 
 import javax.time.CalendricalException;
 import javax.time.Duration;
@@ -65,6 +66,18 @@ public final class OffsetDateTime
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -456761901L;
+    /**
+     * Comparator that compares the instant of two date-times.
+     */
+    private static final Comparator<OffsetDateTime> TIME_LINE_ORDER = new Comparator<OffsetDateTime>() {
+        public int compare(OffsetDateTime dateTime1, OffsetDateTime dateTime2) {
+            int cmp = MathUtils.safeCompare(dateTime1.toEpochSecond(), dateTime2.toEpochSecond());
+            if (cmp == 0) {
+                cmp = MathUtils.safeCompare(dateTime1.getNanoOfSecond(), dateTime2.getNanoOfSecond());
+            }
+            return cmp;
+        }
+    };
 
     /**
      * The local date-time.
@@ -666,6 +679,19 @@ public final class OffsetDateTime
         return dateTime.getMonthOfYear();
     }
 
+    /**
+     * Gets the month-of-year field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the month-of-year,
+     * equivalent to {@code getMonthOfYear().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the month-of-year, from 1 (January) to 12 (December)
+     */
+    public int getMonthValue() {
+        return dateTime.getMonthValue();
+    }
+
     /**
      * Gets the day-of-month field.
      * <p>
@@ -705,6 +731,19 @@ public final class OffsetDateTime
         return dateTime.getDayOfWeek();
     }
 
+    /**
+     * Gets the day-of-week field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the day-of-week,
+     * equivalent to {@code getDayOfWeek().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    public int getDayOfWeekValue() {
+        return dateTime.getDayOfWeekValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the hour-of-day field.
@@ -1103,6 +1142,48 @@ public final class OffsetDateTime
         return (newDT == dateTime ? this : new OffsetDateTime(newDT, offset));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this {@code OffsetDateTime} with the time truncated.
+     * <p>
+     * Truncation returns a copy of the original date-time with fields
+     * smaller than the specified unit set to zero.
+     * For example, truncating with {@link ISOPeriodUnit#MINUTES minutes} will
+     * set the second-of-minute and nano-of-second field to zero.
+     * <p>
+     * The truncation is performed on the local date-time, retaining the offset.
+     * See {@link LocalDateTime#truncatedTo(PeriodUnit)} for details.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return an {@code OffsetDateTime} based on this date-time with the time truncated, not null
+     * @throws CalendricalException if the unit cannot be used for truncation
+     */
+    public OffsetDateTime truncatedTo(PeriodUnit unit) {
+        LocalDateTime newDT = dateTime.truncatedTo(unit);
+        return (newDT == dateTime ? this : new OffsetDateTime(newDT, offset));
+    }
+
+    /**
+     * Returns a copy of this {@code OffsetDateTime} with the time rounded to
+     * the nearest multiple of the specified duration.
+     * <p>
+     * The rounding is performed on the local date-time, retaining the offset.
+     * See {@link LocalDateTime#roundedTo(Duration)} for details.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to round to, not null
+     * @return an {@code OffsetDateTime} based on this date-time with the time rounded, not null
+     * @throws IllegalArgumentException if the duration cannot be used for rounding
+     * @throws CalendricalException if the result exceeds the supported date range
+     */
+    public OffsetDateTime roundedTo(Duration duration) {
+        LocalDateTime newDT = dateTime.roundedTo(duration);
+        return (newDT == dateTime ? this : new OffsetDateTime(newDT, offset));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a copy of this {@code OffsetDateTime} with the specified period added.
@@ -1812,6 +1893,22 @@ public final class OffsetDateTime
         return compare;
     }
 
+    /**
+     * Gets a comparator that compares {@code OffsetDateTime} instances based only
+     * on the instant of the date-time.
+     * <p>
+     * This method differs from the comparison in {@link #compareTo} in that it
+     * only compares the instant of the date-time, thus two date-times representing
+     * the same instant with different offsets compare as equal.
+     * The comparison reads the epoch-second and nano-of-second directly and
+     * does not create an {@code Instant}, making it suitable for sorting large lists.
+     *
+     * @return a comparator that compares in time-line order, not null
+     */
+    public static Comparator<OffsetDateTime> timeLineOrder() {
+        return TIME_LINE_ORDER;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the instant of this {@code OffsetDateTime} is after that of the specified date-time.
@@ -129,6 +129,25 @@ public final class WeekRules implements Comparable<WeekRules>, Serializable {
      * The cache of rules by locale.
      */
     private static final ConcurrentMap<Locale, WeekRules> CACHE = new ConcurrentHashMap<Locale, WeekRules>(4, 0.75f, 2);
+    /**
+     * The cache of rules, indexed by first day-of-week and minimal days.
+     */
+    private static final WeekRules[] RULES = new WeekRules[7 * 7];
+    static {
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                RULES[dow.ordinal() * 7 + minDays - 1] = (dow == MONDAY && minDays == 4 ? ISO : new WeekRules(dow, minDays));
+            }
+        }
+    }
+    /**
+     * The first year in the table of week-based-year starts.
+     */
+    private static final int TABLE_MIN_YEAR = 1600;
+    /**
+     * The last year in the table of week-based-year starts.
+     */
+    private static final int TABLE_MAX_YEAR = 2600;
 
     /**
      * The first day-of-week.
@@ -138,6 +157,12 @@ public final class WeekRules implements Comparable<WeekRules>, Serializable {
      * The minimal number of days in the first week.
      */
     private final int minimalDays;
+    /**
+     * The epoch-day that each week-based-year in the table starts on, lazily calculated.
+     * The element at index {@code i} is the start of year {@code TABLE_MIN_YEAR + i},
+     * with a final element for the start of the year after {@code TABLE_MAX_YEAR}.
+     */
+    private transient volatile int[] weekBasedYearStarts;
 
     /**
      * Obtains an instance of {@code WeekRules} from the first day-of-week and minimal days.
@@ -155,10 +180,11 @@ public final class WeekRules implements Comparable<WeekRules>, Serializable {
      * @throws IllegalArgumentException if the minimal days value is invalid
      */
     public static WeekRules of(DayOfWeek firstDayOfWeek, int minimalDaysInFirstWeek) {
-        if (firstDayOfWeek == DayOfWeek.MONDAY && minimalDaysInFirstWeek == 4) {
-            return ISO;
+        ISOChronology.checkNotNull(firstDayOfWeek, "DayOfWeek must not be null");
+        if (minimalDaysInFirstWeek < 1 || minimalDaysInFirstWeek > 7) {
+            throw new IllegalArgumentException("Minimal number of days is invalid");
         }
-        return new WeekRules(firstDayOfWeek, minimalDaysInFirstWeek);
+        return RULES[firstDayOfWeek.ordinal() * 7 + minimalDaysInFirstWeek - 1];
     }
 
     /**
@@ -202,6 +228,15 @@ public final class WeekRules implements Comparable<WeekRules>, Serializable {
         this.minimalDays = minimalDaysInFirstWeek;
     }
 
+    /**
+     * Resolves the singleton.
+     *
+     * @return the singleton instance
+     */
+    private Object readResolve() {
+        return of(firstDayOfWeek, minimalDays);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the first day-of-week.
@@ -229,6 +264,130 @@ public final class WeekRules implements Comparable<WeekRules>, Serializable {
         return minimalDays;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the week key of a date, combining the week-based-year and week-of-week-based-year.
+     * <p>
+     * The key is {@code weekBasedYear * 100 + weekOfWeekBasedYear}, such that week 1 of
+     * week-based-year 2009 has the key 200901. Sorting by key sorts by week.
+     * <p>
+     * The result is derived using primitive arithmetic on a cached table of the
+     * start of each week-based-year, without the rule derivation of the calendrical engine.
+     *
+     * @param date  the date to calculate the key for, not null
+     * @return the week key
+     */
+    public int weekKey(LocalDate date) {
+        ISOChronology.checkNotNull(date, "LocalDate must not be null");
+        return weekKey(date.toEpochDay(), weekBasedYearStarts());
+    }
+
+    /**
+     * Gets the week keys of an array of dates expressed as epoch-days.
+     * <p>
+     * This is equivalent to calling {@link #weekKey(LocalDate)} for each date,
+     * but operates directly on the epoch-days without creating any objects.
+     * This is intended for grouping large amounts of data by week.
+     *
+     * @param epochDays  the epoch-days, as per {@link LocalDate#toEpochDay()}, not null
+     * @return the week keys, one for each epoch-day, never null
+     */
+    public int[] weekKeys(int[] epochDays) {
+        ISOChronology.checkNotNull(epochDays, "Epoch-day array must not be null");
+        int[] keys = new int[epochDays.length];
+        weekKeys(epochDays, keys);
+        return keys;
+    }
+
+    /**
+     * Stores the week keys of an array of dates expressed as epoch-days in an array.
+     * <p>
+     * See {@link #weekKeys(int[])}.
+     *
+     * @param epochDays  the epoch-days, as per {@link LocalDate#toEpochDay()}, not null
+     * @param keys  the array to store the keys in, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the key array is too short
+     */
+    public void weekKeys(int[] epochDays, int[] keys) {
+        ISOChronology.checkNotNull(epochDays, "Epoch-day array must not be null");
+        ISOChronology.checkNotNull(keys, "Key array must not be null");
+        if (keys.length < epochDays.length) {
+            throw new IllegalArgumentException("Key array must be at least as long as the epoch-day array");
+        }
+        int[] starts = weekBasedYearStarts();
+        for (int i = 0; i < epochDays.length; i++) {
+            keys[i] = weekKey(epochDays[i], starts);
+        }
+    }
+
+    /**
+     * Calculates the week key of an epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @param starts  the table of week-based-year starts, not null
+     * @return the week key
+     */
+    private int weekKey(long epochDay, int[] starts) {
+        long year;
+        long start;
+        if (epochDay >= starts[0] && epochDay < starts[starts.length - 1]) {
+            // the week-based-year is the calendar year of the date, or one either side
+            int index = (int) (((epochDay - starts[0]) * 400) / 146097);
+            if (index >= starts.length - 1) {
+                index = starts.length - 2;
+            }
+            while (starts[index] > epochDay) {
+                index--;
+            }
+            while (starts[index + 1] <= epochDay) {
+                index++;
+            }
+            year = TABLE_MIN_YEAR + index;
+            start = starts[index];
+        } else {
+            year = MathUtils.floorDiv((epochDay + ISOChronology.DAYS_0000_TO_1970) * 400, 146097);
+            while (weekBasedYearStart(year) > epochDay) {
+                year--;
+            }
+            while (weekBasedYearStart(year + 1) <= epochDay) {
+                year++;
+            }
+            start = weekBasedYearStart(year);
+        }
+        return MathUtils.safeToInt(year * 100 + (epochDay - start) / 7 + 1);
+    }
+
+    /**
+     * Gets the table of week-based-year starts, calculating it if necessary.
+     *
+     * @return the table, not null
+     */
+    private int[] weekBasedYearStarts() {
+        int[] starts = weekBasedYearStarts;
+        if (starts == null) {
+            starts = new int[TABLE_MAX_YEAR - TABLE_MIN_YEAR + 2];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = (int) weekBasedYearStart(TABLE_MIN_YEAR + i);
+            }
+            weekBasedYearStarts = starts;
+        }
+        return starts;
+    }
+
+    /**
+     * Calculates the epoch-day that a week-based-year starts on.
+     *
+     * @param year  the week-based-year
+     * @return the epoch-day of the first day of week 1
+     */
+    private long weekBasedYearStart(long year) {
+        long jan1 = ISOChronology.getMonthStartEpochDay(year, 1);
+        // 1970-01-01 was a Thursday, which has the ordinal 3
+        int daysIntoWeek = (MathUtils.floorMod(jan1 + 3, 7) - firstDayOfWeek.ordinal() + 7) % 7;
+        long weekStart = jan1 - daysIntoWeek;
+        return (7 - daysIntoWeek >= minimalDays ? weekStart : weekStart + 7);
+    }
+
 //    //-----------------------------------------------------------------------
 //    /**
 //     * Creates a date at the start of the week-based-year based on these rules.
@@ -32,6 +32,7 @@
 package javax.time.calendar;
 
 import java.io.Serializable;
+import java.util.Comparator;
 
 import javax.time.CalendricalException;
 import javax.time.Duration;
@@ -75,6 +76,14 @@ public final class ZonedDateTime
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -456761901L;
+    /**
+     * Comparator that compares the instant of two date-times.
+     */
+    private static final Comparator<ZonedDateTime> TIME_LINE_ORDER = new Comparator<ZonedDateTime>() {
+        public int compare(ZonedDateTime dateTime1, ZonedDateTime dateTime2) {
+            return OffsetDateTime.timeLineOrder().compare(dateTime1.dateTime, dateTime2.dateTime);
+        }
+    };
 
     /**
      * The offset date-time.
@@ -864,6 +873,19 @@ public final class ZonedDateTime
         return dateTime.getMonthOfYear();
     }
 
+    /**
+     * Gets the month-of-year field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the month-of-year,
+     * equivalent to {@code getMonthOfYear().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the month-of-year, from 1 (January) to 12 (December)
+     */
+    public int getMonthValue() {
+        return dateTime.getMonthValue();
+    }
+
     /**
      * Gets the day-of-month field.
      * <p>
@@ -903,6 +925,19 @@ public final class ZonedDateTime
         return dateTime.getDayOfWeek();
     }
 
+    /**
+     * Gets the day-of-week field as an {@code int}.
+     * <p>
+     * This method returns the primitive {@code int} value for the day-of-week,
+     * equivalent to {@code getDayOfWeek().getValue()}.
+     * This is intended for loops that process many dates.
+     *
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    public int getDayOfWeekValue() {
+        return dateTime.getDayOfWeekValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the hour-of-day field.
@@ -1288,6 +1323,56 @@ public final class ZonedDateTime
             resolve(newDT, this, zone, ZoneResolvers.retainOffset()));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this {@code ZonedDateTime} with the time truncated.
+     * <p>
+     * Truncation returns a copy of the original date-time with fields
+     * smaller than the specified unit set to zero.
+     * For example, truncating with {@link ISOPeriodUnit#MINUTES minutes} will
+     * set the second-of-minute and nano-of-second field to zero.
+     * <p>
+     * The truncation is performed on the local date-time.
+     * See {@link LocalDateTime#truncatedTo(PeriodUnit)} for details.
+     * If the result is invalid in the time-zone rules, then the
+     * {@link ZoneResolvers#retainOffset()} resolver is used.
+     * Thus, truncating into a gap returns the instant after the transition, and
+     * truncating into an overlap retains the offset if possible.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return a {@code ZonedDateTime} based on this date-time with the time truncated, not null
+     * @throws CalendricalException if the unit cannot be used for truncation
+     */
+    public ZonedDateTime truncatedTo(PeriodUnit unit) {
+        LocalDateTime newDT = dateTime.toLocalDateTime().truncatedTo(unit);
+        return (newDT == dateTime.toLocalDateTime() ? this :
+            resolve(newDT, this, zone, ZoneResolvers.retainOffset()));
+    }
+
+    /**
+     * Returns a copy of this {@code ZonedDateTime} with the time rounded to
+     * the nearest multiple of the specified duration.
+     * <p>
+     * The rounding is performed on the local date-time.
+     * See {@link LocalDateTime#roundedTo(Duration)} for details.
+     * If the result is invalid in the time-zone rules, then the
+     * {@link ZoneResolvers#retainOffset()} resolver is used.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to round to, not null
+     * @return a {@code ZonedDateTime} based on this date-time with the time rounded, not null
+     * @throws IllegalArgumentException if the duration cannot be used for rounding
+     * @throws CalendricalException if the result exceeds the supported date range
+     */
+    public ZonedDateTime roundedTo(Duration duration) {
+        LocalDateTime newDT = dateTime.toLocalDateTime().roundedTo(duration);
+        return (newDT == dateTime.toLocalDateTime() ? this :
+            resolve(newDT, this, zone, ZoneResolvers.retainOffset()));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a copy of this {@code ZonedDateTime} with the specified period added.
@@ -2058,6 +2143,20 @@ public final class ZonedDateTime
         return compare;
     }
 
+    /**
+     * Gets a comparator that compares {@code ZonedDateTime} instances based only
+     * on the instant of the date-time.
+     * <p>
+     * This method differs from the comparison in {@link #compareTo} in that it
+     * only compares the instant of the date-time, ignoring the offset and zone.
+     * No {@code Instant} is created during the comparison.
+     *
+     * @return a comparator that compares in time-line order, not null
+     */
+    public static Comparator<ZonedDateTime> timeLineOrder() {
+        return TIME_LINE_ORDER;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the instant of this date-time is before that of the specified date-time.
@@ -466,6 +466,10 @@ public final class DateTimeFormatterBuilder {
      * The text of the field will be output during a print.
      * The value must be within the valid range of the rule.
      * If the value cannot be obtained then an exception will be thrown.
+     * If the text provider has no text for the field, the text of the rule is used
+     * as per {@link DateTimeRule#getText(long, TextStyle, java.util.Locale)}.
+     * This allows the localized eras of calendar systems, such as the Japanese era, to be
+     * printed and parsed, with the era obtained directly from the calendar system.
      * If the field has no textual representation, then the numeric value will be used.
      * <p>
      * The value will be printed as per the normal print of an integer value.
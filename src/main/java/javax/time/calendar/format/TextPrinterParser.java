@@ -32,10 +32,12 @@
 package javax.time.calendar.format;
 
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map.Entry;
 
 import javax.time.calendar.DateTimeField;
 import javax.time.calendar.DateTimeRule;
+import javax.time.calendar.DateTimeRuleRange;
 import javax.time.calendar.format.DateTimeFormatterBuilder.SignStyle;
 import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
 
@@ -48,6 +50,11 @@ import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
  */
 final class TextPrinterParser implements DateTimePrinter, DateTimeParser {
 
+    /**
+     * The maximum number of values in a rule for the text of the rule to be parsed.
+     */
+    private static final int MAX_RULE_TEXT_VALUES = 32;
+
     /**
      * The rule to output, not null.
      */
@@ -79,6 +86,9 @@ final class TextPrinterParser implements DateTimePrinter, DateTimeParser {
     public void print(DateTimePrintContext context, StringBuilder buf) {
         DateTimeField field = context.getValueChecked(rule);
         String text = new SimpleDateTimeTextProvider().getText(field, textStyle, context.getLocale());
+        if (text == null) {
+            text = getRuleText(field.getValue(), textStyle, context.getLocale());
+        }
         if (text != null) {
             buf.append(text);
         } else {
@@ -106,6 +116,11 @@ final class TextPrinterParser implements DateTimePrinter, DateTimeParser {
             if (context.isStrict()) {
                 return ~position;
             }
+        } else {
+            int result = parseRuleText(context, parseText, position, style);
+            if (result >= 0) {
+                return result;
+            }
         }
         
 //        if (context.isStrict()) {
@@ -136,6 +151,59 @@ final class TextPrinterParser implements DateTimePrinter, DateTimeParser {
         return numberPrinterParser().parse(context, parseText, position);
     }
 
+    /**
+     * Parses the text defined by the rule itself, used when the text provider has none.
+     * <p>
+     * The longest matching text is used.
+     * Rules with a large range of values are not parsed as text.
+     *
+     * @param context  the context to use, not null
+     * @param parseText  the text to parse, not null
+     * @param position  the position to start parsing at, validated
+     * @param style  the text style to match, null to match any style
+     * @return the new position, negative if no text matched
+     */
+    private int parseRuleText(DateTimeParseContext context, CharSequence parseText, int position, TextStyle style) {
+        DateTimeRuleRange range = rule.getValueRange();
+        if (range.getMaximum() - range.getMinimum() >= MAX_RULE_TEXT_VALUES) {
+            return ~position;
+        }
+        TextStyle[] styles = (style != null ? new TextStyle[] {style} : TextStyle.values());
+        long bestValue = 0;
+        int bestLength = 0;
+        for (TextStyle matchStyle : styles) {
+            for (long value = range.getMinimum(); value <= range.getMaximum(); value++) {
+                String text = getRuleText(value, matchStyle, context.getLocale());
+                if (text != null && text.length() > bestLength &&
+                        context.subSequenceEquals(text, 0, parseText, position, text.length())) {
+                    bestValue = value;
+                    bestLength = text.length();
+                }
+            }
+        }
+        if (bestLength == 0) {
+            return ~position;
+        }
+        context.setParsedField(rule, bestValue);
+        return position + bestLength;
+    }
+
+    /**
+     * Gets the text defined by the rule itself, used when the text provider has none.
+     * <p>
+     * This allows rules from other calendar systems, such as the Japanese era,
+     * to supply their own localized text.
+     *
+     * @param value  the value to get the text for
+     * @param style  the text style, not null
+     * @param locale  the locale, not null
+     * @return the text, null if the rule only provides the numeric value
+     */
+    private String getRuleText(long value, TextStyle style, Locale locale) {
+        String text = rule.getText(value, style, locale);
+        return (text == null || text.equals(Long.toString(value)) ? null : text);
+    }
+
     /**
      * Create and cache a number printer parser.
      * @return the number printer parser for this field, not null
@@ -36,11 +36,15 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.time.InstantProvider;
+import javax.time.MathUtils;
 import javax.time.calendar.LocalDateTime;
+import javax.time.calendar.ZoneId;
 import javax.time.calendar.ZoneOffset;
+import javax.time.calendar.ZoneResolver;
 
 /**
  * Implementation of zone rules for fixed offsets.
@@ -130,6 +134,42 @@ final class FixedZoneRules extends ZoneRules implements Serializable {
         return true;
     }
 
+    //-----------------------------------------------------------------------
+    /** {@inheritDoc} */
+    @Override
+    public void getOffsets(long[] epochSeconds, int[] offsetSeconds) {
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(offsetSeconds, "Offset seconds array must not be null");
+        checkBulkLength(epochSeconds.length, offsetSeconds.length);
+        Arrays.fill(offsetSeconds, 0, epochSeconds.length, offset.getAmountSeconds());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void toLocalEpochSeconds(long[] epochSeconds, long[] localEpochSeconds) {
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(localEpochSeconds, "Local epoch seconds array must not be null");
+        checkBulkLength(epochSeconds.length, localEpochSeconds.length);
+        int offsetSecs = offset.getAmountSeconds();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            localEpochSeconds[i] = MathUtils.safeAdd(epochSeconds[i], offsetSecs);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void localToEpochSeconds(long[] localEpochSeconds, long[] epochSeconds, ZoneId zone, ZoneResolver resolver) {
+        checkNotNull(localEpochSeconds, "Local epoch seconds array must not be null");
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(resolver, "ZoneResolver must not be null");
+        checkBulkLength(localEpochSeconds.length, epochSeconds.length);
+        checkZone(zone);
+        int offsetSecs = offset.getAmountSeconds();
+        for (int i = 0; i < localEpochSeconds.length; i++) {
+            epochSeconds[i] = MathUtils.safeSubtract(localEpochSeconds[i], offsetSecs);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     @Override
@@ -57,6 +57,15 @@ import javax.time.CalendricalException;
  */
 final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
 
+    /**
+     * The system property defining the year up to which loaded rules are expanded.
+     */
+    static final String TRANSITION_HORIZON_PROPERTY = "javax.time.calendar.zone.transitionHorizon";
+    /**
+     * The year up to which loaded rules are expanded, null if not expanded.
+     */
+    private static final Integer TRANSITION_HORIZON = Integer.getInteger(TRANSITION_HORIZON_PROPERTY);
+
     /**
      * The time-zone group ID.
      */
@@ -193,6 +202,9 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
     //-----------------------------------------------------------------------
     /**
      * Loads the rule.
+     * <p>
+     * If the {@link #TRANSITION_HORIZON_PROPERTY} system property is set, the rules
+     * are expanded up to that year as they are loaded.
      * 
      * @param index  the index to retrieve
      * @return the rules, should not be null
@@ -203,6 +215,9 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
             byte[] bytes = (byte[]) obj;
             DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
             obj = Ser.read(dis);
+            if (TRANSITION_HORIZON != null) {
+                obj = ((ZoneRules) obj).withTransitionHorizon(TRANSITION_HORIZON);
+            }
             rules.set(index, obj);
         }
         return (ZoneRules) obj;
@@ -53,12 +53,16 @@ final class Ser implements Externalizable {
 
     /** Type for FixedZoneRules. */
     static final byte FZR = 0;
-    /** Type for StandardZoneRules. */
+    /** Type for StandardZoneRules in the variable-length form. */
     static final byte SZR = 1;
     /** Type for ZoneOffsetTransition. */
     static final byte ZOT = 2;
     /** Type for ZoneOffsetTransition. */
     static final byte ZOTRULE = 3;
+    /** Type for StandardZoneRules in the dense form. */
+    static final byte SZR_DENSE = 4;
+    /** The marker for an epoch second not held as a delta. */
+    private static final int EPOCH_SEC_ESCAPE = 0xFFFF;
 
     /** The type being serialized. */
     private byte type;
@@ -94,7 +98,7 @@ final class Ser implements Externalizable {
 
     static void write(Object object, DataOutput out) throws IOException {
         if (object instanceof StandardZoneRules) {
-            writeInternal(SZR, object, out);
+            writeInternal(SZR_DENSE, object, out);
         } else {
             writeInternal(FZR, object, out);
         }
@@ -106,7 +110,7 @@ final class Ser implements Externalizable {
             case FZR:
                 ((FixedZoneRules) object).writeExternal(out);
                 break;
-            case SZR:
+            case SZR_DENSE:
                 ((StandardZoneRules) object).writeExternal(out);
                 break;
             case ZOT:
@@ -141,6 +145,8 @@ final class Ser implements Externalizable {
             case FZR:
                 return FixedZoneRules.readExternal(in);
             case SZR:
+                return StandardZoneRules.readVariableLengthExternal(in);
+            case SZR_DENSE:
                 return StandardZoneRules.readExternal(in);
             case ZOT:
                 return ZoneOffsetTransition.readExternal(in);
@@ -228,4 +234,65 @@ final class Ser implements Externalizable {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the start of an array of ascending epoch seconds to the stream.
+     * <p>
+     * Each value is held as a fixed-width two byte count of quarter hours since the
+     * previous value, allowing the block to be read in one call. Values that cannot
+     * be held in that way, including the first, are marked as escaped in the block
+     * and follow it in order, using the form of {@link #writeEpochSec}.
+     *
+     * @param array  the array to write, not null
+     * @param length  the number of values to write from the start of the array
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    static void writeEpochSecArray(long[] array, int length, DataOutput out) throws IOException {
+        byte[] deltas = new byte[length * 2];
+        boolean[] escaped = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            long delta = (i == 0 ? 0 : array[i] - array[i - 1]);
+            int store = EPOCH_SEC_ESCAPE;
+            if (delta > 0 && delta % 900 == 0 && delta / 900 < EPOCH_SEC_ESCAPE) {
+                store = (int) (delta / 900);
+            } else {
+                escaped[i] = true;
+            }
+            deltas[i * 2] = (byte) (store >>> 8);
+            deltas[i * 2 + 1] = (byte) store;
+        }
+        out.write(deltas);
+        for (int i = 0; i < length; i++) {
+            if (escaped[i]) {
+                writeEpochSec(array[i], out);
+            }
+        }
+    }
+
+    /**
+     * Reads an array of ascending epoch seconds from the stream.
+     *
+     * @param size  the number of values to read
+     * @param in  the input stream, not null
+     * @return the array, not null
+     * @throws IOException if an error occurs
+     */
+    static long[] readEpochSecArray(int size, DataInput in) throws IOException {
+        byte[] deltas = new byte[size * 2];
+        in.readFully(deltas);
+        long[] array = new long[size];
+        for (int i = 0; i < size; i++) {
+            int store = ((deltas[i * 2] & 255) << 8) | (deltas[i * 2 + 1] & 255);
+            if (store == EPOCH_SEC_ESCAPE) {
+                array[i] = readEpochSec(in);
+            } else if (i == 0) {
+                throw new StreamCorruptedException("Invalid epoch second delta");
+            } else {
+                array[i] = array[i - 1] + store * 900L;
+            }
+        }
+        return array;
+    }
+
 }
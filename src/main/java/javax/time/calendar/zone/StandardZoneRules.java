@@ -35,22 +35,41 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import javax.time.CalendricalException;
 import javax.time.Instant;
 import javax.time.InstantProvider;
+import javax.time.MathUtils;
 import javax.time.calendar.LocalDateTime;
 import javax.time.calendar.OffsetDateTime;
 import javax.time.calendar.Year;
+import javax.time.calendar.ZoneId;
 import javax.time.calendar.ZoneOffset;
+import javax.time.calendar.ZoneResolver;
 
 /**
  * The rules describing how the zone offset varies through the year and historically.
  * <p>
+ * The rules are held in a dense form of primitive arrays.
+ * Each distinct offset is held once in a small table, with the standard and wall
+ * offsets stored as byte indices into that table. The local transitions are
+ * precomputed as local epoch seconds, so that lookups by local date-time do not
+ * need to compare objects.
+ * <p>
+ * The recurring last rules may optionally be expanded into the transition arrays
+ * up to a horizon year, as set by {@link ZoneRulesBuilder#setTransitionHorizon(int)}
+ * or {@link #withTransitionHorizon(int)}. Lookups up to the horizon are then a binary
+ * search, with the rules only evaluated for later years. By default, and for rules
+ * read from the serialized form, no expansion occurs and the rules are held in the
+ * compact form. Rules loaded from the time-zone data files are expanded if the
+ * {@code javax.time.calendar.zone.transitionHorizon} system property is set.
+ * <p>
  * This class is immutable and thread-safe.
  *
  * @author Michael Nascimento Santos
@@ -66,29 +85,47 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      * The last year to have its transitions cached.
      */
     private static final int LAST_CACHED_YEAR = 2100;
+    /**
+     * The horizon year indicating that the recurring last rules are not expanded.
+     */
+    static final int NO_HORIZON_YEAR = Integer.MIN_VALUE;
+    /**
+     * The number of seconds per day.
+     */
+    private static final long SECONDS_PER_DAY = 86400L;
 
+    /**
+     * The distinct offsets referred to by the index arrays.
+     */
+    private final ZoneOffset[] offsets;
     /**
      * The transitions between standard offsets (epoch seconds), sorted.
      */
     private final long[] standardTransitions;
     /**
-     * The standard offsets.
+     * The standard offsets, as indices into the offset table.
+     */
+    private final byte[] standardOffsetIndices;
+    /**
+     * The number of historic savings transitions, excluding those expanded from the last rules.
      */
-    private final ZoneOffset[] standardOffsets;
+    private final int historicTransitionCount;
     /**
      * The transitions between instants (epoch seconds), sorted.
+     * This contains the historic transitions followed by those expanded from the last rules.
      */
     private final long[] savingsInstantTransitions;
     /**
-     * The transitions between local date-times, sorted.
+     * The transitions between local date-times (local epoch seconds), sorted.
+     * This contains the historic transitions followed by those expanded from the last rules.
      * This is a paired array, where the first entry is the start of the transition
      * and the second entry is the end of the transition.
      */
-    private final LocalDateTime[] savingsLocalTransitions;
+    private final long[] savingsLocalTransitions;
     /**
-     * The wall offsets.
+     * The wall offsets, as indices into the offset table.
      */
-    private final ZoneOffset[] wallOffsets;
+    private final byte[] wallOffsetIndices;
     /**
      * The last rule.
      */
@@ -100,100 +137,238 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
                 new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
 
     /**
-     * Creates an instance.
+     * Obtains an instance from the transitions created by the builder.
      *
      * @param baseStandardOffset  the standard offset to use before legal rules were set, not null
      * @param baseWallOffset  the wall offset to use before legal rules were set, not null
      * @param standardOffsetTransitionList  the list of changes to the standard offset, not null
      * @param transitionList  the list of transitions, not null
      * @param lastRules  the recurring last rules, size 15 or less, not null
+     * @param horizonYear  the last year to expand the recurring rules into the transitions
+     * @return the rules, not null
      */
-    StandardZoneRules(
+    static StandardZoneRules of(
             ZoneOffset baseStandardOffset,
             ZoneOffset baseWallOffset,
             List<OffsetDateTime> standardOffsetTransitionList,
             List<ZoneOffsetTransition> transitionList,
-            List<ZoneOffsetTransitionRule> lastRules) {
-        super();
+            List<ZoneOffsetTransitionRule> lastRules,
+            int horizonYear) {
         
         // convert standard transitions
-        this.standardTransitions = new long[standardOffsetTransitionList.size()];
-        this.standardOffsets = new ZoneOffset[standardOffsetTransitionList.size() + 1];
-        this.standardOffsets[0] = baseStandardOffset;
+        long[] stdTrans = new long[standardOffsetTransitionList.size()];
+        ZoneOffset[] stdOffsets = new ZoneOffset[standardOffsetTransitionList.size() + 1];
+        stdOffsets[0] = baseStandardOffset;
         for (int i = 0; i < standardOffsetTransitionList.size(); i++) {
-            this.standardTransitions[i] = standardOffsetTransitionList.get(i).toEpochSecond();
-            this.standardOffsets[i + 1] = standardOffsetTransitionList.get(i).getOffset();
+            stdTrans[i] = standardOffsetTransitionList.get(i).toEpochSecond();
+            stdOffsets[i + 1] = standardOffsetTransitionList.get(i).getOffset();
         }
         
-        // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
-        List<ZoneOffset> localTransitionOffsetList = new ArrayList<ZoneOffset>();
-        localTransitionOffsetList.add(baseWallOffset);
-        for (ZoneOffsetTransition trans : transitionList) {
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
-            }
-            localTransitionOffsetList.add(trans.getOffsetAfter());
-        }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
-        this.wallOffsets = localTransitionOffsetList.toArray(new ZoneOffset[localTransitionOffsetList.size()]);
-        
         // convert savings transitions to instants
-        this.savingsInstantTransitions = new long[transitionList.size()];
+        long[] savTrans = new long[transitionList.size()];
+        ZoneOffset[] savOffsets = new ZoneOffset[transitionList.size() + 1];
+        savOffsets[0] = baseWallOffset;
         for (int i = 0; i < transitionList.size(); i++) {
-            this.savingsInstantTransitions[i] = transitionList.get(i).getInstant().getEpochSecond();
+            savTrans[i] = transitionList.get(i).getInstant().getEpochSecond();
+            savOffsets[i + 1] = transitionList.get(i).getOffsetAfter();
         }
         
         // last rules
         if (lastRules.size() > 15) {
             throw new IllegalArgumentException("Too many transition rules");
         }
-        this.lastRules = lastRules.toArray(new ZoneOffsetTransitionRule[lastRules.size()]);
+        ZoneOffsetTransitionRule[] rules = lastRules.toArray(new ZoneOffsetTransitionRule[lastRules.size()]);
+        return of(stdTrans, stdOffsets, savTrans, savOffsets, rules, horizonYear);
     }
 
     /**
-     * Constructor.
+     * Obtains an instance from arrays of offsets.
      *
      * @param standardTransitions  the standard transitions, not null
      * @param standardOffsets  the standard offsets, not null
-     * @param savingsLocalTransitions  the standard transitions, not null
+     * @param savingsInstantTransitions  the savings transitions, not null
      * @param wallOffsets  the wall offsets, not null
      * @param lastRules  the recurring last rules, size 15 or less, not null
+     * @param horizonYear  the last year to expand the recurring rules into the transitions
+     * @return the rules, not null
      */
-    private StandardZoneRules(
+    private static StandardZoneRules of(
             long[] standardTransitions,
             ZoneOffset[] standardOffsets,
             long[] savingsInstantTransitions,
             ZoneOffset[] wallOffsets,
-            ZoneOffsetTransitionRule[] lastRules) {
+            ZoneOffsetTransitionRule[] lastRules,
+            int horizonYear) {
+        ZoneOffset[] offsets = createOffsetTable(standardOffsets, wallOffsets);
+        byte[] wallOffsetIndices = createIndices(offsets, wallOffsets);
+        return new StandardZoneRules(
+                offsets, standardTransitions, createIndices(offsets, standardOffsets),
+                savingsInstantTransitions, createLocalTransitions(savingsInstantTransitions, offsets, wallOffsetIndices),
+                wallOffsetIndices, lastRules, horizonYear);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * The historic transitions are extended by the transitions created from the
+     * recurring last rules, from the year of the last historic transition up to
+     * and including the horizon year. This allows lookups up to the horizon year
+     * to use a binary search rather than evaluating the rules.
+     * No expansion occurs if the horizon is before the last historic transition,
+     * such as {@link #NO_HORIZON_YEAR}.
+     *
+     * @param offsets  the offset table, not null
+     * @param standardTransitions  the standard transitions, not null
+     * @param standardOffsetIndices  the standard offset indices, not null
+     * @param savingsInstantTransitions  the historic savings transitions, not null
+     * @param savingsLocalTransitions  the historic local savings transitions, not null
+     * @param wallOffsetIndices  the historic wall offset indices, not null
+     * @param lastRules  the recurring last rules, size 15 or less, not null
+     * @param horizonYear  the last year to expand the recurring rules into the transitions
+     */
+    private StandardZoneRules(
+            ZoneOffset[] offsets,
+            long[] standardTransitions,
+            byte[] standardOffsetIndices,
+            long[] savingsInstantTransitions,
+            long[] savingsLocalTransitions,
+            byte[] wallOffsetIndices,
+            ZoneOffsetTransitionRule[] lastRules,
+            int horizonYear) {
         super();
         
+        int historicSize = savingsInstantTransitions.length;
+        int size = historicSize;
+        List<ZoneOffset> table = new ArrayList<ZoneOffset>(Arrays.asList(offsets));
+        if (lastRules.length > 0 && historicSize > 0 && horizonYear != NO_HORIZON_YEAR) {
+            ZoneOffset wallOffset = table.get(wallOffsetIndices[historicSize]);
+            int startYear = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[historicSize - 1], wallOffset).getYear();
+            horizonYear = Math.min(horizonYear, Year.MAX_YEAR);
+            int maxSize = historicSize + (horizonYear < startYear ? 0 : horizonYear - startYear + 1) * lastRules.length;
+            savingsInstantTransitions = Arrays.copyOf(savingsInstantTransitions, maxSize);
+            savingsLocalTransitions = Arrays.copyOf(savingsLocalTransitions, maxSize * 2);
+            wallOffsetIndices = Arrays.copyOf(wallOffsetIndices, maxSize + 1);
+            expand:
+            for (int year = startYear; year <= horizonYear; year++) {
+                for (ZoneOffsetTransitionRule rule : lastRules) {
+                    ZoneOffsetTransition trans = rule.createTransition(year);
+                    long epochSec = trans.getInstant().getEpochSecond();
+                    if (epochSec <= savingsInstantTransitions[size - 1]) {
+                        if (size > historicSize) {
+                            break expand;  // rules out of order, so leave to rule evaluation
+                        }
+                        continue;  // covered by the historic transitions
+                    }
+                    if (trans.getOffsetBefore().equals(wallOffset) == false || table.size() == Byte.MAX_VALUE) {
+                        break expand;
+                    }
+                    ZoneOffset offsetAfter = trans.getOffsetAfter();
+                    if (table.contains(offsetAfter) == false) {
+                        table.add(offsetAfter);
+                    }
+                    int before = wallOffset.getAmountSeconds();
+                    int after = offsetAfter.getAmountSeconds();
+                    savingsInstantTransitions[size] = epochSec;
+                    savingsLocalTransitions[size * 2] = epochSec + Math.min(before, after);
+                    savingsLocalTransitions[size * 2 + 1] = epochSec + Math.max(before, after);
+                    wallOffsetIndices[size + 1] = (byte) table.indexOf(offsetAfter);
+                    wallOffset = offsetAfter;
+                    size++;
+                }
+            }
+        }
+        
+        this.offsets = table.toArray(new ZoneOffset[table.size()]);
         this.standardTransitions = standardTransitions;
-        this.standardOffsets = standardOffsets;
-        this.savingsInstantTransitions = savingsInstantTransitions;
-        this.wallOffsets = wallOffsets;
+        this.standardOffsetIndices = standardOffsetIndices;
+        this.historicTransitionCount = historicSize;
+        this.savingsInstantTransitions = Arrays.copyOf(savingsInstantTransitions, size);
+        this.savingsLocalTransitions = Arrays.copyOf(savingsLocalTransitions, size * 2);
+        this.wallOffsetIndices = Arrays.copyOf(wallOffsetIndices, size + 1);
         this.lastRules = lastRules;
-        
-        // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
-        for (int i = 0; i < savingsInstantTransitions.length; i++) {
-            ZoneOffset before = wallOffsets[i];
-            ZoneOffset after = wallOffsets[i + 1];
-            OffsetDateTime odt = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[i], before);
-            ZoneOffsetTransition trans = new ZoneOffsetTransition(odt, after);
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
+    }
+
+    /**
+     * Creates the table of distinct offsets, in order of first use.
+     *
+     * @param standardOffsets  the standard offsets, not null
+     * @param wallOffsets  the wall offsets, not null
+     * @return the offset table, not null
+     */
+    private static ZoneOffset[] createOffsetTable(ZoneOffset[] standardOffsets, ZoneOffset[] wallOffsets) {
+        List<ZoneOffset> table = new ArrayList<ZoneOffset>();
+        for (ZoneOffset offset : standardOffsets) {
+            if (table.contains(offset) == false) {
+                table.add(offset);
+            }
+        }
+        for (ZoneOffset offset : wallOffsets) {
+            if (table.contains(offset) == false) {
+                table.add(offset);
             }
         }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        if (table.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many distinct offsets");
+        }
+        return table.toArray(new ZoneOffset[table.size()]);
+    }
+
+    /**
+     * Converts an array of offsets to indices into the offset table.
+     *
+     * @param table  the offset table, not null
+     * @param offsets  the offsets to convert, not null
+     * @return the indices, not null
+     */
+    private static byte[] createIndices(ZoneOffset[] table, ZoneOffset[] offsets) {
+        List<ZoneOffset> tableList = Arrays.asList(table);
+        byte[] indices = new byte[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            indices[i] = (byte) tableList.indexOf(offsets[i]);
+        }
+        return indices;
+    }
+
+    /**
+     * Converts the savings transitions to paired local epoch seconds.
+     * <p>
+     * A gap is stored as the local time before then after, and an overlap
+     * as the local time after then before, thus each pair is ascending.
+     *
+     * @param savingsInstantTransitions  the savings transitions, not null
+     * @param offsets  the offset table, not null
+     * @param wallOffsetIndices  the wall offsets, as indices into the offset table, not null
+     * @return the local transitions, not null
+     */
+    private static long[] createLocalTransitions(long[] savingsInstantTransitions, ZoneOffset[] offsets, byte[] wallOffsetIndices) {
+        long[] localTransitions = new long[savingsInstantTransitions.length * 2];
+        for (int i = 0; i < savingsInstantTransitions.length; i++) {
+            int before = offsets[wallOffsetIndices[i]].getAmountSeconds();
+            int after = offsets[wallOffsetIndices[i + 1]].getAmountSeconds();
+            localTransitions[i * 2] = savingsInstantTransitions[i] + Math.min(before, after);
+            localTransitions[i * 2 + 1] = savingsInstantTransitions[i] + Math.max(before, after);
+        }
+        return localTransitions;
+    }
+
+    /**
+     * Converts a local date-time to local epoch seconds, ignoring the nanosecond.
+     *
+     * @param dt  the date-time, not null
+     * @return the local epoch seconds
+     */
+    private static long toLocalEpochSecond(LocalDateTime dt) {
+        return dt.toLocalDate().toEpochDay() * SECONDS_PER_DAY + dt.toLocalTime().toSecondOfDay();
+    }
+
+    /**
+     * Gets the wall offset at the specified index.
+     *
+     * @param index  the index into the wall offsets
+     * @return the wall offset, not null
+     */
+    private ZoneOffset wallOffset(int index) {
+        return offsets[wallOffsetIndices[index]];
     }
 
     //-----------------------------------------------------------------------
@@ -203,30 +378,31 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      * @return the replacing object, not null
      */
     private Object writeReplace() {
-        return new Ser(Ser.SZR, this);
+        return new Ser(Ser.SZR_DENSE, this);
     }
 
     /**
-     * Writes the state to the stream.
+     * Writes the state to the stream in the dense form.
+     * <p>
+     * The layout mirrors the fields, with the transitions held as fixed-width deltas.
+     * Only the historic instant transitions are written. The local transitions are
+     * derived from the instant transitions and wall offsets when read, and any
+     * expanded transitions are not written.
      *
      * @param out  the output stream, not null
      * @throws IOException if an error occurs
      */
     void writeExternal(DataOutput out) throws IOException {
-        out.writeInt(standardTransitions.length);
-        for (long trans : standardTransitions) {
-            Ser.writeEpochSec(trans, out);
-        }
-        for (ZoneOffset offset : standardOffsets) {
-            Ser.writeOffset(offset, out);
-        }
-        out.writeInt(savingsInstantTransitions.length);
-        for (long trans : savingsInstantTransitions) {
-            Ser.writeEpochSec(trans, out);
-        }
-        for (ZoneOffset offset : wallOffsets) {
+        out.writeByte(offsets.length);
+        for (ZoneOffset offset : offsets) {
             Ser.writeOffset(offset, out);
         }
+        out.writeInt(standardTransitions.length);
+        Ser.writeEpochSecArray(standardTransitions, standardTransitions.length, out);
+        out.write(standardOffsetIndices);
+        out.writeInt(historicTransitionCount);
+        Ser.writeEpochSecArray(savingsInstantTransitions, historicTransitionCount, out);
+        out.write(wallOffsetIndices, 0, historicTransitionCount + 1);
         out.writeByte(lastRules.length);
         for (ZoneOffsetTransitionRule rule : lastRules) {
             rule.writeExternal(out);
@@ -234,13 +410,63 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     }
 
     /**
-     * Reads the state from the stream.
+     * Reads the state from the stream in the dense form.
      *
      * @param in  the input stream, not null
      * @return the created object, not null
      * @throws IOException if an error occurs
      */
     static StandardZoneRules readExternal(DataInput in) throws IOException, ClassNotFoundException {
+        int offsetSize = in.readByte();
+        ZoneOffset[] offsets = new ZoneOffset[offsetSize];
+        for (int i = 0; i < offsetSize; i++) {
+            offsets[i] = Ser.readOffset(in);
+        }
+        int stdSize = in.readInt();
+        long[] stdTrans = Ser.readEpochSecArray(stdSize, in);
+        byte[] stdIndices = readIndices(stdSize + 1, offsetSize, in);
+        int savSize = in.readInt();
+        long[] savTrans = Ser.readEpochSecArray(savSize, in);
+        byte[] savIndices = readIndices(savSize + 1, offsetSize, in);
+        long[] savLocalTrans = createLocalTransitions(savTrans, offsets, savIndices);
+        int ruleSize = in.readByte();
+        ZoneOffsetTransitionRule[] rules = new ZoneOffsetTransitionRule[ruleSize];
+        for (int i = 0; i < ruleSize; i++) {
+            rules[i] = ZoneOffsetTransitionRule.readExternal(in);
+        }
+        return new StandardZoneRules(offsets, stdTrans, stdIndices, savTrans, savLocalTrans, savIndices, rules, NO_HORIZON_YEAR);
+    }
+
+    /**
+     * Reads an array of offset indices from the stream, validating each index.
+     *
+     * @param size  the number of indices
+     * @param offsetSize  the size of the offset table
+     * @param in  the input stream, not null
+     * @return the indices, not null
+     * @throws IOException if an error occurs
+     */
+    private static byte[] readIndices(int size, int offsetSize, DataInput in) throws IOException {
+        byte[] indices = new byte[size];
+        in.readFully(indices);
+        for (byte index : indices) {
+            if (index < 0 || index >= offsetSize) {
+                throw new StreamCorruptedException("Invalid offset index");
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Reads the state from the stream in the variable-length form.
+     * <p>
+     * This is the form used by earlier versions of the data file.
+     *
+     * @param in  the input stream, not null
+     * @return the created object, not null
+     * @throws IOException if an error occurs
+     */
+    static StandardZoneRules readVariableLengthExternal(DataInput in) throws IOException, ClassNotFoundException {
         int stdSize = in.readInt();
         long[] stdTrans = new long[stdSize];
         for (int i = 0; i < stdSize; i++) {
@@ -264,7 +490,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         for (int i = 0; i < ruleSize; i++) {
             rules[i] = ZoneOffsetTransitionRule.readExternal(in);
         }
-        return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
+        return of(stdTrans, stdOffsets, savTrans, savOffsets, rules, NO_HORIZON_YEAR);
     }
 
     //-----------------------------------------------------------------------
@@ -277,7 +503,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
-            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffsets[wallOffsets.length - 1]);
+            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffset(wallOffsetIndices.length - 1));
             ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
             ZoneOffsetTransition trans = null;
             for (int i = 0; i < transArray.length; i++) {
@@ -295,57 +521,218 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
             // switch negative insert position to start of matched range
             index = -index - 2;
         }
-        return wallOffsets[index + 1];
+        return wallOffset(index + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the offset applicable at each of an array of instants in this zone.
+     * <p>
+     * Input sorted in ascending order is handled by walking a cursor along the
+     * transitions, with a binary search only used when the cursor must move
+     * a long way or the input goes backwards.
+     *
+     * @param epochSeconds  the instants to find the offsets for, as epoch seconds, not null
+     * @param offsetSeconds  the array to fill with the offsets in seconds, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     */
+    @Override
+    public void getOffsets(long[] epochSeconds, int[] offsetSeconds) {
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(offsetSeconds, "Offset seconds array must not be null");
+        checkBulkLength(epochSeconds.length, offsetSeconds.length);
+        convertToLocal(epochSeconds, offsetSeconds, null);
+    }
+
+    /**
+     * Converts each of an array of instants to the local date-time in this zone.
+     * <p>
+     * Input sorted in ascending order is handled by walking a cursor along the
+     * transitions, with a binary search only used when the cursor must move
+     * a long way or the input goes backwards.
+     *
+     * @param epochSeconds  the instants to convert, as epoch seconds, not null
+     * @param localEpochSeconds  the array to fill with the local epoch seconds, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     * @throws ArithmeticException if a result exceeds the capacity of a {@code long}
+     */
+    @Override
+    public void toLocalEpochSeconds(long[] epochSeconds, long[] localEpochSeconds) {
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(localEpochSeconds, "Local epoch seconds array must not be null");
+        checkBulkLength(epochSeconds.length, localEpochSeconds.length);
+        convertToLocal(epochSeconds, null, localEpochSeconds);
+    }
+
+    /**
+     * Converts an array of instants to offsets and/or local epoch seconds.
+     *
+     * @param epochSeconds  the instants to convert, as epoch seconds, not null
+     * @param offsetSeconds  the array to fill with the offsets in seconds, null to not fill
+     * @param localEpochSeconds  the array to fill with the local epoch seconds, null to not fill
+     */
+    private void convertToLocal(long[] epochSeconds, int[] offsetSeconds, long[] localEpochSeconds) {
+        long[] transitions = savingsInstantTransitions;
+        int last = transitions.length - 1;
+        int cursor = -2;  // index of the last transition at or before the previous instant
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSec = epochSeconds[i];
+            int offsetSecs;
+            if (lastRules.length > 0 && epochSec > transitions[last]) {
+                // beyond the expanded transitions, so evaluate the rules
+                offsetSecs = getOffset(Instant.ofEpochSecond(epochSec)).getAmountSeconds();
+            } else {
+                if (cursor == -2 || epochSec < previous) {
+                    cursor = Arrays.binarySearch(transitions, epochSec);
+                } else {
+                    // walk forward a few transitions, then fall back to searching the rest
+                    int steps = 0;
+                    while (cursor < last && transitions[cursor + 1] <= epochSec && steps < 4) {
+                        cursor++;
+                        steps++;
+                    }
+                    if (cursor < last && transitions[cursor + 1] <= epochSec) {
+                        cursor = Arrays.binarySearch(transitions, cursor + 1, last + 1, epochSec);
+                    }
+                }
+                if (cursor < 0) {
+                    // switch negative insert position to start of matched range
+                    cursor = -cursor - 2;
+                }
+                offsetSecs = offsets[wallOffsetIndices[cursor + 1]].getAmountSeconds();
+            }
+            previous = epochSec;
+            if (offsetSeconds != null) {
+                offsetSeconds[i] = offsetSecs;
+            }
+            if (localEpochSeconds != null) {
+                localEpochSeconds[i] = MathUtils.safeAdd(epochSec, offsetSecs);
+            }
+        }
+    }
+
+    /**
+     * Converts each of an array of local date-times to the instant in this zone.
+     * <p>
+     * Input sorted in ascending order is handled by walking a cursor along the
+     * local transitions, with a binary search only used when the cursor must move
+     * a long way or the input goes backwards. No objects are created for local
+     * date-times before the horizon that are not in a gap or overlap.
+     *
+     * @param localEpochSeconds  the local date-times to convert, as local epoch seconds, not null
+     * @param epochSeconds  the array to fill with the epoch seconds, not null
+     * @param zone  the time-zone that these rules are for, passed to the resolver, not null
+     * @param resolver  the resolver to use for local date-times in a gap or overlap, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     * @throws IllegalArgumentException if the rules of the zone are not equal to these rules
+     * @throws CalendricalException if the resolver cannot resolve a local date-time
+     */
+    @Override
+    public void localToEpochSeconds(long[] localEpochSeconds, long[] epochSeconds, ZoneId zone, ZoneResolver resolver) {
+        checkNotNull(localEpochSeconds, "Local epoch seconds array must not be null");
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(resolver, "ZoneResolver must not be null");
+        checkBulkLength(localEpochSeconds.length, epochSeconds.length);
+        checkZone(zone);
+        long[] transitions = savingsLocalTransitions;
+        int last = transitions.length - 1;
+        int cursor = -2;  // index of the last local transition at or before the previous local date-time
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < localEpochSeconds.length; i++) {
+            long localSec = localEpochSeconds[i];
+            if (lastRules.length > 0 && localSec > transitions[last]) {
+                // beyond the expanded transitions, so evaluate the rules
+                LocalDateTime dt = toLocalDateTime(localSec);
+                ZoneOffsetInfo info = getOffsetInfo(dt);
+                if (info.isTransition() == false) {
+                    epochSeconds[i] = MathUtils.safeSubtract(localSec, info.getOffset().getAmountSeconds());
+                } else {
+                    epochSeconds[i] = resolver.resolve(zone, dt, null).toEpochSecond();
+                }
+            } else {
+                if (cursor == -2 || localSec < previous) {
+                    cursor = Arrays.binarySearch(transitions, localSec);
+                    if (cursor < 0) {
+                        // switch negative insert position to start of matched range
+                        cursor = -cursor - 2;
+                    }
+                }
+                // walk forward a few transitions, then fall back to searching the rest
+                int steps = 0;
+                while (cursor < last && transitions[cursor + 1] <= localSec && steps < 4) {
+                    cursor++;
+                    steps++;
+                }
+                if (cursor < last && transitions[cursor + 1] <= localSec) {
+                    cursor = Arrays.binarySearch(transitions, cursor + 1, last + 1, localSec);
+                    if (cursor < 0) {
+                        cursor = -cursor - 2;
+                    } else if (cursor < last && transitions[cursor + 1] == localSec) {
+                        // handle overlap immediately following gap
+                        cursor++;
+                    }
+                }
+                if (cursor == -1) {
+                    // before first transition
+                    epochSeconds[i] = MathUtils.safeSubtract(localSec, wallOffset(0).getAmountSeconds());
+                } else if ((cursor & 1) == 0) {
+                    // gap or overlap
+                    epochSeconds[i] = resolver.resolve(zone, toLocalDateTime(localSec), null).toEpochSecond();
+                } else {
+                    epochSeconds[i] = MathUtils.safeSubtract(localSec, wallOffset(cursor / 2 + 1).getAmountSeconds());
+                }
+            }
+            previous = localSec;
+        }
     }
 
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     @Override
     public ZoneOffsetInfo getOffsetInfo(LocalDateTime dt) {
+        long localSec = toLocalEpochSecond(dt);
+        
         // check if using last rules
-        if (lastRules.length > 0 &&
-                dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1])) {
-            ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
-            ZoneOffsetInfo info = null;
-            for (ZoneOffsetTransition trans : transArray) {
-                info = findOffsetInfo(dt, trans);
-                if (info.isTransition() || info.getOffset().equals(trans.getOffsetBefore())) {
-                    return info;
+        if (lastRules.length > 0) {
+            long lastLocal = savingsLocalTransitions[savingsLocalTransitions.length - 1];
+            if (localSec > lastLocal || (localSec == lastLocal && dt.getNanoOfSecond() > 0)) {
+                ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
+                ZoneOffsetInfo info = null;
+                for (ZoneOffsetTransition trans : transArray) {
+                    info = findOffsetInfo(dt, trans);
+                    if (info.isTransition() || info.getOffset().equals(trans.getOffsetBefore())) {
+                        return info;
+                    }
                 }
+                return info;
             }
-            return info;
         }
         
         // using historic rules
-        int index  = Arrays.binarySearch(savingsLocalTransitions, dt);
+        // the nanosecond can be ignored as every transition is on a whole second
+        int index  = Arrays.binarySearch(savingsLocalTransitions, localSec);
         if (index == -1) {
             // before first transition
-            return new ZoneOffsetInfo(dt, wallOffsets[0], null);
+            return new ZoneOffsetInfo(dt, wallOffset(0), null);
         }
         if (index < 0) {
             // switch negative insert position to start of matched range
             index = -index - 2;
         } else if (index < savingsLocalTransitions.length - 1 &&
-                savingsLocalTransitions[index].equals(savingsLocalTransitions[index + 1])) {
+                savingsLocalTransitions[index] == savingsLocalTransitions[index + 1]) {
             // handle overlap immediately following gap
             index++;
         }
         if ((index & 1) == 0) {
             // gap or overlap
-            LocalDateTime dtBefore = savingsLocalTransitions[index];
-            LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
-            ZoneOffset offsetBefore = wallOffsets[index / 2];
-            ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-            if (offsetAfter.getAmountSeconds() > offsetBefore.getAmountSeconds()) {
-                // gap
-                return new ZoneOffsetInfo(dt, null, new ZoneOffsetTransition(OffsetDateTime.of(dtBefore, offsetBefore), offsetAfter));
-            } else {
-                // overlap
-                return new ZoneOffsetInfo(dt, null, new ZoneOffsetTransition(OffsetDateTime.of(dtAfter, offsetBefore), offsetAfter));
-            }
+            ZoneOffset offsetBefore = wallOffset(index / 2);
+            ZoneOffset offsetAfter = wallOffset(index / 2 + 1);
+            OffsetDateTime odt = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[index / 2], offsetBefore);
+            return new ZoneOffsetInfo(dt, null, new ZoneOffsetTransition(odt, offsetAfter));
         } else {
             // normal (neither gap or overlap)
-            return new ZoneOffsetInfo(dt, wallOffsets[index / 2 + 1], null);
+            return new ZoneOffsetInfo(dt, wallOffset(index / 2 + 1), null);
         }
     }
 
@@ -414,7 +801,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
             // switch negative insert position to start of matched range
             index = -index - 2;
         }
-        return standardOffsets[index + 1];
+        return offsets[standardOffsetIndices[index + 1]];
     }
 
     //-----------------------------------------------------------------------
@@ -434,7 +821,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
             if (lastRules.length == 0) {
                 return null;
             }
-            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffsets[wallOffsets.length - 1]);
+            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffset(wallOffsetIndices.length - 1));
             for (int year = dt.getYear(); true; year++) {
                 ZoneOffsetTransition[] transArray = findTransitionArray(year);
                 for (ZoneOffsetTransition trans : transArray) {
@@ -455,9 +842,8 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         } else {
             index += 1;  // exact match, so need to add one to get the next
         }
-        Instant transitionInstant = Instant.ofEpochSecond(savingsInstantTransitions[index]);
-        OffsetDateTime trans = OffsetDateTime.ofInstant(transitionInstant, wallOffsets[index]);
-        return new ZoneOffsetTransition(trans, wallOffsets[index + 1]);
+        OffsetDateTime trans = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[index], wallOffset(index));
+        return new ZoneOffsetTransition(trans, wallOffset(index + 1));
     }
 
     /**
@@ -475,12 +861,12 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         }
         
         // check if using last rules
-        long lastHistoric = savingsInstantTransitions[savingsInstantTransitions.length - 1];
-        if (lastRules.length > 0 && epochSec > lastHistoric) {
-            ZoneOffset lastHistoricOffset = wallOffsets[wallOffsets.length - 1];
-            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, lastHistoricOffset);
-            OffsetDateTime lastHistoricDT = OffsetDateTime.ofInstant(Instant.ofEpochSecond(lastHistoric), lastHistoricOffset);
-            for (int year = dt.getYear(); year > lastHistoricDT.getYear(); year--) {
+        long lastTransition = savingsInstantTransitions[savingsInstantTransitions.length - 1];
+        if (lastRules.length > 0 && epochSec > lastTransition) {
+            ZoneOffset lastTransitionOffset = wallOffset(wallOffsetIndices.length - 1);
+            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, lastTransitionOffset);
+            OffsetDateTime lastTransitionDT = OffsetDateTime.ofEpochSecond(lastTransition, lastTransitionOffset);
+            for (int year = dt.getYear(); year > lastTransitionDT.getYear(); year--) {
                 ZoneOffsetTransition[] transArray = findTransitionArray(year);
                 for (int i = transArray.length - 1; i >= 0; i--) {
                     if (instant.isAfter(transArray[i].getInstant())) {
@@ -498,9 +884,8 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         if (index <= 0) {
             return null;
         }
-        Instant transitionInstant = Instant.ofEpochSecond(savingsInstantTransitions[index - 1]);
-        OffsetDateTime trans = OffsetDateTime.ofInstant(transitionInstant, wallOffsets[index - 1]);
-        return new ZoneOffsetTransition(trans, wallOffsets[index]);
+        OffsetDateTime trans = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[index - 1], wallOffset(index - 1));
+        return new ZoneOffsetTransition(trans, wallOffset(index));
     }
 
     /**
@@ -515,10 +900,9 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     @Override
     public List<ZoneOffsetTransition> getTransitions() {
         List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
-        for (int i = 0; i < savingsInstantTransitions.length; i++) {
-            Instant instant = Instant.ofEpochSecond(savingsInstantTransitions[i]);
-            OffsetDateTime trans = OffsetDateTime.ofInstant(instant, wallOffsets[i]);
-            list.add(new ZoneOffsetTransition(trans, wallOffsets[i + 1]));
+        for (int i = 0; i < historicTransitionCount; i++) {
+            OffsetDateTime trans = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[i], wallOffset(i));
+            list.add(new ZoneOffsetTransition(trans, wallOffset(i + 1)));
         }
         return list;
     }
@@ -538,11 +922,35 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return new ArrayList<ZoneOffsetTransitionRule>(Arrays.asList(lastRules));
     }
 
+    /**
+     * Returns a copy of these rules with the recurring last rules expanded
+     * into transitions up to and including the specified year.
+     * <p>
+     * Any previous expansion is discarded, thus a horizon before the last historic
+     * transition returns rules in the compact form.
+     *
+     * @param horizonYear  the last year to expand the rules into transitions
+     * @return the rules with the transitions expanded, not null
+     */
+    @Override
+    public StandardZoneRules withTransitionHorizon(int horizonYear) {
+        if (lastRules.length == 0) {
+            return this;
+        }
+        return new StandardZoneRules(
+                offsets, standardTransitions, standardOffsetIndices,
+                Arrays.copyOf(savingsInstantTransitions, historicTransitionCount),
+                Arrays.copyOf(savingsLocalTransitions, historicTransitionCount * 2),
+                Arrays.copyOf(wallOffsetIndices, historicTransitionCount + 1),
+                lastRules, horizonYear);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this object equals another, comparing the complete set of rules.
      * <p>
-     * The entire state of the object is compared.
+     * The entire state of the object is compared, other than the transitions
+     * expanded from the last rules, which are derived from the rest of the state.
      *
      * @param other  the other object to compare to, null returns false
      * @return true if equal
@@ -554,11 +962,27 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         }
         if (otherRules instanceof StandardZoneRules) {
             StandardZoneRules other = (StandardZoneRules) otherRules;
-            return Arrays.equals(standardTransitions, other.standardTransitions) &&
-                    Arrays.equals(standardOffsets, other.standardOffsets) &&
-                    Arrays.equals(savingsInstantTransitions, other.savingsInstantTransitions) &&
-                    Arrays.equals(wallOffsets, other.wallOffsets) &&
-                    Arrays.equals(lastRules, other.lastRules);
+            if (historicTransitionCount != other.historicTransitionCount ||
+                    Arrays.equals(standardTransitions, other.standardTransitions) == false ||
+                    Arrays.equals(lastRules, other.lastRules) == false) {
+                return false;
+            }
+            for (int i = 0; i < standardOffsetIndices.length; i++) {
+                if (offsets[standardOffsetIndices[i]].equals(other.offsets[other.standardOffsetIndices[i]]) == false) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < historicTransitionCount; i++) {
+                if (savingsInstantTransitions[i] != other.savingsInstantTransitions[i]) {
+                    return false;
+                }
+            }
+            for (int i = 0; i <= historicTransitionCount; i++) {
+                if (wallOffset(i).equals(other.wallOffset(i)) == false) {
+                    return false;
+                }
+            }
+            return true;
         }
         return false;
     }
@@ -570,11 +994,18 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Arrays.hashCode(standardTransitions) ^
-                Arrays.hashCode(standardOffsets) ^
-                Arrays.hashCode(savingsInstantTransitions) ^
-                Arrays.hashCode(wallOffsets) ^
-                Arrays.hashCode(lastRules);
+        int hash = Arrays.hashCode(standardTransitions) ^ Arrays.hashCode(lastRules);
+        for (int i = 0; i < standardOffsetIndices.length; i++) {
+            hash = 31 * hash + offsets[standardOffsetIndices[i]].hashCode();
+        }
+        for (int i = 0; i < historicTransitionCount; i++) {
+            long trans = savingsInstantTransitions[i];
+            hash = 31 * hash + (int) (trans ^ (trans >>> 32));
+        }
+        for (int i = 0; i <= historicTransitionCount; i++) {
+            hash = 31 * hash + wallOffset(i).hashCode();
+        }
+        return hash;
     }
 
     //-----------------------------------------------------------------------
@@ -585,7 +1016,8 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     @Override
     public String toString() {
-        return "StandardZoneRules[currentStandardOffset=" + standardOffsets[standardOffsets.length - 1] + "]";
+        return "StandardZoneRules[currentStandardOffset=" +
+                offsets[standardOffsetIndices[standardOffsetIndices.length - 1]] + "]";
     }
 
 }
@@ -36,11 +36,15 @@ import static javax.time.calendar.ISODateTimeRule.MINUTE_OF_HOUR;
 import static javax.time.calendar.ISODateTimeRule.SECOND_OF_MINUTE;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,7 +57,16 @@ import java.util.SortedMap;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
 
 import javax.time.calendar.DateAdjusters;
@@ -96,6 +109,18 @@ public final class TZDBZoneRulesCompiler {
      * Constant for MJD 1972-01-01.
      */
     private static final long MJD_1972_01_01 = 41317L;
+    /**
+     * The manifest attribute holding the format of the output of the compiler.
+     */
+    static final String FORMAT_ATTRIBUTE = "JSR-310-TZDB-Compiler-Format";
+    /**
+     * The format of the output of the compiler.
+     * <p>
+     * This must be incremented whenever the content of the output jar files changes,
+     * including any change to the serialized form of the zone rules, such that
+     * incremental compilation does not reuse a jar file output in an older format.
+     */
+    static final String FORMAT = "3";
 
     /**
      * Reads a set of TZDB files and builds a single combined data file.
@@ -112,6 +137,7 @@ public final class TZDBZoneRulesCompiler {
         String version = null;
         File baseSrcDir = null;
         File dstDir = null;
+        boolean incremental = false;
         boolean verbose = false;
         
         // parse options
@@ -136,6 +162,11 @@ public final class TZDBZoneRulesCompiler {
                     version = args[i];
                     continue;
                 }
+            } else if ("-incremental".equals(arg)) {
+                if (incremental == false) {
+                    incremental = true;
+                    continue;
+                }
             } else if ("-verbose".equals(arg)) {
                 if (verbose == false) {
                     verbose = true;
@@ -199,7 +230,7 @@ public final class TZDBZoneRulesCompiler {
             System.out.println("Destination is not a directory: " + dstDir);
             return;
         }
-        process(srcDirs, srcFileNames, dstDir, verbose);
+        process(srcDirs, srcFileNames, dstDir, incremental, verbose);
         System.exit(0);
     }
 
@@ -212,6 +243,8 @@ public final class TZDBZoneRulesCompiler {
         System.out.println("   -srcdir <directory>   Where to find source directories (required)");
         System.out.println("   -dstdir <directory>   Where to output generated files (default srcdir)");
         System.out.println("   -version <version>    Specify the version, such as 2009a (optional)");
+        System.out.println("   -incremental          Reuse version jar files in dstdir that are newer than their source");
+        System.out.println("                         and were output by a compiler using the same format");
         System.out.println("   -help                 Print this usage message");
         System.out.println("   -verbose              Output verbose information during compilation");
         System.out.println(" There must be one directory for each version in srcdir");
@@ -220,22 +253,30 @@ public final class TZDBZoneRulesCompiler {
         System.out.println(" Directories must match the regex [12][0-9][0-9][0-9][A-Za-z0-9._-]+");
         System.out.println(" There will be one jar file for each version and one combined jar in dstdir");
         System.out.println(" If the version is specified, only that version is processed");
+        System.out.println(" Versions are compiled in parallel, using one thread per available processor");
     }
 
     /**
      * Process to create the jar files.
+     * <p>
+     * Each version is compiled and output as a separate task, with the tasks run
+     * concurrently on a pool with one thread per processor. The combined file is
+     * output once all versions have completed.
      */
-    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean verbose) {
+    private static void process(List<File> srcDirs, List<String> srcFileNames, final File dstDir,
+            final boolean incremental, final boolean verbose) {
         // build actual jar files
-        Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
+        final Map<Object, Object> deduplicateMap = new ConcurrentHashMap<Object, Object>();
         Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         Set<String> allRegionIds = new TreeSet<String>();
         Set<ZoneRules> allRules = new HashSet<ZoneRules>();
         SortedMap<LocalDate, Byte> bestLeapSeconds = null;
         
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<Future<TZDBZoneRulesCompiler>> futures = new ArrayList<Future<TZDBZoneRulesCompiler>>();
         for (File srcDir : srcDirs) {
             // source files in this directory
-            List<File> srcFiles = new ArrayList<File>();
+            final List<File> srcFiles = new ArrayList<File>();
             for (String srcFileName : srcFileNames) {
                 File file = new File(srcDir, srcFileName);
                 if (file.exists()) {
@@ -252,24 +293,39 @@ public final class TZDBZoneRulesCompiler {
             }
             
             // compile
-            String loopVersion = srcDir.getName();
-            TZDBZoneRulesCompiler compiler = new TZDBZoneRulesCompiler(loopVersion, srcFiles, leapSecondsFile, verbose);
+            final String loopVersion = srcDir.getName();
+            final TZDBZoneRulesCompiler compiler = new TZDBZoneRulesCompiler(loopVersion, srcFiles, leapSecondsFile, verbose);
             compiler.setDeduplicateMap(deduplicateMap);
+            futures.add(executor.submit(new Callable<TZDBZoneRulesCompiler>() {
+                public TZDBZoneRulesCompiler call() throws Exception {
+                    File dstFile = new File(dstDir, "jsr-310-TZDB-" + loopVersion + ".jar");
+                    if (incremental && compiler.isUpToDate(dstFile)) {
+                        // reuse version-specific file
+                        compiler.load(dstFile);
+                    } else {
+                        // compile
+                        compiler.compile();
+                        
+                        // output version-specific file
+                        if (verbose) {
+                            System.out.println("Outputting file: " + dstFile);
+                        }
+                        outputFile(dstFile, loopVersion, compiler.getZones(), compiler.getLeapSeconds());
+                    }
+                    return compiler;
+                }
+            }));
+        }
+        executor.shutdown();
+        
+        for (Future<TZDBZoneRulesCompiler> future : futures) {
             try {
-                // compile
-                compiler.compile();
+                TZDBZoneRulesCompiler compiler = future.get();
                 SortedMap<String, ZoneRules> builtZones = compiler.getZones();
                 SortedMap<LocalDate, Byte> parsedLeapSeconds = compiler.getLeapSeconds();
                 
-                // output version-specific file
-                File dstFile = new File(dstDir, "jsr-310-TZDB-" + loopVersion + ".jar");
-                if (verbose) {
-                    System.out.println("Outputting file: " + dstFile);
-                }
-                outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds);
-                
                 // create totals
-                allBuiltZones.put(loopVersion, builtZones);
+                allBuiltZones.put(compiler.version, builtZones);
                 allRegionIds.addAll(builtZones.keySet());
                 allRules.addAll(builtZones.values());
                 
@@ -282,8 +338,9 @@ public final class TZDBZoneRulesCompiler {
                     }
                 }
             } catch (Exception ex) {
-                System.out.println("Failed: " + ex.toString());
-                ex.printStackTrace();
+                Throwable cause = (ex instanceof ExecutionException ? ex.getCause() : ex);
+                System.out.println("Failed: " + cause.toString());
+                cause.printStackTrace();
                 System.exit(1);
             }
         }
@@ -297,9 +354,9 @@ public final class TZDBZoneRulesCompiler {
     }
 
     /**
-     * Outputs the file.
+     * Outputs the file for a single version.
      */
-    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
+    static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
         Map<String, SortedMap<String, ZoneRules>> loopAllBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         loopAllBuiltZones.put(version, builtZones);
         Set<String> loopAllRegionIds = new TreeSet<String>(builtZones.keySet());
@@ -313,7 +370,10 @@ public final class TZDBZoneRulesCompiler {
     private static void outputFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
             Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
         try {
-            JarOutputStream jos = new JarOutputStream(new FileOutputStream(dstFile));
+            Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            manifest.getMainAttributes().putValue(FORMAT_ATTRIBUTE, FORMAT);
+            JarOutputStream jos = new JarOutputStream(new FileOutputStream(dstFile), manifest);
             outputTZEntry(jos, allBuiltZones, allRegionIds, allRules);
             outputLeapSecondEntry(jos, leapSeconds);
             jos.close();
@@ -352,11 +412,15 @@ public final class TZDBZoneRulesCompiler {
             }
             // link version-region-rules
             List<ZoneRules> rulesList = new ArrayList<ZoneRules>(allRules);
+            Map<ZoneRules, Integer> rulesIndexMap = new HashMap<ZoneRules, Integer>(rulesList.size() * 2);
+            for (int i = 0; i < rulesList.size(); i++) {
+                rulesIndexMap.put(rulesList.get(i), i);
+            }
             for (String version : allBuiltZones.keySet()) {
                 out.writeShort(allBuiltZones.get(version).size());
                 for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
                      int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
-                     int rulesIndex = rulesList.indexOf(entry.getValue());
+                     int rulesIndex = rulesIndexMap.get(entry.getValue());
                      out.writeShort(regionIndex);
                      out.writeShort(rulesIndex);
                 }
@@ -506,6 +570,110 @@ public final class TZDBZoneRulesCompiler {
         this.deduplicateMap = deduplicateMap;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if a previously output jar file can be reused.
+     * <p>
+     * The jar file can be reused if it was output by a compiler using the
+     * current {@link #FORMAT} and is newer than all the source files.
+     *
+     * @param jarFile  the jar file output for this version, not null
+     * @return true if the jar file exists, is in the current format and is newer than the source files
+     */
+    boolean isUpToDate(File jarFile) {
+        if (jarFile.isFile() == false) {
+            return false;
+        }
+        long jarModified = jarFile.lastModified();
+        for (File file : sourceFiles) {
+            if (file.lastModified() > jarModified) {
+                return false;
+            }
+        }
+        if (leapSecondsFile != null && leapSecondsFile.lastModified() > jarModified) {
+            return false;
+        }
+        return FORMAT.equals(readFormat(jarFile));
+    }
+
+    /**
+     * Reads the format of a previously output jar file.
+     *
+     * @param jarFile  the jar file, not null
+     * @return the format, null if unknown or the file cannot be read
+     */
+    private static String readFormat(File jarFile) {
+        try {
+            JarFile jar = new JarFile(jarFile);
+            try {
+                Manifest manifest = jar.getManifest();
+                return (manifest != null ? manifest.getMainAttributes().getValue(FORMAT_ATTRIBUTE) : null);
+            } finally {
+                jar.close();
+            }
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the zones and leap seconds from a jar file previously output for this version.
+     * <p>
+     * This is used in place of {@link #compile()} when compiling incrementally.
+     * Use {@link #getZones()} and {@link #getLeapSeconds()} to retrieve the loaded data.
+     *
+     * @param jarFile  the jar file output for this version, not null
+     * @throws Exception if an error occurs
+     */
+    void load(File jarFile) throws Exception {
+        printVerbose("Loading TZDB version " + version + " from " + jarFile);
+        JarFile jar = new JarFile(jarFile);
+        try {
+            DataInputStream in = new DataInputStream(jar.getInputStream(jar.getEntry("javax/time/calendar/zone/ZoneRules.dat")));
+            if (in.readByte() != 1 || "TZDB".equals(in.readUTF()) == false ||
+                    in.readShort() != 1 || version.equals(in.readUTF()) == false) {
+                throw new StreamCorruptedException("File does not contain version " + version + ": " + jarFile);
+            }
+            String[] regionArray = new String[in.readShort()];
+            for (int i = 0; i < regionArray.length; i++) {
+                regionArray[i] = in.readUTF();
+            }
+            int[] regionIndices = new int[in.readShort()];
+            int[] rulesIndices = new int[regionIndices.length];
+            for (int i = 0; i < regionIndices.length; i++) {
+                regionIndices[i] = in.readShort();
+                rulesIndices[i] = in.readShort();
+            }
+            ZoneRules[] rulesArray = new ZoneRules[in.readShort()];
+            for (int i = 0; i < rulesArray.length; i++) {
+                byte[] bytes = new byte[in.readShort()];
+                in.readFully(bytes);
+                rulesArray[i] = deduplicate((ZoneRules) Ser.read(new DataInputStream(new ByteArrayInputStream(bytes))));
+            }
+            for (int i = 0; i < regionIndices.length; i++) {
+                builtZones.put(deduplicate(regionArray[regionIndices[i]]), rulesArray[rulesIndices[i]]);
+            }
+            in.close();
+            
+            in = new DataInputStream(jar.getInputStream(jar.getEntry("javax/time/LeapSecondRules.dat")));
+            if (in.readByte() != 1) {
+                throw new StreamCorruptedException("File format not recognised: " + jarFile);
+            }
+            int count = in.readInt();
+            in.readLong();  // fixed first entry at 1972-01-01
+            int offset = in.readInt();
+            for (int i = 1; i < count; i++) {
+                LocalDate leapDate = LocalDate.ofModifiedJulianDay(in.readLong());
+                int newOffset = in.readInt();
+                leapSeconds.put(leapDate, (byte) (newOffset - offset));
+                offset = newOffset;
+            }
+            in.close();
+        } finally {
+            jar.close();
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the source files.
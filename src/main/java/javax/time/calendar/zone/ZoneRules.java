@@ -33,15 +33,20 @@ package javax.time.calendar.zone;
 
 import java.util.List;
 
+import javax.time.CalendricalException;
 import javax.time.Instant;
 import javax.time.InstantProvider;
+import javax.time.MathUtils;
+import javax.time.calendar.LocalDate;
 import javax.time.calendar.LocalDateTime;
+import javax.time.calendar.LocalTime;
 import javax.time.calendar.OffsetDate;
 import javax.time.calendar.OffsetDateTime;
 import javax.time.calendar.OffsetTime;
 import javax.time.calendar.Period;
 import javax.time.calendar.ZoneId;
 import javax.time.calendar.ZoneOffset;
+import javax.time.calendar.ZoneResolver;
 import javax.time.calendar.ZonedDateTime;
 
 /**
@@ -66,6 +71,11 @@ import javax.time.calendar.ZonedDateTime;
  */
 public abstract class ZoneRules {
 
+    /**
+     * The number of seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+
     /**
      * Obtains a rules instance for a specific offset.
      * <p>
@@ -303,6 +313,25 @@ public abstract class ZoneRules {
      */
     public abstract List<ZoneOffsetTransitionRule> getTransitionRules();
 
+    /**
+     * Returns a copy of these rules with the recurring transition rules expanded
+     * into transitions up to and including the specified year.
+     * <p>
+     * Rules that recur each year, such as those returned by {@link #getTransitionRules()},
+     * are normally evaluated each time a year beyond the transition list is queried.
+     * An implementation may precompute these transitions up to the horizon year,
+     * trading memory for faster lookups. The returned rules are equal to these rules.
+     * <p>
+     * This implementation returns {@code this}.
+     * Subclasses that can expand their rules should override this method.
+     *
+     * @param horizonYear  the last year to expand the rules into transitions
+     * @return the rules with the transitions expanded, not null
+     */
+    public ZoneRules withTransitionHorizon(int horizonYear) {
+        return this;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the offset date-time is valid for these rules.
@@ -318,6 +347,148 @@ public abstract class ZoneRules {
         return info.isValidOffset(dateTime.getOffset());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the offset applicable at each of an array of instants in this zone.
+     * <p>
+     * This is a bulk form of {@link #getOffset(InstantProvider)}, intended for
+     * converting large columns of instants without creating objects per element.
+     * Each instant is specified as epoch seconds, and the matching element in
+     * the output array is set to the total offset in seconds.
+     * <p>
+     * The input may be in any order, however implementations are expected to
+     * be fastest when the input is sorted in ascending order.
+     * <p>
+     * The default implementation calls {@code getOffset} for each element.
+     *
+     * @param epochSeconds  the instants to find the offsets for, as epoch seconds, not null
+     * @param offsetSeconds  the array to fill with the offsets in seconds, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     */
+    public void getOffsets(long[] epochSeconds, int[] offsetSeconds) {
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(offsetSeconds, "Offset seconds array must not be null");
+        checkBulkLength(epochSeconds.length, offsetSeconds.length);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            offsetSeconds[i] = getOffset(Instant.ofEpochSecond(epochSeconds[i])).getAmountSeconds();
+        }
+    }
+
+    /**
+     * Converts each of an array of instants to the local date-time in this zone.
+     * <p>
+     * This is a bulk conversion intended for large columns of instants that
+     * creates no objects per element. Each instant is specified as epoch seconds,
+     * and the matching element in the output array is set to the local date-time
+     * expressed as seconds from the local epoch of 1970-01-01T00:00.
+     * The input and output may be the same array.
+     * <p>
+     * The input may be in any order, however implementations are expected to
+     * be fastest when the input is sorted in ascending order.
+     * <p>
+     * The default implementation calls {@code getOffset} for each element.
+     *
+     * @param epochSeconds  the instants to convert, as epoch seconds, not null
+     * @param localEpochSeconds  the array to fill with the local epoch seconds, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     * @throws ArithmeticException if a result exceeds the capacity of a {@code long}
+     */
+    public void toLocalEpochSeconds(long[] epochSeconds, long[] localEpochSeconds) {
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(localEpochSeconds, "Local epoch seconds array must not be null");
+        checkBulkLength(epochSeconds.length, localEpochSeconds.length);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSec = epochSeconds[i];
+            localEpochSeconds[i] = MathUtils.safeAdd(epochSec, getOffset(Instant.ofEpochSecond(epochSec)).getAmountSeconds());
+        }
+    }
+
+    /**
+     * Converts each of an array of local date-times to the instant in this zone.
+     * <p>
+     * This is the reverse of {@link #toLocalEpochSeconds(long[], long[])}, intended
+     * for large columns of local date-times. Each local date-time is specified as
+     * seconds from the local epoch of 1970-01-01T00:00, and the matching element
+     * in the output array is set to the instant as epoch seconds.
+     * The input and output may be the same array.
+     * <p>
+     * Where a local date-time is in a gap or overlap, the resolver is used to
+     * choose the result, with any fraction of a second in the result dropped.
+     * The zone must be the zone that these rules were obtained from, such that
+     * its rules are equal to these rules. The resolver is invoked with the zone
+     * and thus uses the rules of the zone.
+     * Implementations are expected to create no objects per element for local
+     * date-times that are not in a gap or overlap.
+     * <p>
+     * The input may be in any order, however implementations are expected to
+     * be fastest when the input is sorted in ascending order.
+     * <p>
+     * The default implementation calls {@code getOffsetInfo} for each element.
+     *
+     * @param localEpochSeconds  the local date-times to convert, as local epoch seconds, not null
+     * @param epochSeconds  the array to fill with the epoch seconds, not null
+     * @param zone  the time-zone that these rules are for, passed to the resolver, not null
+     * @param resolver  the resolver to use for local date-times in a gap or overlap, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     * @throws IllegalArgumentException if the rules of the zone are not equal to these rules
+     * @throws CalendricalException if the resolver cannot resolve a local date-time
+     */
+    public void localToEpochSeconds(long[] localEpochSeconds, long[] epochSeconds, ZoneId zone, ZoneResolver resolver) {
+        checkNotNull(localEpochSeconds, "Local epoch seconds array must not be null");
+        checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        checkNotNull(resolver, "ZoneResolver must not be null");
+        checkBulkLength(localEpochSeconds.length, epochSeconds.length);
+        checkZone(zone);
+        for (int i = 0; i < localEpochSeconds.length; i++) {
+            long localSec = localEpochSeconds[i];
+            LocalDateTime dt = toLocalDateTime(localSec);
+            ZoneOffsetInfo info = getOffsetInfo(dt);
+            if (info.isTransition() == false) {
+                epochSeconds[i] = MathUtils.safeSubtract(localSec, info.getOffset().getAmountSeconds());
+            } else {
+                epochSeconds[i] = resolver.resolve(zone, dt, null).toEpochSecond();
+            }
+        }
+    }
+
+    /**
+     * Checks that the zone is a zone that these rules were obtained from.
+     *
+     * @param zone  the time-zone to check, not null
+     * @throws IllegalArgumentException if the rules of the zone are not equal to these rules
+     */
+    void checkZone(ZoneId zone) {
+        checkNotNull(zone, "ZoneId must not be null");
+        if (equals(zone.getRules()) == false) {
+            throw new IllegalArgumentException("Time-zone " + zone + " does not have these rules");
+        }
+    }
+
+    /**
+     * Converts local epoch seconds to a local date-time.
+     *
+     * @param localEpochSecond  the seconds from the local epoch of 1970-01-01T00:00
+     * @return the local date-time, not null
+     */
+    static LocalDateTime toLocalDateTime(long localEpochSecond) {
+        long epochDay = MathUtils.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        int secondOfDay = MathUtils.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofSecondOfDay(secondOfDay));
+    }
+
+    /**
+     * Validates that the output array of a bulk conversion is long enough.
+     *
+     * @param inputLength  the length of the input array
+     * @param outputLength  the length of the output array
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    static void checkBulkLength(int inputLength, int outputLength) {
+        if (outputLength < inputLength) {
+            throw new IllegalArgumentException("Output array must be at least as long as the input array");
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this set of rules equals another.
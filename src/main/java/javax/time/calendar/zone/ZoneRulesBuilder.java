@@ -89,6 +89,10 @@ public class ZoneRulesBuilder {
      * A map for deduplicating the output.
      */
     private Map<Object, Object> deduplicateMap;
+    /**
+     * The last year to expand the recurring rules into transitions.
+     */
+    private int horizonYear = StandardZoneRules.NO_HORIZON_YEAR;
 
     /**
      * Validates that the input value is not null.
@@ -309,6 +313,29 @@ public class ZoneRulesBuilder {
         return this;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the last year for which the recurring rules are expanded into transitions.
+     * <p>
+     * By default, the rules created by this builder are held in the compact form,
+     * with the recurring last rules evaluated for each year after the last historic
+     * transition. Setting a horizon precomputes the transitions from the recurring
+     * last rules up to and including this year. Lookups up to this year are then
+     * a binary search, while later years evaluate the rules.
+     * A larger horizon uses more memory, while a horizon before the last
+     * historic transition disables the expansion.
+     * <p>
+     * The expansion is not serialized, thus rules read back are in the compact form.
+     * Use {@link ZoneRules#withTransitionHorizon(int)} to expand rules that have been read.
+     *
+     * @param horizonYear  the last year to expand the rules into transitions
+     * @return this, for chaining, not null
+     */
+    public ZoneRulesBuilder setTransitionHorizon(int horizonYear) {
+        this.horizonYear = horizonYear;
+        return this;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Completes the build converting the builder to a set of time-zone rules.
@@ -422,9 +449,9 @@ public class ZoneRulesBuilder {
             // finally we can calculate the true end of the window, passing it to the next window
             windowStart = deduplicate(window.createDateTime(savings));
         }
-        return new StandardZoneRules(
+        return StandardZoneRules.of(
                 firstWindow.standardOffset, firstWallOffset, standardOffsetList,
-                transitionList, lastTransitionRuleList);
+                transitionList, lastTransitionRuleList, horizonYear);
     }
 
     /**
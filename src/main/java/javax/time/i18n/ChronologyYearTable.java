@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.i18n;
+
+import javax.time.calendar.LocalDate;
+
+/**
+ * A table of the first day of each year within a window of years of a
+ * {@link StandardChronology standard} chronology.
+ * <p>
+ * Converting between a {@code LocalDate} and a date in another calendar system
+ * normally requires the full calendar system calculation.
+ * This table precomputes the epoch-day of the first day of each year in the window,
+ * storing them in an {@code int} array, such that a date in the window is converted
+ * using a binary search of the year starts and a subtraction.
+ * The month-of-year and day-of-month are then derived from the day-of-year by the chronology.
+ * Dates outside the window are converted by the chronology directly.
+ * <p>
+ * Instances are obtained using {@link StandardChronology#createYearTable(int, int)}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class ChronologyYearTable {
+
+    /**
+     * The maximum number of years in a table.
+     */
+    private static final int MAX_YEARS = 1000000;
+
+    /**
+     * The chronology.
+     */
+    private final StandardChronology chrono;
+    /**
+     * The first proleptic-year of the window.
+     */
+    private final int minYear;
+    /**
+     * The epoch-day of the first day of each year, with one extra entry
+     * for the day after the end of the window.
+     */
+    private final int[] yearStarts;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor, calculating the table.
+     *
+     * @param chrono  the chronology, not null
+     * @param minYear  the first proleptic-year of the window
+     * @param maxYear  the last proleptic-year of the window, inclusive
+     * @throws IllegalArgumentException if the window is invalid or too large
+     */
+    ChronologyYearTable(StandardChronology chrono, int minYear, int maxYear) {
+        ChronologyDate.checkNotNull(chrono, "StandardChronology must not be null");
+        if (maxYear < minYear) {
+            throw new IllegalArgumentException("Maximum year must not be before minimum year");
+        }
+        if (((long) maxYear) - minYear >= MAX_YEARS || maxYear == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Year window must be less than " + MAX_YEARS + " years");
+        }
+        int[] starts = new int[maxYear - minYear + 2];
+        for (int i = 0; i < starts.length; i++) {
+            long epochDay = chrono.createDate(minYear + i, 1, 1).toLocalDate().toEpochDay();
+            if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Year window exceeds the supported range: " + (minYear + i));
+            }
+            if (i > 0 && epochDay <= starts[i - 1]) {
+                throw new IllegalArgumentException("Chronology years must start on increasing dates: " + (minYear + i));
+            }
+            starts[i] = (int) epochDay;
+        }
+        this.chrono = chrono;
+        this.minYear = minYear;
+        this.yearStarts = starts;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology of the table.
+     *
+     * @return the chronology, not null
+     */
+    public StandardChronology getChronology() {
+        return chrono;
+    }
+
+    /**
+     * Gets the first proleptic-year of the window.
+     *
+     * @return the first year of the window
+     */
+    public int getMinYear() {
+        return minYear;
+    }
+
+    /**
+     * Gets the last proleptic-year of the window, inclusive.
+     *
+     * @return the last year of the window
+     */
+    public int getMaxYear() {
+        return minYear + yearStarts.length - 2;
+    }
+
+    /**
+     * Checks if the date is within the window of the table.
+     *
+     * @param date  the date to check, not null
+     * @return true if the date is converted using the table
+     */
+    public boolean isInWindow(LocalDate date) {
+        ChronologyDate.checkNotNull(date, "LocalDate must not be null");
+        long epochDay = date.toEpochDay();
+        return epochDay >= yearStarts[0] && epochDay < yearStarts[yearStarts.length - 1];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a date from the ISO equivalent local date.
+     * <p>
+     * The result is the same as {@link StandardChronology#createDate(LocalDate)}.
+     * 
+     * @param date  ISO equivalent local date, not null
+     * @return the date in the calendar system of the table, not null
+     */
+    public ChronologyDate createDate(LocalDate date) {
+        ChronologyDate.checkNotNull(date, "LocalDate must not be null");
+        long epochDay = date.toEpochDay();
+        int[] starts = yearStarts;
+        if (epochDay < starts[0] || epochDay >= starts[starts.length - 1]) {
+            return chrono.createDate(date);
+        }
+        int day = (int) epochDay;
+        int index = findYear(starts, day);
+        return chrono.createDateFromDayOfYear(date, minYear + index, day - starts[index] + 1);
+    }
+
+    /**
+     * Finds the index of the year containing the epoch-day.
+     * <p>
+     * Years are of similar length, so the index is first estimated from the average
+     * year length, falling back to a binary search if the estimate is wrong.
+     *
+     * @param starts  the year starts, not null
+     * @param day  the epoch-day, within the table
+     * @return the index of the year
+     */
+    private static int findYear(int[] starts, int day) {
+        int last = starts.length - 1;
+        int guess = (int) (((long) (day - starts[0])) * last / (starts[last] - starts[0]));
+        if (starts[guess] <= day) {
+            if (day < starts[guess + 1]) {
+                return guess;
+            }
+            if (day < starts[guess + 2]) {
+                return guess + 1;
+            }
+        } else if (starts[guess - 1] <= day) {
+            return guess - 1;
+        }
+        int low = 0;
+        int high = last - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= day) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Creates a date from the proleptic-year, month-of-year and day-of-month fields.
+     * <p>
+     * The result is the same as {@link StandardChronology#createDate(int, int, int)}.
+     * Within the window, the ISO equivalent date is found by adding the day-of-year
+     * to the start of the year.
+     * 
+     * @param prolepticYear  the calendar system proleptic-year
+     * @param monthOfYear  the calendar system month-of-year
+     * @param dayOfMonth  the calendar system day-of-month
+     * @return the date in the calendar system of the table, not null
+     */
+    public ChronologyDate createDate(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        if (prolepticYear < minYear || prolepticYear > getMaxYear()) {
+            return chrono.createDate(prolepticYear, monthOfYear, dayOfMonth);
+        }
+        int dayOfYear = chrono.getDayOfYear(prolepticYear, monthOfYear, dayOfMonth);
+        LocalDate date = LocalDate.ofEpochDay(yearStarts[prolepticYear - minYear] + dayOfYear - 1L);
+        return chrono.buildDate(date, prolepticYear, monthOfYear, dayOfMonth);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the table as a {@code String}.
+     *
+     * @return a string representation of the table, not null
+     */
+    @Override
+    public String toString() {
+        return "ChronologyYearTable[" + chrono.getName() + "," + minYear + "-" + getMaxYear() + "]";
+    }
+
+}
@@ -65,6 +65,10 @@ public final class CopticStandardChronology extends StandardChronology implement
      * The number of days to add to MJD to get the Coptic epoch day.
      */
     private static final int MJD_TO_COPTIC = 574971;
+    /**
+     * The number of days to add to the epoch-day to get the Coptic epoch day.
+     */
+    private static final int EPOCH_DAY_TO_COPTIC = MJD_TO_COPTIC + 40587;
 
     //-----------------------------------------------------------------------
     /**
@@ -110,26 +114,69 @@ public final class CopticStandardChronology extends StandardChronology implement
     @Override
     public ChronologyDate createDate(LocalDate date) {
         ChronologyDate.checkNotNull(date, "LocalDate must not be null");
-        long epochDay = date.toEpochDay();
-        int prolepticYear = (int) (((epochDay * 4) + 1463) / 1461);
-        int startYearEpochDay = (prolepticYear - 1) * 365 + (prolepticYear / 4);
-        int doy0 = (int) (epochDay - startYearEpochDay);
-        int month = doy0 / 30 + 1;
-        int dom = doy0 % 30 + 1;
-        return buildDate(date, prolepticYear, month, dom);
+        long epochDay = date.toModifiedJulianDay() + MJD_TO_COPTIC;
+        int prolepticYear = MathUtils.safeToInt(MathUtils.floorDiv((epochDay * 4) + 1463, 1461));
+        int doy0 = (int) (epochDay - yearStartEpochDay(prolepticYear));
+        return createDateFromDayOfYear(date, prolepticYear, doy0 + 1);
     }
 
     @Override
     public ChronologyDate createDate(int prolepticYear, int monthOfYear, int dayOfMonth) {
-        int doy0 = (monthOfYear - 1) * 30 + dayOfMonth - 1;
-        long epochDay = ((long) prolepticYear) * 365 + ((long) prolepticYear) / 4 + doy0;
+        long epochDay = yearStartEpochDay(prolepticYear) + getDayOfYear(prolepticYear, monthOfYear, dayOfMonth) - 1;
         LocalDate date = LocalDate.ofModifiedJulianDay(epochDay - MJD_TO_COPTIC);
         return buildDate(date, prolepticYear, monthOfYear, dayOfMonth);
     }
 
+    @Override
+    protected ChronologyDate createDateFromDayOfYear(LocalDate date, int prolepticYear, int dayOfYear) {
+        int doy0 = dayOfYear - 1;
+        return buildDate(date, prolepticYear, doy0 / 30 + 1, doy0 % 30 + 1);
+    }
+
+    /**
+     * Calculates the Coptic epoch day of the first day of a year.
+     * <p>
+     * The Coptic epoch day is zero on 0001-01-01 (Coptic).
+     *
+     * @param prolepticYear  the proleptic-year
+     * @return the Coptic epoch day
+     */
+    private static long yearStartEpochDay(int prolepticYear) {
+        return (prolepticYear - 1L) * 365 + MathUtils.floorDiv(prolepticYear, 4);
+    }
+
+    @Override
+    protected void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            long epochDay = ((long) epochDays[i]) + EPOCH_DAY_TO_COPTIC;
+            int prolepticYear = (int) MathUtils.floorDiv((epochDay * 4) + 1463, 1461);
+            int doy0 = (int) (epochDay - yearStartEpochDay(prolepticYear));
+            eras[i] = (prolepticYear > 0 ? 1 : 0);
+            yearsOfEra[i] = (prolepticYear > 0 ? prolepticYear : 1 - prolepticYear);
+            monthsOfYear[i] = doy0 / 30 + 1;
+            daysOfMonth[i] = doy0 % 30 + 1;
+        }
+    }
+
+    @Override
+    protected void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            int prolepticYear = getProlepticYear(createEra(eras[i]), yearsOfEra[i]);
+            long epochDay = yearStartEpochDay(prolepticYear) + getDayOfYear(prolepticYear, monthsOfYear[i], daysOfMonth[i]) - 1;
+            epochDays[i] = MathUtils.safeToInt(epochDay - EPOCH_DAY_TO_COPTIC);
+        }
+    }
+
     @Override
     public int getDayOfYear(ChronologyDate date) {
-        return (date.getMonthOfYear() - 1) * 30 + date.getDayOfMonth();
+        return getDayOfYear(date.getProlepticYear(), date.getMonthOfYear(), date.getDayOfMonth());
+    }
+
+    @Override
+    protected int getDayOfYear(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        return (monthOfYear - 1) * 30 + dayOfMonth;
     }
 
     @Override
@@ -33,6 +33,7 @@ package javax.time.i18n;
 
 import java.io.Serializable;
 
+import javax.time.MathUtils;
 import javax.time.calendar.CalendricalEngine;
 import javax.time.calendar.CalendricalRule;
 import javax.time.calendar.Chronology;
@@ -118,6 +119,44 @@ public abstract class StandardChronology extends Chronology {
         return createDate(getProlepticYear(era, year), monthOfYear, dayOfMonth);
     }
 
+    /**
+     * Creates a date from the ISO equivalent local date once the proleptic-year
+     * and day-of-year are known.
+     * <p>
+     * This is used by {@link ChronologyYearTable} after the year has been looked up.
+     * The default implementation ignores the year and day-of-year and uses
+     * {@link #createDate(LocalDate)}. Subclasses should override this to derive
+     * the month-of-year and day-of-month directly from the day-of-year.
+     * 
+     * @param date  the equivalent ISO local date, not null
+     * @param prolepticYear  the calendar system proleptic-year of the date
+     * @param dayOfYear  the calendar system day-of-year of the date
+     * @return the date in this calendar system, not null
+     */
+    protected ChronologyDate createDateFromDayOfYear(LocalDate date, int prolepticYear, int dayOfYear) {
+        return createDate(date);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a table of the first day of each year within a window of years.
+     * <p>
+     * Dates within the window can be converted by the table using a binary search
+     * of the year starts and a subtraction rather than the full calendar system
+     * calculation. Dates outside the window are converted by this chronology.
+     * <p>
+     * The table holds one {@code int} per year, thus the window should be limited
+     * to the range of years that is actually in use.
+     *
+     * @param minYear  the first proleptic-year of the window
+     * @param maxYear  the last proleptic-year of the window, inclusive
+     * @return the year table, not null
+     * @throws IllegalArgumentException if the window is invalid or too large
+     */
+    public ChronologyYearTable createYearTable(int minYear, int maxYear) {
+        return new ChronologyYearTable(this, minYear, maxYear);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Calculates the proleptic-year from an era and year-of-era.
@@ -215,6 +254,20 @@ public abstract class StandardChronology extends Chronology {
      */
     public abstract int getDayOfYear(ChronologyDate date);
 
+    /**
+     * Calculates the day-of-year from the fields of a date in this calendar system.
+     * <p>
+     * The default implementation creates the date and uses {@link #getDayOfYear(ChronologyDate)}.
+     *
+     * @param prolepticYear  the calendar system proleptic-year
+     * @param monthOfYear  the calendar system month-of-year
+     * @param dayOfMonth  the calendar system day-of-month
+     * @return the calendar system day-of-year
+     */
+    protected int getDayOfYear(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        return getDayOfYear(createDate(prolepticYear, monthOfYear, dayOfMonth));
+    }
+
     /**
      * Checks if the specified date in this calendar system is in a leap year.
      * <p>
@@ -267,6 +320,54 @@ public abstract class StandardChronology extends Chronology {
         return DateTimeRuleRange.of(1, 28, 31);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a range of an array of epoch-days to the fields of this calendar system.
+     * <p>
+     * This implementation uses {@link #createDate(LocalDate)} for each date.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param eras  the array to store the era values in, not null
+     * @param yearsOfEra  the array to store the year-of-era values in, not null
+     * @param monthsOfYear  the array to store the month-of-year values in, not null
+     * @param daysOfMonth  the array to store the day-of-month values in, not null
+     * @param fromIndex  the first index to convert, inclusive
+     * @param toIndex  the last index to convert, exclusive
+     */
+    @Override
+    protected void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            ChronologyDate date = createDate(LocalDate.ofEpochDay(epochDays[i]));
+            eras[i] = getEra(date).getValue();
+            yearsOfEra[i] = getYearOfEra(date);
+            monthsOfYear[i] = date.getMonthOfYear();
+            daysOfMonth[i] = date.getDayOfMonth();
+        }
+    }
+
+    /**
+     * Converts a range of an array of dates, expressed as fields of this calendar system, to epoch-days.
+     * <p>
+     * This implementation uses {@link #createDate(Era, int, int, int)} for each date.
+     *
+     * @param eras  the era values to convert, not null
+     * @param yearsOfEra  the year-of-era values to convert, not null
+     * @param monthsOfYear  the month-of-year values to convert, not null
+     * @param daysOfMonth  the day-of-month values to convert, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @param fromIndex  the first index to convert, inclusive
+     * @param toIndex  the last index to convert, exclusive
+     */
+    @Override
+    protected void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            ChronologyDate date = createDate(createEra(eras[i]), yearsOfEra[i], monthsOfYear[i], daysOfMonth[i]);
+            epochDays[i] = MathUtils.safeToInt(date.toLocalDate().toEpochDay());
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Rule implementation.
@@ -34,9 +34,11 @@ package javax.time;
 import java.util.Arrays;
 
 import javax.time.calendar.TestAmPmOfDay;
+import javax.time.calendar.TestCalendricalArrays;
 import javax.time.calendar.TestCalendricalMatchers;
 import javax.time.calendar.TestCalendricalNomalizer;
 import javax.time.calendar.TestCalendricalRule;
+import javax.time.calendar.TestChronology;
 import javax.time.calendar.TestClock;
 import javax.time.calendar.TestClock_TimeSourceClock;
 import javax.time.calendar.TestDateAdjusters;
@@ -111,6 +113,7 @@ import javax.time.calendar.format.TestTextPrinter;
 import javax.time.calendar.format.TestZoneIdParser;
 import javax.time.calendar.format.TestZoneOffsetParser;
 import javax.time.calendar.format.TestZoneOffsetPrinter;
+import javax.time.calendar.i18n.TestChronologyYearTable;
 import javax.time.calendar.i18n.TestCopticChronology;
 import javax.time.calendar.i18n.TestCopticDate;
 import javax.time.calendar.i18n.TestInterCalendarSystem;
@@ -142,18 +145,23 @@ public class AllTest {
             // main classes
             TestDuration.class,
             TestInstant.class,
+            TestInstantArrays.class,
             TestMathUtils.class,
             TestTAIInstant.class,
             TestTimeSource_Fixed.class,
             TestTimeSource_OffsetSystem.class,
             TestTimeSource_System.class,
+            TestTimeSource_Tick.class,
+            TestNanoTimeSource.class,
             TestUTCInstant.class,
             TestUTCRules.class,
             // calendar classes
             TestAmPmOfDay.class,
+            TestCalendricalArrays.class,
             TestCalendricalMatchers.class,
             TestCalendricalNomalizer.class,
             TestCalendricalRule.class,
+            TestChronology.class,
             TestClock.class,
             TestClock_TimeSourceClock.class,
             TestDateAdjusters.class,
@@ -231,6 +239,7 @@ public class AllTest {
             TestZoneOffsetParser.class,
             TestZoneIdParser.class,
             // i18n
+            TestChronologyYearTable.class,
             TestCopticChronology.class,
             TestCopticDate.class,
             TestInterCalendarSystem.class,
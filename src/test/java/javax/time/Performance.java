@@ -50,6 +50,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Random;
 
+import javax.time.calendar.Clock;
+import javax.time.calendar.LocalDate;
 import javax.time.calendar.LocalDateTime;
 import javax.time.calendar.LocalTime;
 import javax.time.calendar.ZoneId;
@@ -57,6 +59,11 @@ import javax.time.calendar.ZoneResolvers;
 import javax.time.calendar.ZonedDateTime;
 import javax.time.calendar.format.DateTimeFormatter;
 import javax.time.calendar.format.DateTimeFormatters;
+import javax.time.calendar.zone.ZoneRules;
+import javax.time.i18n.ChronologyDate;
+import javax.time.i18n.ChronologyYearTable;
+import javax.time.i18n.CopticDate;
+import javax.time.i18n.CopticStandardChronology;
 
 /**
  * Test Performance.
@@ -91,16 +98,29 @@ public class Performance {
         queryListDateTime(ldt);
         formatListDateTime(ldt);
         sortListDateTime(ldt);
+        chronologyListDate(ldt);
 
         List<ZonedDateTime> zdt = setupZonedDateTime();
         queryListZonedDateTime(zdt);
         formatListZonedDateTime(zdt);
         sortListZonedDateTime(zdt);
+        sortListZonedDateTimeTimeLine(zdt);
 
         List<Instant> instants = setupInstant();
         queryListInstant(instants);
         formatListInstant(instants);
         sortListInstant(instants);
+        sortListInstantRadix(instants);
+        plusListInstant(instants);
+        plusArrayInstant(instants);
+        zonedListInstant(instants);
+        zonedArrayInstant(instants);
+        taiListInstant(instants);
+        taiArrayInstant(instants);
+        timeSourceInstant(TimeSource.system(), "System");
+        timeSourceInstant(TimeSource.tick(TimeSource.system(), Duration.ofMillis(10)), "Tick  ");
+        timeSourceInstant(NanoTimeSource.ofSystem(), "Nano  ");
+        clockDateTime(Clock.system(ZoneId.of("Europe/London")));
 
         List<Date> judates = setupDate();
         queryListDate(judates);
@@ -118,6 +138,7 @@ public class Performance {
         sortListGCal(gcals);
         
         deriveDateTime(ldt);
+        deriveLongDateTime(ldt);
     }
 
     //-----------------------------------------------------------------------
@@ -170,6 +191,61 @@ public class Performance {
         System.out.println("LocalDT:   Format: " + NF.format(end - start) + " ns" + " " + buf);
     }
 
+    private static void chronologyListDate(List<LocalDateTime> list) {
+        LocalDate copticEpoch = LocalDate.of(300, 1, 1);  // CopticDate requires year one or later
+        List<LocalDate> dates = new ArrayList<LocalDate>(list.size());
+        for (LocalDateTime dt : list) {
+            if (dt.toLocalDate().isBefore(copticEpoch) == false) {
+                dates.add(dt.toLocalDate());
+            }
+        }
+        CopticStandardChronology chrono = CopticStandardChronology.INSTANCE;
+        ChronologyYearTable table = chrono.createYearTable(1, 9800);
+        long total = 0;
+        long start = System.nanoTime();
+        for (LocalDate date : dates) {
+            total += CopticDate.of(date).getDayOfMonth();
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   Coptic: " + NF.format(end - start) + " ns" + " " + total);
+        
+        total = 0;
+        start = System.nanoTime();
+        for (LocalDate date : dates) {
+            total += chrono.createDate(date).getDayOfMonth();
+        }
+        end = System.nanoTime();
+        System.out.println("LocalDT:   Chrono: " + NF.format(end - start) + " ns" + " " + total);
+        
+        total = 0;
+        start = System.nanoTime();
+        for (LocalDate date : dates) {
+            total += table.createDate(date).getDayOfMonth();
+        }
+        end = System.nanoTime();
+        System.out.println("LocalDT:   ChTbl:  " + NF.format(end - start) + " ns" + " " + total);
+        
+        List<ChronologyDate> copticDates = new ArrayList<ChronologyDate>(dates.size());
+        for (LocalDate date : dates) {
+            copticDates.add(chrono.createDate(date));
+        }
+        total = 0;
+        start = System.nanoTime();
+        for (ChronologyDate date : copticDates) {
+            total += chrono.createDate(date.getProlepticYear(), date.getMonthOfYear(), date.getDayOfMonth()).toLocalDate().getDayOfMonth();
+        }
+        end = System.nanoTime();
+        System.out.println("LocalDT:   ChRev:  " + NF.format(end - start) + " ns" + " " + total);
+        
+        total = 0;
+        start = System.nanoTime();
+        for (ChronologyDate date : copticDates) {
+            total += table.createDate(date.getProlepticYear(), date.getMonthOfYear(), date.getDayOfMonth()).toLocalDate().getDayOfMonth();
+        }
+        end = System.nanoTime();
+        System.out.println("LocalDT:   ChTRev: " + NF.format(end - start) + " ns" + " " + total);
+    }
+
     private static void deriveDateTime(List<LocalDateTime> list) {
         long total = 0;
         long start = System.nanoTime();
@@ -184,6 +260,20 @@ public class Performance {
         System.out.println("LocalDT:   Derive: " + NF.format(end - start) + " ns" + " " + total);
     }
 
+    private static void deriveLongDateTime(List<LocalDateTime> list) {
+        long total = 0;
+        long start = System.nanoTime();
+        for (LocalDateTime dt : list) {
+            total += YEAR.getLong(dt);
+            total += MONTH_OF_YEAR.getLong(dt);
+            total += DAY_OF_MONTH.getLong(dt);
+            total += HOUR_OF_DAY.getLong(dt);
+            total += MINUTE_OF_HOUR.getLong(dt);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   DerivL: " + NF.format(end - start) + " ns" + " " + total);
+    }
+
     //-----------------------------------------------------------------------
     private static List<LocalTime> setupTime() {
         Random random = new Random(47658758756875687L);
@@ -268,6 +358,14 @@ public class Performance {
         System.out.println("ZonedDT:   Sort:   " + NF.format(end - start) + " ns");
     }
 
+    private static void sortListZonedDateTimeTimeLine(List<ZonedDateTime> list) {
+        Collections.shuffle(list);
+        long start = System.nanoTime();
+        Collections.sort(list, ZonedDateTime.timeLineOrder());
+        long end = System.nanoTime();
+        System.out.println("ZonedDT:   SortTL: " + NF.format(end - start) + " ns");
+    }
+
     private static void queryListZonedDateTime(List<ZonedDateTime> list) {
         long total = 0;
         long start = System.nanoTime();
@@ -316,6 +414,14 @@ public class Performance {
         System.out.println("Instant:   Sort:   " + NF.format(end - start) + " ns");
     }
 
+    private static void sortListInstantRadix(List<Instant> list) {
+        Collections.shuffle(list);
+        long start = System.nanoTime();
+        InstantArrays.sort(list);
+        long end = System.nanoTime();
+        System.out.println("Instant:   SortRX: " + NF.format(end - start) + " ns " + list.get(0));
+    }
+
     private static void queryListInstant(List<Instant> list) {
         long total = 0;
         long start = System.nanoTime();
@@ -327,6 +433,114 @@ public class Performance {
         System.out.println("Instant:   Query:  " + NF.format(end - start) + " ns" + " " + total);
     }
 
+    private static void timeSourceInstant(TimeSource source, String name) {
+        long total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            total += source.instant().getNanoOfSecond();
+        }
+        long end = System.nanoTime();
+        System.out.println("TimeSource:" + name + ": " + NF.format(end - start) + " ns " + total);
+    }
+
+    private static void clockDateTime(Clock clock) {
+        long total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            total += clock.dateTime().getNanoOfSecond();
+        }
+        long end = System.nanoTime();
+        System.out.println("Clock:      " + NF.format(end - start) + " ns " + total);
+    }
+
+    private static void plusListInstant(List<Instant> list) {
+        Duration duration = Duration.ofSeconds(3600, 500000000);
+        List<Instant> result = new ArrayList<Instant>(list.size());
+        long start = System.nanoTime();
+        for (Instant dt : list) {
+            result.add(dt.plus(duration));
+        }
+        long end = System.nanoTime();
+        System.out.println("Instant:   Plus:   " + NF.format(end - start) + " ns " + result.get(0));
+    }
+
+    private static void zonedListInstant(List<Instant> list) {
+        ZoneId zone = ZoneId.of("Europe/London");
+        long total = 0;
+        long start = System.nanoTime();
+        for (Instant instant : list) {
+            total += ZonedDateTime.ofInstant(instant, zone).getHourOfDay();
+        }
+        long end = System.nanoTime();
+        System.out.println("Instant:   Zoned:  " + NF.format(end - start) + " ns " + total);
+    }
+
+    private static void zonedArrayInstant(List<Instant> list) {
+        ZoneId zone = ZoneId.of("Europe/London");
+        ZoneRules rules = zone.getRules();
+        long[] seconds = new long[list.size()];
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = list.get(i).getEpochSecond();
+        }
+        long[] locals = new long[seconds.length];
+        long start = System.nanoTime();
+        rules.toLocalEpochSeconds(seconds, locals);
+        long end = System.nanoTime();
+        System.out.println("Instant:   ZoneBK: " + NF.format(end - start) + " ns " + locals[0]);
+        
+        long[] results = new long[locals.length];
+        start = System.nanoTime();
+        rules.localToEpochSeconds(locals, results, zone, ZoneResolvers.postTransition());
+        end = System.nanoTime();
+        System.out.println("Instant:   ZoneRV: " + NF.format(end - start) + " ns " + results[0]);
+    }
+
+    private static void taiListInstant(List<Instant> list) {
+        List<TAIInstant> result = new ArrayList<TAIInstant>(list.size());
+        long start = System.nanoTime();
+        for (Instant instant : list) {
+            result.add(TAIInstant.of(instant));
+        }
+        long end = System.nanoTime();
+        System.out.println("Instant:   TAI:    " + NF.format(end - start) + " ns " + result.get(0));
+    }
+
+    private static void taiArrayInstant(List<Instant> list) {
+        Instant[] instants = list.toArray(new Instant[list.size()]);
+        TAIInstant[] result = new TAIInstant[instants.length];
+        long start = System.nanoTime();
+        UTCRules.system().convertToTAI(instants, result);
+        long end = System.nanoTime();
+        System.out.println("Instant:   TAIBK:  " + NF.format(end - start) + " ns " + result[0]);
+        
+        long[] taiSeconds = new long[result.length];
+        int[] taiNanos = new int[result.length];
+        for (int i = 0; i < result.length; i++) {
+            taiSeconds[i] = result[i].getTAISeconds();
+            taiNanos[i] = result[i].getNanoOfSecond();
+        }
+        long[] mjDays = new long[result.length];
+        long[] nanoOfDays = new long[result.length];
+        start = System.nanoTime();
+        UTCRules.system().convertToUTC(taiSeconds, taiNanos, mjDays, nanoOfDays);
+        end = System.nanoTime();
+        System.out.println("Instant:   UTCPR:  " + NF.format(end - start) + " ns " + mjDays[0]);
+    }
+
+    private static void plusArrayInstant(List<Instant> list) {
+        Duration duration = Duration.ofSeconds(3600, 500000000);
+        long[] seconds = new long[list.size()];
+        int[] nanos = new int[list.size()];
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = list.get(i).getEpochSecond();
+            nanos[i] = list.get(i).getNanoOfSecond();
+        }
+        long start = System.nanoTime();
+        InstantArrays.plus(seconds, nanos, duration, seconds, nanos);
+        long end = System.nanoTime();
+        System.out.println("Instant:   PlusA:  " + NF.format(end - start) + " ns " + Instant.ofEpochSecond(seconds[0], nanos[0]));
+    }
+
     private static void formatListInstant(List<Instant> list) {
         StringBuilder buf = new StringBuilder();
         long start = System.nanoTime();
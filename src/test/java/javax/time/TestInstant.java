@@ -44,6 +44,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.concurrent.TimeUnit;
 
+import javax.time.calendar.ISOPeriodUnit;
+import javax.time.calendar.PeriodUnit;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -1384,6 +1387,82 @@ public class TestInstant {
         i.minusNanos(1);
     }
 
+    //-----------------------------------------------------------------------
+    // truncatedTo(PeriodUnit)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="truncatedTo")
+    Object[][] provider_truncatedTo() {
+        return new Object[][] {
+            {Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789), ISOPeriodUnit.NANOS, Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789)},
+            {Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789), ISOPeriodUnit.MICROS, Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456000)},
+            {Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789), ISOPeriodUnit.MILLIS, Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123000000)},
+            {Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789), ISOPeriodUnit.SECONDS, Instant.ofEpochSecond(86400 + 3600 + 60 + 1)},
+            {Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789), ISOPeriodUnit.MINUTES, Instant.ofEpochSecond(86400 + 3600 + 60)},
+            {Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789), ISOPeriodUnit.HOURS, Instant.ofEpochSecond(86400 + 3600)},
+            {Instant.ofEpochSecond(86400 + 3600 + 60 + 1, 123456789), ISOPeriodUnit.DAYS, Instant.ofEpochSecond(86400)},
+            {Instant.ofEpochSecond(-1, 123456789), ISOPeriodUnit.SECONDS, Instant.ofEpochSecond(-1)},
+            {Instant.ofEpochSecond(-1, 123456789), ISOPeriodUnit.MINUTES, Instant.ofEpochSecond(-60)},
+            {Instant.ofEpochSecond(-1, 123456789), ISOPeriodUnit.DAYS, Instant.ofEpochSecond(-86400)},
+        };
+    }
+
+    @Test(dataProvider="truncatedTo")
+    public void test_truncatedTo(Instant base, PeriodUnit unit, Instant expected) {
+        assertEquals(base.truncatedTo(unit), expected);
+    }
+
+    public void test_truncatedTo_noChange() {
+        Instant base = Instant.ofEpochSecond(3600);
+        assertSame(base.truncatedTo(ISOPeriodUnit.HOURS), base);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_months() {
+        Instant.EPOCH.truncatedTo(ISOPeriodUnit.MONTHS);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_truncatedTo_overflow() {
+        Instant.ofEpochSecond(Long.MIN_VALUE).truncatedTo(ISOPeriodUnit.DAYS);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_truncatedTo_null() {
+        Instant.EPOCH.truncatedTo(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // roundedTo(Duration)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="roundedTo")
+    Object[][] provider_roundedTo() {
+        return new Object[][] {
+            {Instant.ofEpochSecond(100, 499999999), Duration.ofSeconds(1), Instant.ofEpochSecond(100)},
+            {Instant.ofEpochSecond(100, 500000000), Duration.ofSeconds(1), Instant.ofEpochSecond(101)},
+            {Instant.ofEpochSecond(-1, 500000000), Duration.ofSeconds(1), Instant.EPOCH},
+            {Instant.ofEpochSecond(-1, 499999999), Duration.ofSeconds(1), Instant.ofEpochSecond(-1)},
+            {Instant.ofEpochSecond(449), Duration.ofStandardMinutes(15), Instant.ofEpochSecond(0)},
+            {Instant.ofEpochSecond(450), Duration.ofStandardMinutes(15), Instant.ofEpochSecond(900)},
+            {Instant.ofEpochSecond(86399), Duration.ofStandardMinutes(1), Instant.ofEpochSecond(86400)},
+            {Instant.ofEpochSecond(43200), Duration.ofStandardDays(1), Instant.ofEpochSecond(86400)},
+        };
+    }
+
+    @Test(dataProvider="roundedTo")
+    public void test_roundedTo(Instant base, Duration duration, Instant expected) {
+        assertEquals(base.roundedTo(duration), expected);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_roundedTo_invalid() {
+        Instant.EPOCH.roundedTo(Duration.ofSeconds(7));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_roundedTo_overflow() {
+        Instant.ofEpochSecond(Long.MAX_VALUE).roundedTo(Duration.ofStandardDays(1));
+    }
+
     //-----------------------------------------------------------------------
     // toEpochSecond()
     //-----------------------------------------------------------------------
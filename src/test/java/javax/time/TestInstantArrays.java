@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test InstantArrays.
+ */
+@Test
+public class TestInstantArrays {
+
+    private static final int SIZE = 1000;
+
+    private long[] seconds;
+    private int[] nanos;
+
+    private void setup(long maxSeconds) {
+        Random random = new Random(7628765287L);
+        seconds = new long[SIZE];
+        nanos = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            seconds[i] = (random.nextLong() % maxSeconds);
+            nanos[i] = random.nextInt(1000000000);
+        }
+        // include boundary nanos
+        nanos[0] = 0;
+        nanos[1] = 999999999;
+    }
+
+    private Instant instant(int index) {
+        return Instant.ofEpochSecond(seconds[index], nanos[index]);
+    }
+
+    //-----------------------------------------------------------------------
+    // plus()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="durations")
+    Object[][] provider_durations() {
+        return new Object[][] {
+            {Duration.ZERO},
+            {Duration.ofSeconds(1)},
+            {Duration.ofSeconds(-1)},
+            {Duration.ofNanos(1)},
+            {Duration.ofNanos(-1)},
+            {Duration.ofSeconds(0, 999999999)},
+            {Duration.ofSeconds(3600, 500000000)},
+            {Duration.ofSeconds(-86400 * 365L, 123456789)},
+        };
+    }
+
+    @Test(dataProvider="durations")
+    public void test_plus(Duration duration) {
+        setup(Long.MAX_VALUE / 2);
+        long[] resultSeconds = new long[SIZE];
+        int[] resultNanos = new int[SIZE];
+        InstantArrays.plus(seconds, nanos, duration, resultSeconds, resultNanos);
+        for (int i = 0; i < SIZE; i++) {
+            Instant expected = instant(i).plus(duration);
+            assertEquals(resultSeconds[i], expected.getEpochSecond());
+            assertEquals(resultNanos[i], expected.getNanoOfSecond());
+        }
+    }
+
+    public void test_plus_inPlace() {
+        setup(Long.MAX_VALUE / 2);
+        Duration duration = Duration.ofSeconds(5, 600000000);
+        Instant[] expected = new Instant[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = instant(i).plus(duration);
+        }
+        InstantArrays.plus(seconds, nanos, duration, seconds, nanos);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(instant(i), expected[i]);
+        }
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_plus_overflowSeconds() {
+        InstantArrays.plus(new long[] {0, Long.MAX_VALUE}, new int[] {0, 0}, Duration.ofSeconds(1), new long[2], new int[2]);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_plus_overflowCarry() {
+        InstantArrays.plus(new long[] {Long.MAX_VALUE}, new int[] {999999999}, Duration.ofNanos(1), new long[1], new int[1]);
+    }
+
+    public void test_plus_maxNoOverflow() {
+        long[] resultSeconds = new long[1];
+        int[] resultNanos = new int[1];
+        InstantArrays.plus(new long[] {Long.MAX_VALUE - 1}, new int[] {999999999}, Duration.ofNanos(1), resultSeconds, resultNanos);
+        assertEquals(resultSeconds[0], Long.MAX_VALUE);
+        assertEquals(resultNanos[0], 0);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_plus_invalidNanos() {
+        InstantArrays.plus(new long[] {0, 0}, new int[] {0, 1000000000}, Duration.ZERO, new long[2], new int[2]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_plus_negativeNanos() {
+        InstantArrays.plus(new long[] {0}, new int[] {-1}, Duration.ZERO, new long[1], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_plus_mismatchedInput() {
+        InstantArrays.plus(new long[2], new int[1], Duration.ZERO, new long[2], new int[2]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_plus_shortResult() {
+        InstantArrays.plus(new long[2], new int[2], Duration.ZERO, new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_plus_nullDuration() {
+        InstantArrays.plus(new long[1], new int[1], null, new long[1], new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    // minus()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="durations")
+    public void test_minus(Duration duration) {
+        setup(Long.MAX_VALUE / 2);
+        long[] resultSeconds = new long[SIZE];
+        int[] resultNanos = new int[SIZE];
+        InstantArrays.minus(seconds, nanos, duration, resultSeconds, resultNanos);
+        for (int i = 0; i < SIZE; i++) {
+            Instant expected = instant(i).minus(duration);
+            assertEquals(resultSeconds[i], expected.getEpochSecond());
+            assertEquals(resultNanos[i], expected.getNanoOfSecond());
+        }
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_minus_overflowSeconds() {
+        InstantArrays.minus(new long[] {Long.MIN_VALUE}, new int[] {0}, Duration.ofSeconds(1), new long[1], new int[1]);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_minus_overflowBorrow() {
+        InstantArrays.minus(new long[] {Long.MIN_VALUE}, new int[] {0}, Duration.ofNanos(1), new long[1], new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        setup(Long.MAX_VALUE / 4);
+        long[] endSeconds = seconds.clone();
+        int[] endNanos = nanos.clone();
+        for (int i = 0; i < SIZE - 1; i++) {
+            endSeconds[i] = seconds[i + 1];
+            endNanos[i] = nanos[i + 1];
+        }
+        long[] resultSeconds = new long[SIZE];
+        int[] resultNanos = new int[SIZE];
+        InstantArrays.between(seconds, nanos, endSeconds, endNanos, resultSeconds, resultNanos);
+        for (int i = 0; i < SIZE; i++) {
+            Duration expected = Duration.between(instant(i), Instant.ofEpochSecond(endSeconds[i], endNanos[i]));
+            assertEquals(resultSeconds[i], expected.getSeconds());
+            assertEquals(resultNanos[i], expected.getNanoOfSecond());
+        }
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_between_overflow() {
+        InstantArrays.between(new long[] {Long.MIN_VALUE}, new int[] {0}, new long[] {1}, new int[] {0}, new long[1], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_between_mismatchedInput() {
+        InstantArrays.between(new long[2], new int[2], new long[1], new int[1], new long[2], new int[2]);
+    }
+
+    //-----------------------------------------------------------------------
+    // truncatedTo()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="units")
+    Object[][] provider_units() {
+        return new Object[][] {
+            {TimeUnit.NANOSECONDS},
+            {TimeUnit.MICROSECONDS},
+            {TimeUnit.MILLISECONDS},
+            {TimeUnit.SECONDS},
+            {TimeUnit.MINUTES},
+            {TimeUnit.HOURS},
+            {TimeUnit.DAYS},
+        };
+    }
+
+    @Test(dataProvider="units")
+    public void test_truncatedTo(TimeUnit unit) {
+        setup(Long.MAX_VALUE / 2);
+        long[] resultSeconds = new long[SIZE];
+        int[] resultNanos = new int[SIZE];
+        InstantArrays.truncatedTo(seconds, nanos, unit, resultSeconds, resultNanos);
+        long unitNanos = unit.toNanos(1);
+        for (int i = 0; i < SIZE; i++) {
+            long secs = seconds[i];
+            long nos = nanos[i];
+            if (unitNanos < 1000000000) {
+                nos = nos - nos % unitNanos;
+            } else {
+                secs = MathUtils.floorDiv(secs, unit.toSeconds(1)) * unit.toSeconds(1);
+                nos = 0;
+            }
+            assertEquals(resultSeconds[i], secs);
+            assertEquals(resultNanos[i], nos);
+        }
+    }
+
+    public void test_truncatedTo_beforeEpoch() {
+        long[] resultSeconds = new long[1];
+        int[] resultNanos = new int[1];
+        InstantArrays.truncatedTo(new long[] {-1}, new int[] {500}, TimeUnit.HOURS, resultSeconds, resultNanos);
+        assertEquals(resultSeconds[0], -3600L);
+        assertEquals(resultNanos[0], 0);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_truncatedTo_overflow() {
+        InstantArrays.truncatedTo(new long[] {Long.MIN_VALUE}, new int[] {0}, TimeUnit.MINUTES, new long[1], new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    // compare()
+    //-----------------------------------------------------------------------
+    public void test_compare() {
+        setup(1000);
+        long[] otherSeconds = new long[SIZE];
+        int[] otherNanos = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            otherSeconds[i] = seconds[(i * 7) % SIZE];
+            otherNanos[i] = (i % 3 == 0 ? nanos[i] : nanos[(i * 7) % SIZE]);
+        }
+        otherSeconds[5] = seconds[5];
+        otherNanos[5] = nanos[5];
+        int[] result = new int[SIZE];
+        InstantArrays.compare(seconds, nanos, otherSeconds, otherNanos, result);
+        for (int i = 0; i < SIZE; i++) {
+            int expected = instant(i).compareTo(Instant.ofEpochSecond(otherSeconds[i], otherNanos[i]));
+            assertEquals(result[i], expected);
+        }
+    }
+
+    public void test_compare_extremes() {
+        int[] result = new int[2];
+        InstantArrays.compare(
+                new long[] {Long.MIN_VALUE, Long.MAX_VALUE}, new int[] {999999999, 0},
+                new long[] {Long.MAX_VALUE, Long.MIN_VALUE}, new int[] {0, 999999999}, result);
+        assertEquals(result[0], -1);
+        assertEquals(result[1], 1);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_compare_shortResult() {
+        InstantArrays.compare(new long[2], new int[2], new long[2], new int[2], new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    // sort()
+    //-----------------------------------------------------------------------
+    public void test_sort_list() {
+        setup(Long.MAX_VALUE);
+        seconds[2] = seconds[3];  // equal seconds, compared by nanos
+        List<Instant> list = new ArrayList<Instant>();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(instant(i));
+        }
+        list.add(Instant.ofEpochSecond(Long.MIN_VALUE, 0));
+        list.add(Instant.ofEpochSecond(Long.MAX_VALUE, 999999999));
+        list.add(Instant.EPOCH);
+        list.add(Instant.EPOCH);
+        List<Instant> expected = new ArrayList<Instant>(list);
+        Collections.sort(expected);
+        InstantArrays.sort(list);
+        assertEquals(list.size(), expected.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.get(i).getEpochSecond(), expected.get(i).getEpochSecond());
+            assertEquals(list.get(i).getNanoOfSecond(), expected.get(i).getNanoOfSecond());
+        }
+    }
+
+    public void test_sort_list_small() {
+        List<Instant> list = new ArrayList<Instant>();
+        InstantArrays.sort(list);
+        assertEquals(list.size(), 0);
+        list.add(Instant.EPOCH);
+        InstantArrays.sort(list);
+        assertEquals(list, Arrays.asList(Instant.EPOCH));
+    }
+
+    public void test_sort_arrays() {
+        setup(1000);
+        Instant[] expected = new Instant[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = instant(i);
+        }
+        Arrays.sort(expected);
+        InstantArrays.sort(seconds, nanos);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(instant(i), expected[i]);
+        }
+    }
+
+    public void test_sortOrder_stable() {
+        int[] order = InstantArrays.sortOrder(new long[] {5, -1, 5, -1, 5}, new int[] {3, 0, 3, 0, 2});
+        assertEquals(Arrays.toString(order), Arrays.toString(new int[] {1, 3, 4, 0, 2}));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_sortOrder_invalidNanos() {
+        InstantArrays.sortOrder(new long[] {1}, new int[] {-1});
+    }
+
+    public void test_sortOrder_keys() {
+        setup(Long.MAX_VALUE);
+        seconds[5] = Long.MIN_VALUE;
+        seconds[6] = Long.MAX_VALUE;
+        seconds[7] = seconds[8];
+        int[] order = InstantArrays.sortOrder(seconds);
+        long[] expected = seconds.clone();
+        Arrays.sort(expected);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(seconds[order[i]], expected[i]);
+        }
+    }
+
+    public void test_sortOrder_keys_stable() {
+        int[] order = InstantArrays.sortOrder(new long[] {5, -1, 5, -1, 2});
+        assertEquals(Arrays.toString(order), Arrays.toString(new int[] {1, 3, 4, 0, 2}));
+    }
+
+    public void test_sortOrder_keys_empty() {
+        assertEquals(InstantArrays.sortOrder(new long[0]).length, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    // permute()
+    //-----------------------------------------------------------------------
+    public void test_permute() {
+        List<String> list = new ArrayList<String>(Arrays.asList("a", "b", "c", "d"));
+        InstantArrays.permute(list, new int[] {2, 0, 3, 1});
+        assertEquals(list, Arrays.asList("c", "a", "d", "b"));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_permute_wrongLength() {
+        InstantArrays.permute(new ArrayList<String>(Arrays.asList("a", "b")), new int[] {0});
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_permute_nullList() {
+        InstantArrays.permute(null, new int[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    // binarySearch() / ceilingIndex()
+    //-----------------------------------------------------------------------
+    public void test_binarySearch() {
+        long[] secs = new long[] {-5, 0, 0, 0, 7};
+        int[] nos = new int[] {0, 1, 5, 5, 0};
+        assertEquals(InstantArrays.binarySearch(secs, nos, Instant.ofEpochSecond(-5)), 0);
+        assertEquals(InstantArrays.binarySearch(secs, nos, Instant.ofEpochSecond(0, 1)), 1);
+        assertEquals(InstantArrays.binarySearch(secs, nos, Instant.ofEpochSecond(0, 5)), 2);
+        assertEquals(InstantArrays.binarySearch(secs, nos, Instant.ofEpochSecond(7)), 4);
+        assertEquals(InstantArrays.binarySearch(secs, nos, Instant.ofEpochSecond(-6)), -1);
+        assertEquals(InstantArrays.binarySearch(secs, nos, Instant.ofEpochSecond(0, 3)), -3);
+        assertEquals(InstantArrays.binarySearch(secs, nos, Instant.ofEpochSecond(8)), -6);
+    }
+
+    public void test_ceilingIndex() {
+        long[] secs = new long[] {-5, 0, 0, 0, 7};
+        int[] nos = new int[] {0, 1, 5, 5, 0};
+        assertEquals(InstantArrays.ceilingIndex(secs, nos, Instant.ofEpochSecond(-6)), 0);
+        assertEquals(InstantArrays.ceilingIndex(secs, nos, Instant.ofEpochSecond(-5)), 0);
+        assertEquals(InstantArrays.ceilingIndex(secs, nos, Instant.ofEpochSecond(0)), 1);
+        assertEquals(InstantArrays.ceilingIndex(secs, nos, Instant.ofEpochSecond(0, 5)), 2);
+        assertEquals(InstantArrays.ceilingIndex(secs, nos, Instant.ofEpochSecond(0, 6)), 4);
+        assertEquals(InstantArrays.ceilingIndex(secs, nos, Instant.ofEpochSecond(8)), 5);
+        assertEquals(InstantArrays.ceilingIndex(new long[0], new int[0], Instant.EPOCH), 0);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ceilingIndex_lengthMismatch() {
+        InstantArrays.ceilingIndex(new long[2], new int[1], Instant.EPOCH);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_binarySearch_nullInstant() {
+        InstantArrays.binarySearch(new long[1], new int[1], null);
+    }
+
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test NanoTimeSource.
+ */
+@Test
+public class TestNanoTimeSource {
+
+    private static final Duration ONE_SECOND = Duration.ofSeconds(1);
+    private static final Duration STEP = Duration.ofMillis(128);
+
+    /**
+     * Wall clock returning a settable millisecond value.
+     */
+    static class MutableTimeSource extends TimeSource {
+        long millis;
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    /**
+     * Ticker returning a settable nanosecond value.
+     */
+    static class MutableTicker implements NanoTimeSource.Ticker {
+        long nanos;
+        public long nanoTime() {
+            return nanos;
+        }
+    }
+
+    private MutableTimeSource wall;
+    private MutableTicker ticker;
+    private NanoTimeSource test;
+
+    @BeforeMethod
+    public void setUp() {
+        wall = new MutableTimeSource();
+        wall.millis = 1000;
+        ticker = new MutableTicker();
+        test = new NanoTimeSource(wall, ticker, false, ONE_SECOND, 500, STEP);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_ofSystem() {
+        NanoTimeSource source = NanoTimeSource.ofSystem();
+        assertEquals(source.getRecalibrationInterval(), ONE_SECOND);
+        assertEquals(source.getMaxSlewPpm(), 500);
+        assertEquals(source.getStepThreshold(), STEP);
+        assertEquals(source.getCalibrationCount(), 1);
+        long millis = System.currentTimeMillis();
+        long diff = Math.abs(source.millis() - millis);
+        assertTrue(diff < 100, "Difference " + diff);
+    }
+
+    public void test_ofSystem_monotonic() {
+        NanoTimeSource source = NanoTimeSource.ofSystem(Duration.ofMillis(1), 500, STEP);
+        Instant previous = source.instant();
+        for (int i = 0; i < 100000; i++) {
+            Instant instant = source.instant();
+            assertFalse(instant.isBefore(previous), instant + " before " + previous);
+            previous = instant;
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ofSystem_nullInterval() {
+        NanoTimeSource.ofSystem(null, 500, STEP);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofSystem_zeroInterval() {
+        NanoTimeSource.ofSystem(Duration.ZERO, 500, STEP);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofSystem_zeroSlew() {
+        NanoTimeSource.ofSystem(ONE_SECOND, 0, STEP);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofSystem_slewTooLarge() {
+        NanoTimeSource.ofSystem(ONE_SECOND, 100001, STEP);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ofSystem_nullStep() {
+        NanoTimeSource.ofSystem(ONE_SECOND, 500, null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofSystem_negativeStep() {
+        NanoTimeSource.ofSystem(ONE_SECOND, 500, Duration.ofMillis(-1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        NanoTimeSource source = NanoTimeSource.ofSystem(Duration.ofSeconds(5), 200, Duration.ofSeconds(1));
+        assertTrue(source instanceof Serializable);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(source);
+        oos.close();
+        
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        NanoTimeSource result = (NanoTimeSource) ois.readObject();
+        assertEquals(result, source);
+        assertEquals(result.getCalibrationCount(), 1);
+        long diff = Math.abs(result.millis() - System.currentTimeMillis());
+        assertTrue(diff < 100, "Difference " + diff);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant_initialCalibration() {
+        assertEquals(test.instant(), Instant.ofEpochSecond(1, 500000));
+        ticker.nanos = 123;
+        assertEquals(test.instant(), Instant.ofEpochSecond(1, 500123));
+        ticker.nanos = 999999999;
+        assertEquals(test.instant(), Instant.ofEpochSecond(2, 499999));
+        assertEquals(test.getCalibrationCount(), 1);
+    }
+
+    public void test_instant_initialCalibration_alignToEdge() {
+        TimeSource ticking = new TimeSource() {
+            private long millis = 1000;
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis++);
+            }
+        };
+        ticker.nanos = 50;
+        NanoTimeSource source = new NanoTimeSource(ticking, ticker, true, ONE_SECOND, 500, STEP);
+        assertEquals(source.instant(), Instant.ofEpochSecond(1, 1000000));
+    }
+
+    public void test_instant_initialCalibration_alignToEdge_waitBounded() {
+        MutableTicker advancing = new MutableTicker() {
+            int calls;
+            @Override
+            public long nanoTime() {
+                assertTrue(++calls < 20, "Waited too long for the clock to tick");
+                nanos += 500000;
+                return nanos;
+            }
+        };
+        NanoTimeSource source = new NanoTimeSource(wall, advancing, true, ONE_SECOND, 500, STEP);
+        assertEquals(source.getCalibrationCount(), 1);
+    }
+
+    public void test_instant_recalibrate_noCorrection() {
+        ticker.nanos = 1000000000;
+        wall.millis = 2000;
+        assertEquals(test.instant(), Instant.ofEpochSecond(2, 500000));
+        assertEquals(test.getCalibrationCount(), 2);
+        assertEquals(test.getLastOffset(), Duration.ZERO);
+        assertEquals(test.getSlewPpm(), 0);
+        ticker.nanos = 1500000000;
+        assertEquals(test.instant(), Instant.ofEpochSecond(2, 500500000));
+    }
+
+    public void test_instant_recalibrate_slewForwards() {
+        ticker.nanos = 1000000000;
+        wall.millis = 2003;
+        assertEquals(test.instant(), Instant.ofEpochSecond(2, 500000));
+        assertEquals(test.getLastOffset(), Duration.ofNanos(2500000));
+        assertEquals(test.getSlewPpm(), 500);
+        ticker.nanos = 1500000000;
+        assertEquals(test.instant(), Instant.ofEpochSecond(2, 500750000));
+        assertEquals(test.getTotalSlew(), Duration.ofNanos(250000));
+        assertEquals(test.getStepCount(), 0);
+        assertEquals(test.getTotalStep(), Duration.ZERO);
+    }
+
+    public void test_instant_recalibrate_slewBackwards() {
+        ticker.nanos = 1000000000;
+        wall.millis = 1998;
+        assertEquals(test.instant(), Instant.ofEpochSecond(2, 500000));
+        assertEquals(test.getLastOffset(), Duration.ofNanos(-1500001));
+        assertEquals(test.getSlewPpm(), -500);
+        ticker.nanos = 1500000000;
+        assertEquals(test.instant(), Instant.ofEpochSecond(2, 500250000));
+        assertEquals(test.getTotalSlew(), Duration.ofNanos(250000));
+    }
+
+    public void test_instant_recalibrate_slewAccumulates() {
+        ticker.nanos = 1000000000;
+        wall.millis = 2003;
+        test.instant();
+        ticker.nanos = 2000000000;
+        wall.millis = 3003;
+        assertEquals(test.instant(), Instant.ofEpochSecond(3, 1000000));
+        assertEquals(test.getCalibrationCount(), 3);
+        assertEquals(test.getTotalSlew(), Duration.ofNanos(500000));
+        assertEquals(test.getLastOffset(), Duration.ofNanos(2000000));
+    }
+
+    public void test_instant_recalibrate_monotonicWhileSlewing() {
+        ticker.nanos = 1000000000;
+        wall.millis = 1900;
+        Instant previous = test.instant();
+        for (int i = 1; i < 1000; i++) {
+            ticker.nanos = 1000000000 + i * 1000L;
+            Instant instant = test.instant();
+            assertTrue(instant.isAfter(previous));
+            previous = instant;
+        }
+    }
+
+    public void test_instant_recalibrate_stepForwards() {
+        ticker.nanos = 1000000000;
+        wall.millis = 12000;
+        assertEquals(test.instant(), Instant.ofEpochSecond(12));
+        assertEquals(test.getStepCount(), 1);
+        assertEquals(test.getTotalStep(), Duration.ofNanos(9999500000L));
+        assertEquals(test.getSlewPpm(), 0);
+        ticker.nanos = 1000000001;
+        assertEquals(test.instant(), Instant.ofEpochSecond(12, 1));
+    }
+
+    public void test_instant_recalibrate_stepBackwards() {
+        ticker.nanos = 1000000000;
+        wall.millis = 0;
+        assertEquals(test.instant(), Instant.ofEpochSecond(0, 999999));
+        assertEquals(test.getStepCount(), 1);
+        assertEquals(test.getLastOffset(), Duration.ofNanos(-1999500001L));
+    }
+
+    public void test_instant_beforeInterval_noRecalibration() {
+        ticker.nanos = 999999999;
+        wall.millis = 5000;
+        test.instant();
+        assertEquals(test.getCalibrationCount(), 1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        NanoTimeSource a = new NanoTimeSource(wall, ticker, false, ONE_SECOND, 500, STEP);
+        NanoTimeSource b = new NanoTimeSource(wall, ticker, false, ONE_SECOND, 400, STEP);
+        assertEquals(test.equals(test), true);
+        assertEquals(test.equals(a), true);
+        assertEquals(test.equals(b), false);
+        assertEquals(test.equals(null), false);
+        assertEquals(test.equals(TimeSource.system()), false);
+        assertEquals(test.hashCode(), a.hashCode());
+    }
+
+    public void test_toString() {
+        assertEquals(test.toString(), "NanoTimeSource[PT1S, 500ppm, PT0.128S]");
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test TickTimeSource.
+ */
+@Test
+public class TestTimeSource_Tick {
+
+    private static final Duration ONE_SECOND = Duration.ofSeconds(1);
+
+    /**
+     * Time-source returning a settable instant.
+     */
+    static class MutableTimeSource extends TimeSource {
+        long millis;
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_tick_isSerializable() throws IOException, ClassNotFoundException {
+        TimeSource test = TimeSource.tick(TimeSource.system(), ONE_SECOND);
+        assertTrue(test instanceof Serializable);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        TimeSource result = (TimeSource) ois.readObject();
+        assertEquals(result, test);
+        assertEquals(result.instant().getNanoOfSecond(), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_tick_truncates() {
+        MutableTimeSource base = new MutableTimeSource();
+        TimeSource test = TimeSource.tick(base, ONE_SECOND);
+        base.millis = 12345;
+        assertEquals(test.instant(), Instant.ofEpochMilli(12000));
+        assertEquals(test.millis(), 12000);
+        base.millis = 12999;
+        assertEquals(test.instant(), Instant.ofEpochMilli(12000));
+        base.millis = 13000;
+        assertEquals(test.instant(), Instant.ofEpochMilli(13000));
+    }
+
+    public void test_tick_truncatesBeforeEpoch() {
+        MutableTimeSource base = new MutableTimeSource();
+        TimeSource test = TimeSource.tick(base, Duration.ofMillis(250));
+        base.millis = -1;
+        assertEquals(test.instant(), Instant.ofEpochMilli(-250));
+        base.millis = -250;
+        assertEquals(test.instant(), Instant.ofEpochMilli(-250));
+        base.millis = -251;
+        assertEquals(test.instant(), Instant.ofEpochMilli(-500));
+    }
+
+    public void test_tick_cachesWithinTick() {
+        MutableTimeSource base = new MutableTimeSource();
+        TimeSource test = TimeSource.tick(base, ONE_SECOND);
+        base.millis = 5001;
+        Instant first = test.instant();
+        base.millis = 5999;
+        assertSame(test.instant(), first);
+        base.millis = 6000;
+        Instant second = test.instant();
+        assertEquals(second, Instant.ofEpochMilli(6000));
+        assertSame(test.instant(), second);
+    }
+
+    public void test_tick_system() {
+        TimeSource test = TimeSource.tick(TimeSource.system(), Duration.ofMillis(100));
+        long before = System.currentTimeMillis();
+        long millis = test.instant().toEpochMilli();
+        long after = System.currentTimeMillis();
+        assertEquals(millis % 100, 0);
+        assertTrue(millis > before - 100 && millis <= after);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_tick_nullSource() {
+        TimeSource.tick(null, ONE_SECOND);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_tick_nullDuration() {
+        TimeSource.tick(TimeSource.system(), null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_tick_zero() {
+        TimeSource.tick(TimeSource.system(), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_tick_negative() {
+        TimeSource.tick(TimeSource.system(), Duration.ofMillis(-1));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_tick_subMillisecond() {
+        TimeSource.tick(TimeSource.system(), Duration.ofNanos(1500000));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_tick_lessThanMillisecond() {
+        TimeSource.tick(TimeSource.system(), Duration.ofNanos(999999));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_tick_tooLarge() {
+        TimeSource.tick(TimeSource.system(), Duration.ofSeconds(Long.MAX_VALUE));
+    }
+
+    public void test_tick_largest() {
+        TimeSource test = TimeSource.tick(TimeSource.system(), Duration.ofMillis(Long.MAX_VALUE));
+        assertEquals(test.instant(), Instant.EPOCH);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_tick_equals() {
+        TimeSource test = TimeSource.tick(TimeSource.system(), ONE_SECOND);
+        assertTrue(test.equals(test));
+        assertTrue(test.equals(TimeSource.tick(TimeSource.system(), ONE_SECOND)));
+        
+        assertFalse(test.equals(TimeSource.tick(TimeSource.system(), Duration.ofMillis(999))));
+        assertFalse(test.equals(TimeSource.tick(TimeSource.offsetSystem(ONE_SECOND), ONE_SECOND)));
+        assertFalse(test.equals(TimeSource.system()));
+        assertFalse(test.equals(null));
+    }
+
+    public void test_tick_hashCode() {
+        TimeSource test = TimeSource.tick(TimeSource.system(), ONE_SECOND);
+        assertEquals(test.hashCode(), TimeSource.tick(TimeSource.system(), ONE_SECOND).hashCode());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_tick_toString() {
+        TimeSource test = TimeSource.tick(TimeSource.system(), ONE_SECOND);
+        assertEquals(test.toString(), "TickTimeSource[SystemTimeSource, PT1S]");
+    }
+
+}
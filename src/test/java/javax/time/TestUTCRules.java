@@ -41,7 +41,11 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
 import javax.time.calendar.LocalDate;
 import javax.time.calendar.OffsetDateTime;
@@ -445,6 +449,247 @@ public class TestUTCRules {
         assertEquals(rules.convertToUTC(instant), utc);
     }
 
+    //-----------------------------------------------------------------------
+    // after last leap second
+    //-----------------------------------------------------------------------
+    public void test_afterLastLeap() {
+        long[] dates = rules.getLeapSecondDates();
+        long last = dates[dates.length - 1];
+        int offset = rules.getTAIOffset(last) + rules.getLeapSecondAdjustment(last);
+        for (long mjd = last + 1; mjd < last + 1000; mjd++) {
+            assertEquals(rules.getLeapSecondAdjustment(mjd), 0);
+            assertEquals(rules.getTAIOffset(mjd), offset);
+        }
+        TAIInstant tai = TAIInstant.ofTAISeconds((last + 1 - MJD_1958) * SECS_PER_DAY + offset, 0);
+        assertEquals(rules.convertToUTC(tai), UTCInstant.ofModifiedJulianDay(last + 1, 0, rules));
+        assertEquals(rules.convertToUTC(tai.minus(Duration.ofNanos(1))),
+                UTCInstant.ofModifiedJulianDay(last, SECS_PER_DAY * NANOS_PER_SEC + (rules.getLeapSecondAdjustment(last) - 1) * NANOS_PER_SEC + NANOS_PER_SEC - 1, rules));
+    }
+
+    public void test_afterLastLeap_registerLeapSecond() {
+        long[] dates = rules.getLeapSecondDates();
+        long mjd = dates[dates.length - 1] + 100;
+        int offset = rules.getTAIOffset(mjd);
+        rules.registerLeapSecond(mjd, 1);
+        assertEquals(rules.getLeapSecondAdjustment(mjd), 1);
+        assertEquals(rules.getTAIOffset(mjd), offset);
+        assertEquals(rules.getTAIOffset(mjd + 1), offset + 1);
+        TAIInstant tai = TAIInstant.ofTAISeconds((mjd + 1 - MJD_1958) * SECS_PER_DAY + offset, 0);
+        assertEquals(rules.convertToUTC(tai), UTCInstant.ofModifiedJulianDay(mjd, SECS_PER_DAY * NANOS_PER_SEC, rules));
+    }
+
+    //-----------------------------------------------------------------------
+    // convertToTAI(Instant[], TAIInstant[])/convertToInstant(TAIInstant[], Instant[])
+    //-----------------------------------------------------------------------
+    private Instant[] bulkInstants() {
+        long[] dates = rules.getLeapSecondDates();
+        long last = dates[dates.length - 1];
+        Instant lastLeap = Instant.ofEpochSecond((last + 1 - 40587) * SECS_PER_DAY);
+        Instant leap1980 = Instant.ofEpochSecond((MJD_1980 - 40587) * SECS_PER_DAY);
+        return new Instant[] {
+            Instant.ofEpochSecond(-SECS_PER_DAY * 365 * 100),
+            Instant.EPOCH,
+            leap1980.minusSeconds(2),
+            leap1980.minusMillis(1),
+            leap1980,
+            lastLeap.minusMillis(500),
+            lastLeap.minusNanos(1),
+            lastLeap,
+            lastLeap.plusNanos(1),
+            lastLeap.plusSeconds(SECS_PER_DAY * 365 * 10),
+            leap1980.minusMillis(300),
+            Instant.ofEpochSecond((MJD_2100 - 40587) * SECS_PER_DAY, 123456789),
+        };
+    }
+
+    public void test_convertToTAI_bulk() {
+        Instant[] instants = bulkInstants();
+        TAIInstant[] result = new TAIInstant[instants.length];
+        rules.convertToTAI(instants, result);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(result[i], rules.convertToTAI(rules.convertToUTC(instants[i])), "Index " + i);
+        }
+    }
+
+    public void test_convertToInstant_bulk() {
+        Instant[] instants = bulkInstants();
+        TAIInstant[] taiInstants = new TAIInstant[instants.length];
+        rules.convertToTAI(instants, taiInstants);
+        Instant[] result = new Instant[instants.length];
+        rules.convertToInstant(taiInstants, result);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(result[i], rules.convertToInstant(rules.convertToUTC(taiInstants[i])), "Index " + i);
+            assertEquals(result[i], instants[i], "Index " + i);
+        }
+    }
+
+    public void test_convertToTAI_bulk_inLeap() {
+        UTCInstant utc = UTCInstant.ofModifiedJulianDay(MJD_1980 - 1, SECS_PER_DAY * NANOS_PER_SEC + 500000000, rules);
+        TAIInstant[] taiInstants = new TAIInstant[] {rules.convertToTAI(utc)};
+        Instant[] result = new Instant[1];
+        rules.convertToInstant(taiInstants, result);
+        assertEquals(result[0], rules.convertToInstant(utc));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToTAI_bulk_tooShort() {
+        rules.convertToTAI(new Instant[2], new TAIInstant[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToTAI_bulk_null() {
+        rules.convertToTAI(null, new TAIInstant[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToInstant_bulk_tooShort() {
+        rules.convertToInstant(new TAIInstant[2], new Instant[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToInstant_bulk_null() {
+        rules.convertToInstant(new TAIInstant[1], null);
+    }
+
+    //-----------------------------------------------------------------------
+    // convertToTAI(long[], long[], long[], int[])/convertToUTC(long[], int[], long[], long[])
+    // convertToInstant(long[], long[], long[], int[])
+    //-----------------------------------------------------------------------
+    private UTCInstant[] bulkUTCInstants(boolean sorted) {
+        long[] dates = rules.getLeapSecondDates();
+        List<UTCInstant> list = new ArrayList<UTCInstant>();
+        list.add(UTCInstant.ofModifiedJulianDay(MJD_1800, 0, rules));
+        list.add(UTCInstant.ofModifiedJulianDay(MJD_1958, 5, rules));
+        for (long date : dates) {
+            long leap = (SECS_PER_DAY + rules.getLeapSecondAdjustment(date)) * NANOS_PER_SEC;
+            list.add(UTCInstant.ofModifiedJulianDay(date, 0, rules));
+            list.add(UTCInstant.ofModifiedJulianDay(date, leap - NANOS_PER_SEC - 1, rules));
+            list.add(UTCInstant.ofModifiedJulianDay(date, leap - NANOS_PER_SEC / 2, rules));
+            list.add(UTCInstant.ofModifiedJulianDay(date, leap - 1, rules));
+            list.add(UTCInstant.ofModifiedJulianDay(date + 1, 0, rules));
+            list.add(UTCInstant.ofModifiedJulianDay(date + 1, 1, rules));
+        }
+        list.add(UTCInstant.ofModifiedJulianDay(MJD_2100, 123456789, rules));
+        if (sorted == false) {
+            Collections.shuffle(list, new Random(2008));
+        }
+        return list.toArray(new UTCInstant[list.size()]);
+    }
+
+    @DataProvider(name="bulkSorted")
+    Object[][] data_bulkSorted() {
+        return new Object[][] {{true}, {false}};
+    }
+
+    @Test(dataProvider="bulkSorted")
+    public void test_convertToTAI_bulkPrimitive(boolean sorted) {
+        UTCInstant[] utcs = bulkUTCInstants(sorted);
+        long[] mjds = new long[utcs.length];
+        long[] nods = new long[utcs.length];
+        for (int i = 0; i < utcs.length; i++) {
+            mjds[i] = utcs[i].getModifiedJulianDay();
+            nods[i] = utcs[i].getNanoOfDay();
+        }
+        long[] secs = new long[utcs.length];
+        int[] nanos = new int[utcs.length];
+        rules.convertToTAI(mjds, nods, secs, nanos);
+        for (int i = 0; i < utcs.length; i++) {
+            TAIInstant expected = rules.convertToTAI(utcs[i]);
+            assertEquals(secs[i], expected.getTAISeconds(), "Index " + i);
+            assertEquals(nanos[i], expected.getNanoOfSecond(), "Index " + i);
+        }
+        
+        long[] resultMjds = new long[utcs.length];
+        long[] resultNods = new long[utcs.length];
+        rules.convertToUTC(secs, nanos, resultMjds, resultNods);
+        assertEquals(Arrays.toString(resultMjds), Arrays.toString(mjds));
+        assertEquals(Arrays.toString(resultNods), Arrays.toString(nods));
+    }
+
+    @Test(dataProvider="bulkSorted")
+    public void test_convertToInstant_bulkPrimitive(boolean sorted) {
+        UTCInstant[] utcs = bulkUTCInstants(sorted);
+        long[] mjds = new long[utcs.length];
+        long[] nods = new long[utcs.length];
+        for (int i = 0; i < utcs.length; i++) {
+            mjds[i] = utcs[i].getModifiedJulianDay();
+            nods[i] = utcs[i].getNanoOfDay();
+        }
+        long[] secs = new long[utcs.length];
+        int[] nanos = new int[utcs.length];
+        rules.convertToInstant(mjds, nods, secs, nanos);
+        for (int i = 0; i < utcs.length; i++) {
+            Instant expected = rules.convertToInstant(utcs[i]);
+            assertEquals(secs[i], expected.getEpochSecond(), "Index " + i);
+            assertEquals(nanos[i], expected.getNanoOfSecond(), "Index " + i);
+        }
+    }
+
+    public void test_convertToUTC_bulkPrimitive_nanoAdjustment() {
+        long[] secs = new long[] {TAI_SECS_UTC1980, TAI_SECS_UTC1980};
+        int[] nanos = new int[] {-1, 1000000001};
+        long[] mjds = new long[2];
+        long[] nods = new long[2];
+        rules.convertToUTC(secs, nanos, mjds, nods);
+        UTCInstant expected0 = rules.convertToUTC(TAIInstant.ofTAISeconds(TAI_SECS_UTC1980, -1));
+        UTCInstant expected1 = rules.convertToUTC(TAIInstant.ofTAISeconds(TAI_SECS_UTC1980, 1000000001));
+        assertEquals(mjds[0], expected0.getModifiedJulianDay());
+        assertEquals(nods[0], expected0.getNanoOfDay());
+        assertEquals(mjds[1], expected1.getModifiedJulianDay());
+        assertEquals(nods[1], expected1.getNanoOfDay());
+    }
+
+    public void test_convertToTAI_bulkPrimitive_sameArray() {
+        long[] values = new long[] {MJD_1980, MJD_2100};
+        long[] nods = new long[] {1, 2};
+        int[] nanos = new int[2];
+        rules.convertToTAI(values, nods, values, nanos);
+        assertEquals(values[0], TAI_SECS_UTC1980);
+        assertEquals(values[1], TAI_SECS_UTC2100);
+        assertEquals(nanos[1], 2);
+    }
+
+    public void test_convertToInstant_bulkPrimitive_defaultImplementation() {
+        UTCRules mock = new MockUTCRulesLeapOn1000();
+        long[] mjds = new long[] {999, 1000, 1000, 1001};
+        long[] nods = new long[] {5, SECS_PER_DAY * NANOS_PER_SEC - 1, SECS_PER_DAY * NANOS_PER_SEC + 500000000, 0};
+        long[] secs = new long[4];
+        int[] nanos = new int[4];
+        mock.convertToInstant(mjds, nods, secs, nanos);
+        for (int i = 0; i < mjds.length; i++) {
+            Instant expected = mock.convertToInstant(UTCInstant.ofModifiedJulianDay(mjds[i], nods[i], mock));
+            assertEquals(secs[i], expected.getEpochSecond(), "Index " + i);
+            assertEquals(nanos[i], expected.getNanoOfSecond(), "Index " + i);
+        }
+        mock.convertToTAI(mjds, nods, secs, nanos);
+        assertEquals(secs[3], (1001 - MJD_1958) * SECS_PER_DAY + 11);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToTAI_bulkPrimitive_invalidNanoOfDay() {
+        rules.convertToTAI(new long[] {MJD_1980}, new long[] {SECS_PER_DAY * NANOS_PER_SEC}, new long[1], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToInstant_bulkPrimitive_invalidNanoOfDay() {
+        rules.convertToInstant(new long[] {MJD_1980}, new long[] {-1}, new long[1], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToTAI_bulkPrimitive_tooShort() {
+        rules.convertToTAI(new long[2], new long[2], new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToUTC_bulkPrimitive_tooShort() {
+        rules.convertToUTC(new long[2], new int[1], new long[2], new long[2]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToUTC_bulkPrimitive_null() {
+        rules.convertToUTC(new long[2], new int[2], null, new long[2]);
+    }
+
     //-----------------------------------------------------------------------
     // registerLeapSecond()
     //-----------------------------------------------------------------------
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javax.time.Instant;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test CalendricalArrays.
+ */
+@Test
+public class TestCalendricalArrays {
+
+    private static final int SIZE = 1000;
+    private static final ZoneId ZONE_PARIS = ZoneId.of("Europe/Paris");
+    private static final ZoneId ZONE_0100 = ZoneId.of(ZoneOffset.ofHours(1));
+    private static final ZoneId ZONE_M0500 = ZoneId.of(ZoneOffset.ofHours(-5));
+
+    private List<LocalDate> dates() {
+        Random random = new Random(2826187652L);
+        List<LocalDate> list = new ArrayList<LocalDate>();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(LocalDate.ofEpochDay(random.nextInt(200000) - 100000));
+        }
+        list.add(LocalDate.of(Year.MIN_YEAR, 1, 1));
+        list.add(LocalDate.of(Year.MAX_YEAR, 12, 31));
+        list.add(LocalDate.of(2008, 6, 30));
+        list.add(LocalDate.of(2008, 6, 30));
+        return list;
+    }
+
+    private List<ZonedDateTime> dateTimes() {
+        Random random = new Random(2826187652L);
+        ZoneId[] zones = {ZONE_PARIS, ZONE_0100, ZONE_M0500};
+        List<ZonedDateTime> list = new ArrayList<ZonedDateTime>();
+        for (int i = 0; i < SIZE; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextInt(2000000000), random.nextInt(3) * 500000000);
+            list.add(ZonedDateTime.ofInstant(instant, zones[i % 3]));
+        }
+        return list;
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalDate
+    //-----------------------------------------------------------------------
+    public void test_toEpochDays() {
+        List<LocalDate> list = dates();
+        long[] epochDays = new long[list.size()];
+        CalendricalArrays.toEpochDays(list, epochDays);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(epochDays[i], list.get(i).toEpochDay());
+        }
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toEpochDays_shortResult() {
+        CalendricalArrays.toEpochDays(dates(), new long[1]);
+    }
+
+    public void test_sortLocalDates() {
+        List<LocalDate> list = dates();
+        List<LocalDate> expected = new ArrayList<LocalDate>(list);
+        Collections.sort(expected);
+        CalendricalArrays.sortLocalDates(list);
+        assertEquals(list, expected);
+    }
+
+    public void test_searchLocalDates() {
+        List<LocalDate> list = dates();
+        CalendricalArrays.sortLocalDates(list);
+        long[] epochDays = new long[list.size()];
+        CalendricalArrays.toEpochDays(list, epochDays);
+        for (int i = 0; i < list.size(); i++) {
+            int index = CalendricalArrays.binarySearch(epochDays, list.get(i));
+            assertEquals(list.get(index), list.get(i));
+            assertEquals(index, CalendricalArrays.ceilingIndex(epochDays, list.get(i)));
+        }
+        LocalDate date = LocalDate.of(2008, 6, 30);
+        int first = CalendricalArrays.binarySearch(epochDays, date);
+        assertEquals(list.get(first), date);
+        assertEquals(list.get(first - 1).isBefore(date), true);
+        assertEquals(list.get(first + 1), date);
+    }
+
+    public void test_ceilingIndex_LocalDate_range() {
+        long[] epochDays = {-10, 0, 0, 3, 20};
+        LocalDate epoch = LocalDate.ofEpochDay(0);
+        assertEquals(CalendricalArrays.ceilingIndex(epochDays, epoch.minusDays(11)), 0);
+        assertEquals(CalendricalArrays.ceilingIndex(epochDays, epoch), 1);
+        assertEquals(CalendricalArrays.ceilingIndex(epochDays, epoch.plusDays(1)), 3);
+        assertEquals(CalendricalArrays.ceilingIndex(epochDays, epoch.plusDays(21)), 5);
+        assertEquals(CalendricalArrays.binarySearch(epochDays, epoch.plusDays(1)), -4);
+    }
+
+    //-----------------------------------------------------------------------
+    // ZonedDateTime
+    //-----------------------------------------------------------------------
+    public void test_toEpochSeconds() {
+        List<ZonedDateTime> list = dateTimes();
+        long[] seconds = new long[SIZE];
+        int[] nanos = new int[SIZE];
+        CalendricalArrays.toEpochSeconds(list, seconds, nanos);
+        for (int i = 0; i < SIZE; i++) {
+            Instant instant = list.get(i).toInstant();
+            assertEquals(seconds[i], instant.getEpochSecond());
+            assertEquals(nanos[i], instant.getNanoOfSecond());
+        }
+    }
+
+    public void test_sortZonedDateTimes() {
+        List<ZonedDateTime> list = dateTimes();
+        List<ZonedDateTime> expected = new ArrayList<ZonedDateTime>(list);
+        Collections.sort(expected, ZonedDateTime.timeLineOrder());
+        CalendricalArrays.sortZonedDateTimes(list);
+        assertEquals(list, expected);
+    }
+
+    public void test_sortZonedDateTimes_sameInstantStable() {
+        ZonedDateTime a = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 12, 0), ZONE_0100);
+        ZonedDateTime b = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 6, 0), ZONE_M0500);
+        ZonedDateTime c = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 0), ZONE_0100);
+        List<ZonedDateTime> list = new ArrayList<ZonedDateTime>();
+        list.add(a);
+        list.add(b);
+        list.add(c);
+        CalendricalArrays.sortZonedDateTimes(list);
+        assertEquals(list.get(0), c);
+        assertEquals(list.get(1), a);
+        assertEquals(list.get(2), b);
+    }
+
+    public void test_searchZonedDateTimes() {
+        List<ZonedDateTime> list = dateTimes();
+        CalendricalArrays.sortZonedDateTimes(list);
+        long[] seconds = new long[SIZE];
+        int[] nanos = new int[SIZE];
+        CalendricalArrays.toEpochSeconds(list, seconds, nanos);
+        for (int i = 0; i < SIZE; i++) {
+            int index = CalendricalArrays.binarySearch(seconds, nanos, list.get(i));
+            assertEquals(list.get(index).equalInstant(list.get(i)), true);
+            assertEquals(CalendricalArrays.ceilingIndex(seconds, nanos, list.get(i)), index);
+        }
+        ZonedDateTime before = list.get(0).minusNanos(1);
+        assertEquals(CalendricalArrays.binarySearch(seconds, nanos, before), -1);
+        ZonedDateTime after = list.get(SIZE - 1).plusNanos(1);
+        assertEquals(CalendricalArrays.ceilingIndex(seconds, nanos, after), SIZE);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_binarySearch_ZonedDateTime_null() {
+        CalendricalArrays.binarySearch(new long[1], new int[1], (ZonedDateTime) null);
+    }
+
+}
@@ -54,6 +54,7 @@ import static javax.time.calendar.MonthOfYear.JUNE;
 import static javax.time.calendar.MonthOfYear.OCTOBER;
 import static javax.time.calendar.QuarterOfYear.Q2;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 import java.util.Arrays;
@@ -535,4 +536,20 @@ public class TestCalendricalNomalizer {
         assertEquals(test, output);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_derive_cached() {
+        CalendricalEngine engine = CalendricalEngine.merge(FIELD_YEAR_2011, FIELD_MOY_06, FIELD_DOM_30);
+        DateTimeField year = engine.derive(YEAR);
+        assertEquals(year, FIELD_YEAR_2011);
+        assertSame(engine.derive(YEAR), year);
+    }
+
+    public void test_derive_cacheClearedOnChange() {
+        CalendricalEngine engine = CalendricalEngine.merge(FIELD_YEAR_2011, FIELD_MOY_06, FIELD_DOM_30);
+        assertEquals(engine.derive(YEAR), FIELD_YEAR_2011);
+        engine.setDate(LocalDate.of(2012, 1, 1), false);
+        assertEquals(engine.derive(YEAR), YEAR.field(2012));
+        assertEquals(engine.derive(LocalDate.rule()), LocalDate.of(2012, 1, 1));
+    }
+
 }
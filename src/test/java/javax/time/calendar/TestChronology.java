@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.time.i18n.ChronologyDate;
+import javax.time.i18n.CopticStandardChronology;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test Chronology.
+ */
+@Test
+public class TestChronology {
+
+    private static final int LARGE = 200000;
+
+    //-----------------------------------------------------------------------
+    // convertFromEpochDays()
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_convertFromEpochDays_notSupported() {
+        int[] array = new int[1];
+        MockOtherChronology.INSTANCE.convertFromEpochDays(array, array, array, array, array);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertFromEpochDays_nullInput() {
+        int[] array = new int[1];
+        new IndexChronology().convertFromEpochDays(null, array, array, array, array);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertFromEpochDays_nullOutput() {
+        int[] array = new int[1];
+        new IndexChronology().convertFromEpochDays(array, array, array, null, array);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertFromEpochDays_shortOutput() {
+        int[] array = new int[2];
+        new IndexChronology().convertFromEpochDays(array, array, new int[1], array, array);
+    }
+
+    public void test_convertFromEpochDays_empty() {
+        int[] array = new int[0];
+        IndexChronology chrono = new IndexChronology();
+        chrono.convertFromEpochDays(array, array, array, array, array);
+        assertEquals(chrono.calls.size(), 0);
+    }
+
+    public void test_convertFromEpochDays_large() {
+        int[] epochDays = new int[LARGE];
+        for (int i = 0; i < LARGE; i++) {
+            epochDays[i] = i * 3;
+        }
+        int[] eras = new int[LARGE];
+        int[] years = new int[LARGE];
+        int[] months = new int[LARGE];
+        int[] days = new int[LARGE];
+        IndexChronology chrono = new IndexChronology();
+        chrono.convertFromEpochDays(epochDays, eras, years, months, days);
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(eras[i], 1);
+            assertEquals(years[i], i * 3);
+            assertEquals(months[i], 1);
+            assertEquals(days[i], 1);
+        }
+        chrono.assertEachIndexOnce(LARGE);
+        chrono.assertCallingThreadOnly();
+    }
+
+    public void test_convertFromEpochDays_large_parallel() {
+        int[] epochDays = new int[LARGE];
+        for (int i = 0; i < LARGE; i++) {
+            epochDays[i] = i * 3;
+        }
+        int[] eras = new int[LARGE];
+        int[] years = new int[LARGE];
+        int[] months = new int[LARGE];
+        int[] days = new int[LARGE];
+        IndexChronology chrono = new IndexChronology();
+        chrono.convertFromEpochDays(epochDays, eras, years, months, days, true);
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(eras[i], 1);
+            assertEquals(years[i], i * 3);
+            assertEquals(months[i], 1);
+            assertEquals(days[i], 1);
+        }
+        chrono.assertEachIndexOnce(LARGE);
+    }
+
+    public void test_convertFromEpochDays_failure() {
+        int[] array = new int[LARGE];
+        array[LARGE - 1] = -1;
+        try {
+            new IndexChronology().convertFromEpochDays(array, new int[LARGE], new int[LARGE], new int[LARGE], new int[LARGE]);
+            fail();
+        } catch (IllegalCalendarFieldValueException ex) {
+            // expected
+        }
+    }
+
+    public void test_convertFromEpochDays_failure_parallel() {
+        int[] array = new int[LARGE];
+        array[LARGE - 1] = -1;
+        try {
+            new IndexChronology().convertFromEpochDays(array, new int[LARGE], new int[LARGE], new int[LARGE], new int[LARGE], true);
+            fail();
+        } catch (IllegalCalendarFieldValueException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // convertToEpochDays()
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_convertToEpochDays_notSupported() {
+        int[] array = new int[1];
+        MockOtherChronology.INSTANCE.convertToEpochDays(array, array, array, array, array);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToEpochDays_nullInput() {
+        int[] array = new int[1];
+        new IndexChronology().convertToEpochDays(null, array, array, array, array);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToEpochDays_nullOutput() {
+        int[] array = new int[1];
+        new IndexChronology().convertToEpochDays(array, array, array, array, null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToEpochDays_shortOutput() {
+        int[] array = new int[2];
+        new IndexChronology().convertToEpochDays(array, array, array, array, new int[1]);
+    }
+
+    public void test_convertToEpochDays_large() {
+        int[] years = new int[LARGE];
+        for (int i = 0; i < LARGE; i++) {
+            years[i] = i * 3;
+        }
+        int[] epochDays = new int[LARGE];
+        IndexChronology chrono = new IndexChronology();
+        chrono.convertToEpochDays(new int[LARGE], years, new int[LARGE], new int[LARGE], epochDays);
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(epochDays[i], i * 3);
+        }
+        chrono.assertEachIndexOnce(LARGE);
+        chrono.assertCallingThreadOnly();
+    }
+
+    public void test_convertToEpochDays_large_parallel() {
+        int[] years = new int[LARGE];
+        for (int i = 0; i < LARGE; i++) {
+            years[i] = i * 3;
+        }
+        int[] epochDays = new int[LARGE];
+        IndexChronology chrono = new IndexChronology();
+        chrono.convertToEpochDays(new int[LARGE], years, new int[LARGE], new int[LARGE], epochDays, true);
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(epochDays[i], i * 3);
+        }
+        chrono.assertEachIndexOnce(LARGE);
+    }
+
+    //-----------------------------------------------------------------------
+    // CopticStandardChronology
+    //-----------------------------------------------------------------------
+    public void test_convert_coptic() {
+        CopticStandardChronology chrono = CopticStandardChronology.INSTANCE;
+        int start = (int) LocalDate.of(300, 1, 1).toEpochDay();
+        int[] epochDays = new int[LARGE];
+        for (int i = 0; i < LARGE; i++) {
+            epochDays[i] = start + i * 3;
+        }
+        int[] eras = new int[LARGE];
+        int[] years = new int[LARGE];
+        int[] months = new int[LARGE];
+        int[] days = new int[LARGE];
+        chrono.convertFromEpochDays(epochDays, eras, years, months, days);
+        for (int i = 0; i < LARGE; i += 97) {
+            ChronologyDate expected = chrono.createDate(LocalDate.ofEpochDay(epochDays[i]));
+            assertEquals(eras[i], expected.getEra().getValue());
+            assertEquals(years[i], expected.getYearOfEra());
+            assertEquals(months[i], expected.getMonthOfYear());
+            assertEquals(days[i], expected.getDayOfMonth());
+        }
+        
+        int[] result = new int[LARGE];
+        chrono.convertToEpochDays(eras, years, months, days, result);
+        for (int i = 0; i < LARGE; i++) {
+            assertEquals(result[i], epochDays[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Chronology recording the ranges converted, with the epoch-day as the year.
+     */
+    static class IndexChronology extends Chronology {
+        final Set<Integer> calls = new HashSet<Integer>();
+        final Set<Thread> threads = new HashSet<Thread>();
+        @Override
+        public String getName() {
+            return "Index";
+        }
+        @Override
+        protected void convertFromEpochDays(int[] epochDays, int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth,
+                int fromIndex, int toIndex) {
+            record(fromIndex, toIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (epochDays[i] < 0) {
+                    throw new IllegalCalendarFieldValueException(ISODateTimeRule.YEAR, epochDays[i]);
+                }
+                eras[i] = 1;
+                yearsOfEra[i] = epochDays[i];
+                monthsOfYear[i] = 1;
+                daysOfMonth[i] = 1;
+            }
+        }
+        @Override
+        protected void convertToEpochDays(int[] eras, int[] yearsOfEra, int[] monthsOfYear, int[] daysOfMonth, int[] epochDays,
+                int fromIndex, int toIndex) {
+            record(fromIndex, toIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                epochDays[i] = yearsOfEra[i];
+            }
+        }
+        private synchronized void record(int fromIndex, int toIndex) {
+            threads.add(Thread.currentThread());
+            for (int i = fromIndex; i < toIndex; i++) {
+                assertTrue(calls.add(i));
+            }
+        }
+        synchronized void assertEachIndexOnce(int length) {
+            assertEquals(calls.size(), length);
+        }
+        synchronized void assertCallingThreadOnly() {
+            assertEquals(threads, Collections.singleton(Thread.currentThread()));
+        }
+    }
+
+}
@@ -43,6 +43,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import javax.time.Duration;
+import javax.time.Instant;
 import javax.time.TimeSource;
 
 import org.testng.annotations.Test;
@@ -75,6 +77,89 @@ public class TestClock_TimeSourceClock {
         assertEquals(ois.readObject(), test);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Time-source returning a settable instant.
+     */
+    static class MutableTimeSource extends TimeSource {
+        Instant instant;
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    public void test_today() {
+        MutableTimeSource source = new MutableTimeSource();
+        Clock test = Clock.clock(source, ZONE);
+        source.instant = OffsetDateTime.of(2008, 6, 30, 23, 59, 59, 999999999, OFFSET).toInstant();
+        assertEquals(test.today(), LocalDate.of(2008, 6, 30));
+        assertEquals(test.today(), LocalDate.of(2008, 6, 30));
+        assertEquals(test.offsetDate(), OffsetDate.of(2008, 6, 30, OFFSET));
+        source.instant = OffsetDateTime.of(2008, 7, 1, 0, 0, OFFSET).toInstant();
+        assertEquals(test.today(), LocalDate.of(2008, 7, 1));
+        assertEquals(test.offsetDate(), OffsetDate.of(2008, 7, 1, OFFSET));
+    }
+
+    public void test_today_sameInstantCached() {
+        MutableTimeSource source = new MutableTimeSource();
+        Clock test = Clock.clock(source, ZONE);
+        source.instant = DATE_TIME.toInstant();
+        assertSame(test.today(), test.today());
+    }
+
+    public void test_today_tick() {
+        Clock test = Clock.clock(TimeSource.tick(TimeSource.system(), Duration.ofSeconds(1)), ZONE);
+        assertEquals(test.today(), LocalDate.now(Clock.system(ZONE)));
+    }
+
+    public void test_dateTime() {
+        MutableTimeSource source = new MutableTimeSource();
+        Clock test = Clock.clock(source, ZONE);
+        source.instant = DATE_TIME.toInstant();
+        assertEquals(test.dateTime(), LocalDateTime.of(2008, 6, 30, 11, 30, 10, 500));
+        assertEquals(test.time(), LocalTime.of(11, 30, 10, 500));
+        assertEquals(test.offsetTime(), OffsetTime.of(11, 30, 10, 500, OFFSET));
+        assertEquals(test.offsetDateTime(), DATE_TIME);
+        source.instant = DATE_TIME.plusHours(12).plusNanos(1).toInstant();
+        assertEquals(test.dateTime(), LocalDateTime.of(2008, 6, 30, 23, 30, 10, 501));
+        source.instant = DATE_TIME.plusHours(13).toInstant();
+        assertEquals(test.dateTime(), LocalDateTime.of(2008, 7, 1, 0, 30, 10, 500));
+        source.instant = DATE_TIME.minusHours(12).toInstant();
+        assertEquals(test.dateTime(), LocalDateTime.of(2008, 6, 29, 23, 30, 10, 500));
+    }
+
+    public void test_dateTime_acrossTransitions() {
+        MutableTimeSource source = new MutableTimeSource();
+        Clock test = Clock.clock(source, ZONE);
+        Instant base = OffsetDateTime.of(2008, 3, 29, 0, 0, ZoneOffset.UTC).toInstant();
+        for (int i = 0; i < 4 * 24 * 3; i++) {
+            source.instant = base.plusSeconds(i * 15 * 60L - 1);
+            assertEquals(test.offsetDateTime(), ZonedDateTime.ofInstant(source.instant, ZONE).toOffsetDateTime());
+            source.instant = base.plusSeconds(i * 15 * 60L);
+            assertEquals(test.offsetDateTime(), ZonedDateTime.ofInstant(source.instant, ZONE).toOffsetDateTime());
+        }
+        base = OffsetDateTime.of(2008, 10, 25, 0, 0, ZoneOffset.UTC).toInstant();
+        for (int i = 0; i < 4 * 24 * 3; i++) {
+            source.instant = base.plusSeconds(i * 15 * 60L - 1);
+            assertEquals(test.offsetDateTime(), ZonedDateTime.ofInstant(source.instant, ZONE).toOffsetDateTime());
+            source.instant = base.plusSeconds(i * 15 * 60L);
+            assertEquals(test.offsetDateTime(), ZonedDateTime.ofInstant(source.instant, ZONE).toOffsetDateTime());
+        }
+    }
+
+    public void test_dateTime_backwards() {
+        MutableTimeSource source = new MutableTimeSource();
+        Clock test = Clock.clock(source, ZONE);
+        source.instant = OffsetDateTime.of(2008, 3, 30, 3, 0, ZoneOffset.ofHours(2)).toInstant();
+        assertEquals(test.dateTime(), LocalDateTime.of(2008, 3, 30, 3, 0));
+        source.instant = OffsetDateTime.of(2008, 3, 30, 1, 59, 59, ZoneOffset.ofHours(1)).toInstant();
+        assertEquals(test.dateTime(), LocalDateTime.of(2008, 3, 30, 1, 59, 59));
+        assertEquals(test.offsetDate(), OffsetDate.of(2008, 3, 30, ZoneOffset.ofHours(1)));
+        source.instant = OffsetDateTime.of(1969, 12, 31, 23, 59, 59, ZoneOffset.ofHours(1)).toInstant();
+        assertEquals(test.dateTime(), LocalDateTime.of(1969, 12, 31, 23, 59, 59));
+    }
+
     //-----------------------------------------------------------------------
     public void test_get() {
         Clock test = Clock.clock(TIME_SOURCE, ZONE);
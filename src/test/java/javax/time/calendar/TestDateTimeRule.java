@@ -39,6 +39,7 @@ import static javax.time.calendar.ISOPeriodUnit.NANOS;
 import static javax.time.calendar.ISOPeriodUnit.WEEKS;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.math.BigDecimal;
 import java.util.Comparator;
@@ -46,6 +47,7 @@ import java.util.Locale;
 
 import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -54,6 +56,19 @@ import org.testng.annotations.Test;
 @Test
 public class TestDateTimeRule {
 
+    private static final DateTimeRule[] ISO_RULES = {
+        ISODateTimeRule.NANO_OF_SECOND, ISODateTimeRule.NANO_OF_DAY, ISODateTimeRule.MILLI_OF_SECOND,
+        ISODateTimeRule.MILLI_OF_DAY, ISODateTimeRule.SECOND_OF_MINUTE, ISODateTimeRule.SECOND_OF_DAY,
+        ISODateTimeRule.EPOCH_SECOND, ISODateTimeRule.MINUTE_OF_HOUR, ISODateTimeRule.MINUTE_OF_DAY,
+        ISODateTimeRule.CLOCK_HOUR_OF_AMPM, ISODateTimeRule.HOUR_OF_AMPM, ISODateTimeRule.CLOCK_HOUR_OF_DAY,
+        ISODateTimeRule.HOUR_OF_DAY, ISODateTimeRule.AMPM_OF_DAY, ISODateTimeRule.DAY_OF_WEEK,
+        ISODateTimeRule.DAY_OF_MONTH, ISODateTimeRule.DAY_OF_YEAR, ISODateTimeRule.EPOCH_DAY,
+        ISODateTimeRule.ALIGNED_WEEK_OF_MONTH, ISODateTimeRule.WEEK_OF_WEEK_BASED_YEAR,
+        ISODateTimeRule.ALIGNED_WEEK_OF_YEAR, ISODateTimeRule.MONTH_OF_QUARTER, ISODateTimeRule.MONTH_OF_YEAR,
+        ISODateTimeRule.ZERO_EPOCH_MONTH, ISODateTimeRule.QUARTER_OF_YEAR, ISODateTimeRule.WEEK_BASED_YEAR,
+        ISODateTimeRule.YEAR,
+    };
+
     //-----------------------------------------------------------------------
     // basics
     //-----------------------------------------------------------------------
@@ -142,6 +157,75 @@ public class TestDateTimeRule {
         MONTH_OF_YEAR.getText(1, TextStyle.FULL, null);
     }
 
+    //-----------------------------------------------------------------------
+    // getLong()
+    //-----------------------------------------------------------------------
+    public void test_getLong_field() {
+        Mock rule = new Mock(HOURS, DAYS, 0, 23);
+        assertEquals(rule.getLong(rule.field(12)), 12L);
+    }
+
+    @Test(expectedExceptions=CalendricalRuleException.class)
+    public void test_getLong_unsupported() {
+        Mock rule = new Mock(HOURS, DAYS, 0, 23);
+        try {
+            rule.getLong(LocalDate.of(2011, 3, 20));
+        } catch (CalendricalRuleException ex) {
+            assertEquals(ex.getRule(), rule);
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getLong_null() {
+        new Mock(HOURS, DAYS, 0, 23).getLong(null);
+    }
+
+    @DataProvider(name="isoCalendricals")
+    Object[][] data_isoCalendricals() {
+        LocalDate date = LocalDate.of(2011, 3, 20);
+        LocalTime time = LocalTime.of(13, 47, 21, 123456789);
+        ZoneOffset offset = ZoneOffset.ofHours(2);
+        return new Object[][] {
+            {date},
+            {time},
+            {LocalDateTime.of(date, time)},
+            {OffsetDate.of(date, offset)},
+            {OffsetTime.of(time, offset)},
+            {OffsetDateTime.of(date, time, offset)},
+            {ZonedDateTime.of(LocalDateTime.of(date, time), ZoneId.of("Europe/Paris"))},
+            {LocalDate.of(-2011, 12, 31)},
+            {YearMonth.of(2011, 3)},
+            {MONTH_OF_YEAR.field(3)},
+        };
+    }
+
+    @Test(dataProvider="isoCalendricals")
+    public void test_getLong_iso_matchesGet(Calendrical calendrical) {
+        for (DateTimeRule rule : ISO_RULES) {
+            DateTimeField field = calendrical.get(rule);
+            if (field != null) {
+                assertEquals(rule.getLong(calendrical), field.getValue(), rule.getName());
+            } else {
+                try {
+                    rule.getLong(calendrical);
+                    fail(rule.getName());
+                } catch (CalendricalRuleException ex) {
+                    assertEquals(ex.getRule(), rule);
+                }
+            }
+        }
+    }
+
+    public void test_getLong_iso() {
+        LocalDateTime dt = LocalDateTime.of(2011, 3, 20, 13, 47);
+        assertEquals(ISODateTimeRule.YEAR.getLong(dt), 2011L);
+        assertEquals(ISODateTimeRule.MONTH_OF_YEAR.getLong(dt), 3L);
+        assertEquals(ISODateTimeRule.DAY_OF_WEEK.getLong(dt), 7L);
+        assertEquals(ISODateTimeRule.MINUTE_OF_DAY.getLong(dt), 13L * 60L + 47L);
+        assertEquals(ISODateTimeRule.EPOCH_SECOND.getLong(OffsetDateTime.of(1970, 1, 1, 1, 0, ZoneOffset.ofHours(1))), 0L);
+    }
+
     //-----------------------------------------------------------------------
     // convertToFraction()
     //-----------------------------------------------------------------------
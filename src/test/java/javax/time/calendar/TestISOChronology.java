@@ -45,8 +45,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Collections;
+import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.TimeZone;
 
 import javax.time.Duration;
 
@@ -111,6 +115,44 @@ public class TestISOChronology {
         }
     }
 
+    public void test_getDateFromDayOfYear_outsideTable() {
+        assertEquals(ISOChronology.getDateFromDayOfYear(1500, 60), LocalDate.of(1500, 3, 1));
+        assertEquals(ISOChronology.getDateFromDayOfYear(2800, 60), LocalDate.of(2800, 2, 29));
+        assertEquals(ISOChronology.getDateFromDayOfYear(2900, 365), LocalDate.of(2900, 12, 31));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_yearTable_crossCheckCalendar() {
+        GregorianCalendar cal = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        cal.setGregorianChange(new Date(Long.MIN_VALUE));
+        cal.clear();
+        cal.set(ISOChronology.TABLE_MIN_YEAR - 2, Calendar.JANUARY, 1);
+        long epochDay = cal.getTimeInMillis() / (ISOChronology.SECONDS_PER_DAY * 1000L);
+        while (cal.get(Calendar.YEAR) <= ISOChronology.TABLE_MAX_YEAR + 2) {
+            int year = cal.get(Calendar.YEAR);
+            LocalDate date = LocalDate.of(year, cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DAY_OF_MONTH));
+            assertEquals(date.toEpochDay(), epochDay);
+            assertEquals(LocalDate.ofEpochDay(epochDay), date);
+            assertEquals(date.getDayOfYear(), cal.get(Calendar.DAY_OF_YEAR));
+            assertEquals(date.getDayOfWeek().getValue(), (cal.get(Calendar.DAY_OF_WEEK) + 5) % 7 + 1);
+            assertEquals(date.isLeapYear(), cal.isLeapYear(year));
+            assertEquals(ISOChronology.getDateFromDayOfYear(year, date.getDayOfYear()), date);
+            cal.add(Calendar.DAY_OF_MONTH, 1);
+            epochDay++;
+        }
+    }
+
+    public void test_yearTable_boundaries() {
+        assertEquals(LocalDate.of(ISOChronology.TABLE_MIN_YEAR, 1, 1).toEpochDay(), -135140);
+        assertEquals(LocalDate.ofEpochDay(-135141), LocalDate.of(ISOChronology.TABLE_MIN_YEAR - 1, 12, 31));
+        assertEquals(LocalDate.ofEpochDay(-135140), LocalDate.of(ISOChronology.TABLE_MIN_YEAR, 1, 1));
+        LocalDate end = LocalDate.of(ISOChronology.TABLE_MAX_YEAR, 12, 31);
+        assertEquals(LocalDate.ofEpochDay(end.toEpochDay()), end);
+        assertEquals(LocalDate.ofEpochDay(end.toEpochDay() + 1), LocalDate.of(ISOChronology.TABLE_MAX_YEAR + 1, 1, 1));
+        assertEquals(end.plusDays(1).getDayOfWeek(), DayOfWeek.THURSDAY);
+        assertEquals(end.getDayOfWeek(), DayOfWeek.WEDNESDAY);
+    }
+
     //-----------------------------------------------------------------------
     public void test_minuteOfHourRule() throws Exception {
         DateTimeRule rule = ISODateTimeRule.MINUTE_OF_HOUR;
@@ -506,6 +548,17 @@ public class TestISOChronology {
         assertEquals(test, list);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_getMonthStartEpochDay() {
+        for (int year = -2000; year <= 4000; year += 7) {
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(ISOChronology.getMonthStartEpochDay(year, month), LocalDate.of(year, month, 1).toEpochDay());
+            }
+        }
+        assertEquals(ISOChronology.getMonthStartEpochDay(1599, 12) + 31, ISOChronology.getMonthStartEpochDay(1600, 1));
+        assertEquals(ISOChronology.getMonthStartEpochDay(2600, 12) + 31, ISOChronology.getMonthStartEpochDay(2601, 1));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() throws Exception {
         assertEquals(ISOChronology.INSTANCE.toString(), "ISO");
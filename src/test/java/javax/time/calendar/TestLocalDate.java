@@ -573,6 +573,7 @@ public class TestLocalDate extends AbstractTest {
         LocalDate a = LocalDate.of(y, m, d);
         assertEquals(a.getYear(), y);
         assertEquals(a.getMonthOfYear(), MonthOfYear.of(m));
+        assertEquals(a.getMonthValue(), m);
         assertEquals(a.getDayOfMonth(), d);
     }
 
@@ -594,6 +595,7 @@ public class TestLocalDate extends AbstractTest {
             for (int i = 1; i <= length; i++) {
                 LocalDate d = LocalDate.of(2007, month, i);
                 assertSame(d.getDayOfWeek(), dow);
+                assertEquals(d.getDayOfWeekValue(), dow.getValue());
                 dow = dow.next();
             }
         }
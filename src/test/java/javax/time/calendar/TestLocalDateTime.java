@@ -868,6 +868,7 @@ public class TestLocalDateTime extends AbstractTest {
         LocalDateTime a = LocalDateTime.of(y, m, d, 12, 30);
         assertEquals(a.getYear(), y);
         assertEquals(a.getMonthOfYear(), MonthOfYear.of(m));
+        assertEquals(a.getMonthValue(), m);
         assertEquals(a.getDayOfMonth(), d);
     }
 
@@ -902,6 +903,7 @@ public class TestLocalDateTime extends AbstractTest {
                 LocalDateTime d = LocalDateTime.of(LocalDate.of(2007, month, i),
                         TEST_2007_07_15_12_30_40_987654321.toLocalTime());
                 assertSame(d.getDayOfWeek(), dow);
+                assertEquals(d.getDayOfWeekValue(), dow.getValue());
                 dow = dow.next();
             }
         }
@@ -1550,6 +1552,77 @@ public class TestLocalDateTime extends AbstractTest {
         TEST_2007_07_15_12_30_40_987654321.withTime(12, 30, 40, 1000000000);
     }
 
+    //-----------------------------------------------------------------------
+    // truncatedTo(PeriodUnit)
+    //-----------------------------------------------------------------------
+    public void test_truncatedTo_minutes() {
+        LocalDateTime t = TEST_2007_07_15_12_30_40_987654321.truncatedTo(ISOPeriodUnit.MINUTES);
+        assertEquals(t, LocalDateTime.of(2007, 7, 15, 12, 30));
+    }
+
+    public void test_truncatedTo_days() {
+        LocalDateTime t = TEST_2007_07_15_12_30_40_987654321.truncatedTo(ISOPeriodUnit.DAYS);
+        assertEquals(t, LocalDateTime.of(2007, 7, 15, 0, 0));
+        assertSame(t.toLocalDate(), TEST_2007_07_15_12_30_40_987654321.toLocalDate());
+    }
+
+    public void test_truncatedTo_noChange() {
+        LocalDateTime base = LocalDateTime.of(2007, 7, 15, 12, 30);
+        assertSame(base.truncatedTo(ISOPeriodUnit.SECONDS), base);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_months() {
+        TEST_2007_07_15_12_30_40_987654321.truncatedTo(ISOPeriodUnit.MONTHS);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_truncatedTo_null() {
+        TEST_2007_07_15_12_30_40_987654321.truncatedTo(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // roundedTo(Duration)
+    //-----------------------------------------------------------------------
+    public void test_roundedTo_down() {
+        LocalDateTime t = TEST_2007_07_15_12_30_40_987654321.roundedTo(Duration.ofStandardHours(1));
+        assertEquals(t, LocalDateTime.of(2007, 7, 15, 13, 0));
+        t = TEST_2007_07_15_12_30_40_987654321.roundedTo(Duration.ofStandardMinutes(5));
+        assertEquals(t, LocalDateTime.of(2007, 7, 15, 12, 30));
+    }
+
+    public void test_roundedTo_nextDay() {
+        LocalDateTime t = LocalDateTime.of(2007, 12, 31, 23, 59, 30).roundedTo(Duration.ofStandardMinutes(1));
+        assertEquals(t, LocalDateTime.of(2008, 1, 1, 0, 0));
+    }
+
+    public void test_roundedTo_days() {
+        LocalDateTime t = LocalDateTime.of(2007, 7, 15, 11, 59).roundedTo(Duration.ofStandardDays(1));
+        assertEquals(t, LocalDateTime.of(2007, 7, 15, 0, 0));
+        t = LocalDateTime.of(2007, 7, 15, 12, 0).roundedTo(Duration.ofStandardDays(1));
+        assertEquals(t, LocalDateTime.of(2007, 7, 16, 0, 0));
+    }
+
+    public void test_roundedTo_noChange() {
+        LocalDateTime base = LocalDateTime.of(2007, 7, 15, 12, 30);
+        assertSame(base.roundedTo(Duration.ofStandardMinutes(15)), base);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_roundedTo_maxDate() {
+        LocalDateTime.of(Year.MAX_YEAR, 12, 31, 23, 59).roundedTo(Duration.ofStandardHours(1));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_roundedTo_invalid() {
+        TEST_2007_07_15_12_30_40_987654321.roundedTo(Duration.ofSeconds(7));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_roundedTo_null() {
+        TEST_2007_07_15_12_30_40_987654321.roundedTo(null);
+    }
+
     //-----------------------------------------------------------------------
     // plus(PeriodProvider)
     //-----------------------------------------------------------------------
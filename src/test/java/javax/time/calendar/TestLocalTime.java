@@ -839,6 +839,102 @@ public class TestLocalTime {
         TEST_12_30_40_987654321.withNanoOfSecond(1000000000);
     }
 
+    //-----------------------------------------------------------------------
+    // truncatedTo(PeriodUnit)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="truncatedTo")
+    Object[][] provider_truncatedTo() {
+        return new Object[][] {
+            {ISOPeriodUnit.NANOS, LocalTime.of(12, 30, 40, 987654321)},
+            {ISOPeriodUnit.MICROS, LocalTime.of(12, 30, 40, 987654000)},
+            {ISOPeriodUnit.MILLIS, LocalTime.of(12, 30, 40, 987000000)},
+            {ISOPeriodUnit.SECONDS, LocalTime.of(12, 30, 40)},
+            {ISOPeriodUnit.MINUTES, LocalTime.of(12, 30)},
+            {ISOPeriodUnit.HOURS, LocalTime.of(12, 0)},
+            {ISOPeriodUnit._12_HOURS, LocalTime.MIDDAY},
+            {ISOPeriodUnit._24_HOURS, LocalTime.MIDNIGHT},
+            {ISOPeriodUnit.DAYS, LocalTime.MIDNIGHT},
+        };
+    }
+
+    @Test(dataProvider="truncatedTo")
+    public void test_truncatedTo(PeriodUnit unit, LocalTime expected) {
+        assertEquals(TEST_12_30_40_987654321.truncatedTo(unit), expected);
+    }
+
+    public void test_truncatedTo_noChange() {
+        LocalTime base = LocalTime.of(12, 30);
+        assertSame(base.truncatedTo(ISOPeriodUnit.MINUTES), base);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_months() {
+        TEST_12_30_40_987654321.truncatedTo(ISOPeriodUnit.MONTHS);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_weeks() {
+        TEST_12_30_40_987654321.truncatedTo(ISOPeriodUnit.WEEKS);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_truncatedTo_null() {
+        TEST_12_30_40_987654321.truncatedTo(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // roundedTo(Duration)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="roundedTo")
+    Object[][] provider_roundedTo() {
+        return new Object[][] {
+            {LocalTime.of(12, 30, 40, 987654321), Duration.ofNanos(1), LocalTime.of(12, 30, 40, 987654321)},
+            {LocalTime.of(12, 30, 40, 987654321), Duration.ofMillis(1), LocalTime.of(12, 30, 40, 988000000)},
+            {LocalTime.of(12, 30, 40, 987654321), Duration.ofSeconds(1), LocalTime.of(12, 30, 41)},
+            {LocalTime.of(12, 30, 40, 987654321), Duration.ofStandardMinutes(1), LocalTime.of(12, 31)},
+            {LocalTime.of(12, 30, 29, 999999999), Duration.ofStandardMinutes(1), LocalTime.of(12, 30)},
+            {LocalTime.of(12, 30, 30), Duration.ofStandardMinutes(1), LocalTime.of(12, 31)},
+            {LocalTime.of(12, 37, 29), Duration.ofStandardMinutes(15), LocalTime.of(12, 30)},
+            {LocalTime.of(12, 37, 30), Duration.ofStandardMinutes(15), LocalTime.of(12, 45)},
+            {LocalTime.of(12, 2, 30), Duration.ofStandardMinutes(5), LocalTime.of(12, 5)},
+            {LocalTime.of(12, 30), Duration.ofStandardHours(1), LocalTime.of(13, 0)},
+            {LocalTime.of(23, 59, 59), Duration.ofStandardMinutes(1), LocalTime.MIDNIGHT},
+            {LocalTime.of(11, 59), Duration.ofStandardDays(1), LocalTime.MIDNIGHT},
+            {LocalTime.of(12, 0), Duration.ofStandardDays(1), LocalTime.MIDNIGHT},
+        };
+    }
+
+    @Test(dataProvider="roundedTo")
+    public void test_roundedTo(LocalTime base, Duration duration, LocalTime expected) {
+        assertEquals(base.roundedTo(duration), expected);
+    }
+
+    public void test_roundedTo_noChange() {
+        LocalTime base = LocalTime.of(12, 30);
+        assertSame(base.roundedTo(Duration.ofStandardMinutes(5)), base);
+    }
+
+    @DataProvider(name="roundedToInvalid")
+    Object[][] provider_roundedToInvalid() {
+        return new Object[][] {
+            {Duration.ZERO},
+            {Duration.ofSeconds(-60)},
+            {Duration.ofSeconds(7)},
+            {Duration.ofStandardDays(2)},
+            {Duration.ofSeconds(86400, 1)},
+        };
+    }
+
+    @Test(dataProvider="roundedToInvalid", expectedExceptions=IllegalArgumentException.class)
+    public void test_roundedTo_invalid(Duration duration) {
+        TEST_12_30_40_987654321.roundedTo(duration);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_roundedTo_null() {
+        TEST_12_30_40_987654321.roundedTo(null);
+    }
+
     //-----------------------------------------------------------------------
     // plus(PeriodProvider)
     //-----------------------------------------------------------------------
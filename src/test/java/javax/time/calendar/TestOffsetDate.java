@@ -552,6 +552,7 @@ public class TestOffsetDate {
         
         assertEquals(a.getYear(), localDate.getYear());
         assertEquals(a.getMonthOfYear(), localDate.getMonthOfYear());
+        assertEquals(a.getMonthValue(), localDate.getMonthOfYear().getValue());
         assertEquals(a.getDayOfMonth(), localDate.getDayOfMonth());
         assertEquals(a.getDayOfYear(), localDate.getDayOfYear());
         assertEquals(a.getDayOfWeek(), localDate.getDayOfWeek());
@@ -632,6 +633,7 @@ public class TestOffsetDate {
             for (int i = 1; i <= length; i++) {
                 OffsetDate d = OffsetDate.of(2007, month, i, offsets[i % 2]);
                 assertSame(d.getDayOfWeek(), dow);
+                assertEquals(d.getDayOfWeekValue(), dow.getValue());
                 dow = dow.next();
             }
         }
@@ -61,6 +61,10 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import javax.time.CalendricalException;
 import javax.time.Duration;
@@ -524,9 +528,11 @@ public class TestOffsetDateTime {
         
         assertEquals(a.getYear(), localDate.getYear());
         assertEquals(a.getMonthOfYear(), localDate.getMonthOfYear());
+        assertEquals(a.getMonthValue(), localDate.getMonthOfYear().getValue());
         assertEquals(a.getDayOfMonth(), localDate.getDayOfMonth());
         assertEquals(a.getDayOfYear(), localDate.getDayOfYear());
         assertEquals(a.getDayOfWeek(), localDate.getDayOfWeek());
+        assertEquals(a.getDayOfWeekValue(), localDate.getDayOfWeek().getValue());
         assertEquals(a.isLeapYear(), ISOChronology.isLeapYear(a.getYear()));
         
         assertEquals(a.getHourOfDay(), localDateTime.getHourOfDay());
@@ -929,6 +935,47 @@ public class TestOffsetDateTime {
         assertSame(test, base);
     }
 
+    //-----------------------------------------------------------------------
+    // truncatedTo(PeriodUnit)
+    //-----------------------------------------------------------------------
+    public void test_truncatedTo() {
+        OffsetDateTime t = TEST_2008_6_30_11_30_59_000000500.truncatedTo(ISOPeriodUnit.HOURS);
+        assertEquals(t, OffsetDateTime.of(2008, 6, 30, 11, 0, OFFSET_PONE));
+    }
+
+    public void test_truncatedTo_noChange() {
+        OffsetDateTime t = TEST_2008_6_30_11_30_59_000000500.truncatedTo(ISOPeriodUnit.NANOS);
+        assertSame(t, TEST_2008_6_30_11_30_59_000000500);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_years() {
+        TEST_2008_6_30_11_30_59_000000500.truncatedTo(ISOPeriodUnit.YEARS);
+    }
+
+    //-----------------------------------------------------------------------
+    // roundedTo(Duration)
+    //-----------------------------------------------------------------------
+    public void test_roundedTo() {
+        OffsetDateTime t = TEST_2008_6_30_11_30_59_000000500.roundedTo(Duration.ofStandardMinutes(1));
+        assertEquals(t, OffsetDateTime.of(2008, 6, 30, 11, 31, OFFSET_PONE));
+    }
+
+    public void test_roundedTo_nextDay() {
+        OffsetDateTime t = OffsetDateTime.of(2008, 6, 30, 23, 45, OFFSET_MTWO).roundedTo(Duration.ofStandardHours(1));
+        assertEquals(t, OffsetDateTime.of(2008, 7, 1, 0, 0, OFFSET_MTWO));
+    }
+
+    public void test_roundedTo_noChange() {
+        OffsetDateTime t = TEST_2008_6_30_11_30_59_000000500.roundedTo(Duration.ofNanos(100));
+        assertSame(t, TEST_2008_6_30_11_30_59_000000500);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_roundedTo_invalid() {
+        TEST_2008_6_30_11_30_59_000000500.roundedTo(Duration.ofSeconds(-1));
+    }
+
     //-----------------------------------------------------------------------
     // plus(PeriodProvider)
     //-----------------------------------------------------------------------
@@ -1507,6 +1554,43 @@ public class TestOffsetDateTime {
        c.compareTo(new Object());
     }
 
+    //-----------------------------------------------------------------------
+    // timeLineOrder()
+    //-----------------------------------------------------------------------
+    public void test_timeLineOrder() {
+        Comparator<OffsetDateTime> test = OffsetDateTime.timeLineOrder();
+        OffsetDateTime a = OffsetDateTime.of(2008, 6, 30, 11, 30, 58, 3, OFFSET_PONE);
+        OffsetDateTime b = OffsetDateTime.of(2008, 6, 30, 11, 30, 58, 4, OFFSET_PONE);  // a is before b due to nanos
+        OffsetDateTime c = OffsetDateTime.of(2008, 6, 30, 12, 30, 59, 0, OFFSET_PTWO);  // b is before c due to offset
+        assertEquals(test.compare(a, b) < 0, true);
+        assertEquals(test.compare(b, a) > 0, true);
+        assertEquals(test.compare(b, c) < 0, true);
+        assertEquals(test.compare(c, b) > 0, true);
+        assertEquals(test.compare(a, c) < 0, true);
+        assertEquals(test.compare(c, a) > 0, true);
+        assertEquals(test.compare(a, a), 0);
+    }
+
+    public void test_timeLineOrder_sameInstant() {
+        Comparator<OffsetDateTime> test = OffsetDateTime.timeLineOrder();
+        OffsetDateTime a = OffsetDateTime.of(2008, 6, 30, 11, 30, 59, OFFSET_PONE);
+        OffsetDateTime b = OffsetDateTime.of(2008, 6, 30, 12, 30, 59, OFFSET_PTWO);  // same instant
+        assertEquals(test.compare(a, b), 0);
+        assertEquals(test.compare(b, a), 0);
+        assertEquals(a.compareTo(b) < 0, true);
+    }
+
+    public void test_timeLineOrder_sort() {
+        List<OffsetDateTime> list = new ArrayList<OffsetDateTime>();
+        list.add(OffsetDateTime.of(2008, 6, 30, 12, 0, OFFSET_PONE));
+        list.add(OffsetDateTime.of(2008, 6, 30, 12, 0, OFFSET_PTWO));
+        list.add(OffsetDateTime.of(2008, 6, 30, 11, 30, OFFSET_PONE));
+        Collections.sort(list, OffsetDateTime.timeLineOrder());
+        assertEquals(list.get(0), OffsetDateTime.of(2008, 6, 30, 12, 0, OFFSET_PTWO));
+        assertEquals(list.get(1), OffsetDateTime.of(2008, 6, 30, 11, 30, OFFSET_PONE));
+        assertEquals(list.get(2), OffsetDateTime.of(2008, 6, 30, 12, 0, OFFSET_PONE));
+    }
+
     //-----------------------------------------------------------------------
     // isAfter() / isBefore() / equalInstant()
     //-----------------------------------------------------------------------
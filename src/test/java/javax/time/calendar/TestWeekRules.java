@@ -551,4 +551,86 @@ public class TestWeekRules {
             date = date.plusDays(1);
         }
     }
+
+    //-----------------------------------------------------------------------
+    // weekKey()
+    //-----------------------------------------------------------------------
+    public void test_factory_of_cached() {
+        assertTrue(WeekRules.of(MONDAY, 4) == WeekRules.ISO);
+        assertTrue(WeekRules.of(SUNDAY, 1) == WeekRules.of(SUNDAY, 1));
+    }
+
+    public void test_weekKey_iso() {
+        assertEquals(WeekRules.ISO.weekKey(LocalDate.of(2008, 12, 28)), 200852);
+        assertEquals(WeekRules.ISO.weekKey(LocalDate.of(2008, 12, 29)), 200901);
+        assertEquals(WeekRules.ISO.weekKey(LocalDate.of(2009, 12, 31)), 200953);
+        assertEquals(WeekRules.ISO.weekKey(LocalDate.of(2010, 1, 3)), 200953);
+        assertEquals(WeekRules.ISO.weekKey(LocalDate.of(2010, 1, 4)), 201001);
+    }
+
+    public void test_weekKey_iso_crossCheckRules() {
+        LocalDate date = LocalDate.of(1995, 1, 1);
+        for (int i = 0; i < 366 * 20; i++) {
+            int expected = date.get(ISODateTimeRule.WEEK_BASED_YEAR).getValidIntValue() * 100 +
+                    date.get(ISODateTimeRule.WEEK_OF_WEEK_BASED_YEAR).getValidIntValue();
+            assertEquals(WeekRules.ISO.weekKey(date), expected);
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test(dataProvider = "allRules")
+    public void test_weekKey_crossCheckCalendar(DayOfWeek dow, int minimalDays) {
+        WeekRules rules = WeekRules.of(dow, minimalDays);
+        assertWeekKeys(rules, LocalDate.of(2008, 1, 1), 365 * 3);
+        assertWeekKeys(rules, LocalDate.of(2599, 6, 1), 365 * 3);  // across the end of the table
+    }
+
+    private void assertWeekKeys(WeekRules rules, LocalDate date, int days) {
+        GregorianCalendar gcal = new GregorianCalendar();
+        gcal.setFirstDayOfWeek(rules.getFirstDayOfWeek() == SUNDAY ? 1 : rules.getFirstDayOfWeek().getValue() + 1);
+        gcal.setMinimalDaysInFirstWeek(rules.getMinimalDaysInFirstWeek());
+        gcal.clear();
+        gcal.set(date.getYear(), date.getMonthOfYear().ordinal(), date.getDayOfMonth());
+        int[] epochDays = new int[days];
+        int[] expected = new int[days];
+        for (int i = 0; i < days; i++) {
+            int week = gcal.get(Calendar.WEEK_OF_YEAR);
+            int year = gcal.get(Calendar.YEAR);
+            if (week >= 52 && gcal.get(Calendar.MONTH) == Calendar.JANUARY) {
+                year--;
+            } else if (week == 1 && gcal.get(Calendar.MONTH) == Calendar.DECEMBER) {
+                year++;
+            }
+            expected[i] = year * 100 + week;
+            epochDays[i] = MathUtils.safeToInt(date.toEpochDay());
+            assertEquals(rules.weekKey(date), expected[i]);
+            gcal.add(Calendar.DAY_OF_MONTH, 1);
+            date = date.plusDays(1);
+        }
+        int[] keys = rules.weekKeys(epochDays);
+        for (int i = 0; i < days; i++) {
+            assertEquals(keys[i], expected[i]);
+        }
+    }
+
+    public void test_weekKey_farPast() {
+        assertEquals(WeekRules.ISO.weekKey(LocalDate.of(-2000, 1, 5)),
+                LocalDate.of(-2000, 1, 5).get(ISODateTimeRule.WEEK_BASED_YEAR).getValidIntValue() * 100 +
+                LocalDate.of(-2000, 1, 5).get(ISODateTimeRule.WEEK_OF_WEEK_BASED_YEAR).getValidIntValue());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_weekKey_null() {
+        WeekRules.ISO.weekKey(null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_weekKeys_null() {
+        WeekRules.ISO.weekKeys(null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_weekKeys_shortArray() {
+        WeekRules.ISO.weekKeys(new int[2], new int[1]);
+    }
 }
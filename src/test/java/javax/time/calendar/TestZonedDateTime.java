@@ -54,6 +54,7 @@ import static org.testng.Assert.assertTrue;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Comparator;
 
 import javax.time.CalendricalException;
 import javax.time.Duration;
@@ -649,9 +650,11 @@ public class TestZonedDateTime {
         
         assertEquals(a.getYear(), localDate.getYear());
         assertEquals(a.getMonthOfYear(), localDate.getMonthOfYear());
+        assertEquals(a.getMonthValue(), localDate.getMonthOfYear().getValue());
         assertEquals(a.getDayOfMonth(), localDate.getDayOfMonth());
         assertEquals(a.getDayOfYear(), localDate.getDayOfYear());
         assertEquals(a.getDayOfWeek(), localDate.getDayOfWeek());
+        assertEquals(a.getDayOfWeekValue(), localDate.getDayOfWeek().getValue());
         assertEquals(a.isLeapYear(), ISOChronology.isLeapYear(a.getYear()));
         
         assertEquals(a.getHourOfDay(), localDateTime.getHourOfDay());
@@ -1251,6 +1254,65 @@ public class TestZonedDateTime {
         assertSame(test, base);
     }
 
+    //-----------------------------------------------------------------------
+    // truncatedTo(PeriodUnit)
+    //-----------------------------------------------------------------------
+    public void test_truncatedTo() {
+        ZonedDateTime t = TEST_DATE_TIME.truncatedTo(ISOPeriodUnit.HOURS);
+        assertEquals(t, ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 0), ZONE_0100));
+    }
+
+    public void test_truncatedTo_noChange() {
+        ZonedDateTime t = TEST_DATE_TIME.truncatedTo(ISOPeriodUnit.NANOS);
+        assertSame(t, TEST_DATE_TIME);
+    }
+
+    public void test_truncatedTo_intoGap() {
+        // Sao Paulo gap from 2008-10-19T00:00 to 01:00
+        ZoneId zone = ZoneId.of("America/Sao_Paulo");
+        ZonedDateTime base = ZonedDateTime.of(LocalDateTime.of(2008, 10, 19, 1, 30), zone);
+        ZonedDateTime t = base.truncatedTo(ISOPeriodUnit.DAYS);
+        assertEquals(t.toLocalDateTime(), LocalDateTime.of(2008, 10, 19, 1, 0));
+        assertEquals(t.getOffset(), ZoneOffset.ofHours(-2));
+    }
+
+    public void test_truncatedTo_overlapRetainsOffset() {
+        // Paris overlap from 2008-10-26T02:00 to 03:00
+        ZonedDateTime base = ZonedDateTime.of(LocalDateTime.of(2008, 10, 26, 2, 30), ZONE_PARIS, ZoneResolvers.postTransition());
+        ZonedDateTime t = base.truncatedTo(ISOPeriodUnit.HOURS);
+        assertEquals(t.toLocalDateTime(), LocalDateTime.of(2008, 10, 26, 2, 0));
+        assertEquals(t.getOffset(), OFFSET_0100);
+        base = base.withEarlierOffsetAtOverlap();
+        t = base.truncatedTo(ISOPeriodUnit.HOURS);
+        assertEquals(t.toLocalDateTime(), LocalDateTime.of(2008, 10, 26, 2, 0));
+        assertEquals(t.getOffset(), OFFSET_0200);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_months() {
+        TEST_DATE_TIME.truncatedTo(ISOPeriodUnit.MONTHS);
+    }
+
+    //-----------------------------------------------------------------------
+    // roundedTo(Duration)
+    //-----------------------------------------------------------------------
+    public void test_roundedTo() {
+        ZonedDateTime t = TEST_DATE_TIME.roundedTo(Duration.ofStandardMinutes(15));
+        assertEquals(t, ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 30), ZONE_0100));
+        t = TEST_DATE_TIME.roundedTo(Duration.ofStandardMinutes(1));
+        assertEquals(t, ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 31), ZONE_0100));
+    }
+
+    public void test_roundedTo_noChange() {
+        ZonedDateTime t = TEST_DATE_TIME.roundedTo(Duration.ofNanos(100));
+        assertSame(t, TEST_DATE_TIME);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_roundedTo_invalid() {
+        TEST_DATE_TIME.roundedTo(Duration.ofStandardDays(2));
+    }
+
     //-----------------------------------------------------------------------
     // plus(PeriodProvider)
     //-----------------------------------------------------------------------
@@ -1804,6 +1866,30 @@ public class TestZonedDateTime {
         a.compareTo(null);
     }
 
+    //-----------------------------------------------------------------------
+    // timeLineOrder()
+    //-----------------------------------------------------------------------
+    public void test_timeLineOrder() {
+        Comparator<ZonedDateTime> test = ZonedDateTime.timeLineOrder();
+        ZonedDateTime a = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 30, 40, 4), ZONE_0100);
+        ZonedDateTime b = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 30, 40, 5), ZONE_0100);  // a is before b due to time
+        ZonedDateTime c = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 12, 30, 41), ZONE_0200);  // b is before c due to offset
+        assertEquals(test.compare(a, b) < 0, true);
+        assertEquals(test.compare(b, a) > 0, true);
+        assertEquals(test.compare(b, c) < 0, true);
+        assertEquals(test.compare(c, b) > 0, true);
+        assertEquals(test.compare(a, a), 0);
+    }
+
+    public void test_timeLineOrder_sameInstant() {
+        Comparator<ZonedDateTime> test = ZonedDateTime.timeLineOrder();
+        ZonedDateTime a = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 30, 40), ZONE_0100);
+        ZonedDateTime b = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 12, 30, 40), ZONE_0200);  // same instant
+        assertEquals(test.compare(a, b), 0);
+        assertEquals(test.compare(b, a), 0);
+        assertEquals(a.compareTo(b) == 0, false);
+    }
+
     //-----------------------------------------------------------------------
     // isBefore()
     //-----------------------------------------------------------------------
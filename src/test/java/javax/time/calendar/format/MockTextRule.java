@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar.format;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+import javax.time.calendar.DateTimeRule;
+import javax.time.calendar.ISOPeriodUnit;
+import javax.time.calendar.format.DateTimeFormatterBuilder.TextStyle;
+
+/**
+ * Mock rule that defines its own text, like the eras of other calendar systems.
+ */
+public final class MockTextRule extends DateTimeRule implements Serializable {
+
+    /** Singleton instance. */
+    public static final MockTextRule INSTANCE = new MockTextRule();
+    /** A serialization identifier for this class. */
+    private static final long serialVersionUID = 1L;
+    /** The full names. */
+    private static final String[] FULL_NAMES = {"Before", "After", "AfterMore"};
+    /** The short names. */
+    private static final String[] SHORT_NAMES = {"B", "A", "AM"};
+
+    /** Constructor. */
+    private MockTextRule() {
+        super("MockText", ISOPeriodUnit.ERAS, null, 0, 2, null);
+    }
+    private Object readResolve() {
+        return INSTANCE;
+    }
+    @Override
+    public String getText(long value, TextStyle textStyle, Locale locale) {
+        if (textStyle == TextStyle.FULL) {
+            return FULL_NAMES[(int) value];
+        }
+        if (textStyle == TextStyle.SHORT) {
+            return SHORT_NAMES[(int) value];
+        }
+        return Long.toString(value);
+    }
+
+}
@@ -336,4 +336,34 @@ public class TestTextParser extends AbstractTestPrinterParser {
         }
     }
 
+    //-----------------------------------------------------------------------
+    public void test_parse_ruleText_strict_full_match() throws Exception {
+        TextPrinterParser pp = new TextPrinterParser(MockTextRule.INSTANCE, TextStyle.FULL);
+        int newPos = pp.parse(parseContext, "AfterMore", 0);
+        assertEquals(newPos, 9);
+        assertParsed(parseContext, MockTextRule.INSTANCE, 2);
+    }
+
+    public void test_parse_ruleText_strict_short_match() throws Exception {
+        TextPrinterParser pp = new TextPrinterParser(MockTextRule.INSTANCE, TextStyle.SHORT);
+        int newPos = pp.parse(parseContext, "A", 0);
+        assertEquals(newPos, 1);
+        assertParsed(parseContext, MockTextRule.INSTANCE, 1);
+    }
+
+    public void test_parse_ruleText_lenient_short_match() throws Exception {
+        parseContext.setStrict(false);
+        TextPrinterParser pp = new TextPrinterParser(MockTextRule.INSTANCE, TextStyle.FULL);
+        int newPos = pp.parse(parseContext, "AM", 0);
+        assertEquals(newPos, 2);
+        assertParsed(parseContext, MockTextRule.INSTANCE, 2);
+    }
+
+    public void test_parse_ruleText_number_match() throws Exception {
+        TextPrinterParser pp = new TextPrinterParser(MockTextRule.INSTANCE, TextStyle.FULL);
+        int newPos = pp.parse(parseContext, "1", 0);
+        assertEquals(newPos, 1);
+        assertParsed(parseContext, MockTextRule.INSTANCE, 1);
+    }
+
 }
@@ -108,6 +108,11 @@ public class TestTextPrinter extends AbstractTestPrinterParser {
             
             {MONTH_OF_YEAR, TextStyle.SHORT, 1, "Jan"},
             {MONTH_OF_YEAR, TextStyle.SHORT, 12, "Dec"},
+            
+            {MockTextRule.INSTANCE, TextStyle.FULL, 0, "Before"},
+            {MockTextRule.INSTANCE, TextStyle.FULL, 1, "After"},
+            {MockTextRule.INSTANCE, TextStyle.SHORT, 1, "A"},
+            {MockTextRule.INSTANCE, TextStyle.NARROW, 1, "1"},
        };
     }
 
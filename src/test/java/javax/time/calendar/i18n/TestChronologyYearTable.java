@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011 Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendar.i18n;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import javax.time.calendar.LocalDate;
+import javax.time.i18n.ChronologyDate;
+import javax.time.i18n.ChronologyYearTable;
+import javax.time.i18n.CopticDate;
+import javax.time.i18n.CopticStandardChronology;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test ChronologyYearTable.
+ */
+@Test
+public class TestChronologyYearTable {
+
+    private static final CopticStandardChronology COPTIC = CopticStandardChronology.INSTANCE;
+
+    //-----------------------------------------------------------------------
+    public void test_factory() {
+        ChronologyYearTable test = COPTIC.createYearTable(1600, 1800);
+        assertSame(test.getChronology(), COPTIC);
+        assertEquals(test.getMinYear(), 1600);
+        assertEquals(test.getMaxYear(), 1800);
+        assertEquals(test.toString(), "ChronologyYearTable[Coptic,1600-1800]");
+    }
+
+    public void test_factory_singleYear() {
+        ChronologyYearTable test = COPTIC.createYearTable(1727, 1727);
+        assertEquals(test.getMinYear(), 1727);
+        assertEquals(test.getMaxYear(), 1727);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_factory_maxBeforeMin() {
+        COPTIC.createYearTable(1800, 1799);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_factory_tooLarge() {
+        COPTIC.createYearTable(0, 1000000);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_factory_maxValue() {
+        COPTIC.createYearTable(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_isInWindow() {
+        ChronologyYearTable test = COPTIC.createYearTable(1727, 1728);
+        LocalDate start = COPTIC.createDate(1727, 1, 1).toLocalDate();
+        LocalDate end = COPTIC.createDate(1729, 1, 1).toLocalDate();
+        assertFalse(test.isInWindow(start.minusDays(1)));
+        assertTrue(test.isInWindow(start));
+        assertTrue(test.isInWindow(end.minusDays(1)));
+        assertFalse(test.isInWindow(end));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_isInWindow_null() {
+        COPTIC.createYearTable(1727, 1728).isInWindow(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_createDate_LocalDate_matchesChronology() {
+        ChronologyYearTable test = COPTIC.createYearTable(-10, 10);
+        LocalDate start = COPTIC.createDate(-12, 1, 1).toLocalDate();
+        LocalDate end = COPTIC.createDate(13, 1, 1).toLocalDate();
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            ChronologyDate expected = COPTIC.createDate(date);
+            ChronologyDate actual = test.createDate(date);
+            assertEquals(actual, expected);
+            assertEquals(actual.getProlepticYear(), expected.getProlepticYear());
+            assertEquals(actual.getMonthOfYear(), expected.getMonthOfYear());
+            assertEquals(actual.getDayOfMonth(), expected.getDayOfMonth());
+        }
+    }
+
+    public void test_createDate_LocalDate_matchesCopticDate() {
+        ChronologyYearTable test = COPTIC.createYearTable(1700, 1750);
+        LocalDate start = LocalDate.of(1983, 1, 1);
+        LocalDate end = LocalDate.of(2035, 1, 1);
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            CopticDate expected = CopticDate.of(date);
+            ChronologyDate actual = test.createDate(date);
+            assertEquals(actual.getProlepticYear(), expected.getYear());
+            assertEquals(actual.getMonthOfYear(), expected.getMonthOfYear());
+            assertEquals(actual.getDayOfMonth(), expected.getDayOfMonth());
+            assertEquals(actual.getDayOfYear(), expected.getDayOfYear());
+            assertEquals(actual.isLeapYear(), expected.isLeapYear());
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_createDate_LocalDate_null() {
+        COPTIC.createYearTable(1727, 1728).createDate((LocalDate) null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_createDate_fields() {
+        ChronologyYearTable test = COPTIC.createYearTable(1720, 1730);
+        ChronologyDate date = test.createDate(1727, 4, 23);
+        assertEquals(date.toLocalDate(), LocalDate.of(2011, 1, 1));
+        assertEquals(date.getProlepticYear(), 1727);
+        assertEquals(date.getMonthOfYear(), 4);
+        assertEquals(date.getDayOfMonth(), 23);
+    }
+
+    public void test_createDate_fields_matchesChronology() {
+        ChronologyYearTable test = COPTIC.createYearTable(-3, 3);
+        for (int year = -5; year <= 5; year++) {
+            for (int month = 1; month <= 13; month++) {
+                int length = (month < 13 ? 30 : (COPTIC.createDate(year, 1, 1).isLeapYear() ? 6 : 5));
+                for (int dom = 1; dom <= length; dom++) {
+                    ChronologyDate expected = COPTIC.createDate(year, month, dom);
+                    assertEquals(test.createDate(year, month, dom), expected);
+                    assertEquals(test.createDate(expected.toLocalDate()), expected);
+                }
+            }
+        }
+    }
+
+}
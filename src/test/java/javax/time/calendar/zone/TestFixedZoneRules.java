@@ -33,6 +33,7 @@ package javax.time.calendar.zone;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -42,12 +43,15 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 
 import javax.time.Instant;
 import javax.time.calendar.LocalDateTime;
 import javax.time.calendar.OffsetDateTime;
 import javax.time.calendar.Period;
+import javax.time.calendar.ZoneId;
 import javax.time.calendar.ZoneOffset;
+import javax.time.calendar.ZoneResolvers;
 
 import org.testng.annotations.Test;
 
@@ -116,6 +120,7 @@ public class TestFixedZoneRules {
         assertEquals(test.getTransitionRules().size(), 0);
         assertEquals(test.nextTransition(INSTANT), null);
         assertEquals(test.previousTransition(INSTANT), null);
+        assertSame(test.withTransitionHorizon(2100), test);
     }
 
     public void test_isValidDateTime_same_offset() {
@@ -128,6 +133,63 @@ public class TestFixedZoneRules {
         assertEquals(test.isValidDateTime(ODT), false);
     }
 
+    //-----------------------------------------------------------------------
+    // bulk conversion
+    //-----------------------------------------------------------------------
+    public void test_getOffsets() {
+        FixedZoneRules test = new FixedZoneRules(OFFSET_PONE);
+        long[] epochSecs = {INSTANT.getEpochSecond(), 0, -1000};
+        int[] offsets = new int[4];
+        test.getOffsets(epochSecs, offsets);
+        assertEquals(Arrays.toString(offsets), "[3600, 3600, 3600, 0]");
+    }
+
+    public void test_toLocalEpochSeconds() {
+        FixedZoneRules test = new FixedZoneRules(OFFSET_PONE);
+        long[] epochSecs = {INSTANT.getEpochSecond(), 0, -1000};
+        test.toLocalEpochSeconds(epochSecs, epochSecs);
+        assertEquals(epochSecs[0], LDT.toLocalDate().toEpochDay() * 86400 + LDT.toLocalTime().toSecondOfDay());
+        assertEquals(epochSecs[1], 3600);
+        assertEquals(epochSecs[2], 2600);
+    }
+
+    public void test_localToEpochSeconds() {
+        FixedZoneRules test = new FixedZoneRules(OFFSET_PONE);
+        long[] secs = {3600, 0, 2600};
+        test.localToEpochSeconds(secs, secs, ZoneId.of(OFFSET_PONE), ZoneResolvers.strict());
+        assertEquals(Arrays.toString(secs), "[0, -3600, -1000]");
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_localToEpochSeconds_zoneNotMatchingRules() {
+        new FixedZoneRules(OFFSET_PONE).localToEpochSeconds(new long[1], new long[1], ZoneId.of(OFFSET_PTWO), ZoneResolvers.strict());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_localToEpochSeconds_nullResolver() {
+        new FixedZoneRules(OFFSET_PONE).localToEpochSeconds(new long[1], new long[1], ZoneId.of(OFFSET_PONE), null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_localToEpochSeconds_nullZone() {
+        new FixedZoneRules(OFFSET_PONE).localToEpochSeconds(new long[1], new long[1], null, ZoneResolvers.strict());
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_getOffsets_outputTooShort() {
+        new FixedZoneRules(OFFSET_PONE).getOffsets(new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toLocalEpochSeconds_null() {
+        new FixedZoneRules(OFFSET_PONE).toLocalEpochSeconds(null, new long[1]);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_toLocalEpochSeconds_overflow() {
+        new FixedZoneRules(OFFSET_PONE).toLocalEpochSeconds(new long[] {Long.MAX_VALUE}, new long[1]);
+    }
+
     //-----------------------------------------------------------------------
     // equals() / hashCode()
     //-----------------------------------------------------------------------
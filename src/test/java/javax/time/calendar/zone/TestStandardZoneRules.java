@@ -33,18 +33,28 @@ package javax.time.calendar.zone;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
+import javax.time.CalendricalException;
+import javax.time.Instant;
+import javax.time.MathUtils;
 import javax.time.calendar.DayOfWeek;
 import javax.time.calendar.LocalDate;
 import javax.time.calendar.LocalDateTime;
@@ -55,6 +65,8 @@ import javax.time.calendar.Period;
 import javax.time.calendar.Year;
 import javax.time.calendar.ZoneId;
 import javax.time.calendar.ZoneOffset;
+import javax.time.calendar.ZoneResolver;
+import javax.time.calendar.ZoneResolvers;
 import javax.time.calendar.zone.ZoneRulesBuilder.TimeDefinition;
 
 import org.testng.annotations.Test;
@@ -135,6 +147,73 @@ public class TestStandardZoneRules {
         assertEquals(result, test);
     }
 
+    private StandardZoneRules simpleGap() {
+        ZoneRulesBuilder b = new ZoneRulesBuilder()
+            .addWindow(OFFSET_PONE, LocalDateTime.of(1980, 3, 1, 1, 0), TimeDefinition.STANDARD)
+            .setFixedSavingsToWindow(Period.ofHours(1))
+            .addWindowForever(OFFSET_PONE)
+            .setFixedSavingsToWindow(Period.ofHours(2));
+        return (StandardZoneRules) b.toRules("Test");
+    }
+
+    public void test_write_denseForm() throws Exception {
+        StandardZoneRules test = simpleGap();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Ser.write(test, new DataOutputStream(baos));
+        byte[] bytes = baos.toByteArray();
+        assertEquals(bytes[0], Ser.SZR_DENSE);
+        
+        Object result = Ser.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        assertEquals(result, test);
+        assertEquals(result.hashCode(), test.hashCode());
+    }
+
+    public void test_epochSecArray() throws Exception {
+        long[] array = {-5000000000L, -1001, -101, 315360000L, 315360900L,
+                315360900L + 900L * 65534, 315360900L + 900L * 65534 + 900L * 65535, Long.MAX_VALUE, 99};
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Ser.writeEpochSecArray(array, array.length - 1, new DataOutputStream(baos));
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        long[] result = Ser.readEpochSecArray(array.length - 1, in);
+        assertEquals(Arrays.toString(result), Arrays.toString(Arrays.copyOf(array, array.length - 1)));
+        assertEquals(in.read(), -1);
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_epochSecArray_firstNotEscaped() throws Exception {
+        Ser.readEpochSecArray(1, new DataInputStream(new ByteArrayInputStream(new byte[] {0, 1})));
+    }
+
+    public void test_read_variableLengthForm() throws Exception {
+        StandardZoneRules test = simpleGap();
+        ZoneOffsetTransition trans = test.getTransitions().get(0);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeByte(Ser.SZR);
+        out.writeInt(0);
+        Ser.writeOffset(OFFSET_PONE, out);
+        out.writeInt(1);
+        Ser.writeEpochSec(trans.getInstant().getEpochSecond(), out);
+        Ser.writeOffset(OFFSET_PTWO, out);
+        Ser.writeOffset(ZoneOffset.ofHours(3), out);
+        out.writeByte(0);
+        
+        Object result = Ser.read(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+        assertEquals(result, test);
+    }
+
+    public void test_getOffsetInfo_historicGap_nanos() {
+        StandardZoneRules test = simpleGap();
+        checkOffset(test.getOffsetInfo(LocalDateTime.of(1980, 3, 1, 1, 59, 59, 999999999)), OFFSET_PTWO);
+        assertEquals(test.getOffsetInfo(LocalDateTime.of(1980, 3, 1, 2, 0, 0, 0)).isTransition(), true);
+        assertEquals(test.getOffsetInfo(LocalDateTime.of(1980, 3, 1, 2, 0, 0, 1)).isTransition(), true);
+        assertEquals(test.getOffsetInfo(LocalDateTime.of(1980, 3, 1, 2, 59, 59, 999999999)).isTransition(), true);
+        checkOffset(test.getOffsetInfo(LocalDateTime.of(1980, 3, 1, 3, 0, 0, 0)), ZoneOffset.ofHours(3));
+        ZoneOffsetTransition trans = test.getOffsetInfo(LocalDateTime.of(1980, 3, 1, 2, 30)).getTransition();
+        assertEquals(trans.getDateTimeBefore(), OffsetDateTime.of(1980, 3, 1, 2, 0, OFFSET_PTWO));
+        assertEquals(trans.getDateTimeAfter(), OffsetDateTime.of(1980, 3, 1, 3, 0, ZoneOffset.ofHours(3)));
+    }
+
     //-----------------------------------------------------------------------
     // Europe/London
     //-----------------------------------------------------------------------
@@ -987,6 +1066,241 @@ public class TestStandardZoneRules {
         assertEquals(europeLondon().toString().endsWith("]"), true);
     }
 
+    //-----------------------------------------------------------------------
+    // bulk conversion
+    //-----------------------------------------------------------------------
+    private long[] bulkInstants(StandardZoneRules rules) {
+        List<Long> list = new ArrayList<Long>();
+        for (ZoneOffsetTransition trans : rules.getTransitions()) {
+            long epochSec = trans.getInstant().getEpochSecond();
+            list.add(epochSec - 1);
+            list.add(epochSec);
+            list.add(epochSec + 1);
+        }
+        for (int year = 1700; year <= 2200; year += 3) {
+            list.add(OffsetDateTime.of(year, 7, 1, 12, 0, ZoneOffset.UTC).toEpochSecond());
+            list.add(OffsetDateTime.of(year, 12, 31, 23, 59, 59, ZoneOffset.UTC).toEpochSecond());
+        }
+        long[] array = new long[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    private void assertBulkConversion(StandardZoneRules test, long[] epochSecs) {
+        int[] offsets = new int[epochSecs.length];
+        long[] locals = new long[epochSecs.length];
+        test.getOffsets(epochSecs, offsets);
+        test.toLocalEpochSeconds(epochSecs, locals);
+        for (int i = 0; i < epochSecs.length; i++) {
+            int expected = test.getOffset(Instant.ofEpochSecond(epochSecs[i])).getAmountSeconds();
+            assertEquals(offsets[i], expected, "index " + i);
+            assertEquals(locals[i], epochSecs[i] + expected, "index " + i);
+        }
+    }
+
+    public void test_bulk_sorted() {
+        StandardZoneRules test = europeLondon();
+        long[] epochSecs = bulkInstants(test);
+        Arrays.sort(epochSecs);
+        assertBulkConversion(test, epochSecs);
+    }
+
+    public void test_bulk_unsorted() {
+        StandardZoneRules test = americaNewYork();
+        long[] epochSecs = bulkInstants(test);
+        Arrays.sort(epochSecs);
+        Random random = new Random(1);
+        for (int i = epochSecs.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = epochSecs[i];
+            epochSecs[i] = epochSecs[j];
+            epochSecs[j] = tmp;
+        }
+        assertBulkConversion(test, epochSecs);
+    }
+
+    public void test_bulk_sameArray() {
+        StandardZoneRules test = europeParis();
+        long[] epochSecs = bulkInstants(test);
+        long[] expected = new long[epochSecs.length];
+        test.toLocalEpochSeconds(epochSecs, expected);
+        test.toLocalEpochSeconds(epochSecs, epochSecs);
+        assertEquals(Arrays.toString(epochSecs), Arrays.toString(expected));
+    }
+
+    private long[] bulkLocals(StandardZoneRules rules) {
+        long[] instants = bulkInstants(rules);
+        long[] locals = new long[instants.length * 3];
+        for (int i = 0; i < instants.length; i++) {
+            // include local date-times either side of each offset, thus in any gap or overlap
+            locals[i * 3] = instants[i] + rules.getOffset(Instant.ofEpochSecond(instants[i] - 7200)).getAmountSeconds();
+            locals[i * 3 + 1] = instants[i] + rules.getOffset(Instant.ofEpochSecond(instants[i])).getAmountSeconds();
+            locals[i * 3 + 2] = instants[i] + rules.getOffset(Instant.ofEpochSecond(instants[i] + 7200)).getAmountSeconds();
+        }
+        return locals;
+    }
+
+    private void assertBulkLocalConversion(ZoneId zone, StandardZoneRules test, long[] locals, ZoneResolver resolver) {
+        long[] epochSecs = new long[locals.length];
+        test.localToEpochSeconds(locals, epochSecs, zone, resolver);
+        for (int i = 0; i < locals.length; i++) {
+            LocalDateTime dt = LocalDateTime.of(LocalDate.ofEpochDay(MathUtils.floorDiv(locals[i], 86400)),
+                    LocalTime.ofSecondOfDay(MathUtils.floorMod(locals[i], 86400)));
+            assertEquals(epochSecs[i], resolver.resolve(zone, dt, null).toEpochSecond(), "index " + i + " " + dt);
+        }
+    }
+
+    public void test_bulkLocal_sorted() {
+        StandardZoneRules test = europeLondon();
+        long[] locals = bulkLocals(test);
+        Arrays.sort(locals);
+        ZoneId zone = ZoneId.of("Europe/London#2009b");
+        assertBulkLocalConversion(zone, test, locals, ZoneResolvers.postTransition());
+        assertBulkLocalConversion(zone, test, locals, ZoneResolvers.preTransition());
+        assertBulkLocalConversion(zone, test, locals, ZoneResolvers.pushForward());
+    }
+
+    public void test_bulkLocal_unsorted() {
+        StandardZoneRules test = americaNewYork();
+        long[] locals = bulkLocals(test);
+        ZoneId zone = ZoneId.of("America/New_York#2009b");
+        assertBulkLocalConversion(zone, test, locals, ZoneResolvers.postGapPreOverlap());
+        assertBulkLocalConversion(zone, test, locals, ZoneResolvers.retainOffset());
+    }
+
+    public void test_bulkLocal_historicGap() {
+        StandardZoneRules test = europeParis();
+        long gapStart = LocalDate.of(1980, 4, 6).toEpochDay() * 86400 + 2 * 3600;
+        long[] secs = {gapStart - 1, gapStart, gapStart + 3599, gapStart + 3600};
+        test.localToEpochSeconds(secs, secs, ZoneId.of("Europe/Paris#2009b"), ZoneResolvers.postTransition());
+        assertEquals(secs[0], gapStart - 1 - 3600);
+        assertEquals(secs[1], gapStart - 3600);
+        assertEquals(secs[2], gapStart - 3600);
+        assertEquals(secs[3], gapStart + 3600 - 7200);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_bulkLocal_strictGap() {
+        StandardZoneRules test = europeParis();
+        long gapStart = LocalDate.of(1980, 4, 6).toEpochDay() * 86400 + 2 * 3600;
+        test.localToEpochSeconds(new long[] {gapStart}, new long[1], ZoneId.of("Europe/Paris#2009b"), ZoneResolvers.strict());
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_bulkLocal_zoneNotMatchingRules() {
+        europeParis().localToEpochSeconds(new long[1], new long[1], ZoneId.of("Europe/London#2009b"), ZoneResolvers.strict());
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_bulkLocal_zoneNotMatchingBuiltRules() {
+        simpleGap().localToEpochSeconds(new long[1], new long[1], ZoneId.UTC, ZoneResolvers.strict());
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_bulk_outputTooShort() {
+        europeLondon().toLocalEpochSeconds(new long[2], new long[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_bulk_null() {
+        europeLondon().getOffsets(new long[1], null);
+    }
+
+    //-----------------------------------------------------------------------
+    // transition horizon
+    //-----------------------------------------------------------------------
+    private StandardZoneRules horizonRules(int horizonYear) {
+        return (StandardZoneRules) horizonBuilder().setTransitionHorizon(horizonYear).toRules("Test");
+    }
+
+    private ZoneRulesBuilder horizonBuilder() {
+        return new ZoneRulesBuilder()
+            .addWindow(ZoneOffset.ofHoursMinutes(1, 15), LocalDateTime.of(1920, 1, 1, 1, 0), TimeDefinition.WALL)
+            .addWindowForever(OFFSET_PONE)
+            .addRuleToWindow(1980, Year.MAX_YEAR, MonthOfYear.MARCH, -1, DayOfWeek.SUNDAY, LocalTime.of(1, 0), false, TimeDefinition.UTC, Period.ofHours(1))
+            .addRuleToWindow(1980, Year.MAX_YEAR, MonthOfYear.OCTOBER, -1, DayOfWeek.SUNDAY, LocalTime.of(1, 0), false, TimeDefinition.UTC, Period.ZERO);
+    }
+
+    public void test_horizon_equalsIgnoresExpansion() {
+        StandardZoneRules expanded = horizonRules(2100);
+        StandardZoneRules notExpanded = horizonRules(1900);
+        assertEquals(expanded, notExpanded);
+        assertEquals(expanded.hashCode(), notExpanded.hashCode());
+        assertEquals(expanded.getTransitions(), notExpanded.getTransitions());
+        assertEquals(expanded.getTransitionRules(), notExpanded.getTransitionRules());
+    }
+
+    public void test_horizon_sameResults() {
+        assertHorizonSameResults(horizonRules(2100), horizonRules(1900));
+    }
+
+    public void test_horizon_sameResults_default() {
+        StandardZoneRules notExpanded = (StandardZoneRules) horizonBuilder().toRules("Test");
+        assertEquals(notExpanded, horizonRules(2100));
+        assertHorizonSameResults(horizonRules(2100), notExpanded);
+    }
+
+    public void test_horizon_sameResults_deserialized() throws Exception {
+        StandardZoneRules expanded = horizonRules(2100);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(expanded);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        StandardZoneRules compact = (StandardZoneRules) in.readObject();
+        assertEquals(compact, expanded);
+        assertEquals(transitionArrayLength(compact), transitionArrayLength(horizonRules(1900)));
+        assertTrue(transitionArrayLength(expanded) > transitionArrayLength(compact));
+        assertHorizonSameResults(expanded, compact);
+    }
+
+    public void test_withTransitionHorizon_tzdb() throws Exception {
+        StandardZoneRules loaded = europeParis();
+        StandardZoneRules expanded = loaded.withTransitionHorizon(2100);
+        assertEquals(expanded, loaded);
+        assertTrue(transitionArrayLength(expanded) > transitionArrayLength(loaded));
+        assertHorizonSameResults(expanded, loaded);
+        assertHorizonSameResults(expanded.withTransitionHorizon(2050), loaded);
+        StandardZoneRules compact = expanded.withTransitionHorizon(1900);
+        assertEquals(transitionArrayLength(compact), transitionArrayLength(loaded));
+        assertEquals(compact.getTransitions(), loaded.getTransitions());
+    }
+
+    public void test_withTransitionHorizon_noLastRules() {
+        StandardZoneRules rules = (StandardZoneRules) ZoneId.of("Asia/Tokyo#2009b").getRules();
+        assertSame(rules.withTransitionHorizon(2100), rules);
+    }
+
+    private int transitionArrayLength(StandardZoneRules rules) throws Exception {
+        Field field = StandardZoneRules.class.getDeclaredField("savingsInstantTransitions");
+        field.setAccessible(true);
+        return ((long[]) field.get(rules)).length;
+    }
+
+    private void assertHorizonSameResults(StandardZoneRules expanded, StandardZoneRules notExpanded) {
+        List<ZoneOffsetTransitionRule> rules = notExpanded.getTransitionRules();
+        for (int year = 1975; year <= 2110; year++) {
+            for (ZoneOffsetTransitionRule rule : rules) {
+                ZoneOffsetTransition trans = rule.createTransition(year);
+                for (int secs = -3601; secs <= 3601; secs += 1200) {
+                    Instant instant = trans.getInstant().plusSeconds(secs);
+                    assertEquals(expanded.getOffset(instant), notExpanded.getOffset(instant));
+                    assertEquals(expanded.nextTransition(instant), notExpanded.nextTransition(instant));
+                    assertEquals(expanded.previousTransition(instant), notExpanded.previousTransition(instant));
+                    LocalDateTime local = trans.getLocal().plusSeconds(secs);
+                    assertEquals(expanded.getOffsetInfo(local), notExpanded.getOffsetInfo(local));
+                }
+            }
+        }
+    }
+
+    public void test_horizon_serialization() throws Exception {
+        assertSerialization(horizonRules(2100));
+        assertSerialization(horizonRules(1900));
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
@@ -34,10 +34,16 @@ package javax.time.calendar.zone;
 import static org.testng.Assert.assertEquals;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.StringTokenizer;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 import javax.time.calendar.DayOfWeek;
 import javax.time.calendar.LocalDate;
@@ -416,6 +422,128 @@ public class TestTZDBZoneRulesCompiler {
         parseLeapSecondRule(test, "Leap\t2009 May\t1   23:59:60 - R");
     }
 
+    //-----------------------------------------------------------------------
+    // isUpToDate()
+    //-----------------------------------------------------------------------
+    public void test_isUpToDate() throws Exception {
+        File src = writeSource();
+        File leap = writeLeapSeconds();
+        File jar = File.createTempFile("tzdb", ".jar");
+        try {
+            ArrayList<File> files = new ArrayList<File>();
+            files.add(src);
+            TZDBZoneRulesCompiler test = new TZDBZoneRulesCompiler("2010c", files, leap, false);
+            test.compile();
+            TZDBZoneRulesCompiler.outputFile(jar, "2010c", test.getZones(), test.getLeapSeconds());
+            src.setLastModified(100000000000L);
+            leap.setLastModified(100000000000L);
+            jar.setLastModified(200000000000L);
+            assertEquals(test.isUpToDate(jar), true);
+            src.setLastModified(300000000000L);
+            assertEquals(test.isUpToDate(jar), false);
+        } finally {
+            src.delete();
+            leap.delete();
+            jar.delete();
+        }
+    }
+
+    public void test_isUpToDate_missingJar() throws Exception {
+        TZDBZoneRulesCompiler test = new TZDBZoneRulesCompiler("2010c", new ArrayList<File>(), null, false);
+        assertEquals(test.isUpToDate(new File("doesNotExist.jar")), false);
+    }
+
+    public void test_isUpToDate_otherFormat() throws Exception {
+        File src = writeSource();
+        File jar = File.createTempFile("tzdb", ".jar");
+        try {
+            Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            manifest.getMainAttributes().putValue(TZDBZoneRulesCompiler.FORMAT_ATTRIBUTE, "1");
+            new JarOutputStream(new FileOutputStream(jar), manifest).close();
+            ArrayList<File> files = new ArrayList<File>();
+            files.add(src);
+            TZDBZoneRulesCompiler test = new TZDBZoneRulesCompiler("2010c", files, null, false);
+            src.setLastModified(100000000000L);
+            jar.setLastModified(200000000000L);
+            assertEquals(test.isUpToDate(jar), false);
+        } finally {
+            src.delete();
+            jar.delete();
+        }
+    }
+
+    public void test_isUpToDate_noFormat() throws Exception {
+        File src = writeSource();
+        File jar = File.createTempFile("tzdb", ".jar");
+        try {
+            new JarOutputStream(new FileOutputStream(jar)).close();  // as output by older compilers
+            ArrayList<File> files = new ArrayList<File>();
+            files.add(src);
+            TZDBZoneRulesCompiler test = new TZDBZoneRulesCompiler("2010c", files, null, false);
+            src.setLastModified(100000000000L);
+            jar.setLastModified(200000000000L);
+            assertEquals(test.isUpToDate(jar), false);
+        } finally {
+            src.delete();
+            jar.delete();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // load()
+    //-----------------------------------------------------------------------
+    public void test_load_roundTrip() throws Exception {
+        File src = writeSource();
+        File leap = writeLeapSeconds();
+        File jar = File.createTempFile("tzdb", ".jar");
+        try {
+            ArrayList<File> files = new ArrayList<File>();
+            files.add(src);
+            TZDBZoneRulesCompiler compiled = new TZDBZoneRulesCompiler("2010c", files, leap, false);
+            compiled.compile();
+            TZDBZoneRulesCompiler.outputFile(jar, "2010c", compiled.getZones(), compiled.getLeapSeconds());
+            
+            TZDBZoneRulesCompiler loaded = new TZDBZoneRulesCompiler("2010c", files, leap, false);
+            loaded.load(jar);
+            assertEquals(loaded.getZones().keySet(), compiled.getZones().keySet());
+            assertEquals(loaded.getZones().size(), 1);
+            assertEquals(loaded.getZones(), compiled.getZones());
+            assertEquals(loaded.getLeapSeconds(), compiled.getLeapSeconds());
+            assertEquals(loaded.getLeapSeconds().size(), 2);
+        } finally {
+            src.delete();
+            leap.delete();
+            jar.delete();
+        }
+    }
+
+    private File writeLeapSeconds() throws Exception {
+        File leap = File.createTempFile("tzdb", ".leap");
+        Writer out = new OutputStreamWriter(new FileOutputStream(leap), "UTF-8");
+        try {
+            out.write("Leap\t1972\tJun\t30\t23:59:60\t+\tS\n");
+            out.write("Leap\t1972\tDec\t31\t23:59:60\t+\tS\n");
+        } finally {
+            out.close();
+        }
+        return leap;
+    }
+
+    private File writeSource() throws Exception {
+        File src = File.createTempFile("tzdb", ".txt");
+        Writer out = new OutputStreamWriter(new FileOutputStream(src), "UTF-8");
+        try {
+            out.write("Rule\tEU\t1981\tmax\t-\tMar\tlastSun\t 1:00u\t1:00\tS\n");
+            out.write("Rule\tEU\t1996\tmax\t-\tOct\tlastSun\t 1:00u\t0\t-\n");
+            out.write("Zone\tEurope/Test\t0:00\t-\tGMT\t1980\n");
+            out.write("\t\t\t1:00\tEU\tCE%sT\n");
+        } finally {
+            out.close();
+        }
+        return src;
+    }
+
     static final Method PARSE_LSR;
     static {
         try {